@@ -0,0 +1,193 @@
+package com.example.inventory_service.allocation;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable in-memory snapshot the allocation solver works against: a
+ * dealer-by-warehouse cost matrix and a part-by-warehouse stock vector, both
+ * flattened into primitive arrays so one dealer's (or one part's) row is
+ * contiguous.
+ *
+ * Lanes with no configured cost are {@link Double#POSITIVE_INFINITY} and never
+ * used.
+ */
+public final class AllocationModel {
+
+    private final String[] warehouseIds;
+    private final Map<String, Integer> dealerIndex;
+    private final Map<String, Integer> partIndex;
+    private final double[] shipmentScore;
+    private final double[] unitScore;
+    private final int[] stock;
+    private final Instant builtAt;
+
+    private AllocationModel(String[] warehouseIds, Map<String, Integer> dealerIndex, Map<String, Integer> partIndex,
+                            double[] shipmentScore, double[] unitScore, int[] stock, Instant builtAt) {
+        this.warehouseIds = warehouseIds;
+        this.dealerIndex = dealerIndex;
+        this.partIndex = partIndex;
+        this.shipmentScore = shipmentScore;
+        this.unitScore = unitScore;
+        this.stock = stock;
+        this.builtAt = builtAt;
+    }
+
+    public static Builder builder(double costPerTransitHour) {
+        return new Builder(costPerTransitHour);
+    }
+
+    /**
+     * A copy with the same lanes but only the given stock, keyed by part number
+     * then warehouse ID, for planning against rows other than the pooled
+     * snapshot. Stock at warehouses without lanes in this model is dropped.
+     */
+    public AllocationModel withStock(Map<String, Map<String, Integer>> available) {
+        Map<String, Integer> warehouseIndex = new HashMap<>();
+        for (int w = 0; w < warehouseIds.length; w++) {
+            warehouseIndex.put(warehouseIds[w], w);
+        }
+        Map<String, Integer> parts = new HashMap<>();
+        int[] restocked = new int[available.size() * warehouseIds.length];
+        available.forEach((partNumber, byWarehouse) -> {
+            int part = parts.computeIfAbsent(partNumber, k -> parts.size());
+            byWarehouse.forEach((warehouseId, quantity) -> {
+                Integer warehouse = warehouseIndex.get(warehouseId);
+                if (warehouse != null && quantity > 0) {
+                    restocked[part * warehouseIds.length + warehouse] += quantity;
+                }
+            });
+        });
+        return new AllocationModel(warehouseIds, dealerIndex, Map.copyOf(parts), shipmentScore, unitScore, restocked,
+                builtAt);
+    }
+
+    public int warehouseCount() {
+        return warehouseIds.length;
+    }
+
+    public String warehouseId(int index) {
+        return warehouseIds[index];
+    }
+
+    /**
+     * @return the dealer's row index, or -1 if the dealer has no lanes
+     */
+    public int dealerIndex(String dealerId) {
+        return dealerIndex.getOrDefault(dealerId, -1);
+    }
+
+    /**
+     * @return the part's row index, or -1 if no warehouse holds the part
+     */
+    public int partIndex(String partNumber) {
+        return partIndex.getOrDefault(partNumber, -1);
+    }
+
+    public int partCount() {
+        return partIndex.size();
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    public int stock(int part, int warehouse) {
+        return stock[part * warehouseIds.length + warehouse];
+    }
+
+    void copyLaneScores(int dealer, double[] shipmentDest, double[] unitDest) {
+        if (dealer < 0) {
+            Arrays.fill(shipmentDest, Double.POSITIVE_INFINITY);
+            Arrays.fill(unitDest, Double.POSITIVE_INFINITY);
+            return;
+        }
+        int offset = dealer * warehouseIds.length;
+        System.arraycopy(shipmentScore, offset, shipmentDest, 0, warehouseIds.length);
+        System.arraycopy(unitScore, offset, unitDest, 0, warehouseIds.length);
+    }
+
+    void copyStock(int part, int[] dest, int destOffset) {
+        if (part < 0) {
+            Arrays.fill(dest, destOffset, destOffset + warehouseIds.length, 0);
+            return;
+        }
+        System.arraycopy(stock, part * warehouseIds.length, dest, destOffset, warehouseIds.length);
+    }
+
+    public static final class Builder {
+
+        private final double costPerTransitHour;
+        private final Map<String, Integer> warehouseIndex = new HashMap<>();
+        private final List<String> warehouseIds = new ArrayList<>();
+        private final Map<String, Integer> dealerIndex = new HashMap<>();
+        private final Map<String, Integer> partIndex = new HashMap<>();
+
+        private final List<double[]> lanes = new ArrayList<>();
+        private int[] stockTriples = new int[3 * 1024];
+        private int stockEntries;
+
+        private Builder(double costPerTransitHour) {
+            this.costPerTransitHour = costPerTransitHour;
+        }
+
+        /**
+         * Transit time is folded into the per-shipment score at
+         * {@code costPerTransitHour}, per unit cost stays as is.
+         */
+        public Builder lane(String dealerId, String warehouseId, double shipmentCost, double unitCost, int transitHours) {
+            int dealer = dealerIndex.computeIfAbsent(dealerId, k -> dealerIndex.size());
+            int warehouse = warehouse(warehouseId);
+            lanes.add(new double[]{dealer, warehouse, shipmentCost + costPerTransitHour * transitHours, unitCost});
+            return this;
+        }
+
+        public Builder stock(String partNumber, String warehouseId, int available) {
+            if (available <= 0) {
+                return this;
+            }
+            int part = partIndex.computeIfAbsent(partNumber, k -> partIndex.size());
+            int warehouse = warehouse(warehouseId);
+            if (3 * (stockEntries + 1) > stockTriples.length) {
+                stockTriples = Arrays.copyOf(stockTriples, stockTriples.length * 2);
+            }
+            int i = 3 * stockEntries++;
+            stockTriples[i] = part;
+            stockTriples[i + 1] = warehouse;
+            stockTriples[i + 2] = available;
+            return this;
+        }
+
+        public AllocationModel build() {
+            int w = warehouseIds.size();
+            double[] shipmentScore = new double[dealerIndex.size() * w];
+            double[] unitScore = new double[dealerIndex.size() * w];
+            Arrays.fill(shipmentScore, Double.POSITIVE_INFINITY);
+            Arrays.fill(unitScore, Double.POSITIVE_INFINITY);
+            for (double[] lane : lanes) {
+                int cell = (int) lane[0] * w + (int) lane[1];
+                shipmentScore[cell] = lane[2];
+                unitScore[cell] = lane[3];
+            }
+
+            int[] stock = new int[partIndex.size() * w];
+            for (int i = 0; i < 3 * stockEntries; i += 3) {
+                stock[stockTriples[i] * w + stockTriples[i + 1]] += stockTriples[i + 2];
+            }
+
+            return new AllocationModel(warehouseIds.toArray(String[]::new), Map.copyOf(dealerIndex),
+                    Map.copyOf(partIndex), shipmentScore, unitScore, stock, Instant.now());
+        }
+
+        private int warehouse(String warehouseId) {
+            return warehouseIndex.computeIfAbsent(warehouseId, k -> {
+                warehouseIds.add(k);
+                return warehouseIds.size() - 1;
+            });
+        }
+    }
+}
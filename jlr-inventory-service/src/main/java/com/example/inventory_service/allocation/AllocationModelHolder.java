@@ -0,0 +1,64 @@
+package com.example.inventory_service.allocation;
+
+import com.example.inventory_service.config.AllocationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the current {@link AllocationModel} and rebuilds it in the background.
+ * Readers always see a complete snapshot; a rebuild swaps the reference in one
+ * volatile write.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class AllocationModelHolder {
+
+    private static final String LANES_SQL = "SELECT dealer_id, warehouse_id, shipment_cost, unit_cost, transit_hours "
+            + "FROM warehouse_dealer_costs";
+
+    private static final String STOCK_SQL = "SELECT part_number, warehouse_id, "
+            + "SUM(quantity_on_hand - quantity_reserved) FROM stock_levels "
+            + "GROUP BY part_number, warehouse_id HAVING SUM(quantity_on_hand - quantity_reserved) > 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AllocationProperties allocationProperties;
+
+    private volatile AllocationModel model = AllocationModel.builder(0).build();
+
+    public AllocationModel current() {
+        return model;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialLoad() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.allocation.refresh-interval-ms:30000}",
+            initialDelayString = "${app.allocation.refresh-interval-ms:30000}")
+    public void refresh() {
+        long started = System.nanoTime();
+        try {
+            AllocationModel.Builder builder = AllocationModel.builder(allocationProperties.getCostPerTransitHour());
+            jdbcTemplate.query(LANES_SQL, rs -> {
+                builder.lane(rs.getString(1), rs.getString(2), rs.getDouble(3), rs.getDouble(4), rs.getInt(5));
+            });
+            jdbcTemplate.query(STOCK_SQL, rs -> {
+                builder.stock(rs.getString(1), rs.getString(2), rs.getInt(3));
+            });
+            AllocationModel rebuilt = builder.build();
+            model = rebuilt;
+            log.debug("Allocation model rebuilt: {} warehouses, {} parts in {} ms", rebuilt.warehouseCount(),
+                    rebuilt.partCount(), (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("Allocation model refresh failed, keeping snapshot from {}: {}",
+                    model.getBuiltAt(), e.getMessage());
+        }
+    }
+}
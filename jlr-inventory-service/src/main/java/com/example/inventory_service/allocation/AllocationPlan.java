@@ -0,0 +1,49 @@
+package com.example.inventory_service.allocation;
+
+/**
+ * Result of one solve: units allocated per (line, warehouse), the unfilled
+ * quantity per line, and the objective value of the split.
+ */
+public final class AllocationPlan {
+
+    private final int warehouseCount;
+    private final int[] allocation;
+    private final int[] shortfall;
+    private final double totalCost;
+
+    AllocationPlan(int warehouseCount, int[] allocation, int[] shortfall, double totalCost) {
+        this.warehouseCount = warehouseCount;
+        this.allocation = allocation;
+        this.shortfall = shortfall;
+        this.totalCost = totalCost;
+    }
+
+    public int lineCount() {
+        return shortfall.length;
+    }
+
+    public int allocated(int line, int warehouse) {
+        return allocation[line * warehouseCount + warehouse];
+    }
+
+    public int shortfall(int line) {
+        return shortfall[line];
+    }
+
+    public double getTotalCost() {
+        return totalCost;
+    }
+
+    public int shipmentCount() {
+        int shipments = 0;
+        for (int w = 0; w < warehouseCount; w++) {
+            for (int line = 0; line < shortfall.length; line++) {
+                if (allocation[line * warehouseCount + w] > 0) {
+                    shipments++;
+                    break;
+                }
+            }
+        }
+        return shipments;
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.inventory_service.allocation;
+
+import java.util.Arrays;
+
+/**
+ * Splits a multi-line order across warehouses, minimising
+ * {@code sum(shipment score of each warehouse used) + sum(units * unit score)}.
+ *
+ * A greedy pass fills the largest lines first from the warehouse with the lowest
+ * marginal cost per unit (a warehouse's shipment score is only charged the first
+ * time it is used). Local improvement then repeatedly
+ * <ol>
+ *   <li>tries to close each used warehouse by moving its units to warehouses the
+ *   order already ships from, and</li>
+ *   <li>moves units between used warehouses when the target is cheaper per unit,</li>
+ * </ol>
+ * until a pass makes no improvement. All working state is primitive arrays sized
+ * lines x warehouses; the model is never mutated, so one solver can serve
+ * concurrent requests.
+ *
+ * Lines must reference distinct parts; callers merge duplicates first.
+ */
+public class AllocationSolver {
+
+    private static final double EPSILON = 1e-9;
+
+    private final int maxImprovementPasses;
+
+    public AllocationSolver(int maxImprovementPasses) {
+        this.maxImprovementPasses = maxImprovementPasses;
+    }
+
+    public AllocationPlan solve(AllocationModel model, int dealer, int[] parts, int[] quantities) {
+        return new Run(model, dealer, parts, quantities).solve();
+    }
+
+    private final class Run {
+
+        private final int warehouses;
+        private final int lines;
+        private final int[] quantities;
+        private final double[] shipmentScore;
+        private final double[] unitScore;
+        private final int[] spare;
+        private final int[] allocation;
+        private final int[] linesUsing;
+        private final int[] shortfall;
+        private final int[] warehousesByUnitScore;
+
+        private Run(AllocationModel model, int dealer, int[] parts, int[] quantities) {
+            this.warehouses = model.warehouseCount();
+            this.lines = parts.length;
+            this.quantities = quantities;
+            this.shipmentScore = new double[warehouses];
+            this.unitScore = new double[warehouses];
+            this.spare = new int[lines * warehouses];
+            this.allocation = new int[lines * warehouses];
+            this.linesUsing = new int[warehouses];
+            this.shortfall = new int[lines];
+
+            model.copyLaneScores(dealer, shipmentScore, unitScore);
+            for (int line = 0; line < lines; line++) {
+                int base = line * warehouses;
+                model.copyStock(parts[line], spare, base);
+                for (int w = 0; w < warehouses; w++) {
+                    if (Double.isInfinite(shipmentScore[w]) || Double.isInfinite(unitScore[w])) {
+                        spare[base + w] = 0;
+                    }
+                }
+            }
+            this.warehousesByUnitScore = sortedByUnitScore();
+        }
+
+        private AllocationPlan solve() {
+            greedy();
+            for (int pass = 0; pass < maxImprovementPasses; pass++) {
+                boolean improved = closeWarehouses();
+                improved |= moveToCheaperWarehouses();
+                if (!improved) {
+                    break;
+                }
+            }
+            return new AllocationPlan(warehouses, allocation, shortfall, totalCost());
+        }
+
+        private void greedy() {
+            // largest lines first: they decide which warehouses are worth opening
+            long[] order = new long[lines];
+            for (int line = 0; line < lines; line++) {
+                order[line] = ((long) (Integer.MAX_VALUE - quantities[line]) << 32) | line;
+            }
+            Arrays.sort(order);
+
+            for (long key : order) {
+                int line = (int) key;
+                int base = line * warehouses;
+                int need = quantities[line];
+                while (need > 0) {
+                    int best = -1;
+                    double bestScore = Double.POSITIVE_INFINITY;
+                    for (int w = 0; w < warehouses; w++) {
+                        int available = spare[base + w];
+                        if (available <= 0) {
+                            continue;
+                        }
+                        int take = Math.min(need, available);
+                        double fixed = linesUsing[w] > 0 ? 0 : shipmentScore[w];
+                        double score = unitScore[w] + fixed / take;
+                        if (score < bestScore) {
+                            bestScore = score;
+                            best = w;
+                        }
+                    }
+                    if (best < 0) {
+                        break;
+                    }
+                    int take = Math.min(need, spare[base + best]);
+                    assign(line, best, take);
+                    need -= take;
+                }
+                shortfall[line] = need;
+            }
+        }
+
+        private boolean closeWarehouses() {
+            boolean improved = false;
+            for (int w = 0; w < warehouses; w++) {
+                if (linesUsing[w] == 0) {
+                    continue;
+                }
+                double delta = -shipmentScore[w];
+                for (int line = 0; line < lines && delta < Double.POSITIVE_INFINITY; line++) {
+                    if (allocation[line * warehouses + w] > 0) {
+                        delta += relocate(line, w, false);
+                    }
+                }
+                if (delta < -EPSILON) {
+                    for (int line = 0; line < lines; line++) {
+                        if (allocation[line * warehouses + w] > 0) {
+                            relocate(line, w, true);
+                        }
+                    }
+                    improved = true;
+                }
+            }
+            return improved;
+        }
+
+        /**
+         * Cost change of moving all of a line's units off {@code from} onto other
+         * warehouses the order already uses, cheapest unit score first.
+         *
+         * @return the cost delta, or +infinity if the units cannot all be placed
+         */
+        private double relocate(int line, int from, boolean apply) {
+            int base = line * warehouses;
+            int remaining = allocation[base + from];
+            double delta = -remaining * unitScore[from];
+            for (int w : warehousesByUnitScore) {
+                if (remaining == 0) {
+                    break;
+                }
+                if (w == from || linesUsing[w] == 0 || spare[base + w] <= 0) {
+                    continue;
+                }
+                int moved = Math.min(remaining, spare[base + w]);
+                delta += moved * unitScore[w];
+                remaining -= moved;
+                if (apply) {
+                    unassign(line, from, moved);
+                    assign(line, w, moved);
+                }
+            }
+            return remaining > 0 ? Double.POSITIVE_INFINITY : delta;
+        }
+
+        private boolean moveToCheaperWarehouses() {
+            boolean improved = false;
+            for (int line = 0; line < lines; line++) {
+                int base = line * warehouses;
+                for (int from = 0; from < warehouses; from++) {
+                    for (int to : warehousesByUnitScore) {
+                        if (allocation[base + from] == 0 || unitScore[to] >= unitScore[from] - EPSILON) {
+                            break;
+                        }
+                        if (to == from || linesUsing[to] == 0 || spare[base + to] <= 0) {
+                            continue;
+                        }
+                        int moved = Math.min(allocation[base + from], spare[base + to]);
+                        unassign(line, from, moved);
+                        assign(line, to, moved);
+                        improved = true;
+                    }
+                }
+            }
+            return improved;
+        }
+
+        private void assign(int line, int w, int units) {
+            int cell = line * warehouses + w;
+            if (allocation[cell] == 0) {
+                linesUsing[w]++;
+            }
+            allocation[cell] += units;
+            spare[cell] -= units;
+        }
+
+        private void unassign(int line, int w, int units) {
+            int cell = line * warehouses + w;
+            allocation[cell] -= units;
+            spare[cell] += units;
+            if (allocation[cell] == 0) {
+                linesUsing[w]--;
+            }
+        }
+
+        private double totalCost() {
+            double cost = 0;
+            for (int w = 0; w < warehouses; w++) {
+                if (linesUsing[w] == 0) {
+                    continue;
+                }
+                cost += shipmentScore[w];
+                for (int line = 0; line < lines; line++) {
+                    cost += allocation[line * warehouses + w] * unitScore[w];
+                }
+            }
+            return cost;
+        }
+
+        private int[] sortedByUnitScore() {
+            Integer[] boxed = new Integer[warehouses];
+            for (int w = 0; w < warehouses; w++) {
+                boxed[w] = w;
+            }
+            Arrays.sort(boxed, (a, b) -> Double.compare(unitScore[a], unitScore[b]));
+            int[] sorted = new int[warehouses];
+            for (int w = 0; w < warehouses; w++) {
+                sorted[w] = boxed[w];
+            }
+            return sorted;
+        }
+    }
+}
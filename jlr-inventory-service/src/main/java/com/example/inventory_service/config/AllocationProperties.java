@@ -0,0 +1,34 @@
+package com.example.inventory_service.config;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.allocation")
+@Validated
+public class AllocationProperties {
+
+    /**
+     * Cost assigned to each hour a shipment is in transit, so the solver trades
+     * shipping time against shipping cost in one objective
+     */
+    @DecimalMin(value = "0.0")
+    private double costPerTransitHour = 2.0;
+
+    /**
+     * Upper bound on local-improvement passes after the greedy allocation
+     */
+    @Min(value = 0)
+    private int maxImprovementPasses = 8;
+
+    /**
+     * How often the in-memory cost matrix and stock vectors are rebuilt
+     */
+    @Min(value = 1000)
+    private long refreshIntervalMs = 30000;
+}
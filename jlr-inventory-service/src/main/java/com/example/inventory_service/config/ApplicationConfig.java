@@ -0,0 +1,23 @@
+package com.example.inventory_service.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+/**
+ * Contains general-purpose application beans.
+ */
+@Configuration
+@EnableScheduling
+public class ApplicationConfig {
+
+    /**
+     * System clock, injected so day boundaries in demand statistics can be controlled in tests.
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
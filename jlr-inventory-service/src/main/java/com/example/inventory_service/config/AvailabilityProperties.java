@@ -0,0 +1,42 @@
+package com.example.inventory_service.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.availability")
+@Validated
+public class AvailabilityProperties {
+
+    /**
+     * Part numbers kept in the last-known-good snapshot
+     */
+    @Min(value = 100)
+    private int lastKnownGoodMaxEntries = 50000;
+
+    /**
+     * Oldest snapshot entry that may still be served as a stale answer
+     */
+    @NotNull
+    private Duration lastKnownGoodMaxAge = Duration.ofMinutes(15);
+
+    /**
+     * Threads available to time-limited availability reads
+     */
+    @Min(value = 1)
+    private int readThreads = 32;
+
+    /**
+     * Time limit for a reservation; enforced as the transaction timeout so a slow
+     * database rolls the reservation back instead of leaving it half-done
+     */
+    @Min(value = 1)
+    private int reservationTimeoutSeconds = 2;
+}
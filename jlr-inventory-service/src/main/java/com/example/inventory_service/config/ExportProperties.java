@@ -0,0 +1,37 @@
+package com.example.inventory_service.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.export")
+@Validated
+public class ExportProperties {
+
+    /**
+     * Directory that file exports (and their checkpoint files) are written to
+     */
+    @NotEmpty
+    private String directory = "/var/tmp/jlr-exports";
+
+    /**
+     * Rows fetched per round trip from the server-side cursor
+     */
+    @Min(value = 100, message = "Fetch size must be at least 100 rows")
+    private int fetchSize = 5000;
+
+    /**
+     * Rows written between checkpoints. Each checkpoint closes the current gzip member,
+     * so a file export can be truncated back to it and resumed.
+     */
+    @Min(value = 1000, message = "Checkpoint interval must be at least 1000 rows")
+    private int checkpointInterval = 100000;
+
+    @Min(value = 8192, message = "Buffer size must be at least 8 KB")
+    private int bufferSize = 65536;
+}
@@ -0,0 +1,22 @@
+package com.example.inventory_service.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    /**
+     * Stock events are keyed by part number, so the partition count bounds
+     * consumer parallelism while keeping per-part order.
+     */
+    @Bean
+    public NewTopic stockChangedTopic(OutboxProperties outboxProperties) {
+        return TopicBuilder.name(outboxProperties.getTopic())
+                .partitions(12)
+                .replicas(1)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.inventory_service.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+@Validated
+public class OutboxProperties {
+
+    @NotEmpty
+    private String topic = "inventory.stock-changed";
+
+    /**
+     * Number of ordering buckets. Changing it re-buckets new rows only, so drain
+     * the outbox before changing it.
+     */
+    @Min(value = 1)
+    @Max(value = 1024)
+    private int buckets = 16;
+
+    /**
+     * Rows claimed and published per relay transaction
+     */
+    @Min(value = 1)
+    private int batchSize = 500;
+
+    /**
+     * Delay between relay sweeps when the outbox was drained
+     */
+    @Min(value = 10)
+    private long pollIntervalMs = 100;
+
+    /**
+     * How long to wait for Kafka to acknowledge a batch before rolling it back
+     */
+    @Min(value = 1000)
+    private long sendTimeoutMs = 10000;
+}
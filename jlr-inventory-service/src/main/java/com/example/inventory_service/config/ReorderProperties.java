@@ -0,0 +1,45 @@
+package com.example.inventory_service.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.reorder")
+@Validated
+public class ReorderProperties {
+
+    /**
+     * Smoothing factor for daily usage; 0.1 weights roughly the last 20 days
+     */
+    @DecimalMin(value = "0.01")
+    @DecimalMax(value = "1.0")
+    private double usageAlpha = 0.1;
+
+    @DecimalMin(value = "0.01")
+    @DecimalMax(value = "1.0")
+    private double leadTimeAlpha = 0.2;
+
+    /**
+     * Safety factor (z-score) for the target service level; 1.65 is roughly 95%
+     */
+    @DecimalMin(value = "0.0")
+    private double serviceLevelZ = 1.65;
+
+    /**
+     * Lead time assumed until the first receipt has been observed
+     */
+    @DecimalMin(value = "0.0")
+    private double defaultLeadTimeDays = 7;
+
+    /**
+     * Days of demand a replenishment order should cover on top of the reorder point
+     */
+    @Min(value = 1)
+    private int reviewPeriodDays = 14;
+}
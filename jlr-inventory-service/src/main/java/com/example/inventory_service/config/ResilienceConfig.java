@@ -0,0 +1,26 @@
+package com.example.inventory_service.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ResilienceConfig {
+
+    /**
+     * Threads that run time-limited reads. No queue: when every thread is stuck
+     * on a slow database the next read is rejected and served from the
+     * last-known-good snapshot rather than waiting in line.
+     */
+    @Bean
+    public AsyncTaskExecutor guardedReadExecutor(AvailabilityProperties availabilityProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(availabilityProperties.getReadThreads());
+        executor.setMaxPoolSize(availabilityProperties.getReadThreads());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("guarded-read-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.inventory_service.config;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.saga")
+@Validated
+public class SagaProperties {
+
+    /**
+     * Reserve and release commands from the order saga, keyed by order number
+     */
+    @NotEmpty
+    private String commandTopic = "inventory.commands";
+
+    /**
+     * Where command outcomes go back to the order saga, keyed by order number
+     */
+    @NotEmpty
+    private String replyTopic = "orders.saga-replies";
+
+    /**
+     * How long a command waits for its reply to be acknowledged before it is
+     * redelivered instead of committed
+     */
+    @NotNull
+    private Duration replyTimeout = Duration.ofSeconds(10);
+}
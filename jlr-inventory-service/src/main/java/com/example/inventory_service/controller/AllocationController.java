@@ -0,0 +1,22 @@
+package com.example.inventory_service.controller;
+
+import com.example.inventory_service.dto.AllocationRequest;
+import com.example.inventory_service.dto.AllocationResponse;
+import com.example.inventory_service.service.AllocationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/inventory/allocations")
+@RequiredArgsConstructor
+public class AllocationController {
+
+    private final AllocationService allocationService;
+
+    @PostMapping("/plan")
+    public ResponseEntity<AllocationResponse> plan(@Valid @RequestBody AllocationRequest request) {
+        return ResponseEntity.ok(allocationService.plan(request));
+    }
+}
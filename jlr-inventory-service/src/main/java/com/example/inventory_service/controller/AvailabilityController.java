@@ -0,0 +1,43 @@
+package com.example.inventory_service.controller;
+
+import com.example.inventory_service.dto.AvailabilityBatchRequest;
+import com.example.inventory_service.dto.AvailabilityResponse;
+import com.example.inventory_service.service.AvailabilityService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/inventory/availability")
+@RequiredArgsConstructor
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    @GetMapping("/{partNumber}")
+    public ResponseEntity<AvailabilityResponse> getAvailability(@PathVariable String partNumber) {
+        AvailabilityResponse response = availabilityService.getAvailability(partNumber);
+        if (response.isStale()) {
+            // RFC 7234 warning code 110: response is stale
+            return ResponseEntity.ok().header("Warning", "110 - \"Response is Stale\"").body(response);
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Availability of several parts in one call; parts with no answer at all
+     * are left out of the list.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<AvailabilityResponse>> getAvailability(
+            @Valid @RequestBody AvailabilityBatchRequest request) {
+        List<AvailabilityResponse> responses = availabilityService.getAvailability(request.getPartNumbers());
+        if (responses.stream().anyMatch(AvailabilityResponse::isStale)) {
+            return ResponseEntity.ok().header("Warning", "110 - \"Response is Stale\"").body(responses);
+        }
+        return ResponseEntity.ok(responses);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.inventory_service.controller;
+
+import com.example.inventory_service.dto.ReorderSuggestionResponse;
+import com.example.inventory_service.exception.StockNotFoundException;
+import com.example.inventory_service.service.ReorderPointService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/inventory/reorder")
+@RequiredArgsConstructor
+public class ReorderController {
+
+    private final ReorderPointService reorderPointService;
+
+    /**
+     * "What should I reorder now": a lookup of rows already flagged by the
+     * incremental updates, optionally narrowed to one warehouse.
+     */
+    @GetMapping("/suggestions")
+    public ResponseEntity<List<ReorderSuggestionResponse>> getReorderSuggestions(
+            @RequestParam(required = false) String warehouseId) {
+        List<ReorderSuggestionResponse> responses = reorderPointService.getReorderSuggestions(warehouseId).stream()
+                .map(ReorderSuggestionResponse::from)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/{partNumber}/{warehouseId}")
+    public ResponseEntity<ReorderSuggestionResponse> getStatistics(@PathVariable String partNumber,
+                                                                   @PathVariable String warehouseId) {
+        return reorderPointService.getStatistics(partNumber, warehouseId)
+                .map(ReorderSuggestionResponse::from)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new StockNotFoundException(
+                        "No demand statistics for " + partNumber + " at " + warehouseId));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.inventory_service.controller;
+
+import com.example.inventory_service.dto.ReservationRequest;
+import com.example.inventory_service.dto.ReservationResponse;
+import com.example.inventory_service.entity.StockReservation;
+import com.example.inventory_service.service.ReservationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/inventory/reservations")
+@RequiredArgsConstructor
+public class ReservationController {
+
+    private final ReservationService reservationService;
+
+    @PostMapping
+    public ResponseEntity<ReservationResponse> reserve(@Valid @RequestBody ReservationRequest request) {
+        StockReservation reservation = reservationService.reserve(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ReservationResponse.from(reservation));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ReservationResponse> release(@PathVariable Long id) {
+        return ResponseEntity.ok(ReservationResponse.from(reservationService.release(id)));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.inventory_service.controller;
+
+import com.example.inventory_service.dto.StockLevelResponse;
+import com.example.inventory_service.dto.StockMovementRequest;
+import com.example.inventory_service.entity.StockLevel;
+import com.example.inventory_service.service.StockService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Slf4j
+@RequestMapping("/api/inventory/stock")
+@RequiredArgsConstructor
+public class StockController {
+
+    private final StockService stockService;
+
+    @GetMapping("/{partNumber}")
+    public ResponseEntity<List<StockLevelResponse>> getStockForPart(@PathVariable String partNumber) {
+        List<StockLevelResponse> responses = stockService.getStockForPart(partNumber).stream()
+                .map(StockLevelResponse::from)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    @PostMapping("/consume")
+    public ResponseEntity<StockLevelResponse> consume(@Valid @RequestBody StockMovementRequest request) {
+        StockLevel stock = stockService.consume(request.getPartNumber(), request.getDealerId(),
+                request.getWarehouseId(), request.getQuantity());
+        return ResponseEntity.ok(StockLevelResponse.from(stock));
+    }
+
+    @PostMapping("/receive")
+    public ResponseEntity<StockLevelResponse> receive(@Valid @RequestBody StockMovementRequest request) {
+        StockLevel stock = stockService.receive(request.getPartNumber(), request.getDealerId(),
+                request.getWarehouseId(), request.getQuantity(), request.getLeadTimeDays());
+        return ResponseEntity.ok(StockLevelResponse.from(stock));
+    }
+}
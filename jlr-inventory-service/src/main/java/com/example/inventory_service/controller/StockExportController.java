@@ -0,0 +1,80 @@
+package com.example.inventory_service.controller;
+
+import com.example.inventory_service.dto.StockExportResponse;
+import com.example.inventory_service.export.ExportFormat;
+import com.example.inventory_service.service.StockExportService;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.channels.Channels;
+import java.time.LocalDate;
+
+@RestController
+@Slf4j
+@Validated
+@RequestMapping("/api/inventory/exports")
+@RequiredArgsConstructor
+public class StockExportController {
+
+    private static final String EXPORT_NAME_PATTERN = "[A-Za-z0-9_-]{1,64}";
+
+    private final StockExportService stockExportService;
+
+    /**
+     * Streams the snapshot as a gzip attachment. Each row carries its id, so a client
+     * that is cut off can resume with {@code afterId} set to the last id it received.
+     */
+    @GetMapping("/stock-snapshot")
+    public ResponseEntity<StreamingResponseBody> streamStockSnapshot(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) String dealerId,
+            @RequestParam(required = false) String warehouseId,
+            @RequestParam(defaultValue = "0") @Min(0) long afterId) {
+
+        String filename = "stock-snapshot-" + LocalDate.now() + format.getFileExtension();
+        StreamingResponseBody body = outputStream -> stockExportService.streamSnapshot(
+                Channels.newChannel(outputStream), format, dealerId, warehouseId, afterId);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .header("X-Export-Content-Type", format.getContentType())
+                .body(body);
+    }
+
+    /**
+     * Starts or resumes a file export. A resume must use the filters the export was
+     * started with; {@code restart} starts over, including after it has completed.
+     */
+    @PostMapping("/stock-snapshot/{exportName}")
+    public ResponseEntity<StockExportResponse> startFileExport(
+            @PathVariable @Pattern(regexp = EXPORT_NAME_PATTERN) String exportName,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) String dealerId,
+            @RequestParam(required = false) String warehouseId,
+            @RequestParam(defaultValue = "false") boolean restart) {
+
+        log.info("File export requested: {} as {} (restart={})", exportName, format, restart);
+        StockExportResponse response = stockExportService.startFileExport(exportName, format, dealerId, warehouseId,
+                restart);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/stock-snapshot/{exportName}")
+    public ResponseEntity<StockExportResponse> getFileExportStatus(
+            @PathVariable @Pattern(regexp = EXPORT_NAME_PATTERN) String exportName,
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        return ResponseEntity.ok(stockExportService.getFileExportStatus(exportName, format));
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.inventory_service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class AllocationRequest {
+
+    @NotBlank(message = "Dealer ID is required")
+    private String dealerId;
+
+    @NotEmpty(message = "At least one order line is required")
+    @Valid
+    private List<Line> lines;
+
+    @Data
+    public static class Line {
+        @NotBlank(message = "Part number is required")
+        private String partNumber;
+
+        @Min(value = 1, message = "Quantity must be at least 1")
+        private int quantity;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.inventory_service.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class AllocationResponse {
+    private String dealerId;
+    private List<LineAllocation> lines;
+    private int shipmentCount;
+    private double totalCost;
+    private boolean fullyAllocated;
+    private long solveMicros;
+
+    @Data
+    @Builder
+    public static class LineAllocation {
+        private String partNumber;
+        private int requestedQuantity;
+        private int shortfall;
+        private List<WarehouseAllocation> warehouses;
+    }
+
+    @Data
+    @Builder
+    public static class WarehouseAllocation {
+        private String warehouseId;
+        private int quantity;
+    }
+}
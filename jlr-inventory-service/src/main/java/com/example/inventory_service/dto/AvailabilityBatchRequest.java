@@ -0,0 +1,19 @@
+package com.example.inventory_service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Parts whose availability is wanted in one call, e.g. every part on an order.
+ */
+@Data
+public class AvailabilityBatchRequest {
+
+    @NotEmpty(message = "At least one part number is required")
+    @Size(max = 500, message = "At most 500 part numbers per call")
+    private Set<String> partNumbers = new LinkedHashSet<>();
+}
@@ -0,0 +1,28 @@
+package com.example.inventory_service.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder(toBuilder = true)
+public class AvailabilityResponse {
+    private String partNumber;
+    private long totalAvailable;
+    private List<WarehouseStock> warehouses;
+
+    /**
+     * True when the live read failed and this is the last-known-good answer
+     */
+    private boolean stale;
+    private Instant asOf;
+
+    @Data
+    @Builder
+    public static class WarehouseStock {
+        private String warehouseId;
+        private long available;
+    }
+}
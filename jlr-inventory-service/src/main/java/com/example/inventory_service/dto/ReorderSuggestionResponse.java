@@ -0,0 +1,39 @@
+package com.example.inventory_service.dto;
+
+import com.example.inventory_service.entity.DemandStatistics;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class ReorderSuggestionResponse {
+    private String partNumber;
+    private String warehouseId;
+    private int availableQuantity;
+    private int reorderPoint;
+    private int suggestedQuantity;
+    private boolean reorderRequired;
+    private double dailyUsage;
+    private double dailyUsageStdDev;
+    private double leadTimeDays;
+    private double leadTimeStdDev;
+    private LocalDateTime updatedAt;
+
+    public static ReorderSuggestionResponse from(DemandStatistics stats) {
+        return ReorderSuggestionResponse.builder()
+                .partNumber(stats.getPartNumber())
+                .warehouseId(stats.getWarehouseId())
+                .availableQuantity(stats.getAvailableQuantity())
+                .reorderPoint(stats.getReorderPoint())
+                .suggestedQuantity(stats.getSuggestedQuantity())
+                .reorderRequired(stats.isReorderRequired())
+                .dailyUsage(stats.getEwmaDailyUsage())
+                .dailyUsageStdDev(Math.sqrt(stats.getDailyUsageVariance()))
+                .leadTimeDays(stats.getLeadTimeDays())
+                .leadTimeStdDev(Math.sqrt(stats.getLeadTimeVariance()))
+                .updatedAt(stats.getUpdatedAt())
+                .build();
+    }
+}
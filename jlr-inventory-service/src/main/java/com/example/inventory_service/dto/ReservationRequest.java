@@ -0,0 +1,24 @@
+package com.example.inventory_service.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class ReservationRequest {
+
+    @NotBlank(message = "Reservation reference is required")
+    private String reservationReference;
+
+    @NotBlank(message = "Part number is required")
+    private String partNumber;
+
+    @NotBlank(message = "Dealer ID is required")
+    private String dealerId;
+
+    @NotBlank(message = "Warehouse ID is required")
+    private String warehouseId;
+
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private int quantity;
+}
@@ -0,0 +1,34 @@
+package com.example.inventory_service.dto;
+
+import com.example.inventory_service.entity.ReservationStatus;
+import com.example.inventory_service.entity.StockReservation;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class ReservationResponse {
+    private Long id;
+    private String reservationReference;
+    private String partNumber;
+    private String dealerId;
+    private String warehouseId;
+    private int quantity;
+    private ReservationStatus status;
+    private LocalDateTime createdAt;
+
+    public static ReservationResponse from(StockReservation reservation) {
+        return ReservationResponse.builder()
+                .id(reservation.getId())
+                .reservationReference(reservation.getReservationReference())
+                .partNumber(reservation.getPartNumber())
+                .dealerId(reservation.getDealerId())
+                .warehouseId(reservation.getWarehouseId())
+                .quantity(reservation.getQuantity())
+                .status(reservation.getStatus())
+                .createdAt(reservation.getCreatedAt())
+                .build();
+    }
+}
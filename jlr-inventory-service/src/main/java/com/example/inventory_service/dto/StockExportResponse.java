@@ -0,0 +1,33 @@
+package com.example.inventory_service.dto;
+
+import com.example.inventory_service.export.ExportCheckpoint;
+import com.example.inventory_service.export.ExportFormat;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class StockExportResponse {
+    private String exportName;
+    private ExportFormat format;
+    private String file;
+    private boolean running;
+    private boolean completed;
+    private long rowsWritten;
+    private long lastId;
+    private long bytesWritten;
+
+    public static StockExportResponse from(String exportName, ExportFormat format, String file,
+                                           boolean running, ExportCheckpoint checkpoint) {
+        return StockExportResponse.builder()
+                .exportName(exportName)
+                .format(format)
+                .file(file)
+                .running(running)
+                .completed(checkpoint.isCompleted())
+                .rowsWritten(checkpoint.getRowsWritten())
+                .lastId(checkpoint.getLastId())
+                .bytesWritten(checkpoint.getByteOffset())
+                .build();
+    }
+}
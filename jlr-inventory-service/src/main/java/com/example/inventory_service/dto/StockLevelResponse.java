@@ -0,0 +1,34 @@
+package com.example.inventory_service.dto;
+
+import com.example.inventory_service.entity.StockLevel;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class StockLevelResponse {
+    private String partNumber;
+    private String dealerId;
+    private String warehouseId;
+    private int quantityOnHand;
+    private int quantityReserved;
+    private int quantityAvailable;
+    private BigDecimal unitCost;
+    private LocalDateTime updatedAt;
+
+    public static StockLevelResponse from(StockLevel stockLevel) {
+        return StockLevelResponse.builder()
+                .partNumber(stockLevel.getPartNumber())
+                .dealerId(stockLevel.getDealerId())
+                .warehouseId(stockLevel.getWarehouseId())
+                .quantityOnHand(stockLevel.getQuantityOnHand())
+                .quantityReserved(stockLevel.getQuantityReserved())
+                .quantityAvailable(stockLevel.getAvailableQuantity())
+                .unitCost(stockLevel.getUnitCost())
+                .updatedAt(stockLevel.getUpdatedAt())
+                .build();
+    }
+}
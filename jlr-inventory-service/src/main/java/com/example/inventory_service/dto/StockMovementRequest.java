@@ -0,0 +1,28 @@
+package com.example.inventory_service.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class StockMovementRequest {
+
+    @NotBlank(message = "Part number is required")
+    private String partNumber;
+
+    @NotBlank(message = "Dealer ID is required")
+    private String dealerId;
+
+    @NotBlank(message = "Warehouse ID is required")
+    private String warehouseId;
+
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private int quantity;
+
+    /**
+     * Days between the replenishment order and this receipt; only used for receipts
+     */
+    @DecimalMin(value = "0.0", message = "Lead time cannot be negative")
+    private Double leadTimeDays;
+}
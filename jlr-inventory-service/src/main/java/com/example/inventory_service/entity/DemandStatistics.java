@@ -0,0 +1,142 @@
+package com.example.inventory_service.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Running demand aggregates for one part number at one warehouse.
+ *
+ * Daily usage is accumulated into the current day's bucket; when an event for a
+ * later day arrives the finished bucket (and any idle days in between) are folded
+ * into an exponentially weighted mean and variance. Lead time is tracked the same
+ * way, one sample per receipt.
+ */
+@Entity
+@Table(name = "demand_statistics")
+@Data
+@NoArgsConstructor
+public class DemandStatistics {
+
+    /**
+     * Idle days folded in on one rollover are capped; beyond this the EWMA has
+     * decayed to (near) zero anyway.
+     */
+    private static final int MAX_IDLE_DAYS_FOLDED = 366;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "part_number", nullable = false)
+    private String partNumber;
+
+    @Column(name = "warehouse_id", nullable = false)
+    private String warehouseId;
+
+    @Column(name = "bucket_date")
+    private LocalDate bucketDate;
+
+    @Column(name = "bucket_quantity", nullable = false)
+    private int bucketQuantity;
+
+    @Column(name = "usage_days", nullable = false)
+    private int usageDays;
+
+    @Column(name = "ewma_daily_usage", nullable = false)
+    private double ewmaDailyUsage;
+
+    @Column(name = "daily_usage_variance", nullable = false)
+    private double dailyUsageVariance;
+
+    @Column(name = "lead_time_samples", nullable = false)
+    private int leadTimeSamples;
+
+    @Column(name = "lead_time_days", nullable = false)
+    private double leadTimeDays;
+
+    @Column(name = "lead_time_variance", nullable = false)
+    private double leadTimeVariance;
+
+    @Column(name = "available_quantity", nullable = false)
+    private int availableQuantity;
+
+    @Column(name = "reorder_point", nullable = false)
+    private int reorderPoint;
+
+    @Column(name = "suggested_quantity", nullable = false)
+    private int suggestedQuantity;
+
+    @Column(name = "reorder_required", nullable = false)
+    private boolean reorderRequired;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    public DemandStatistics(String partNumber, String warehouseId, int availableQuantity) {
+        this.partNumber = partNumber;
+        this.warehouseId = warehouseId;
+        this.availableQuantity = availableQuantity;
+    }
+
+    public void recordConsumption(LocalDate day, int quantity, double alpha) {
+        rollTo(day, alpha);
+        bucketQuantity += quantity;
+    }
+
+    /**
+     * Folds every completed day before {@code day} into the usage EWMA. Events that
+     * arrive late (for a day already rolled over) land in the current bucket.
+     */
+    public void rollTo(LocalDate day, double alpha) {
+        if (bucketDate == null) {
+            bucketDate = day;
+            return;
+        }
+        if (!day.isAfter(bucketDate)) {
+            return;
+        }
+        foldUsage(bucketQuantity, alpha);
+        long idleDays = Math.min(ChronoUnit.DAYS.between(bucketDate, day) - 1, MAX_IDLE_DAYS_FOLDED);
+        for (long i = 0; i < idleDays; i++) {
+            foldUsage(0, alpha);
+        }
+        bucketDate = day;
+        bucketQuantity = 0;
+    }
+
+    public void recordLeadTime(double days, double alpha) {
+        if (leadTimeSamples == 0) {
+            leadTimeDays = days;
+            leadTimeVariance = 0;
+        } else {
+            double diff = days - leadTimeDays;
+            double increment = alpha * diff;
+            leadTimeDays += increment;
+            leadTimeVariance = (1 - alpha) * (leadTimeVariance + diff * increment);
+        }
+        leadTimeSamples++;
+    }
+
+    private void foldUsage(double quantity, double alpha) {
+        if (usageDays == 0) {
+            ewmaDailyUsage = quantity;
+            dailyUsageVariance = 0;
+        } else {
+            double diff = quantity - ewmaDailyUsage;
+            double increment = alpha * diff;
+            ewmaDailyUsage += increment;
+            dailyUsageVariance = (1 - alpha) * (dailyUsageVariance + diff * increment);
+        }
+        usageDays++;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.inventory_service.entity;
+
+/**
+ * Lifecycle of a stock reservation
+ */
+public enum ReservationStatus {
+
+    /**
+     * Stock is held against the order and not available to others
+     */
+    ACTIVE,
+
+    /**
+     * Hold was cancelled and the quantity returned to available stock
+     */
+    RELEASED,
+
+    /**
+     * Reserved stock has been issued against the order
+     */
+    FULFILLED
+}
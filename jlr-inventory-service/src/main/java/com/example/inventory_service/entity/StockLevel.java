@@ -0,0 +1,54 @@
+package com.example.inventory_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Stock position of a single part number held by a dealer in one warehouse.
+ */
+@Entity
+@Table(name = "stock_levels")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockLevel {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "part_number", nullable = false)
+    private String partNumber;
+
+    @Column(name = "dealer_id", nullable = false)
+    private String dealerId;
+
+    @Column(name = "warehouse_id", nullable = false)
+    private String warehouseId;
+
+    @Column(name = "quantity_on_hand", nullable = false)
+    private Integer quantityOnHand = 0;
+
+    @Column(name = "quantity_reserved", nullable = false)
+    private Integer quantityReserved = 0;
+
+    @Column(name = "unit_cost", nullable = false, precision = 12, scale = 2)
+    private BigDecimal unitCost = BigDecimal.ZERO;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    public int getAvailableQuantity() {
+        return quantityOnHand - quantityReserved;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.inventory_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Cost of shipping from a warehouse to a dealer: a fixed cost per shipment plus
+ * a per-unit handling cost, and the transit time of the lane.
+ */
+@Entity
+@Table(name = "warehouse_dealer_costs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarehouseDealerCost {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "warehouse_id", nullable = false)
+    private String warehouseId;
+
+    @Column(name = "dealer_id", nullable = false)
+    private String dealerId;
+
+    @Column(name = "shipment_cost", nullable = false, precision = 10, scale = 2)
+    private BigDecimal shipmentCost;
+
+    @Column(name = "unit_cost", nullable = false, precision = 10, scale = 4)
+    private BigDecimal unitCost = BigDecimal.ZERO;
+
+    @Column(name = "transit_hours", nullable = false)
+    private Integer transitHours;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
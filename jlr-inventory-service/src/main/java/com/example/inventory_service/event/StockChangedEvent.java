@@ -0,0 +1,48 @@
+package com.example.inventory_service.event;
+
+import com.example.inventory_service.entity.StockLevel;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Published for every change to a stock position. Consumers should treat
+ * {@code eventId} as an idempotency key: delivery is at-least-once.
+ */
+@Data
+@Builder
+public class StockChangedEvent {
+    private UUID eventId;
+    private StockEventType eventType;
+    private String partNumber;
+    private String dealerId;
+    private String warehouseId;
+    private int quantityDelta;
+    private int quantityOnHand;
+    private int quantityReserved;
+    private int quantityAvailable;
+
+    /**
+     * Order or reservation reference, when the change was made on behalf of one
+     */
+    private String reference;
+    private Instant occurredAt;
+
+    public static StockChangedEvent of(StockEventType type, StockLevel stock, int quantityDelta, String reference) {
+        return StockChangedEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(type)
+                .partNumber(stock.getPartNumber())
+                .dealerId(stock.getDealerId())
+                .warehouseId(stock.getWarehouseId())
+                .quantityDelta(quantityDelta)
+                .quantityOnHand(stock.getQuantityOnHand())
+                .quantityReserved(stock.getQuantityReserved())
+                .quantityAvailable(stock.getAvailableQuantity())
+                .reference(reference)
+                .occurredAt(Instant.now())
+                .build();
+    }
+}
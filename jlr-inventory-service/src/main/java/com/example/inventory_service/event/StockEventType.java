@@ -0,0 +1,15 @@
+package com.example.inventory_service.event;
+
+/**
+ * Kinds of stock change published on the stock-changed topic
+ */
+public enum StockEventType {
+
+    STOCK_CONSUMED,
+
+    STOCK_RECEIVED,
+
+    STOCK_RESERVED,
+
+    RESERVATION_RELEASED
+}
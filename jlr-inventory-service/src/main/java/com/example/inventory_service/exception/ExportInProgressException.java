@@ -0,0 +1,8 @@
+package com.example.inventory_service.exception;
+
+public class ExportInProgressException extends RuntimeException{
+
+    public ExportInProgressException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.inventory_service.exception;
+
+public class ExportParametersMismatchException extends RuntimeException{
+
+    public ExportParametersMismatchException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.inventory_service.exception;
+
+public class InventoryUnavailableException extends RuntimeException{
+
+    public InventoryUnavailableException(String message){
+        super(message);
+    }
+}
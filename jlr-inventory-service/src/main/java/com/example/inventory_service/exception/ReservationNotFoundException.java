@@ -0,0 +1,8 @@
+package com.example.inventory_service.exception;
+
+public class ReservationNotFoundException extends RuntimeException{
+
+    public ReservationNotFoundException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.inventory_service.exception;
+
+public class StockNotFoundException extends RuntimeException{
+
+    public StockNotFoundException(String message){
+        super(message);
+    }
+}
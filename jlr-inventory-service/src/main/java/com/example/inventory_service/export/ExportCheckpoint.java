@@ -0,0 +1,96 @@
+package com.example.inventory_service.export;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Resume point of a file export: the last stock_levels id written and the byte
+ * offset of the end of the last complete gzip member, plus the filters the
+ * export was started with, so a resume cannot continue with different ones.
+ */
+@Value
+public class ExportCheckpoint {
+
+    long lastId;
+    long byteOffset;
+    long rowsWritten;
+    boolean completed;
+    String dealerId;
+    String warehouseId;
+
+    public static ExportCheckpoint initial() {
+        return initial(null, null);
+    }
+
+    public static ExportCheckpoint initial(String dealerId, String warehouseId) {
+        return new ExportCheckpoint(0L, 0L, 0L, false, normalizeFilter(dealerId), normalizeFilter(warehouseId));
+    }
+
+    /**
+     * Whether the export was started with these filters; a blank filter is the
+     * same as none.
+     */
+    public boolean hasFilters(String dealerId, String warehouseId) {
+        return Objects.equals(this.dealerId, normalizeFilter(dealerId))
+                && Objects.equals(this.warehouseId, normalizeFilter(warehouseId));
+    }
+
+    public static Optional<ExportCheckpoint> read(Path checkpointFile) throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(checkpointFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return Optional.of(new ExportCheckpoint(
+                Long.parseLong(properties.getProperty("lastId", "0")),
+                Long.parseLong(properties.getProperty("byteOffset", "0")),
+                Long.parseLong(properties.getProperty("rowsWritten", "0")),
+                Boolean.parseBoolean(properties.getProperty("completed", "false")),
+                properties.getProperty("dealerId"),
+                properties.getProperty("warehouseId")));
+    }
+
+    /**
+     * Writes to a temp file and moves it over the old checkpoint so a crash never
+     * leaves a half-written checkpoint behind.
+     */
+    public void write(Path checkpointFile) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("lastId", Long.toString(lastId));
+        properties.setProperty("byteOffset", Long.toString(byteOffset));
+        properties.setProperty("rowsWritten", Long.toString(rowsWritten));
+        properties.setProperty("completed", Boolean.toString(completed));
+        if (dealerId != null) {
+            properties.setProperty("dealerId", dealerId);
+        }
+        if (warehouseId != null) {
+            properties.setProperty("warehouseId", warehouseId);
+        }
+
+        Path tmp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        }
+        Files.move(tmp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * A dealer or warehouse filter as every export applies it: trimmed, and
+     * null when blank, meaning no filter.
+     */
+    static String normalizeFilter(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
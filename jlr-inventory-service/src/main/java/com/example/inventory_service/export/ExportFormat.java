@@ -0,0 +1,149 @@
+package com.example.inventory_service.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Output formats for stock snapshot exports. Rows are encoded straight from the
+ * cursor's current ResultSet position, so no per-row object is materialised.
+ *
+ * Column order matches {@link StockSnapshotQuery#SELECT_COLUMNS}.
+ */
+public enum ExportFormat {
+
+    CSV("text/csv", ".csv.gz") {
+        @Override
+        public void writeHeader(Writer out) throws IOException {
+            out.write("id,part_number,dealer_id,warehouse_id,quantity_on_hand,quantity_reserved,"
+                    + "quantity_available,unit_cost,stock_value,updated_at\n");
+        }
+
+        @Override
+        public void writeRow(ResultSet rs, Writer out) throws SQLException, IOException {
+            out.write(Long.toString(rs.getLong(1)));
+            out.write(',');
+            writeCsvField(out, rs.getString(2));
+            out.write(',');
+            writeCsvField(out, rs.getString(3));
+            out.write(',');
+            writeCsvField(out, rs.getString(4));
+            out.write(',');
+            out.write(Integer.toString(rs.getInt(5)));
+            out.write(',');
+            out.write(Integer.toString(rs.getInt(6)));
+            out.write(',');
+            out.write(Integer.toString(rs.getInt(5) - rs.getInt(6)));
+            out.write(',');
+            out.write(rs.getString(7));
+            out.write(',');
+            out.write(rs.getString(8));
+            out.write(',');
+            out.write(rs.getString(9));
+            out.write('\n');
+        }
+    },
+
+    JSONL("application/x-ndjson", ".jsonl.gz") {
+        @Override
+        public void writeHeader(Writer out) {
+            // JSON Lines is self-describing, no header row
+        }
+
+        @Override
+        public void writeRow(ResultSet rs, Writer out) throws SQLException, IOException {
+            out.write("{\"id\":");
+            out.write(Long.toString(rs.getLong(1)));
+            out.write(",\"partNumber\":");
+            writeJsonString(out, rs.getString(2));
+            out.write(",\"dealerId\":");
+            writeJsonString(out, rs.getString(3));
+            out.write(",\"warehouseId\":");
+            writeJsonString(out, rs.getString(4));
+            out.write(",\"quantityOnHand\":");
+            out.write(Integer.toString(rs.getInt(5)));
+            out.write(",\"quantityReserved\":");
+            out.write(Integer.toString(rs.getInt(6)));
+            out.write(",\"quantityAvailable\":");
+            out.write(Integer.toString(rs.getInt(5) - rs.getInt(6)));
+            out.write(",\"unitCost\":");
+            out.write(rs.getString(7));
+            out.write(",\"stockValue\":");
+            out.write(rs.getString(8));
+            out.write(",\"updatedAt\":\"");
+            out.write(rs.getString(9));
+            out.write("\"}\n");
+        }
+    };
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public abstract void writeHeader(Writer out) throws IOException;
+
+    public abstract void writeRow(ResultSet rs, Writer out) throws SQLException, IOException;
+
+    static void writeCsvField(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean needsQuoting = false;
+        for (int i = 0; i < value.length() && !needsQuoting; i++) {
+            char c = value.charAt(i);
+            needsQuoting = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuoting) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.write('"');
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    static void writeJsonString(Writer out, String value) throws IOException {
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+}
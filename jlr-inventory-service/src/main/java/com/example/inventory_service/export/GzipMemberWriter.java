@@ -0,0 +1,85 @@
+package com.example.inventory_service.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes text to a channel as a sequence of concatenated gzip members.
+ * {@link #endMember()} completes the current member so everything written so
+ * far is a valid gzip stream on its own; standard gunzip and
+ * {@link java.util.zip.GZIPInputStream} read concatenated members as one file.
+ *
+ * The underlying channel is never closed here, the caller owns it.
+ */
+class GzipMemberWriter implements Closeable {
+
+    private final OutputStream channelStream;
+    private final int bufferSize;
+
+    private GZIPOutputStream gzip;
+    private Writer writer;
+
+    GzipMemberWriter(WritableByteChannel channel, int bufferSize) {
+        this.channelStream = new NonClosingOutputStream(Channels.newOutputStream(channel));
+        this.bufferSize = bufferSize;
+    }
+
+    Writer writer() throws IOException {
+        if (writer == null) {
+            gzip = new GZIPOutputStream(channelStream, bufferSize);
+            writer = new OutputStreamWriter(gzip, StandardCharsets.UTF_8);
+        }
+        return writer;
+    }
+
+    void endMember() throws IOException {
+        if (writer != null) {
+            writer.flush();
+            gzip.finish();
+            channelStream.flush();
+            writer = null;
+            gzip = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        endMember();
+    }
+
+    private static final class NonClosingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+
+        private NonClosingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() {
+            // channel lifecycle belongs to the caller
+        }
+    }
+}
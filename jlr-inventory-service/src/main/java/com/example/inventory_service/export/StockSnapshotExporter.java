@@ -0,0 +1,131 @@
+package com.example.inventory_service.export;
+
+import com.example.inventory_service.config.ExportProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Streams stock_levels through a server-side cursor into gzip-compressed CSV or
+ * JSON Lines. Memory use is bounded by the fetch size and the write buffers,
+ * never by the size of the result set.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class StockSnapshotExporter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExportProperties exportProperties;
+
+    /**
+     * Streams rows with {@code id > afterId} to the given channel. A client that
+     * loses the connection can call again with the last id it received.
+     *
+     * @return the number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long streamTo(WritableByteChannel channel, ExportFormat format,
+                         String dealerId, String warehouseId, long afterId) throws IOException {
+        try (GzipMemberWriter out = new GzipMemberWriter(channel, exportProperties.getBufferSize())) {
+            if (afterId == 0) {
+                format.writeHeader(out.writer());
+            }
+            long[] rows = {0};
+            runCursor(dealerId, warehouseId, afterId, rs -> {
+                format.writeRow(rs, out.writer());
+                if (++rows[0] % exportProperties.getCheckpointInterval() == 0) {
+                    // completing a member pushes compressed bytes to the client
+                    out.endMember();
+                }
+            });
+            return rows[0];
+        }
+    }
+
+    /**
+     * Exports to {@code target}, resuming from {@code checkpointFile} if one exists.
+     * On resume the file is truncated back to the last complete gzip member so any
+     * partially written tail from the interrupted run is discarded.
+     */
+    @Transactional(readOnly = true)
+    public ExportCheckpoint exportToFile(Path target, Path checkpointFile, ExportFormat format,
+                                         String dealerId, String warehouseId) throws IOException {
+        ExportCheckpoint start = ExportCheckpoint.read(checkpointFile)
+                .orElse(ExportCheckpoint.initial(dealerId, warehouseId));
+        if (start.isCompleted()) {
+            log.info("Export {} already completed with {} rows", target.getFileName(), start.getRowsWritten());
+            return start;
+        }
+        Files.createDirectories(target.toAbsolutePath().getParent());
+
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             GzipMemberWriter out = new GzipMemberWriter(channel, exportProperties.getBufferSize())) {
+
+            channel.truncate(start.getByteOffset());
+            channel.position(start.getByteOffset());
+            if (start.getLastId() == 0) {
+                format.writeHeader(out.writer());
+            } else {
+                log.info("Resuming export {} after id {} ({} rows already written)",
+                        target.getFileName(), start.getLastId(), start.getRowsWritten());
+            }
+
+            long[] lastId = {start.getLastId()};
+            long[] rows = {start.getRowsWritten()};
+            runCursor(start.getDealerId(), start.getWarehouseId(), start.getLastId(), rs -> {
+                format.writeRow(rs, out.writer());
+                lastId[0] = rs.getLong(1);
+                if (++rows[0] % exportProperties.getCheckpointInterval() == 0) {
+                    out.endMember();
+                    channel.force(false);
+                    new ExportCheckpoint(lastId[0], channel.position(), rows[0], false, start.getDealerId(),
+                            start.getWarehouseId()).write(checkpointFile);
+                    log.debug("Export {} checkpoint at id {} ({} rows)", target.getFileName(), lastId[0], rows[0]);
+                }
+            });
+
+            out.endMember();
+            channel.force(true);
+            ExportCheckpoint done = new ExportCheckpoint(lastId[0], channel.position(), rows[0], true,
+                    start.getDealerId(), start.getWarehouseId());
+            done.write(checkpointFile);
+            log.info("Export {} completed with {} rows, {} bytes", target.getFileName(), rows[0], done.getByteOffset());
+            return done;
+        }
+    }
+
+    private void runCursor(String dealerId, String warehouseId, long afterId, RowWriter rowWriter) throws IOException {
+        try {
+            jdbcTemplate.query(
+                    connection -> StockSnapshotQuery.prepare(connection, ExportCheckpoint.normalizeFilter(dealerId),
+                            ExportCheckpoint.normalizeFilter(warehouseId), afterId, exportProperties.getFetchSize()),
+                    rs -> {
+                        try {
+                            rowWriter.write(rs);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+}
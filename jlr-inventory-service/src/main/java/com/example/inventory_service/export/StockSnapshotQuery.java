@@ -0,0 +1,53 @@
+package com.example.inventory_service.export;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Keyset query over stock_levels used by the snapshot exporter. Ordering by the
+ * primary key lets an interrupted export resume with {@code id > lastId} instead
+ * of an OFFSET scan.
+ */
+final class StockSnapshotQuery {
+
+    static final String SELECT_COLUMNS = "id, part_number, dealer_id, warehouse_id, quantity_on_hand, "
+            + "quantity_reserved, unit_cost::text, (quantity_on_hand * unit_cost)::text, "
+            + "to_char(updated_at, 'YYYY-MM-DD\"T\"HH24:MI:SS')";
+
+    private StockSnapshotQuery() {
+    }
+
+    /**
+     * Prepares a forward-only, read-only statement with a fetch size so the
+     * Postgres driver streams through a server-side cursor. The driver only
+     * does this when auto-commit is off, i.e. inside a transaction.
+     */
+    static PreparedStatement prepare(Connection connection, String dealerId, String warehouseId,
+                                     long afterId, int fetchSize) throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT ").append(SELECT_COLUMNS)
+                .append(" FROM stock_levels WHERE id > ?");
+        if (dealerId != null) {
+            sql.append(" AND dealer_id = ?");
+        }
+        if (warehouseId != null) {
+            sql.append(" AND warehouse_id = ?");
+        }
+        sql.append(" ORDER BY id");
+
+        PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(fetchSize);
+
+        int index = 1;
+        statement.setLong(index++, afterId);
+        if (dealerId != null) {
+            statement.setString(index++, dealerId);
+        }
+        if (warehouseId != null) {
+            statement.setString(index, warehouseId);
+        }
+        return statement;
+    }
+}
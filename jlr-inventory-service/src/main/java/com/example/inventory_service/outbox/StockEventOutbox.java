@@ -0,0 +1,65 @@
+package com.example.inventory_service.outbox;
+
+import com.example.inventory_service.config.OutboxProperties;
+import com.example.inventory_service.event.StockChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Appends stock-change events to the outbox inside the caller's transaction.
+ * The event becomes visible to the relay exactly when the stock change commits,
+ * and disappears with it on rollback.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockEventOutbox {
+
+    /**
+     * Advisory lock namespace for per-part ordering; the relay uses {@link StockEventRelay#BUCKET_LOCK_NAMESPACE}.
+     */
+    static final int ORDERING_LOCK_NAMESPACE = 0x4F524452;
+
+    /**
+     * The transaction-scoped lock on the part number is taken in the same round
+     * trip as the insert. It makes outbox ids for one part follow commit order
+     * (the next writer can only get its id after this transaction ends), which is
+     * what lets the relay publish each part's events strictly in id order.
+     */
+    private static final String INSERT_SQL = "INSERT INTO stock_event_outbox "
+            + "(bucket, event_id, event_type, aggregate_key, payload) "
+            + "SELECT ?, ?, ?, ?, ?::jsonb FROM (SELECT pg_advisory_xact_lock(?, ?)) AS ordering_lock";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties outboxProperties;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(StockChangedEvent event) {
+        String key = event.getPartNumber();
+        jdbcTemplate.update(INSERT_SQL,
+                bucket(key, outboxProperties.getBuckets()),
+                event.getEventId(),
+                event.getEventType().name(),
+                key,
+                toJson(event),
+                ORDERING_LOCK_NAMESPACE,
+                key.hashCode());
+    }
+
+    static int bucket(String key, int buckets) {
+        return Math.floorMod(key.hashCode(), buckets);
+    }
+
+    private String toJson(StockChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise stock event " + event.getEventId(), e);
+        }
+    }
+}
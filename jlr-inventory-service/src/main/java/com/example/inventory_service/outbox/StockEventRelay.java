@@ -0,0 +1,143 @@
+package com.example.inventory_service.outbox;
+
+import com.example.inventory_service.config.OutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves outbox rows to Kafka in batches, at least once.
+ *
+ * Each batch is one short transaction on one bucket: take the bucket's advisory
+ * lock (skip the bucket if another relay has it), read up to batchSize rows in id
+ * order, send them all, wait for every acknowledgement, then delete exactly those
+ * ids. A crash between ack and commit re-sends the batch, never loses it.
+ * Records are keyed by part number, so per-part order carries through to the
+ * Kafka partition.
+ */
+@Component
+@Slf4j
+public class StockEventRelay {
+
+    static final int BUCKET_LOCK_NAMESPACE = 0x52454C59;
+
+    private static final String SELECT_SQL = "SELECT id, event_id, event_type, aggregate_key, payload::text, created_at "
+            + "FROM stock_event_outbox WHERE bucket = ? ORDER BY id LIMIT ?";
+
+    private static final String DELETE_SQL = "DELETE FROM stock_event_outbox WHERE id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final OutboxProperties outboxProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter publishedCounter;
+    private final Timer publishLag;
+    private final Timer batchTimer;
+
+    public StockEventRelay(JdbcTemplate jdbcTemplate,
+                           KafkaTemplate<String, String> kafkaTemplate,
+                           OutboxProperties outboxProperties,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.outboxProperties = outboxProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publishedCounter = meterRegistry.counter("inventory.outbox.published");
+        this.publishLag = Timer.builder("inventory.outbox.publish.lag")
+                .description("Time from outbox insert to Kafka acknowledgement")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchTimer = meterRegistry.timer("inventory.outbox.batch");
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:100}")
+    public void sweep() {
+        for (int bucket = 0; bucket < outboxProperties.getBuckets(); bucket++) {
+            try {
+                int published;
+                do {
+                    published = relayBatch(bucket);
+                } while (published == outboxProperties.getBatchSize());
+            } catch (Exception e) {
+                log.warn("Outbox relay for bucket {} failed, batch will be retried: {}", bucket, e.getMessage());
+            }
+        }
+    }
+
+    int relayBatch(int bucket) {
+        Integer published = transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?, ?)", Boolean.class,
+                    BUCKET_LOCK_NAMESPACE, bucket);
+            if (!Boolean.TRUE.equals(locked)) {
+                return 0;
+            }
+
+            List<OutboxRow> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new OutboxRow(
+                    rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+                    rs.getTimestamp(6)), bucket, outboxProperties.getBatchSize());
+            if (rows.isEmpty()) {
+                return 0;
+            }
+
+            long started = System.nanoTime();
+            publish(rows);
+            delete(rows);
+            batchTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return rows.size();
+        });
+        return published == null ? 0 : published;
+    }
+
+    private void publish(List<OutboxRow> rows) {
+        List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(rows.size());
+        for (OutboxRow row : rows) {
+            ProducerRecord<String, String> record = new ProducerRecord<>(outboxProperties.getTopic(), row.key(), row.payload());
+            record.headers().add("eventId", row.eventId().getBytes(StandardCharsets.UTF_8));
+            record.headers().add("eventType", row.eventType().getBytes(StandardCharsets.UTF_8));
+            sends.add(kafkaTemplate.send(record));
+        }
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(outboxProperties.getSendTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing outbox batch", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Outbox batch was not acknowledged by Kafka", e);
+        }
+
+        Instant acknowledged = Instant.now();
+        for (OutboxRow row : rows) {
+            publishLag.record(Duration.between(row.createdAt().toInstant(), acknowledged));
+        }
+        publishedCounter.increment(rows.size());
+    }
+
+    private void delete(List<OutboxRow> rows) {
+        Long[] ids = rows.stream().map(OutboxRow::id).toArray(Long[]::new);
+        jdbcTemplate.update(DELETE_SQL, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)));
+    }
+
+    private record OutboxRow(long id, String eventId, String eventType, String key, String payload,
+                             Timestamp createdAt) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.inventory_service.repository;
+
+import com.example.inventory_service.entity.DemandStatistics;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DemandStatisticsRepository extends JpaRepository<DemandStatistics, Long> {
+
+    Optional<DemandStatistics> findByPartNumberAndWarehouseId(String partNumber, String warehouseId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM DemandStatistics d WHERE d.partNumber = :partNumber AND d.warehouseId = :warehouseId")
+    Optional<DemandStatistics> findForUpdate(@Param("partNumber") String partNumber,
+                                             @Param("warehouseId") String warehouseId);
+
+    /**
+     * Creates the row unless a concurrent movement already did, so first-time
+     * creation never fails on the unique constraint.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO demand_statistics (part_number, warehouse_id, available_quantity) " +
+            "VALUES (:partNumber, :warehouseId, :availableQuantity) " +
+            "ON CONFLICT (part_number, warehouse_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("partNumber") String partNumber,
+                       @Param("warehouseId") String warehouseId,
+                       @Param("availableQuantity") int availableQuantity);
+
+    List<DemandStatistics> findByWarehouseIdAndReorderRequiredTrueOrderByPartNumber(String warehouseId);
+
+    List<DemandStatistics> findByReorderRequiredTrueOrderByWarehouseIdAscPartNumberAsc();
+}
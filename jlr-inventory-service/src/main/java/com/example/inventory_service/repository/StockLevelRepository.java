@@ -0,0 +1,61 @@
+package com.example.inventory_service.repository;
+
+import com.example.inventory_service.entity.StockLevel;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StockLevelRepository extends JpaRepository<StockLevel, Long> {
+
+    Optional<StockLevel> findByPartNumberAndDealerIdAndWarehouseId(String partNumber, String dealerId, String warehouseId);
+
+    List<StockLevel> findByPartNumber(String partNumber);
+
+    List<StockLevel> findByDealerId(String dealerId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StockLevel s WHERE s.partNumber = :partNumber AND s.dealerId = :dealerId AND s.warehouseId = :warehouseId")
+    Optional<StockLevel> findForUpdate(@Param("partNumber") String partNumber,
+                                       @Param("dealerId") String dealerId,
+                                       @Param("warehouseId") String warehouseId);
+
+    @Query("SELECT s.warehouseId AS warehouseId, SUM(s.quantityOnHand - s.quantityReserved) AS available " +
+            "FROM StockLevel s WHERE s.partNumber = :partNumber GROUP BY s.warehouseId")
+    List<WarehouseAvailability> findAvailabilityByPartNumber(@Param("partNumber") String partNumber);
+
+    @Query("SELECT s.partNumber AS partNumber, s.warehouseId AS warehouseId, " +
+            "SUM(s.quantityOnHand - s.quantityReserved) AS available " +
+            "FROM StockLevel s WHERE s.partNumber IN :partNumbers GROUP BY s.partNumber, s.warehouseId")
+    List<PartWarehouseAvailability> findAvailabilityByPartNumbers(
+            @Param("partNumbers") Collection<String> partNumbers);
+
+    @Query("SELECT s.partNumber AS partNumber, s.warehouseId AS warehouseId, " +
+            "SUM(s.quantityOnHand - s.quantityReserved) AS available " +
+            "FROM StockLevel s WHERE s.dealerId = :dealerId AND s.partNumber IN :partNumbers " +
+            "GROUP BY s.partNumber, s.warehouseId")
+    List<PartWarehouseAvailability> findDealerAvailabilityByPartNumbers(
+            @Param("dealerId") String dealerId,
+            @Param("partNumbers") Collection<String> partNumbers);
+
+    @Query("SELECT COALESCE(SUM(s.quantityOnHand - s.quantityReserved), 0) FROM StockLevel s " +
+            "WHERE s.partNumber = :partNumber AND s.warehouseId = :warehouseId")
+    long sumAvailableAtWarehouse(@Param("partNumber") String partNumber, @Param("warehouseId") String warehouseId);
+
+    interface WarehouseAvailability {
+        String getWarehouseId();
+
+        Long getAvailable();
+    }
+
+    interface PartWarehouseAvailability extends WarehouseAvailability {
+        String getPartNumber();
+    }
+}
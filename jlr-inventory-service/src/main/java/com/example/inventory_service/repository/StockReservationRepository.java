@@ -0,0 +1,14 @@
+package com.example.inventory_service.repository;
+
+import com.example.inventory_service.entity.ReservationStatus;
+import com.example.inventory_service.entity.StockReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    List<StockReservation> findByReservationReferenceAndStatus(String reservationReference, ReservationStatus status);
+}
@@ -0,0 +1,9 @@
+package com.example.inventory_service.repository;
+
+import com.example.inventory_service.entity.WarehouseDealerCost;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WarehouseDealerCostRepository extends JpaRepository<WarehouseDealerCost, Long> {
+}
@@ -0,0 +1,55 @@
+package com.example.inventory_service.resilience;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded LRU of the last successful answer per key, used as a fallback when
+ * the primary read path is failing or shedding load. Entries older than
+ * {@code maxAge} are never served: past that point a stale answer is worse than
+ * an honest error.
+ */
+public class LastKnownGoodCache<K, V> {
+
+    private final Map<K, Entry<V>> entries;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    public LastKnownGoodCache(int maxEntries, Duration maxAge, Clock clock) {
+        this.maxAge = maxAge;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.instant()));
+    }
+
+    public synchronized Optional<Entry<V>> get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.capturedAt().plus(maxAge).isBefore(clock.instant())) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public record Entry<V>(V value, Instant capturedAt) {
+    }
+}
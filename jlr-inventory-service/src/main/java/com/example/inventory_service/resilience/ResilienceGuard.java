@@ -0,0 +1,69 @@
+package com.example.inventory_service.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Applies the resilience4j instances configured under {@code resilience4j.*} in
+ * application.yml. The call order is circuit breaker, then bulkhead, then time
+ * limiter: an open breaker or a full bulkhead rejects before any thread is
+ * tied up.
+ */
+@Component
+public class ResilienceGuard {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final AsyncTaskExecutor guardedReadExecutor;
+
+    public ResilienceGuard(CircuitBreakerRegistry circuitBreakerRegistry,
+                           BulkheadRegistry bulkheadRegistry,
+                           TimeLimiterRegistry timeLimiterRegistry,
+                           @Qualifier("guardedReadExecutor") AsyncTaskExecutor guardedReadExecutor) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.timeLimiterRegistry = timeLimiterRegistry;
+        this.guardedReadExecutor = guardedReadExecutor;
+    }
+
+    /**
+     * For reads: runs the supplier on the guarded executor and stops waiting once
+     * the time limit is hit. The abandoned read may still finish in the
+     * background, which is harmless for a read.
+     */
+    public <T> T read(String instance, Supplier<T> supplier) throws Exception {
+        TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter(instance);
+        Callable<T> call = TimeLimiter.decorateFutureSupplier(timeLimiter,
+                () -> CompletableFuture.supplyAsync(supplier, guardedReadExecutor));
+        call = Bulkhead.decorateCallable(bulkheadRegistry.bulkhead(instance), call);
+        call = CircuitBreaker.decorateCallable(circuitBreakerRegistry.circuitBreaker(instance), call);
+        try {
+            return call.call();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    /**
+     * For writes: runs on the caller's thread so the work is never abandoned
+     * half-way. The time limit for writes is the transaction timeout, which
+     * rolls back instead of leaving an unknown outcome.
+     */
+    public <T> T write(String instance, Supplier<T> supplier) {
+        Supplier<T> guarded = Bulkhead.decorateSupplier(bulkheadRegistry.bulkhead(instance), supplier);
+        return CircuitBreaker.decorateSupplier(circuitBreakerRegistry.circuitBreaker(instance), guarded).get();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.inventory_service.saga;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Saga command from order-service. Commands may be sent more than once, so
+ * they are applied idempotently on {@code orderNumber}, which is also the
+ * reference of the reservations made for it.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class InventoryCommand {
+    private UUID commandId;
+    private InventoryCommandType type;
+    private Long sagaId;
+    private String orderNumber;
+    private String dealerId;
+    private List<Line> lines;
+    private Instant issuedAt;
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Line {
+        private String partNumber;
+        private int quantity;
+    }
+}
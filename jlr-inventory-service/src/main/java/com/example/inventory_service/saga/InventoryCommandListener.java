@@ -0,0 +1,166 @@
+package com.example.inventory_service.saga;
+
+import com.example.inventory_service.config.SagaProperties;
+import com.example.inventory_service.dto.AllocationRequest;
+import com.example.inventory_service.dto.AllocationResponse;
+import com.example.inventory_service.dto.ReservationRequest;
+import com.example.inventory_service.exception.InsufficientStockException;
+import com.example.inventory_service.exception.InventoryUnavailableException;
+import com.example.inventory_service.exception.StockNotFoundException;
+import com.example.inventory_service.service.AllocationService;
+import com.example.inventory_service.service.ReservationService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The inventory side of the order saga. A reserve command is split across
+ * the ordering dealer's own stock at each warehouse by the allocation solver
+ * and reserved all or nothing under the order number; a release returns
+ * whatever the order still holds.
+ *
+ * Commands are keyed by order number, so one order's reserve and release are
+ * handled in the order they were sent. The reply is acknowledged by Kafka
+ * before the offset is committed. When the store is unavailable no reply is
+ * sent at all: the saga's step deadline then compensates a reserve, or sends
+ * a release again.
+ */
+@Component
+@Slf4j
+public class InventoryCommandListener {
+
+    private final AllocationService allocationService;
+    private final ReservationService reservationService;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final SagaProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public InventoryCommandListener(AllocationService allocationService, ReservationService reservationService,
+                                    KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper,
+                                    SagaProperties properties, MeterRegistry meterRegistry) {
+        this.allocationService = allocationService;
+        this.reservationService = reservationService;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @KafkaListener(topics = "${app.saga.command-topic}", groupId = "${spring.application.name}-saga")
+    public void onCommand(String payload) {
+        InventoryCommand command;
+        try {
+            command = objectMapper.readValue(payload, InventoryCommand.class);
+        } catch (JsonProcessingException e) {
+            log.error("Skipping unreadable inventory command: {}", e.getOriginalMessage());
+            return;
+        }
+        if (command.getType() == null || command.getOrderNumber() == null) {
+            log.error("Skipping inventory command {} without type or order number", command.getCommandId());
+            return;
+        }
+
+        SagaReply reply;
+        try {
+            reply = switch (command.getType()) {
+                case RESERVE_INVENTORY -> reserve(command);
+                case RELEASE_INVENTORY -> release(command);
+            };
+        } catch (InventoryUnavailableException e) {
+            meterRegistry.counter("inventory.saga.unanswered", "command", command.getType().name()).increment();
+            log.warn("Not answering {} for order {}: {}", command.getType(), command.getOrderNumber(),
+                    e.getMessage());
+            return;
+        }
+        meterRegistry.counter("inventory.saga.replies", "command", command.getType().name(),
+                "success", String.valueOf(reply.isSuccess())).increment();
+        send(reply);
+    }
+
+    private SagaReply reserve(InventoryCommand command) {
+        if (command.getDealerId() == null || command.getLines() == null || command.getLines().isEmpty()) {
+            return reply(command, false, "Reserve command without dealer or lines");
+        }
+        AllocationRequest allocationRequest = new AllocationRequest();
+        allocationRequest.setDealerId(command.getDealerId());
+        allocationRequest.setLines(command.getLines().stream().map(line -> {
+            AllocationRequest.Line allocationLine = new AllocationRequest.Line();
+            allocationLine.setPartNumber(line.getPartNumber());
+            allocationLine.setQuantity(line.getQuantity());
+            return allocationLine;
+        }).toList());
+        AllocationResponse plan = allocationService.planFromDealerStock(allocationRequest);
+        if (!plan.isFullyAllocated()) {
+            return reply(command, false, "Insufficient stock for " + plan.getLines().stream()
+                    .filter(line -> line.getShortfall() > 0)
+                    .map(line -> line.getShortfall() + " x " + line.getPartNumber())
+                    .toList());
+        }
+
+        List<ReservationRequest> requests = new ArrayList<>();
+        for (AllocationResponse.LineAllocation line : plan.getLines()) {
+            for (AllocationResponse.WarehouseAllocation warehouse : line.getWarehouses()) {
+                ReservationRequest request = new ReservationRequest();
+                request.setReservationReference(command.getOrderNumber());
+                request.setPartNumber(line.getPartNumber());
+                request.setDealerId(command.getDealerId());
+                request.setWarehouseId(warehouse.getWarehouseId());
+                request.setQuantity(warehouse.getQuantity());
+                requests.add(request);
+            }
+        }
+        try {
+            reservationService.reserveAll(command.getOrderNumber(), requests);
+            return reply(command, true, null);
+        } catch (InsufficientStockException | StockNotFoundException e) {
+            // the dealer's stock moved between planning and reserving; nothing was reserved
+            return reply(command, false, e.getMessage());
+        }
+    }
+
+    private SagaReply release(InventoryCommand command) {
+        try {
+            reservationService.releaseAll(command.getOrderNumber());
+            return reply(command, true, null);
+        } catch (StockNotFoundException e) {
+            return reply(command, false, e.getMessage());
+        }
+    }
+
+    private void send(SagaReply reply) {
+        try {
+            String json = objectMapper.writeValueAsString(reply);
+            kafkaTemplate.send(properties.getReplyTopic(), reply.getOrderNumber(), json)
+                    .get(properties.getReplyTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise saga reply for " + reply.getOrderNumber(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted sending saga reply for " + reply.getOrderNumber(), e);
+        } catch (ExecutionException | TimeoutException e) {
+            // the command is redelivered; reserve and release are idempotent on the order number
+            throw new IllegalStateException("Saga reply for " + reply.getOrderNumber() + " not acknowledged", e);
+        }
+    }
+
+    private static SagaReply reply(InventoryCommand command, boolean success, String reason) {
+        return SagaReply.builder()
+                .sagaId(command.getSagaId())
+                .orderNumber(command.getOrderNumber())
+                .commandType(command.getType())
+                .success(success)
+                .reason(reason)
+                .build();
+    }
+}
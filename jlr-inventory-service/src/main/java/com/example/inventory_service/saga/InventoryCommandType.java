@@ -0,0 +1,11 @@
+package com.example.inventory_service.saga;
+
+/**
+ * The saga commands inventory-service answers. Named as in order-service,
+ * which matches replies by these names.
+ */
+public enum InventoryCommandType {
+    RESERVE_INVENTORY,
+    /** Compensation: release whatever the order holds, if anything */
+    RELEASE_INVENTORY
+}
@@ -0,0 +1,17 @@
+package com.example.inventory_service.saga;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Answer to an {@link InventoryCommand}, in the shape order-service's saga reads.
+ */
+@Data
+@Builder
+public class SagaReply {
+    private Long sagaId;
+    private String orderNumber;
+    private InventoryCommandType commandType;
+    private boolean success;
+    private String reason;
+}
@@ -0,0 +1,118 @@
+package com.example.inventory_service.service;
+
+import com.example.inventory_service.allocation.AllocationModel;
+import com.example.inventory_service.allocation.AllocationModelHolder;
+import com.example.inventory_service.allocation.AllocationPlan;
+import com.example.inventory_service.allocation.AllocationSolver;
+import com.example.inventory_service.config.AllocationProperties;
+import com.example.inventory_service.dto.AllocationRequest;
+import com.example.inventory_service.dto.AllocationResponse;
+import com.example.inventory_service.repository.StockLevelRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Proposes a warehouse split for an order. Plans are computed against the
+ * in-memory snapshot and are advisory: stock is only committed by a reservation.
+ * A plan that is about to be reserved is instead computed against the dealer's
+ * own stock rows, the ones the reservation will draw from.
+ */
+@Service
+@Slf4j
+public class AllocationService {
+
+    private final AllocationModelHolder modelHolder;
+    private final StockLevelRepository stockLevelRepository;
+    private final AllocationSolver solver;
+
+    public AllocationService(AllocationModelHolder modelHolder, StockLevelRepository stockLevelRepository,
+                             AllocationProperties allocationProperties) {
+        this.modelHolder = modelHolder;
+        this.stockLevelRepository = stockLevelRepository;
+        this.solver = new AllocationSolver(allocationProperties.getMaxImprovementPasses());
+    }
+
+    public AllocationResponse plan(AllocationRequest request) {
+        return plan(request, modelHolder.current(), merge(request));
+    }
+
+    /**
+     * Plans against the requesting dealer's own stock, read now, rather than the
+     * snapshot pooled across dealers; lane costs still come from the snapshot.
+     */
+    public AllocationResponse planFromDealerStock(AllocationRequest request) {
+        Map<String, Integer> merged = merge(request);
+        Map<String, Map<String, Integer>> available = new HashMap<>();
+        for (StockLevelRepository.PartWarehouseAvailability row
+                : stockLevelRepository.findDealerAvailabilityByPartNumbers(request.getDealerId(), merged.keySet())) {
+            available.computeIfAbsent(row.getPartNumber(), k -> new HashMap<>())
+                    .put(row.getWarehouseId(), row.getAvailable().intValue());
+        }
+        return plan(request, modelHolder.current().withStock(available), merged);
+    }
+
+    private AllocationResponse plan(AllocationRequest request, AllocationModel model, Map<String, Integer> merged) {
+        long started = System.nanoTime();
+        String[] partNumbers = merged.keySet().toArray(String[]::new);
+        int[] parts = new int[partNumbers.length];
+        int[] quantities = new int[partNumbers.length];
+        for (int i = 0; i < partNumbers.length; i++) {
+            parts[i] = model.partIndex(partNumbers[i]);
+            quantities[i] = merged.get(partNumbers[i]);
+        }
+
+        AllocationPlan plan = solver.solve(model, model.dealerIndex(request.getDealerId()), parts, quantities);
+        long solveMicros = (System.nanoTime() - started) / 1000;
+
+        List<AllocationResponse.LineAllocation> lines = new ArrayList<>(partNumbers.length);
+        boolean fullyAllocated = true;
+        for (int line = 0; line < partNumbers.length; line++) {
+            List<AllocationResponse.WarehouseAllocation> warehouses = new ArrayList<>();
+            for (int w = 0; w < model.warehouseCount(); w++) {
+                int quantity = plan.allocated(line, w);
+                if (quantity > 0) {
+                    warehouses.add(AllocationResponse.WarehouseAllocation.builder()
+                            .warehouseId(model.warehouseId(w))
+                            .quantity(quantity)
+                            .build());
+                }
+            }
+            fullyAllocated &= plan.shortfall(line) == 0;
+            lines.add(AllocationResponse.LineAllocation.builder()
+                    .partNumber(partNumbers[line])
+                    .requestedQuantity(quantities[line])
+                    .shortfall(plan.shortfall(line))
+                    .warehouses(warehouses)
+                    .build());
+        }
+
+        log.debug("Allocated {} lines for dealer {} across {} shipments in {} us",
+                partNumbers.length, request.getDealerId(), plan.shipmentCount(), solveMicros);
+
+        return AllocationResponse.builder()
+                .dealerId(request.getDealerId())
+                .lines(lines)
+                .shipmentCount(plan.shipmentCount())
+                .totalCost(plan.getTotalCost())
+                .fullyAllocated(fullyAllocated)
+                .solveMicros(solveMicros)
+                .build();
+    }
+
+    /**
+     * Merges repeated part numbers so each line owns its part's stock.
+     */
+    private static Map<String, Integer> merge(AllocationRequest request) {
+        Map<String, Integer> merged = new LinkedHashMap<>();
+        for (AllocationRequest.Line line : request.getLines()) {
+            merged.merge(line.getPartNumber(), line.getQuantity(), Integer::sum);
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.inventory_service.service;
+
+import com.example.inventory_service.config.AvailabilityProperties;
+import com.example.inventory_service.dto.AvailabilityResponse;
+import com.example.inventory_service.exception.InventoryUnavailableException;
+import com.example.inventory_service.repository.StockLevelRepository;
+import com.example.inventory_service.resilience.LastKnownGoodCache;
+import com.example.inventory_service.resilience.ResilienceGuard;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Availability reads behind a circuit breaker, bulkhead and time limit. When the
+ * live read cannot answer, the last-known-good answer for the part is served
+ * with {@code stale=true}; every such answer is counted in
+ * {@code inventory.availability.stale.served}, tagged by reason.
+ *
+ * Several parts can be read at once, in one query under one guarded call, so
+ * a caller showing a whole order pays one round trip rather than one per part.
+ */
+@Service
+@Slf4j
+public class AvailabilityService {
+
+    static final String RESILIENCE_INSTANCE = "availability";
+
+    private final StockLevelRepository stockLevelRepository;
+    private final ResilienceGuard resilienceGuard;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final LastKnownGoodCache<String, AvailabilityResponse> lastKnownGood;
+
+    public AvailabilityService(StockLevelRepository stockLevelRepository,
+                               ResilienceGuard resilienceGuard,
+                               MeterRegistry meterRegistry,
+                               Clock clock,
+                               AvailabilityProperties availabilityProperties) {
+        this.stockLevelRepository = stockLevelRepository;
+        this.resilienceGuard = resilienceGuard;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.lastKnownGood = new LastKnownGoodCache<>(availabilityProperties.getLastKnownGoodMaxEntries(),
+                availabilityProperties.getLastKnownGoodMaxAge(), clock);
+        meterRegistry.gauge("inventory.availability.last_known_good.size", lastKnownGood, LastKnownGoodCache::size);
+    }
+
+    public AvailabilityResponse getAvailability(String partNumber) {
+        try {
+            AvailabilityResponse fresh = resilienceGuard.read(RESILIENCE_INSTANCE, () -> load(partNumber));
+            lastKnownGood.put(partNumber, fresh);
+            return fresh;
+        } catch (Exception e) {
+            return fallback(partNumber, e);
+        }
+    }
+
+    /**
+     * Availability of each part, in request order. If the live read fails,
+     * each part gets its last-known-good answer; parts with none are left
+     * out rather than failing the others.
+     */
+    public List<AvailabilityResponse> getAvailability(Collection<String> partNumbers) {
+        try {
+            List<AvailabilityResponse> fresh = resilienceGuard.read(RESILIENCE_INSTANCE, () -> load(partNumbers));
+            fresh.forEach(response -> lastKnownGood.put(response.getPartNumber(), response));
+            return fresh;
+        } catch (Exception e) {
+            List<AvailabilityResponse> fallback = new ArrayList<>(partNumbers.size());
+            for (String partNumber : partNumbers) {
+                staleOrCount(partNumber, e).ifPresent(fallback::add);
+            }
+            return fallback;
+        }
+    }
+
+    private List<AvailabilityResponse> load(Collection<String> partNumbers) {
+        Map<String, List<AvailabilityResponse.WarehouseStock>> byPart = new LinkedHashMap<>();
+        partNumbers.forEach(partNumber -> byPart.put(partNumber, new ArrayList<>()));
+        for (StockLevelRepository.PartWarehouseAvailability row
+                : stockLevelRepository.findAvailabilityByPartNumbers(partNumbers)) {
+            byPart.get(row.getPartNumber()).add(AvailabilityResponse.WarehouseStock.builder()
+                    .warehouseId(row.getWarehouseId())
+                    .available(row.getAvailable())
+                    .build());
+        }
+        List<AvailabilityResponse> responses = new ArrayList<>(byPart.size());
+        byPart.forEach((partNumber, warehouses) -> responses.add(response(partNumber, warehouses)));
+        return responses;
+    }
+
+    private AvailabilityResponse load(String partNumber) {
+        List<AvailabilityResponse.WarehouseStock> warehouses = stockLevelRepository
+                .findAvailabilityByPartNumber(partNumber).stream()
+                .map(row -> AvailabilityResponse.WarehouseStock.builder()
+                        .warehouseId(row.getWarehouseId())
+                        .available(row.getAvailable())
+                        .build())
+                .toList();
+
+        return response(partNumber, warehouses);
+    }
+
+    private AvailabilityResponse response(String partNumber, List<AvailabilityResponse.WarehouseStock> warehouses) {
+        return AvailabilityResponse.builder()
+                .partNumber(partNumber)
+                .totalAvailable(warehouses.stream().mapToLong(AvailabilityResponse.WarehouseStock::getAvailable).sum())
+                .warehouses(warehouses)
+                .stale(false)
+                .asOf(clock.instant())
+                .build();
+    }
+
+    private AvailabilityResponse fallback(String partNumber, Exception cause) {
+        return staleOrCount(partNumber, cause).orElseThrow(() -> new InventoryUnavailableException(
+                "Availability for " + partNumber + " is temporarily unavailable"));
+    }
+
+    private Optional<AvailabilityResponse> staleOrCount(String partNumber, Exception cause) {
+        String reason = reason(cause);
+        if (!"circuit_open".equals(reason)) {
+            log.warn("Availability read for {} failed ({}): {}", partNumber, reason, cause.toString());
+        }
+
+        Optional<AvailabilityResponse> stale = lastKnownGood.get(partNumber)
+                .map(entry -> entry.value().toBuilder()
+                        .stale(true)
+                        .asOf(entry.capturedAt())
+                        .build());
+        meterRegistry.counter(stale.isPresent() ? "inventory.availability.stale.served"
+                : "inventory.availability.unavailable", "reason", reason).increment();
+        return stale;
+    }
+
+    static String reason(Throwable cause) {
+        if (cause instanceof CallNotPermittedException) {
+            return "circuit_open";
+        }
+        if (cause instanceof BulkheadFullException) {
+            return "bulkhead_full";
+        }
+        if (cause instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (cause instanceof TaskRejectedException || cause instanceof RejectedExecutionException) {
+            return "executor_saturated";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.inventory_service.service;
+
+import com.example.inventory_service.config.ReorderProperties;
+import com.example.inventory_service.entity.DemandStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Derives the reorder point and replenishment quantity from running aggregates.
+ *
+ * ROP = d * L + z * sqrt(L * var(d) + d^2 * var(L)), where d is daily usage and L
+ * the lead time in days. Suggested quantity tops the position up to
+ * ROP + d * reviewPeriod once it has fallen to (or below) the reorder point.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReorderPointCalculator {
+
+    private final ReorderProperties reorderProperties;
+
+    public void recalculate(DemandStatistics stats) {
+        double usage = stats.getEwmaDailyUsage();
+        double usageVariance = stats.getDailyUsageVariance();
+        double leadTime = stats.getLeadTimeSamples() > 0
+                ? stats.getLeadTimeDays()
+                : reorderProperties.getDefaultLeadTimeDays();
+        double leadTimeVariance = stats.getLeadTimeSamples() > 0 ? stats.getLeadTimeVariance() : 0;
+
+        double safetyStock = reorderProperties.getServiceLevelZ()
+                * Math.sqrt(leadTime * usageVariance + usage * usage * leadTimeVariance);
+        int reorderPoint = (int) Math.ceil(usage * leadTime + safetyStock);
+
+        boolean reorderRequired = usage > 0 && stats.getAvailableQuantity() <= reorderPoint;
+        int suggestedQuantity = 0;
+        if (reorderRequired) {
+            double orderUpTo = reorderPoint + usage * reorderProperties.getReviewPeriodDays();
+            suggestedQuantity = Math.max(0, (int) Math.ceil(orderUpTo - stats.getAvailableQuantity()));
+        }
+
+        stats.setReorderPoint(reorderPoint);
+        stats.setSuggestedQuantity(suggestedQuantity);
+        stats.setReorderRequired(reorderRequired);
+    }
+}
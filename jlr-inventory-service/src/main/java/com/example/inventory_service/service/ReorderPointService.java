@@ -0,0 +1,96 @@
+package com.example.inventory_service.service;
+
+import com.example.inventory_service.config.ReorderProperties;
+import com.example.inventory_service.entity.DemandStatistics;
+import com.example.inventory_service.repository.DemandStatisticsRepository;
+import com.example.inventory_service.repository.StockLevelRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps demand statistics and reorder points current as stock movements happen.
+ * Every update joins the caller's stock transaction, so the aggregates can never
+ * drift from the stock levels they describe.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReorderPointService {
+
+    private final DemandStatisticsRepository demandStatisticsRepository;
+    private final StockLevelRepository stockLevelRepository;
+    private final ReorderPointCalculator reorderPointCalculator;
+    private final ReorderProperties reorderProperties;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordConsumption(String partNumber, String warehouseId, int quantity, LocalDate day) {
+        DemandStatistics stats = lockOrCreate(partNumber, warehouseId, -quantity);
+        stats.recordConsumption(day, quantity, reorderProperties.getUsageAlpha());
+        stats.setAvailableQuantity(stats.getAvailableQuantity() - quantity);
+        reorderPointCalculator.recalculate(stats);
+        demandStatisticsRepository.save(stats);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordReceipt(String partNumber, String warehouseId, int quantity, Double leadTimeDays, LocalDate day) {
+        DemandStatistics stats = lockOrCreate(partNumber, warehouseId, quantity);
+        stats.rollTo(day, reorderProperties.getUsageAlpha());
+        if (leadTimeDays != null) {
+            stats.recordLeadTime(leadTimeDays, reorderProperties.getLeadTimeAlpha());
+        }
+        stats.setAvailableQuantity(stats.getAvailableQuantity() + quantity);
+        reorderPointCalculator.recalculate(stats);
+        demandStatisticsRepository.save(stats);
+    }
+
+    /**
+     * Applies a change in available quantity that is not demand, such as a
+     * reservation or its release.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAvailabilityChange(String partNumber, String warehouseId, int delta) {
+        DemandStatistics stats = lockOrCreate(partNumber, warehouseId, delta);
+        stats.setAvailableQuantity(stats.getAvailableQuantity() + delta);
+        reorderPointCalculator.recalculate(stats);
+        demandStatisticsRepository.save(stats);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DemandStatistics> getReorderSuggestions(String warehouseId) {
+        if (warehouseId == null) {
+            return demandStatisticsRepository.findByReorderRequiredTrueOrderByWarehouseIdAscPartNumberAsc();
+        }
+        return demandStatisticsRepository.findByWarehouseIdAndReorderRequiredTrueOrderByPartNumber(warehouseId);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<DemandStatistics> getStatistics(String partNumber, String warehouseId) {
+        return demandStatisticsRepository.findByPartNumberAndWarehouseId(partNumber, warehouseId);
+    }
+
+    /**
+     * The warehouse position is seeded from stock_levels once, when the first
+     * movement for the part/warehouse is seen. The caller has already applied its
+     * own change to stock_levels, so that change is backed out of the seed and
+     * then applied to the aggregate like any other movement.
+     */
+    private DemandStatistics lockOrCreate(String partNumber, String warehouseId, int appliedDelta) {
+        Optional<DemandStatistics> existing = demandStatisticsRepository.findForUpdate(partNumber, warehouseId);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        log.debug("Creating demand statistics for part {} at warehouse {}", partNumber, warehouseId);
+        long seed = stockLevelRepository.sumAvailableAtWarehouse(partNumber, warehouseId) - appliedDelta;
+        demandStatisticsRepository.insertIfAbsent(partNumber, warehouseId, (int) seed);
+        return demandStatisticsRepository.findForUpdate(partNumber, warehouseId)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Demand statistics missing for " + partNumber + " at " + warehouseId));
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.inventory_service.service;
+
+import com.example.inventory_service.config.AvailabilityProperties;
+import com.example.inventory_service.dto.ReservationRequest;
+import com.example.inventory_service.entity.ReservationStatus;
+import com.example.inventory_service.entity.StockLevel;
+import com.example.inventory_service.entity.StockReservation;
+import com.example.inventory_service.event.StockChangedEvent;
+import com.example.inventory_service.event.StockEventType;
+import com.example.inventory_service.exception.InsufficientStockException;
+import com.example.inventory_service.exception.InventoryUnavailableException;
+import com.example.inventory_service.exception.ReservationNotFoundException;
+import com.example.inventory_service.exception.StockNotFoundException;
+import com.example.inventory_service.outbox.StockEventOutbox;
+import com.example.inventory_service.repository.StockLevelRepository;
+import com.example.inventory_service.repository.StockReservationRepository;
+import com.example.inventory_service.resilience.ResilienceGuard;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Reservations run behind a circuit breaker and bulkhead on the caller's thread.
+ * There is no stale fallback for writes: when the store is struggling the caller
+ * gets a fast 503 instead of a queued thread.
+ */
+@Service
+@Slf4j
+public class ReservationService {
+
+    static final String RESILIENCE_INSTANCE = "reservation";
+
+    private final StockLevelRepository stockLevelRepository;
+    private final StockReservationRepository reservationRepository;
+    private final ReorderPointService reorderPointService;
+    private final StockEventOutbox stockEventOutbox;
+    private final ResilienceGuard resilienceGuard;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReservationService(StockLevelRepository stockLevelRepository,
+                              StockReservationRepository reservationRepository,
+                              ReorderPointService reorderPointService,
+                              StockEventOutbox stockEventOutbox,
+                              ResilienceGuard resilienceGuard,
+                              MeterRegistry meterRegistry,
+                              PlatformTransactionManager transactionManager,
+                              AvailabilityProperties availabilityProperties) {
+        this.stockLevelRepository = stockLevelRepository;
+        this.reservationRepository = reservationRepository;
+        this.reorderPointService = reorderPointService;
+        this.stockEventOutbox = stockEventOutbox;
+        this.resilienceGuard = resilienceGuard;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout(availabilityProperties.getReservationTimeoutSeconds());
+    }
+
+    public StockReservation reserve(ReservationRequest request) {
+        return guarded(() -> transactionTemplate.execute(status -> doReserve(request)));
+    }
+
+    public StockReservation release(Long reservationId) {
+        return guarded(() -> transactionTemplate.execute(status -> doRelease(reservationId)));
+    }
+
+    /**
+     * Reserves every request under one reference, all or nothing. If the
+     * reference already holds stock the existing reservations are returned,
+     * so a redelivered command does not reserve twice.
+     */
+    public List<StockReservation> reserveAll(String reference, List<ReservationRequest> requests) {
+        return guarded(() -> transactionTemplate.execute(status -> {
+            List<StockReservation> existing = reservationRepository.findByReservationReferenceAndStatus(reference,
+                    ReservationStatus.ACTIVE);
+            if (!existing.isEmpty()) {
+                return existing;
+            }
+            // a fixed lock order, so two orders sharing stock rows cannot deadlock
+            return requests.stream()
+                    .sorted(Comparator.comparing(ReservationRequest::getPartNumber)
+                            .thenComparing(ReservationRequest::getWarehouseId))
+                    .map(this::doReserve)
+                    .toList();
+        }));
+    }
+
+    /**
+     * Releases every active reservation under the reference; none is not an
+     * error, since a compensation may come for a reservation never made.
+     */
+    public List<StockReservation> releaseAll(String reference) {
+        return guarded(() -> transactionTemplate.execute(status -> reservationRepository
+                .findByReservationReferenceAndStatus(reference, ReservationStatus.ACTIVE).stream()
+                .sorted(Comparator.comparing(StockReservation::getPartNumber)
+                        .thenComparing(StockReservation::getWarehouseId))
+                .map(reservation -> doRelease(reservation.getId()))
+                .toList()));
+    }
+
+    private StockReservation doReserve(ReservationRequest request) {
+        StockLevel stock = stockLevelRepository.findForUpdate(request.getPartNumber(), request.getDealerId(),
+                        request.getWarehouseId())
+                .orElseThrow(() -> new StockNotFoundException("No stock of " + request.getPartNumber()
+                        + " for dealer " + request.getDealerId() + " at " + request.getWarehouseId()));
+
+        if (stock.getAvailableQuantity() < request.getQuantity()) {
+            throw new InsufficientStockException("Only " + stock.getAvailableQuantity() + " of "
+                    + request.getPartNumber() + " available at " + request.getWarehouseId()
+                    + ", requested " + request.getQuantity());
+        }
+
+        stock.setQuantityReserved(stock.getQuantityReserved() + request.getQuantity());
+        StockLevel savedStock = stockLevelRepository.save(stock);
+
+        StockReservation reservation = new StockReservation();
+        reservation.setReservationReference(request.getReservationReference());
+        reservation.setPartNumber(request.getPartNumber());
+        reservation.setDealerId(request.getDealerId());
+        reservation.setWarehouseId(request.getWarehouseId());
+        reservation.setQuantity(request.getQuantity());
+        StockReservation saved = reservationRepository.save(reservation);
+
+        reorderPointService.recordAvailabilityChange(request.getPartNumber(), request.getWarehouseId(),
+                -request.getQuantity());
+        stockEventOutbox.append(StockChangedEvent.of(StockEventType.STOCK_RESERVED, savedStock,
+                -request.getQuantity(), request.getReservationReference()));
+
+        log.info("Reserved {} x {} at {} for {}", request.getQuantity(), request.getPartNumber(),
+                request.getWarehouseId(), request.getReservationReference());
+        return saved;
+    }
+
+    private StockReservation doRelease(Long reservationId) {
+        StockReservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new ReservationNotFoundException("Reservation not found with ID: " + reservationId));
+        if (reservation.getStatus() != ReservationStatus.ACTIVE) {
+            return reservation;
+        }
+
+        StockLevel stock = stockLevelRepository.findForUpdate(reservation.getPartNumber(), reservation.getDealerId(),
+                        reservation.getWarehouseId())
+                .orElseThrow(() -> new StockNotFoundException("Stock row missing for reservation " + reservationId));
+        stock.setQuantityReserved(stock.getQuantityReserved() - reservation.getQuantity());
+        StockLevel savedStock = stockLevelRepository.save(stock);
+
+        reservation.setStatus(ReservationStatus.RELEASED);
+        StockReservation saved = reservationRepository.save(reservation);
+
+        reorderPointService.recordAvailabilityChange(reservation.getPartNumber(), reservation.getWarehouseId(),
+                reservation.getQuantity());
+        stockEventOutbox.append(StockChangedEvent.of(StockEventType.RESERVATION_RELEASED, savedStock,
+                reservation.getQuantity(), reservation.getReservationReference()));
+
+        log.info("Released reservation {} ({} x {})", reservationId, reservation.getQuantity(),
+                reservation.getPartNumber());
+        return saved;
+    }
+
+    private <T> T guarded(Supplier<T> work) {
+        try {
+            return resilienceGuard.write(RESILIENCE_INSTANCE, work);
+        } catch (CallNotPermittedException | BulkheadFullException
+                 | TransactionTimedOutException | QueryTimeoutException e) {
+            String reason = AvailabilityService.reason(e);
+            meterRegistry.counter("inventory.reservation.rejected", "reason",
+                    "error".equals(reason) ? "timeout" : reason).increment();
+            throw new InventoryUnavailableException("Reservations are temporarily unavailable, retry shortly");
+        }
+    }
+}
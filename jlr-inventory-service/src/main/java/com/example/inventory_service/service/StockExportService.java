@@ -0,0 +1,121 @@
+package com.example.inventory_service.service;
+
+import com.example.inventory_service.config.ExportProperties;
+import com.example.inventory_service.dto.StockExportResponse;
+import com.example.inventory_service.exception.ExportInProgressException;
+import com.example.inventory_service.exception.ExportParametersMismatchException;
+import com.example.inventory_service.export.ExportCheckpoint;
+import com.example.inventory_service.export.ExportFormat;
+import com.example.inventory_service.export.StockSnapshotExporter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class StockExportService {
+
+    private final StockSnapshotExporter exporter;
+    private final ExportProperties exportProperties;
+    private final TaskExecutor exportTaskExecutor;
+
+    private final Set<String> runningExports = ConcurrentHashMap.newKeySet();
+
+    public StockExportService(StockSnapshotExporter exporter,
+                              ExportProperties exportProperties,
+                              @Qualifier("exportTaskExecutor") TaskExecutor exportTaskExecutor) {
+        this.exporter = exporter;
+        this.exportProperties = exportProperties;
+        this.exportTaskExecutor = exportTaskExecutor;
+    }
+
+    public long streamSnapshot(WritableByteChannel channel, ExportFormat format,
+                               String dealerId, String warehouseId, long afterId) throws IOException {
+        log.info("Streaming stock snapshot as {} (dealer={}, warehouse={}, afterId={})",
+                format, dealerId, warehouseId, afterId);
+        long rows = exporter.streamTo(channel, format, dealerId, warehouseId, afterId);
+        log.info("Streamed {} stock rows as {}", rows, format);
+        return rows;
+    }
+
+    /**
+     * Starts (or resumes) a named file export in the background. Calling this again
+     * for an interrupted export picks up from its last checkpoint, but only with the
+     * filters it was started with; {@code restart} discards the checkpoint, which is
+     * also how a completed export is run again.
+     */
+    public StockExportResponse startFileExport(String exportName, ExportFormat format,
+                                               String dealerId, String warehouseId, boolean restart) {
+        String key = exportName + format.getFileExtension();
+        if (!runningExports.add(key)) {
+            throw new ExportInProgressException("Export " + exportName + " as " + format + " is already running");
+        }
+
+        Path target = targetFile(exportName, format);
+        Path checkpointFile = checkpointFile(exportName, format);
+        try {
+            if (restart) {
+                Files.deleteIfExists(checkpointFile);
+            } else {
+                Optional<ExportCheckpoint> checkpoint = ExportCheckpoint.read(checkpointFile);
+                if (checkpoint.isPresent() && !checkpoint.get().hasFilters(dealerId, warehouseId)) {
+                    throw new ExportParametersMismatchException("Export " + exportName + " as " + format
+                            + " was started with dealer=" + checkpoint.get().getDealerId() + ", warehouse="
+                            + checkpoint.get().getWarehouseId() + "; restart it to change them");
+                }
+                if (checkpoint.isPresent() && checkpoint.get().isCompleted()) {
+                    runningExports.remove(key);
+                    return getFileExportStatus(exportName, format);
+                }
+            }
+
+            exportTaskExecutor.execute(() -> {
+                try {
+                    exporter.exportToFile(target, checkpointFile, format, dealerId, warehouseId);
+                } catch (Exception e) {
+                    log.error("Export {} failed, it can be resumed from its last checkpoint", exportName, e);
+                } finally {
+                    runningExports.remove(key);
+                }
+            });
+        } catch (IOException e) {
+            runningExports.remove(key);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            runningExports.remove(key);
+            throw e;
+        }
+
+        return getFileExportStatus(exportName, format);
+    }
+
+    public StockExportResponse getFileExportStatus(String exportName, ExportFormat format) {
+        try {
+            ExportCheckpoint checkpoint = ExportCheckpoint.read(checkpointFile(exportName, format))
+                    .orElse(ExportCheckpoint.initial());
+            return StockExportResponse.from(exportName, format, targetFile(exportName, format).toString(),
+                    runningExports.contains(exportName + format.getFileExtension()), checkpoint);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path targetFile(String exportName, ExportFormat format) {
+        return Paths.get(exportProperties.getDirectory(), exportName + format.getFileExtension());
+    }
+
+    private Path checkpointFile(String exportName, ExportFormat format) {
+        return Paths.get(exportProperties.getDirectory(), exportName + format.getFileExtension() + ".checkpoint");
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.inventory_service.service;
+
+import com.example.inventory_service.entity.StockLevel;
+import com.example.inventory_service.event.StockChangedEvent;
+import com.example.inventory_service.event.StockEventType;
+import com.example.inventory_service.exception.InsufficientStockException;
+import com.example.inventory_service.exception.StockNotFoundException;
+import com.example.inventory_service.outbox.StockEventOutbox;
+import com.example.inventory_service.repository.StockLevelRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class StockService {
+
+    private final StockLevelRepository stockLevelRepository;
+    private final ReorderPointService reorderPointService;
+    private final StockEventOutbox stockEventOutbox;
+    private final Clock clock;
+
+    /**
+     * Issues stock to a job or sale. This is the demand signal the reorder
+     * statistics are built from.
+     */
+    public StockLevel consume(String partNumber, String dealerId, String warehouseId, int quantity) {
+        StockLevel stock = stockLevelRepository.findForUpdate(partNumber, dealerId, warehouseId)
+                .orElseThrow(() -> new StockNotFoundException(
+                        "No stock of " + partNumber + " for dealer " + dealerId + " at " + warehouseId));
+
+        if (stock.getAvailableQuantity() < quantity) {
+            throw new InsufficientStockException("Only " + stock.getAvailableQuantity() + " of " + partNumber
+                    + " available at " + warehouseId + ", requested " + quantity);
+        }
+
+        stock.setQuantityOnHand(stock.getQuantityOnHand() - quantity);
+        StockLevel saved = stockLevelRepository.save(stock);
+        reorderPointService.recordConsumption(partNumber, warehouseId, quantity, LocalDate.now(clock));
+        stockEventOutbox.append(StockChangedEvent.of(StockEventType.STOCK_CONSUMED, saved, -quantity, null));
+
+        log.debug("Consumed {} x {} for dealer {} at {}", quantity, partNumber, dealerId, warehouseId);
+        return saved;
+    }
+
+    public StockLevel receive(String partNumber, String dealerId, String warehouseId, int quantity, Double leadTimeDays) {
+        StockLevel stock = stockLevelRepository.findForUpdate(partNumber, dealerId, warehouseId)
+                .orElseGet(() -> {
+                    StockLevel created = new StockLevel();
+                    created.setPartNumber(partNumber);
+                    created.setDealerId(dealerId);
+                    created.setWarehouseId(warehouseId);
+                    return created;
+                });
+
+        stock.setQuantityOnHand(stock.getQuantityOnHand() + quantity);
+        StockLevel saved = stockLevelRepository.save(stock);
+        reorderPointService.recordReceipt(partNumber, warehouseId, quantity, leadTimeDays, LocalDate.now(clock));
+        stockEventOutbox.append(StockChangedEvent.of(StockEventType.STOCK_RECEIVED, saved, quantity, null));
+
+        log.debug("Received {} x {} for dealer {} at {}", quantity, partNumber, dealerId, warehouseId);
+        return saved;
+    }
+
+    @Transactional(readOnly = true)
+    public List<StockLevel> getStockForPart(String partNumber) {
+        return stockLevelRepository.findByPartNumber(partNumber);
+    }
+}
@@ -0,0 +1,16 @@
+-- Per-dealer, per-warehouse stock positions for every part number.
+CREATE TABLE stock_levels (
+    id                BIGSERIAL PRIMARY KEY,
+    part_number       VARCHAR(64)    NOT NULL,
+    dealer_id         VARCHAR(64)    NOT NULL,
+    warehouse_id      VARCHAR(64)    NOT NULL,
+    quantity_on_hand  INTEGER        NOT NULL DEFAULT 0,
+    quantity_reserved INTEGER        NOT NULL DEFAULT 0,
+    unit_cost         NUMERIC(12, 2) NOT NULL DEFAULT 0,
+    updated_at        TIMESTAMP      NOT NULL DEFAULT now(),
+    version           BIGINT         NOT NULL DEFAULT 0,
+    CONSTRAINT uk_stock_levels_part_dealer_warehouse UNIQUE (part_number, dealer_id, warehouse_id)
+);
+
+CREATE INDEX idx_stock_levels_dealer ON stock_levels (dealer_id, id);
+CREATE INDEX idx_stock_levels_warehouse ON stock_levels (warehouse_id, id);
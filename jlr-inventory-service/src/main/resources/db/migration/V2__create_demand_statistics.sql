@@ -0,0 +1,27 @@
+-- Running demand and lead-time aggregates per part number and warehouse.
+-- Updated in the same transaction as every stock movement, so reorder points
+-- are always current and never need a batch recomputation.
+CREATE TABLE demand_statistics (
+    id                   BIGSERIAL PRIMARY KEY,
+    part_number          VARCHAR(64)      NOT NULL,
+    warehouse_id         VARCHAR(64)      NOT NULL,
+    bucket_date          DATE,
+    bucket_quantity      INTEGER          NOT NULL DEFAULT 0,
+    usage_days           INTEGER          NOT NULL DEFAULT 0,
+    ewma_daily_usage     DOUBLE PRECISION NOT NULL DEFAULT 0,
+    daily_usage_variance DOUBLE PRECISION NOT NULL DEFAULT 0,
+    lead_time_samples    INTEGER          NOT NULL DEFAULT 0,
+    lead_time_days       DOUBLE PRECISION NOT NULL DEFAULT 0,
+    lead_time_variance   DOUBLE PRECISION NOT NULL DEFAULT 0,
+    available_quantity   INTEGER          NOT NULL DEFAULT 0,
+    reorder_point        INTEGER          NOT NULL DEFAULT 0,
+    suggested_quantity   INTEGER          NOT NULL DEFAULT 0,
+    reorder_required     BOOLEAN          NOT NULL DEFAULT FALSE,
+    updated_at           TIMESTAMP        NOT NULL DEFAULT now(),
+    version              BIGINT           NOT NULL DEFAULT 0,
+    CONSTRAINT uk_demand_statistics_part_warehouse UNIQUE (part_number, warehouse_id)
+);
+
+-- "What should I reorder now" only ever reads the flagged rows.
+CREATE INDEX idx_demand_statistics_reorder ON demand_statistics (warehouse_id, part_number)
+    WHERE reorder_required;
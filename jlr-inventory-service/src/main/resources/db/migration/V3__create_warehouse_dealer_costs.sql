@@ -0,0 +1,12 @@
+-- Shipping lanes from each warehouse to each dealer. A missing row means the
+-- warehouse does not ship to that dealer.
+CREATE TABLE warehouse_dealer_costs (
+    id             BIGSERIAL PRIMARY KEY,
+    warehouse_id   VARCHAR(64)    NOT NULL,
+    dealer_id      VARCHAR(64)    NOT NULL,
+    shipment_cost  NUMERIC(10, 2) NOT NULL,
+    unit_cost      NUMERIC(10, 4) NOT NULL DEFAULT 0,
+    transit_hours  INTEGER        NOT NULL,
+    updated_at     TIMESTAMP      NOT NULL DEFAULT now(),
+    CONSTRAINT uk_warehouse_dealer_costs UNIQUE (warehouse_id, dealer_id)
+);
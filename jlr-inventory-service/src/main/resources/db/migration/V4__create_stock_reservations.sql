@@ -0,0 +1,16 @@
+-- Stock held for an order until it ships or is released.
+CREATE TABLE stock_reservations (
+    id                    BIGSERIAL PRIMARY KEY,
+    reservation_reference VARCHAR(64) NOT NULL,
+    part_number           VARCHAR(64) NOT NULL,
+    dealer_id             VARCHAR(64) NOT NULL,
+    warehouse_id          VARCHAR(64) NOT NULL,
+    quantity              INTEGER     NOT NULL,
+    status                VARCHAR(16) NOT NULL,
+    created_at            TIMESTAMP   NOT NULL DEFAULT now(),
+    updated_at            TIMESTAMP   NOT NULL DEFAULT now(),
+    version               BIGINT      NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_stock_reservations_reference ON stock_reservations (reservation_reference);
+CREATE INDEX idx_stock_reservations_part ON stock_reservations (part_number, warehouse_id);
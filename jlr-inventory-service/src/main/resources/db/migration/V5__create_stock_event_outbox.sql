@@ -0,0 +1,18 @@
+-- Transactional outbox for stock-change events. Rows are inserted in the same
+-- transaction as the stock update and deleted by the relay once Kafka has
+-- acknowledged them.
+--
+-- bucket = hash(part_number) mod app.outbox.buckets. A relay only works a bucket
+-- while holding its transaction-scoped advisory lock, so each part number's
+-- events are published by one relay at a time, in id order.
+CREATE TABLE stock_event_outbox (
+    id            BIGSERIAL PRIMARY KEY,
+    bucket        SMALLINT    NOT NULL,
+    event_id      UUID        NOT NULL,
+    event_type    VARCHAR(32) NOT NULL,
+    aggregate_key VARCHAR(64) NOT NULL,
+    payload       JSONB       NOT NULL,
+    created_at    TIMESTAMP   NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_stock_event_outbox_bucket ON stock_event_outbox (bucket, id);
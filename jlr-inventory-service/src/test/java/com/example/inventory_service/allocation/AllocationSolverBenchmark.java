@@ -0,0 +1,82 @@
+package com.example.inventory_service.allocation;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solver latency across order shapes seen in practice: a single-part retail
+ * order, a typical workshop order, and a dealer bulk restock.
+ *
+ * The model mirrors production scale: 24 warehouses, 400 dealers and 60k part
+ * numbers, with stock for a part held in a handful of warehouses.
+ *
+ * Run with {@code main} from the IDE after {@code mvn test-compile}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AllocationSolverBenchmark {
+
+    private static final int WAREHOUSES = 24;
+    private static final int DEALERS = 400;
+    private static final int PARTS = 60_000;
+
+    @Param({"1", "25", "120", "500"})
+    public int lines;
+
+    private AllocationModel model;
+    private AllocationSolver solver;
+    private int[][] orderParts;
+    private int[][] orderQuantities;
+    private int[] orderDealers;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        AllocationModel.Builder builder = AllocationModel.builder(2.0);
+        for (int d = 0; d < DEALERS; d++) {
+            for (int w = 0; w < WAREHOUSES; w++) {
+                builder.lane("D" + d, "WH" + w, 25 + random.nextInt(150), random.nextDouble(0.1, 2.0),
+                        12 + random.nextInt(96));
+            }
+        }
+        for (int p = 0; p < PARTS; p++) {
+            int holders = 1 + random.nextInt(6);
+            for (int h = 0; h < holders; h++) {
+                builder.stock("P" + p, "WH" + random.nextInt(WAREHOUSES), random.nextInt(1, 200));
+            }
+        }
+        model = builder.build();
+        solver = new AllocationSolver(8);
+
+        orderParts = new int[64][];
+        orderQuantities = new int[64][];
+        orderDealers = new int[64];
+        for (int o = 0; o < 64; o++) {
+            orderDealers[o] = model.dealerIndex("D" + random.nextInt(DEALERS));
+            orderParts[o] = random.ints(0, model.partCount()).distinct().limit(lines).toArray();
+            orderQuantities[o] = random.ints(lines, 1, lines > 100 ? 60 : 8).toArray();
+        }
+    }
+
+    @Benchmark
+    public AllocationPlan solve() {
+        int o = next++ & 63;
+        return solver.solve(model, orderDealers[o], orderParts[o], orderQuantities[o]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AllocationSolverBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.inventory_service.allocation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AllocationSolverTest {
+
+    private final AllocationSolver solver = new AllocationSolver(8);
+
+    @Test
+    void consolidatesIntoOneShipmentWhenOneWarehouseCanFillEverything() {
+        AllocationModel model = AllocationModel.builder(0)
+                .lane("D1", "WH-A", 50, 1.0, 0)
+                .lane("D1", "WH-B", 50, 0.5, 0)
+                .stock("P1", "WH-A", 10)
+                .stock("P2", "WH-A", 10)
+                .stock("P1", "WH-B", 10)
+                .build();
+
+        AllocationPlan plan = solver.solve(model, model.dealerIndex("D1"),
+                new int[]{model.partIndex("P1"), model.partIndex("P2")}, new int[]{5, 5});
+
+        // WH-B is cheaper per unit for P1, but a second shipment costs more than it saves
+        assertEquals(1, plan.shipmentCount());
+        assertEquals(5, plan.allocated(0, 0));
+        assertEquals(5, plan.allocated(1, 0));
+        assertEquals(60.0, plan.getTotalCost(), 1e-9);
+    }
+
+    @Test
+    void splitsAcrossWarehousesAndReportsShortfall() {
+        AllocationModel model = AllocationModel.builder(1.0)
+                .lane("D1", "WH-A", 10, 0, 24)
+                .lane("D1", "WH-B", 10, 0, 48)
+                .stock("P1", "WH-A", 4)
+                .stock("P1", "WH-B", 3)
+                .stock("P1", "WH-C", 100) // no lane to D1
+                .build();
+
+        AllocationPlan plan = solver.solve(model, model.dealerIndex("D1"),
+                new int[]{model.partIndex("P1")}, new int[]{9});
+
+        assertEquals(4, plan.allocated(0, 0));
+        assertEquals(3, plan.allocated(0, 1));
+        assertEquals(2, plan.shortfall(0));
+        assertEquals(34.0 + 58.0, plan.getTotalCost(), 1e-9);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.inventory_service.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GzipMemberWriterTest {
+
+    @Test
+    void concatenatedMembersDecodeAsOneStream() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GzipMemberWriter out = new GzipMemberWriter(Channels.newChannel(bytes), 8192)) {
+            out.writer().write("first\n");
+            out.endMember();
+            out.writer().write("second\n");
+        }
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals("first\nsecond\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void csvFieldsAreQuotedOnlyWhenNeeded() throws Exception {
+        StringWriter out = new StringWriter();
+        ExportFormat.writeCsvField(out, "LR-123");
+        out.write('|');
+        ExportFormat.writeCsvField(out, "brake \"pad\", front");
+
+        assertEquals("LR-123|\"brake \"\"pad\"\", front\"", out.toString());
+    }
+}
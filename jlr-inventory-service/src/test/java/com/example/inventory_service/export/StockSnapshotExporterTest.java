@@ -0,0 +1,46 @@
+package com.example.inventory_service.export;
+
+import com.example.inventory_service.config.ExportProperties;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class StockSnapshotExporterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final StockSnapshotExporter exporter = new StockSnapshotExporter(jdbcTemplate, new ExportProperties());
+
+    @Test
+    void streamedExportTreatsBlankFiltersAsNoneLikeFileExports() throws Exception {
+        exporter.streamTo(Channels.newChannel(new ByteArrayOutputStream()), ExportFormat.CSV, " ", " WH-1 ", 0L);
+
+        ArgumentCaptor<PreparedStatementCreator> query = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(query.capture(), any(RowCallbackHandler.class));
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        query.getValue().createPreparedStatement(connection);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection).prepareStatement(sql.capture(), eq(ResultSet.TYPE_FORWARD_ONLY),
+                eq(ResultSet.CONCUR_READ_ONLY));
+        assertFalse(sql.getValue().contains("dealer_id = ?"));
+        assertTrue(sql.getValue().contains("warehouse_id = ?"));
+        verify(statement).setString(2, "WH-1");
+    }
+}
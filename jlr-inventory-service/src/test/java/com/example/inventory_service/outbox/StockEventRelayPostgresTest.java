@@ -0,0 +1,188 @@
+package com.example.inventory_service.outbox;
+
+import com.example.inventory_service.config.OutboxProperties;
+import com.example.inventory_service.event.StockChangedEvent;
+import com.example.inventory_service.event.StockEventType;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * The outbox write and the bucketed relay against a real Postgres, with the
+ * producer's acks under the test's control.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class StockEventRelayPostgresTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+    private final OutboxProperties properties = new OutboxProperties();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private StockEventOutbox outbox;
+    private StockEventRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM stock_event_outbox");
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        properties.setBuckets(1);
+        outbox = new StockEventOutbox(jdbcTemplate, JsonMapper.builder().findAndAddModules().build(), properties);
+        relay = new StockEventRelay(jdbcTemplate, kafkaTemplate, properties, transactionManager,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void rowsAreDeletedOnlyOnceTheBrokerAcks() throws Exception {
+        append("LR-1", StockEventType.STOCK_RECEIVED);
+        append("LR-2", StockEventType.STOCK_RECEIVED);
+        List<CompletableFuture<SendResult<String, String>>> acks = new CopyOnWriteArrayList<>();
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(call -> {
+            CompletableFuture<SendResult<String, String>> ack = new CompletableFuture<>();
+            acks.add(ack);
+            return ack;
+        });
+
+        CompletableFuture<Integer> batch = CompletableFuture.supplyAsync(() -> relay.relayBatch(0), executor);
+        verify(kafkaTemplate, timeout(5000).times(2)).send(any(ProducerRecord.class));
+        assertThat(outboxRows()).isEqualTo(2);
+
+        acks.forEach(ack -> ack.complete(null));
+
+        assertThat(batch.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(outboxRows()).isZero();
+    }
+
+    @Test
+    void bucketHeldByAnotherRelayIsSkippedNotWaitedFor() throws Exception {
+        append("LR-1", StockEventType.STOCK_RECEIVED);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        try (Connection other = dataSource.getConnection(); Statement statement = other.createStatement()) {
+            other.setAutoCommit(false);
+            statement.execute("SELECT pg_advisory_xact_lock(" + StockEventRelay.BUCKET_LOCK_NAMESPACE + ", 0)");
+
+            CompletableFuture<Integer> batch = CompletableFuture.supplyAsync(() -> relay.relayBatch(0), executor);
+            assertThat(batch.get(5, TimeUnit.SECONDS)).isZero();
+            verifyNoInteractions(kafkaTemplate);
+            assertThat(outboxRows()).isEqualTo(1);
+
+            other.rollback();
+        }
+
+        assertThat(relay.relayBatch(0)).isEqualTo(1);
+        assertThat(outboxRows()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void eventsForOnePartArePublishedInCommitOrder() throws Exception {
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+        CountDownLatch firstAppended = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        // the first writer holds the part's ordering lock until it commits
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    appendInTransaction("LR-1", StockEventType.STOCK_RESERVED);
+                    firstAppended.countDown();
+                    await(releaseFirst);
+                }), executor);
+        assertThat(firstAppended.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> second = CompletableFuture.runAsync(
+                () -> append("LR-1", StockEventType.STOCK_CONSUMED), executor);
+        append("LR-2", StockEventType.STOCK_RECEIVED);
+
+        Thread.sleep(200);
+        assertThat(second).isNotDone();
+        assertThat(relay.relayBatch(0)).isEqualTo(1);
+
+        releaseFirst.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(relay.relayBatch(0)).isEqualTo(2);
+
+        ArgumentCaptor<ProducerRecord<String, String>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(3)).send(records.capture());
+        assertThat(records.getAllValues().stream().filter(record -> record.key().equals("LR-1"))
+                .map(StockEventRelayPostgresTest::eventType))
+                .containsExactly("STOCK_RESERVED", "STOCK_CONSUMED");
+    }
+
+    private void append(String partNumber, StockEventType type) {
+        transactionTemplate.executeWithoutResult(status -> appendInTransaction(partNumber, type));
+    }
+
+    private void appendInTransaction(String partNumber, StockEventType type) {
+        outbox.append(StockChangedEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(type)
+                .partNumber(partNumber)
+                .dealerId("DLR-1")
+                .warehouseId("WH-1")
+                .build());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String eventType(ProducerRecord<String, String> record) {
+        return new String(record.headers().lastHeader("eventType").value(), StandardCharsets.UTF_8);
+    }
+
+    private long outboxRows() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM stock_event_outbox", Long.class);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.inventory_service.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LastKnownGoodCacheTest {
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-01-01T00:00:00Z"));
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    };
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondCapacity() {
+        LastKnownGoodCache<String, Integer> cache = new LastKnownGoodCache<>(2, Duration.ofMinutes(5), clock);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertTrue(cache.get("a").isPresent());
+        assertFalse(cache.get("b").isPresent());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void neverServesEntriesOlderThanMaxAge() {
+        LastKnownGoodCache<String, Integer> cache = new LastKnownGoodCache<>(10, Duration.ofMinutes(5), clock);
+        cache.put("a", 1);
+
+        now.set(now.get().plusSeconds(299));
+        assertEquals(1, cache.get("a").orElseThrow().value());
+
+        now.set(now.get().plusSeconds(2));
+        assertTrue(cache.get("a").isEmpty());
+    }
+}
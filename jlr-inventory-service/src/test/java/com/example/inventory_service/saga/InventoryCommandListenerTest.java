@@ -0,0 +1,164 @@
+package com.example.inventory_service.saga;
+
+import com.example.inventory_service.allocation.AllocationModel;
+import com.example.inventory_service.allocation.AllocationModelHolder;
+import com.example.inventory_service.config.AllocationProperties;
+import com.example.inventory_service.config.SagaProperties;
+import com.example.inventory_service.dto.AllocationResponse;
+import com.example.inventory_service.dto.ReservationRequest;
+import com.example.inventory_service.exception.InventoryUnavailableException;
+import com.example.inventory_service.repository.StockLevelRepository;
+import com.example.inventory_service.service.AllocationService;
+import com.example.inventory_service.service.ReservationService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InventoryCommandListenerTest {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    private final AllocationService allocationService = mock(AllocationService.class);
+    private final ReservationService reservationService = mock(ReservationService.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+    private final InventoryCommandListener listener = new InventoryCommandListener(allocationService,
+            reservationService, kafkaTemplate, MAPPER, new SagaProperties(), new SimpleMeterRegistry());
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reservesThePlannedSplitUnderTheOrderNumber() throws Exception {
+        acknowledgeReplies();
+        when(allocationService.planFromDealerStock(any())).thenReturn(plan(0, warehouse("WH-1", 3), warehouse("WH-2", 2)));
+
+        listener.onCommand(reserve());
+
+        ArgumentCaptor<List<ReservationRequest>> requests = ArgumentCaptor.forClass(List.class);
+        verify(reservationService).reserveAll(eq("ORD-1"), requests.capture());
+        assertEquals(List.of("WH-1", "WH-2"), requests.getValue().stream().map(ReservationRequest::getWarehouseId)
+                .toList());
+        assertTrue(sentReply().get("success").asBoolean());
+    }
+
+    @Test
+    void shortfallIsRefusedWithoutReserving() throws Exception {
+        acknowledgeReplies();
+        when(allocationService.planFromDealerStock(any())).thenReturn(plan(2, warehouse("WH-1", 3)));
+
+        listener.onCommand(reserve());
+
+        verifyNoInteractions(reservationService);
+        JsonNode reply = sentReply();
+        assertFalse(reply.get("success").asBoolean());
+        assertEquals("RESERVE_INVENTORY", reply.get("commandType").asText());
+    }
+
+    @Test
+    void unavailableStoreLeavesTheCommandUnanswered() throws Exception {
+        when(allocationService.planFromDealerStock(any())).thenReturn(plan(0, warehouse("WH-1", 5)));
+        when(reservationService.reserveAll(anyString(), any()))
+                .thenThrow(new InventoryUnavailableException("Reservations are temporarily unavailable"));
+
+        listener.onCommand(reserve());
+
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reservesFromTheOrderingDealersStockNotAnotherDealersAtTheSameWarehouse() throws Exception {
+        acknowledgeReplies();
+        // WH-1 is the cheaper lane and holds 10 x LR-1, but all of it belongs to DLR-2
+        AllocationModel pooled = AllocationModel.builder(0)
+                .lane("DLR-1", "WH-1", 1.0, 0.1, 0)
+                .lane("DLR-1", "WH-2", 50.0, 1.0, 0)
+                .stock("LR-1", "WH-1", 10)
+                .stock("LR-1", "WH-2", 5)
+                .build();
+        AllocationModelHolder modelHolder = mock(AllocationModelHolder.class);
+        when(modelHolder.current()).thenReturn(pooled);
+        StockLevelRepository stockLevelRepository = mock(StockLevelRepository.class);
+        when(stockLevelRepository.findDealerAvailabilityByPartNumbers(eq("DLR-1"), any()))
+                .thenReturn(List.of(availability("LR-1", "WH-2", 5)));
+        InventoryCommandListener dealerScoped = new InventoryCommandListener(
+                new AllocationService(modelHolder, stockLevelRepository, new AllocationProperties()),
+                reservationService, kafkaTemplate, MAPPER, new SagaProperties(), new SimpleMeterRegistry());
+
+        dealerScoped.onCommand(reserve());
+
+        ArgumentCaptor<List<ReservationRequest>> requests = ArgumentCaptor.forClass(List.class);
+        verify(reservationService).reserveAll(eq("ORD-1"), requests.capture());
+        assertEquals(1, requests.getValue().size());
+        ReservationRequest request = requests.getValue().get(0);
+        assertEquals("DLR-1", request.getDealerId());
+        assertEquals("WH-2", request.getWarehouseId());
+        assertEquals(5, request.getQuantity());
+        assertTrue(sentReply().get("success").asBoolean());
+    }
+
+    private void acknowledgeReplies() {
+        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    private JsonNode sentReply() throws Exception {
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(kafkaTemplate).send(eq("orders.saga-replies"), eq("ORD-1"), payload.capture());
+        return MAPPER.readTree(payload.getValue());
+    }
+
+    private static String reserve() {
+        return "{\"commandId\": \"6f1c2f6e-8a61-4c59-9d0e-0d2b1d3c4e5f\", \"type\": \"RESERVE_INVENTORY\","
+                + " \"sagaId\": 7, \"orderNumber\": \"ORD-1\", \"dealerId\": \"DLR-1\", \"amount\": 120.00,"
+                + " \"lines\": [{\"partNumber\": \"LR-1\", \"quantity\": 5}]}";
+    }
+
+    private static AllocationResponse plan(int shortfall, AllocationResponse.WarehouseAllocation... warehouses) {
+        return AllocationResponse.builder()
+                .dealerId("DLR-1")
+                .fullyAllocated(shortfall == 0)
+                .lines(List.of(AllocationResponse.LineAllocation.builder()
+                        .partNumber("LR-1")
+                        .requestedQuantity(5)
+                        .shortfall(shortfall)
+                        .warehouses(List.of(warehouses))
+                        .build()))
+                .build();
+    }
+
+    private static StockLevelRepository.PartWarehouseAvailability availability(String part, String warehouse,
+                                                                               long available) {
+        return new StockLevelRepository.PartWarehouseAvailability() {
+            @Override
+            public String getPartNumber() {
+                return part;
+            }
+
+            @Override
+            public String getWarehouseId() {
+                return warehouse;
+            }
+
+            @Override
+            public Long getAvailable() {
+                return available;
+            }
+        };
+    }
+
+    private static AllocationResponse.WarehouseAllocation warehouse(String id, int quantity) {
+        return AllocationResponse.WarehouseAllocation.builder().warehouseId(id).quantity(quantity).build();
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.example.inventory_service.service;
+
+import com.example.inventory_service.config.AvailabilityProperties;
+import com.example.inventory_service.dto.AvailabilityResponse;
+import com.example.inventory_service.repository.StockLevelRepository;
+import com.example.inventory_service.resilience.ResilienceGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class AvailabilityServiceTest {
+
+    private final StockLevelRepository repository = mock(StockLevelRepository.class);
+    private final ResilienceGuard guard = mock(ResilienceGuard.class);
+    private final AvailabilityService service = new AvailabilityService(repository, guard, new SimpleMeterRegistry(),
+            Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC), new AvailabilityProperties());
+
+    @Test
+    void readsAllPartsInOneQueryInRequestOrder() throws Exception {
+        passThrough();
+        when(repository.findAvailabilityByPartNumbers(any())).thenReturn(List.of(
+                row("LR-2", "WH-1", 3), row("LR-1", "WH-1", 5), row("LR-1", "WH-2", 2)));
+
+        List<AvailabilityResponse> responses = service.getAvailability(List.of("LR-1", "LR-2", "LR-3"));
+
+        verify(repository, times(1)).findAvailabilityByPartNumbers(any());
+        assertEquals(List.of("LR-1", "LR-2", "LR-3"),
+                responses.stream().map(AvailabilityResponse::getPartNumber).toList());
+        assertEquals(List.of(7L, 3L, 0L), responses.stream().map(AvailabilityResponse::getTotalAvailable).toList());
+    }
+
+    @Test
+    void failedReadServesWhatIsKnownAndLeavesTheRestOut() throws Exception {
+        passThrough();
+        when(repository.findAvailabilityByPartNumbers(any())).thenReturn(List.of(row("LR-1", "WH-1", 5)));
+        service.getAvailability(List.of("LR-1"));
+
+        doThrow(new RuntimeException("database down")).when(guard).read(anyString(), any());
+        List<AvailabilityResponse> responses = service.getAvailability(List.of("LR-1", "LR-2"));
+
+        assertEquals(1, responses.size());
+        assertEquals("LR-1", responses.get(0).getPartNumber());
+        assertTrue(responses.get(0).isStale());
+        assertEquals(5L, responses.get(0).getTotalAvailable());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void passThrough() throws Exception {
+        when(guard.read(anyString(), any())).thenAnswer(call -> ((Supplier<Object>) call.getArgument(1)).get());
+    }
+
+    private static StockLevelRepository.PartWarehouseAvailability row(String part, String warehouse, long available) {
+        return new StockLevelRepository.PartWarehouseAvailability() {
+            @Override
+            public String getPartNumber() {
+                return part;
+            }
+
+            @Override
+            public String getWarehouseId() {
+                return warehouse;
+            }
+
+            @Override
+            public Long getAvailable() {
+                return available;
+            }
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.inventory_service.service;
+
+import com.example.inventory_service.config.ReorderProperties;
+import com.example.inventory_service.entity.DemandStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReorderPointCalculatorTest {
+
+    private final ReorderProperties properties = new ReorderProperties();
+    private final ReorderPointCalculator calculator = new ReorderPointCalculator(properties);
+
+    @Test
+    void idleDaysAreFoldedIntoUsageOnRollover() {
+        DemandStatistics stats = new DemandStatistics("LR-001", "WH-1", 100);
+        LocalDate day = LocalDate.of(2026, 1, 1);
+
+        stats.recordConsumption(day, 10, 0.5);
+        stats.recordConsumption(day, 10, 0.5);
+        stats.recordConsumption(day.plusDays(3), 4, 0.5);
+
+        // day 1 = 20, days 2 and 3 idle: 20 -> 10 -> 5
+        assertEquals(3, stats.getUsageDays());
+        assertEquals(5.0, stats.getEwmaDailyUsage(), 1e-9);
+        assertEquals(4, stats.getBucketQuantity());
+    }
+
+    @Test
+    void suggestsReplenishmentOnceAvailableFallsToReorderPoint() {
+        properties.setServiceLevelZ(0);
+        properties.setReviewPeriodDays(10);
+        DemandStatistics stats = new DemandStatistics("LR-001", "WH-1", 40);
+        stats.setEwmaDailyUsage(5);
+        stats.setUsageDays(30);
+        stats.recordLeadTime(7, 0.2);
+
+        calculator.recalculate(stats);
+        assertEquals(35, stats.getReorderPoint());
+        assertFalse(stats.isReorderRequired());
+        assertEquals(0, stats.getSuggestedQuantity());
+
+        stats.setAvailableQuantity(30);
+        calculator.recalculate(stats);
+        assertTrue(stats.isReorderRequired());
+        assertEquals(35 + 50 - 30, stats.getSuggestedQuantity());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.inventory_service.service;
+
+import com.example.inventory_service.config.ExportProperties;
+import com.example.inventory_service.exception.ExportParametersMismatchException;
+import com.example.inventory_service.export.ExportCheckpoint;
+import com.example.inventory_service.export.ExportFormat;
+import com.example.inventory_service.export.StockSnapshotExporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class StockExportServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final StockSnapshotExporter exporter = mock(StockSnapshotExporter.class);
+    private StockExportService service;
+
+    @BeforeEach
+    void setUp() {
+        ExportProperties properties = new ExportProperties();
+        properties.setDirectory(directory.toString());
+        service = new StockExportService(exporter, properties, Runnable::run);
+    }
+
+    @Test
+    void resumeWithOtherFiltersIsRefused() throws Exception {
+        new ExportCheckpoint(10L, 512L, 10L, false, "DLR-1", null)
+                .write(directory.resolve("nightly.csv.gz.checkpoint"));
+
+        assertThrows(ExportParametersMismatchException.class,
+                () -> service.startFileExport("nightly", ExportFormat.CSV, "DLR-2", null, false));
+        verifyNoInteractions(exporter);
+
+        service.startFileExport("nightly", ExportFormat.CSV, "DLR-1", " ", false);
+        verify(exporter).exportToFile(eq(directory.resolve("nightly.csv.gz")),
+                eq(directory.resolve("nightly.csv.gz.checkpoint")), eq(ExportFormat.CSV), eq("DLR-1"), eq(" "));
+    }
+
+    @Test
+    void completedExportRunsAgainOnlyOnRestart() throws Exception {
+        Path checkpoint = directory.resolve("nightly.jsonl.gz.checkpoint");
+        new ExportCheckpoint(10L, 512L, 10L, true, null, null).write(checkpoint);
+
+        assertTrue(service.startFileExport("nightly", ExportFormat.JSONL, null, null, false).isCompleted());
+        verifyNoInteractions(exporter);
+
+        service.startFileExport("nightly", ExportFormat.JSONL, "DLR-2", null, true);
+        assertFalse(Files.exists(checkpoint));
+        verify(exporter).exportToFile(any(), eq(checkpoint), eq(ExportFormat.JSONL), eq("DLR-2"), any());
+    }
+
+    @Test
+    void formatsOfOneNameKeepSeparateCheckpoints() throws Exception {
+        new ExportCheckpoint(10L, 512L, 10L, true, null, null).write(directory.resolve("nightly.csv.gz.checkpoint"));
+
+        service.startFileExport("nightly", ExportFormat.JSONL, null, null, false);
+
+        verify(exporter).exportToFile(any(), eq(directory.resolve("nightly.jsonl.gz.checkpoint")),
+                eq(ExportFormat.JSONL), any(), any());
+    }
+}
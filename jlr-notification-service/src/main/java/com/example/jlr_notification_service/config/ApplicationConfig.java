@@ -0,0 +1,20 @@
+package com.example.jlr_notification_service.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+/**
+ * Contains general-purpose application beans.
+ */
+@Configuration
+@EnableScheduling
+public class ApplicationConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.jlr_notification_service.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.notifications.delivery-log")
+@Validated
+public class DeliveryLogProperties {
+
+    /**
+     * Most writes sent to MongoDB in one bulk call
+     */
+    @Min(value = 1)
+    private int batchSize = 1000;
+
+    /**
+     * Longest a write waits for its batch to fill
+     */
+    @NotNull
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * Writes waiting to be flushed; beyond this new ones are dropped and
+     * counted rather than slowing down sending
+     */
+    @Min(value = 1)
+    private int bufferCapacity = 200_000;
+
+    /**
+     * Notification records expire this long after they were created
+     */
+    @NotNull
+    private Duration notificationTtl = Duration.ofDays(90);
+
+    /**
+     * Delivery attempts expire this long after they were made
+     */
+    @NotNull
+    private Duration attemptTtl = Duration.ofDays(30);
+
+    /**
+     * Wait before retrying index creation after MongoDB refused it; doubles
+     * on each further failure
+     */
+    @NotNull
+    private Duration indexRetryInterval = Duration.ofSeconds(5);
+
+    /**
+     * Longest wait between index creation retries
+     */
+    @NotNull
+    private Duration indexRetryMaxInterval = Duration.ofMinutes(5);
+}
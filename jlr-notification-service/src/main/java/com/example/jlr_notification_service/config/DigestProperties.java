@@ -0,0 +1,49 @@
+package com.example.jlr_notification_service.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.notifications.digest")
+@Validated
+public class DigestProperties {
+
+    /**
+     * Off sends every notification on its own
+     */
+    private boolean enabled = true;
+
+    /**
+     * Quiet period: a recipient's held notifications go out once nothing new
+     * has arrived for them on that channel for this long
+     */
+    @NotNull
+    private Duration window = Duration.ofMinutes(2);
+
+    /**
+     * Longest anything is held, however steadily new notifications arrive
+     */
+    @NotNull
+    private Duration maxWindow = Duration.ofMinutes(10);
+
+    /**
+     * Orders in one digest; a full window is sent at once
+     */
+    @Min(value = 2)
+    private int maxItems = 200;
+
+    /**
+     * Urgent notifications (emergency orders) skip the window
+     */
+    private boolean bypassUrgent = true;
+
+    @Min(value = 100)
+    private long flushIntervalMs = 1000;
+}
@@ -0,0 +1,85 @@
+package com.example.jlr_notification_service.config;
+
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.notifications.dispatch")
+@Validated
+public class DispatchProperties {
+
+    /**
+     * How long a caller waits for room in a full lane before giving up; the
+     * Kafka intake then retries its batch, which slows intake to the pace of
+     * the slowest provider
+     */
+    @NotNull
+    private Duration enqueueTimeout = Duration.ofSeconds(30);
+
+    /**
+     * On shutdown, how long the lanes may keep sending what is already queued
+     * once they stop taking more; whatever is left after that is not sent
+     */
+    @NotNull
+    private Duration drainTimeout = Duration.ofSeconds(30);
+
+    @Valid
+    private Map<NotificationChannel, Lane> lanes = defaultLanes();
+
+    public Lane lane(NotificationChannel channel) {
+        return lanes.getOrDefault(channel, defaultLanes().get(channel));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Lane {
+
+        /**
+         * Sustained sends per second allowed by the provider
+         */
+        @DecimalMin(value = "0.01")
+        private double ratePerSecond;
+
+        /**
+         * Sends allowed back to back after a quiet spell
+         */
+        @Min(value = 1)
+        private int burst;
+
+        /**
+         * Threads taking from the lane's queue; set above the lane's
+         * resilience4j bulkhead, which caps the concurrent provider calls
+         */
+        @Min(value = 1)
+        private int workers;
+
+        /**
+         * Notifications waiting to be sent
+         */
+        @Min(value = 1)
+        private int queueCapacity;
+    }
+
+    private static Map<NotificationChannel, Lane> defaultLanes() {
+        Map<NotificationChannel, Lane> lanes = new EnumMap<>(NotificationChannel.class);
+        lanes.put(NotificationChannel.EMAIL, new Lane(50, 100, 10, 50_000));
+        lanes.put(NotificationChannel.SMS, new Lane(1, 5, 3, 5_000));
+        lanes.put(NotificationChannel.PUSH, new Lane(100, 200, 5, 20_000));
+        return lanes;
+    }
+}
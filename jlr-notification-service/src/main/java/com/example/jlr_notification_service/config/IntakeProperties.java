@@ -0,0 +1,48 @@
+package com.example.jlr_notification_service.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.notifications.intake")
+@Validated
+public class IntakeProperties {
+
+    /**
+     * Order-service's lifecycle topic
+     */
+    @NotEmpty
+    private String topic = "orders.lifecycle";
+
+    /**
+     * Consumer threads; more than the topic's partitions sit idle
+     */
+    @Min(value = 1)
+    private int concurrency = 3;
+
+    /**
+     * Wait before redelivering a batch that failed, e.g. because user-service
+     * was down; doubles up to {@code retryMaxInterval}
+     */
+    @NotNull
+    private Duration retryInitialInterval = Duration.ofSeconds(1);
+
+    @NotNull
+    private Duration retryMaxInterval = Duration.ofSeconds(30);
+
+    /**
+     * How long a failing batch is retried before its events are published to
+     * {@code <topic>.DLT}, so one bad dependency cannot stall a partition for
+     * good
+     */
+    @NotNull
+    private Duration retryMaxElapsed = Duration.ofMinutes(15);
+}
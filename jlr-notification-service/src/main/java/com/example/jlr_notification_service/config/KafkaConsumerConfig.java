@@ -0,0 +1,57 @@
+package com.example.jlr_notification_service.config;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    public static final String DEAD_LETTER_SUFFIX = ".DLT";
+
+    /**
+     * Publishes an event that could not be handled to {@code <topic>.DLT},
+     * same partition, with the failure in the record headers.
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, String> kafkaTemplate) {
+        return new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, e) -> new TopicPartition(record.topic() + DEAD_LETTER_SUFFIX, record.partition()));
+    }
+
+    /**
+     * Batch listeners: a poll's worth of events is handled together, so
+     * recipients are looked up once per batch. Offsets are committed once the
+     * listener returns. If it throws, the batch is redelivered with backoff;
+     * unreadable events are skipped by the listener itself, so what is left
+     * is a dependency being down or refusing us. After {@code retryMaxElapsed}
+     * the batch's events are dead-lettered, to be replayed once the cause is
+     * fixed, rather than holding the partition forever.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> notificationBatchListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            IntakeProperties properties,
+            DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(properties.getConcurrency());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+
+        ExponentialBackOff backOff = new ExponentialBackOff(properties.getRetryInitialInterval().toMillis(), 2.0);
+        backOff.setMaxInterval(properties.getRetryMaxInterval().toMillis());
+        backOff.setMaxElapsedTime(properties.getRetryMaxElapsed().toMillis());
+        factory.setCommonErrorHandler(new DefaultErrorHandler(deadLetterPublishingRecoverer, backOff));
+        return factory;
+    }
+}
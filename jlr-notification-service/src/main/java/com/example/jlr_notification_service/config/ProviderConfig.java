@@ -0,0 +1,85 @@
+package com.example.jlr_notification_service.config;
+
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import com.example.jlr_notification_service.provider.ChannelProvider;
+import com.example.jlr_notification_service.provider.FirebasePushProvider;
+import com.example.jlr_notification_service.provider.LoggingChannelProvider;
+import com.example.jlr_notification_service.provider.SmtpConnectionPool;
+import com.example.jlr_notification_service.provider.SmtpEmailProvider;
+import com.example.jlr_notification_service.provider.TwilioSmsProvider;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.twilio.http.TwilioRestClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * One {@link ChannelProvider} per channel, chosen by
+ * {@code app.notifications.providers.<channel>}.
+ */
+@Configuration
+public class ProviderConfig {
+
+    private static final String PREFIX = "app.notifications.providers";
+
+    @Bean
+    @ConditionalOnProperty(prefix = PREFIX, name = "email", havingValue = "smtp", matchIfMissing = true)
+    public ChannelProvider smtpEmailProvider(ProviderProperties properties, MeterRegistry meterRegistry) {
+        ProviderProperties.Smtp smtp = properties.getSmtp();
+        return new SmtpEmailProvider(smtp.getRelays().stream()
+                .map(relay -> new SmtpConnectionPool(relay, smtp, meterRegistry))
+                .toList(), properties.getMailFrom());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = PREFIX, name = "email", havingValue = "log")
+    public ChannelProvider loggingEmailProvider() {
+        return new LoggingChannelProvider(NotificationChannel.EMAIL);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = PREFIX, name = "sms", havingValue = "twilio")
+    public ChannelProvider twilioSmsProvider(ProviderProperties properties) {
+        ProviderProperties.Twilio twilio = properties.getTwilio();
+        return new TwilioSmsProvider(new TwilioRestClient.Builder(twilio.getAccountSid(), twilio.getAuthToken())
+                .build(), twilio.getFromNumber());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = PREFIX, name = "sms", havingValue = "log", matchIfMissing = true)
+    public ChannelProvider loggingSmsProvider() {
+        return new LoggingChannelProvider(NotificationChannel.SMS);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = PREFIX, name = "push", havingValue = "firebase")
+    public ChannelProvider firebasePushProvider(ProviderProperties properties) throws IOException {
+        String credentialsFile = properties.getFirebase().getCredentialsFile();
+        GoogleCredentials credentials;
+        if (credentialsFile == null || credentialsFile.isBlank()) {
+            credentials = GoogleCredentials.getApplicationDefault();
+        } else {
+            try (InputStream in = Files.newInputStream(Path.of(credentialsFile))) {
+                credentials = GoogleCredentials.fromStream(in);
+            }
+        }
+        FirebaseApp app = FirebaseApp.initializeApp(FirebaseOptions.builder().setCredentials(credentials).build(),
+                "jlr-notification-service");
+        return new FirebasePushProvider(FirebaseMessaging.getInstance(app));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = PREFIX, name = "push", havingValue = "log", matchIfMissing = true)
+    public ChannelProvider loggingPushProvider() {
+        return new LoggingChannelProvider(NotificationChannel.PUSH);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.jlr_notification_service.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.notifications.providers")
+@Validated
+public class ProviderProperties {
+
+    /**
+     * {@code smtp} or {@code log}
+     */
+    @NotEmpty
+    private String email = "smtp";
+
+    /**
+     * {@code twilio} or {@code log}
+     */
+    @NotEmpty
+    private String sms = "log";
+
+    /**
+     * {@code firebase} or {@code log}
+     */
+    @NotEmpty
+    private String push = "log";
+
+    @NotEmpty
+    private String mailFrom = "no-reply@jlr-parts.example.com";
+
+    @Valid
+    private Smtp smtp = new Smtp();
+
+    private Twilio twilio = new Twilio();
+
+    private Firebase firebase = new Firebase();
+
+    @Data
+    public static class Smtp {
+
+        /**
+         * Relays to spread mail over; each new message goes to the one with
+         * the most free connections
+         */
+        @Valid
+        @NotEmpty
+        private List<Relay> relays = new ArrayList<>(List.of(new Relay()));
+
+        /**
+         * Messages sent over one connection before it is closed and replaced;
+         * relays commonly refuse more than 100 per session
+         */
+        @Min(value = 1)
+        private int maxMessagesPerConnection = 100;
+
+        /**
+         * Open connections unused for this long are closed; keep it under
+         * the relay's own idle timeout
+         */
+        @NotNull
+        private Duration maxIdle = Duration.ofSeconds(60);
+
+        /**
+         * How long a send waits for a free connection to its relay
+         */
+        @NotNull
+        private Duration borrowTimeout = Duration.ofSeconds(30);
+
+        @NotNull
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        @NotNull
+        private Duration readTimeout = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Relay {
+
+        @NotEmpty
+        private String host = "localhost";
+
+        private int port = 1025;
+
+        /**
+         * No authentication when empty
+         */
+        private String username;
+
+        private String password;
+
+        private boolean startTls;
+
+        /**
+         * Connections held open to this relay, so messages in flight to it
+         * at once
+         */
+        @Min(value = 1)
+        private int connections = 8;
+    }
+
+    @Data
+    public static class Twilio {
+        private String accountSid;
+        private String authToken;
+        private String fromNumber;
+    }
+
+    @Data
+    public static class Firebase {
+
+        /**
+         * Service account JSON; the application default credentials when empty
+         */
+        private String credentialsFile;
+    }
+}
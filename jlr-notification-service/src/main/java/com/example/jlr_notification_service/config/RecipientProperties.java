@@ -0,0 +1,62 @@
+package com.example.jlr_notification_service.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.notifications.recipients")
+@Validated
+public class RecipientProperties {
+
+    /**
+     * User-service base URL; a service name is resolved through the load balancer
+     */
+    @NotEmpty
+    private String userServiceUrl = "http://jlr-user-service";
+
+    /**
+     * Name this service signs in to user-service's service-only endpoints as;
+     * must be listed in user-service's {@code app.service-auth.clients}
+     */
+    @NotEmpty
+    private String serviceId = "jlr-notification-service";
+
+    /**
+     * Key paired with {@code serviceId} in user-service's configuration
+     */
+    private String serviceKey;
+
+    /**
+     * Ids per lookup call; user-service accepts at most 1000
+     */
+    @Min(value = 1)
+    private int lookupChunkSize = 1000;
+
+    @NotNull
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    @NotNull
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Language for recipients at dealers with no entry in {@code dealerLocales}
+     */
+    @NotNull
+    private Locale defaultLocale = Locale.UK;
+
+    /**
+     * Language by dealer id, for dealers outside the default locale
+     */
+    private Map<String, Locale> dealerLocales = new HashMap<>();
+}
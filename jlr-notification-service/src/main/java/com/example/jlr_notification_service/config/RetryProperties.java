@@ -0,0 +1,83 @@
+package com.example.jlr_notification_service.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.notifications.retry")
+@Validated
+public class RetryProperties {
+
+    /**
+     * Off marks a notification failed on its first unsuccessful attempt
+     */
+    private boolean enabled = true;
+
+    /**
+     * Attempts in all, the first send included
+     */
+    @Min(value = 1)
+    private int maxAttempts = 6;
+
+    /**
+     * Wait before the second attempt; doubles with each attempt after that
+     */
+    @NotNull
+    private Duration initialBackoff = Duration.ofSeconds(30);
+
+    @NotNull
+    private Duration maxBackoff = Duration.ofHours(1);
+
+    /**
+     * Each wait is moved by up to this fraction either way, so a provider
+     * outage does not bring every retry back in the same tick
+     */
+    @DecimalMin(value = "0.0")
+    @DecimalMax(value = "1.0")
+    private double jitter = 0.2;
+
+    /**
+     * Resolution of the timing wheel: retries fire up to one tick late
+     */
+    @NotNull
+    private Duration tick = Duration.ofMillis(100);
+
+    /**
+     * Most retries held in the timing wheel. Beyond this they are only
+     * stored, parked, and moved into the wheel as room frees up
+     */
+    @Min(value = 1)
+    private int capacity = 2_000_000;
+
+    /**
+     * Retries loaded from MongoDB in one query when they fall due or are
+     * recovered after a restart
+     */
+    @Min(value = 1)
+    private int loadBatchSize = 1000;
+
+    @Min(value = 1000)
+    private long unparkIntervalMs = 60_000;
+
+    /**
+     * Wait before trying again when the retries cannot be recovered from
+     * MongoDB at startup; doubles on each further failure
+     */
+    @NotNull
+    private Duration recoveryRetryInterval = Duration.ofSeconds(5);
+
+    /**
+     * Longest wait between recovery attempts
+     */
+    @NotNull
+    private Duration recoveryRetryMaxInterval = Duration.ofMinutes(5);
+}
@@ -0,0 +1,48 @@
+package com.example.jlr_notification_service.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.notifications.templates")
+@Validated
+public class TemplateProperties {
+
+    /**
+     * Live version of each template. Versions sit side by side under
+     * {@code templates/notifications/<name>/v<version>/}, so a new wording
+     * ships before it is switched on and can be switched back
+     */
+    @NotEmpty
+    private Map<String, Integer> versions = new HashMap<>();
+
+    /**
+     * Locales parsed at startup, so the first message in each does not pay
+     * for it and a broken template stops the service from starting
+     */
+    private List<Locale> precompileLocales = new ArrayList<>(List.of(Locale.UK));
+
+    /**
+     * Used when a template has neither the recipient's locale nor its language
+     */
+    @NotNull
+    private Locale fallbackLocale = Locale.ENGLISH;
+
+    /**
+     * Parsed templates kept; should cover templates x locales x parts
+     */
+    @Min(value = 1)
+    private int cacheSize = 1000;
+}
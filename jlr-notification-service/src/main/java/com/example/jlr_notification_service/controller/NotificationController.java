@@ -0,0 +1,44 @@
+package com.example.jlr_notification_service.controller;
+
+import com.example.jlr_notification_service.delivery.NotificationRecord;
+import com.example.jlr_notification_service.delivery.NotificationRecordRepository;
+import com.example.jlr_notification_service.dto.NotificationResponse;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@Validated
+public class NotificationController {
+
+    private final NotificationRecordRepository notificationRecordRepository;
+
+    /**
+     * A user's notifications, newest first, optionally for one channel.
+     */
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<List<NotificationResponse>> getUserNotifications(
+            @PathVariable Long userId,
+            @RequestParam(required = false) NotificationChannel channel,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(500) int size) {
+        PageRequest pageable = PageRequest.of(page, size);
+        List<NotificationRecord> records = channel == null
+                ? notificationRecordRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
+                : notificationRecordRepository.findByUserIdAndChannelOrderByCreatedAtDesc(userId, channel, pageable);
+        return ResponseEntity.ok(records.stream().map(NotificationResponse::from).toList());
+    }
+}
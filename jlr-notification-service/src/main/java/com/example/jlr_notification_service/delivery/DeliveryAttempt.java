@@ -0,0 +1,36 @@
+package com.example.jlr_notification_service.delivery;
+
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One call to a provider, append-only.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = DeliveryAttempt.COLLECTION)
+public class DeliveryAttempt {
+
+    public static final String COLLECTION = "delivery_attempts";
+
+    @Id
+    private String id;
+    private UUID notificationId;
+    private Long userId;
+    private NotificationChannel channel;
+    private int attempt;
+    private boolean success;
+    private String error;
+    private long latencyMs;
+    private Instant attemptedAt;
+}
@@ -0,0 +1,13 @@
+package com.example.jlr_notification_service.delivery;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DeliveryAttemptRepository extends MongoRepository<DeliveryAttempt, String> {
+
+    List<DeliveryAttempt> findByNotificationIdOrderByAttemptedAtAsc(UUID notificationId);
+}
@@ -0,0 +1,293 @@
+package com.example.jlr_notification_service.delivery;
+
+import com.example.jlr_notification_service.config.DeliveryLogProperties;
+import com.example.jlr_notification_service.notification.Notification;
+import com.mongodb.MongoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records notifications and delivery attempts in MongoDB without a round
+ * trip per send. Callers only queue the write; one thread drains the queue
+ * in micro-batches of up to {@code batchSize}, waiting at most
+ * {@code flushInterval} for a batch to fill, and sends each batch as
+ * unordered bulk writes: new records first, then attempts and status
+ * updates, so an update never overtakes the insert it applies to.
+ *
+ * The log is observability, not the source of truth: when MongoDB cannot keep
+ * up, writes beyond the buffer are dropped and counted rather than slowing
+ * down sending. For the same reason the indexes are created by the flusher
+ * thread rather than at startup, and retried there until MongoDB accepts them.
+ */
+@Slf4j
+@Component
+public class DeliveryLog {
+
+    private final MongoTemplate mongoTemplate;
+    private final DeliveryLogProperties properties;
+    private final BlockingQueue<LogWrite> buffer;
+    private final DistributionSummary batchSize;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter indexFailures;
+    private volatile boolean running;
+    private Thread flusher;
+
+    // flusher thread only
+    private boolean indexesReady;
+    private long nextIndexAttempt;
+    private Duration indexRetryDelay;
+
+    public DeliveryLog(MongoTemplate mongoTemplate, DeliveryLogProperties properties, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+        this.batchSize = DistributionSummary.builder("notification.log.batch.size").register(meterRegistry);
+        this.written = Counter.builder("notification.log.written").register(meterRegistry);
+        this.dropped = Counter.builder("notification.log.dropped")
+                .description("Writes lost to a full buffer or a failed bulk write").register(meterRegistry);
+        this.indexFailures = Counter.builder("notification.log.index.failures").register(meterRegistry);
+        this.indexRetryDelay = properties.getIndexRetryInterval();
+        Gauge.builder("notification.log.buffered", buffer, BlockingQueue::size).register(meterRegistry);
+    }
+
+    public void queued(Notification notification) {
+        offer(new RecordInsert(NotificationRecord.builder()
+                .id(notification.id())
+                .eventId(notification.eventId())
+                .orderNumber(notification.orderNumber())
+                .userId(notification.userId())
+                .channel(notification.channel())
+                .address(notification.address())
+                .subject(notification.subject())
+                .urgent(notification.urgent())
+                .status(DeliveryStatus.QUEUED)
+                .createdAt(notification.createdAt())
+                .updatedAt(Instant.now())
+                .build()));
+    }
+
+    public void rejected(Notification notification) {
+        offer(new StatusUpdate(notification, DeliveryStatus.REJECTED, false, Instant.now()));
+    }
+
+    /**
+     * @param retrying whether another attempt has been scheduled after a failure
+     */
+    public void attempted(Notification notification, Exception error, long latencyMs, boolean retrying) {
+        Instant now = Instant.now();
+        offer(new AttemptInsert(DeliveryAttempt.builder()
+                .notificationId(notification.id())
+                .userId(notification.userId())
+                .channel(notification.channel())
+                .attempt(notification.attempt())
+                .success(error == null)
+                .error(error == null ? null : String.valueOf(error.getMessage()))
+                .latencyMs(latencyMs)
+                .attemptedAt(now)
+                .build()));
+        DeliveryStatus status = error == null ? DeliveryStatus.SENT
+                : retrying ? DeliveryStatus.RETRYING : DeliveryStatus.FAILED;
+        offer(new StatusUpdate(notification, status, true, now));
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        flusher = new Thread(this::run, "delivery-log");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * "Notifications for user X", newest first, optionally for one channel,
+     * plus the TTL indexes that expire old entries. TTL indexes live on their
+     * own field so they can be swapped without touching the query indexes;
+     * changing a TTL needs the old index dropped first.
+     */
+    void ensureIndexes() {
+        IndexOperations records = mongoTemplate.indexOps(NotificationRecord.class);
+        records.ensureIndex(new Index().on("userId", Sort.Direction.ASC).on("createdAt", Sort.Direction.DESC)
+                .named("user_created"));
+        records.ensureIndex(new Index().on("userId", Sort.Direction.ASC).on("channel", Sort.Direction.ASC)
+                .on("createdAt", Sort.Direction.DESC).named("user_channel_created"));
+        records.ensureIndex(new Index().on("createdAt", Sort.Direction.ASC)
+                .expire(properties.getNotificationTtl()).named("created_ttl"));
+
+        IndexOperations attempts = mongoTemplate.indexOps(DeliveryAttempt.class);
+        attempts.ensureIndex(new Index().on("notificationId", Sort.Direction.ASC)
+                .on("attemptedAt", Sort.Direction.ASC).named("notification_attempted"));
+        attempts.ensureIndex(new Index().on("attemptedAt", Sort.Direction.ASC)
+                .expire(properties.getAttemptTtl()).named("attempted_ttl"));
+    }
+
+    /**
+     * Creates the indexes if they are not in place yet and their retry is due.
+     * A failure is logged and retried later, backing off up to
+     * {@code indexRetryMaxInterval}; writes carry on meanwhile.
+     */
+    private void ensureIndexesWhenDue() {
+        if (indexesReady || !running || System.nanoTime() - nextIndexAttempt < 0) {
+            return;
+        }
+        try {
+            ensureIndexes();
+            indexesReady = true;
+            log.info("Delivery log indexes are in place");
+        } catch (DataAccessException | MongoException e) {
+            indexFailures.increment();
+            log.warn("Could not create delivery log indexes, retrying in {}: {}", indexRetryDelay, e.getMessage());
+            nextIndexAttempt = System.nanoTime() + indexRetryDelay.toNanos();
+            Duration doubled = indexRetryDelay.multipliedBy(2);
+            indexRetryDelay = doubled.compareTo(properties.getIndexRetryMaxInterval()) > 0
+                    ? properties.getIndexRetryMaxInterval() : doubled;
+        }
+    }
+
+    private void offer(LogWrite write) {
+        if (!buffer.offer(write)) {
+            dropped.increment();
+        }
+    }
+
+    private void run() {
+        nextIndexAttempt = System.nanoTime();
+        List<LogWrite> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !buffer.isEmpty()) {
+            ensureIndexesWhenDue();
+            try {
+                fill(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Waits for a first write, then up to the flush interval for the batch to fill.
+     */
+    private void fill(List<LogWrite> batch) throws InterruptedException {
+        LogWrite first = buffer.poll(properties.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + properties.getFlushInterval().toNanos();
+        while (batch.size() < properties.getBatchSize()) {
+            buffer.drainTo(batch, properties.getBatchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.getBatchSize() || remaining <= 0 || !running) {
+                return;
+            }
+            LogWrite next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    void flush(List<LogWrite> batch) {
+        List<NotificationRecord> records = new ArrayList<>();
+        List<DeliveryAttempt> attempts = new ArrayList<>();
+        List<Pair<Query, UpdateDefinition>> updates = new ArrayList<>();
+        for (LogWrite write : batch) {
+            if (write instanceof RecordInsert insert) {
+                records.add(insert.record());
+            } else if (write instanceof AttemptInsert insert) {
+                attempts.add(insert.attempt());
+            } else if (write instanceof StatusUpdate update) {
+                updates.add(update.toUpdate());
+            }
+        }
+        batchSize.record(batch.size());
+        if (!records.isEmpty()) {
+            execute(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationRecord.class)
+                    .insert(records), records.size());
+        }
+        if (!attempts.isEmpty()) {
+            execute(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DeliveryAttempt.class)
+                    .insert(attempts), attempts.size());
+        }
+        if (!updates.isEmpty()) {
+            execute(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationRecord.class)
+                    .updateOne(updates), updates.size());
+        }
+    }
+
+    private void execute(BulkOperations operations, int size) {
+        try {
+            operations.execute();
+            written.increment(size);
+        } catch (BulkOperationException e) {
+            // unordered: everything but the failed writes went through
+            written.increment(size - e.getErrors().size());
+            dropped.increment(e.getErrors().size());
+            log.warn("{} of {} delivery log writes failed, first: {}", e.getErrors().size(), size,
+                    e.getErrors().get(0).getMessage());
+        } catch (DataAccessException | MongoException e) {
+            dropped.increment(size);
+            log.error("Could not write {} delivery log entries: {}", size, e.getMessage());
+        }
+    }
+
+    sealed interface LogWrite permits RecordInsert, AttemptInsert, StatusUpdate {
+    }
+
+    record RecordInsert(NotificationRecord record) implements LogWrite {
+    }
+
+    record AttemptInsert(DeliveryAttempt attempt) implements LogWrite {
+    }
+
+    record StatusUpdate(Notification notification, DeliveryStatus status, boolean attempt, Instant at)
+            implements LogWrite {
+
+        Pair<Query, UpdateDefinition> toUpdate() {
+            Update update = new Update().set("status", status).set("updatedAt", at);
+            if (attempt) {
+                update.inc("attempts", 1);
+            }
+            return Pair.of(Query.query(Criteria.where("_id").is(notification.id())), update);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.jlr_notification_service.delivery;
+
+public enum DeliveryStatus {
+
+    /**
+     * Waiting in its channel's lane
+     */
+    QUEUED,
+
+    SENT,
+
+    /**
+     * The last attempt failed; another is scheduled
+     */
+    RETRYING,
+
+    /**
+     * Failed for good: out of attempts, or an error retrying cannot fix
+     */
+    FAILED,
+
+    /**
+     * Its lane stayed full; intake retries the event, which renders it afresh
+     */
+    REJECTED
+}
@@ -0,0 +1,40 @@
+package com.example.jlr_notification_service.delivery;
+
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A notification and where its delivery stands. The body is not kept: it can
+ * be large, and the order event plus the template version reproduce it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = NotificationRecord.COLLECTION)
+public class NotificationRecord {
+
+    public static final String COLLECTION = "notifications";
+
+    @Id
+    private UUID id;
+    private UUID eventId;
+    private String orderNumber;
+    private Long userId;
+    private NotificationChannel channel;
+    private String address;
+    private String subject;
+    private boolean urgent;
+    private DeliveryStatus status;
+    private int attempts;
+    private Instant createdAt;
+    private Instant updatedAt;
+}
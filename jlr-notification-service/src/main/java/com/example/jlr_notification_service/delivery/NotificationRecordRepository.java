@@ -0,0 +1,22 @@
+package com.example.jlr_notification_service.delivery;
+
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads only; writes go through {@link DeliveryLog} in bulk.
+ */
+@Repository
+public interface NotificationRecordRepository extends MongoRepository<NotificationRecord, UUID> {
+
+    // both served by the (userId, createdAt) and (userId, channel, createdAt) indexes
+    List<NotificationRecord> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+
+    List<NotificationRecord> findByUserIdAndChannelOrderByCreatedAtDesc(Long userId, NotificationChannel channel,
+                                                                        Pageable pageable);
+}
@@ -0,0 +1,6 @@
+package com.example.jlr_notification_service.digest;
+
+import com.example.jlr_notification_service.notification.NotificationChannel;
+
+record DigestKey(Long userId, NotificationChannel channel) {
+}
@@ -0,0 +1,50 @@
+package com.example.jlr_notification_service.digest;
+
+import com.example.jlr_notification_service.notification.Notification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One recipient's held notifications on one channel. A later notification
+ * for an order already held replaces the earlier one in place: the digest
+ * shows where each order ended up, not every step. Guarded by the map entry
+ * it lives in.
+ */
+final class DigestWindow {
+
+    private final Instant openedAt;
+    private final Map<String, Notification> latestByOrder = new LinkedHashMap<>();
+    private Instant lastAt;
+    private int received;
+
+    DigestWindow(Instant openedAt) {
+        this.openedAt = openedAt;
+        this.lastAt = openedAt;
+    }
+
+    void add(Notification notification, Instant at) {
+        latestByOrder.put(notification.orderNumber(), notification);
+        lastAt = at;
+        received++;
+    }
+
+    boolean isDue(Instant now, Duration window, Duration maxWindow) {
+        return !now.isBefore(lastAt.plus(window)) || !now.isBefore(openedAt.plus(maxWindow));
+    }
+
+    int size() {
+        return latestByOrder.size();
+    }
+
+    int received() {
+        return received;
+    }
+
+    List<Notification> items() {
+        return List.copyOf(latestByOrder.values());
+    }
+}
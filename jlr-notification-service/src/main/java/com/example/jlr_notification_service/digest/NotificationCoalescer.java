@@ -0,0 +1,138 @@
+package com.example.jlr_notification_service.digest;
+
+import com.example.jlr_notification_service.config.DigestProperties;
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationDispatcher;
+import com.example.jlr_notification_service.template.NotificationRenderer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Holds notifications per recipient and channel for a short sliding window
+ * and sends what piled up as one digest, so a bulk order that moves 300
+ * orders for one dealer manager makes one email rather than 300. A window
+ * that only ever held one order sends that notification unchanged.
+ * Urgent notifications skip the window unless configured otherwise.
+ *
+ * Held notifications live in memory and their events are already committed
+ * in Kafka, so a crash loses at most one window; a normal shutdown sends
+ * everything held first.
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+    private final NotificationDispatcher dispatcher;
+    private final NotificationRenderer renderer;
+    private final DigestProperties properties;
+    private final Clock clock;
+    private final Map<DigestKey, DigestWindow> windows = new ConcurrentHashMap<>();
+    private final Counter digests;
+    private final Counter coalesced;
+
+    public NotificationCoalescer(NotificationDispatcher dispatcher,
+                                 NotificationRenderer renderer,
+                                 DigestProperties properties,
+                                 Clock clock,
+                                 MeterRegistry meterRegistry) {
+        this.dispatcher = dispatcher;
+        this.renderer = renderer;
+        this.properties = properties;
+        this.clock = clock;
+        this.digests = Counter.builder("notification.digest.sent").register(meterRegistry);
+        this.coalesced = Counter.builder("notification.digest.coalesced")
+                .description("Notifications not sent on their own because a window held them")
+                .register(meterRegistry);
+        Gauge.builder("notification.digest.windows", windows, Map::size).register(meterRegistry);
+    }
+
+    public void submit(List<Notification> notifications) {
+        Instant now = clock.instant();
+        List<Notification> immediate = new ArrayList<>();
+        List<DigestWindow> full = new ArrayList<>();
+        for (Notification notification : notifications) {
+            if (!properties.isEnabled() || notification.urgent() && properties.isBypassUrgent()) {
+                immediate.add(notification);
+                continue;
+            }
+            windows.compute(new DigestKey(notification.userId(), notification.channel()), (key, window) -> {
+                DigestWindow target = window == null ? new DigestWindow(now) : window;
+                target.add(notification, now);
+                if (target.size() >= properties.getMaxItems()) {
+                    full.add(target);
+                    return null;
+                }
+                return target;
+            });
+        }
+        for (DigestWindow window : full) {
+            immediate.add(close(window));
+        }
+        if (!immediate.isEmpty()) {
+            dispatcher.dispatch(immediate);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.digest.flush-interval-ms:1000}")
+    public void flushDue() {
+        Instant now = clock.instant();
+        flush(window -> window.isDue(now, properties.getWindow(), properties.getMaxWindow()));
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        flush(window -> true);
+    }
+
+    private void flush(Predicate<DigestWindow> due) {
+        List<DigestWindow> closed = new ArrayList<>();
+        for (DigestKey key : windows.keySet()) {
+            windows.computeIfPresent(key, (k, window) -> {
+                if (!due.test(window)) {
+                    return window;
+                }
+                closed.add(window);
+                return null;
+            });
+        }
+        if (closed.isEmpty()) {
+            return;
+        }
+        List<Notification> outgoing = new ArrayList<>(closed.size());
+        for (DigestWindow window : closed) {
+            outgoing.add(close(window));
+        }
+        try {
+            dispatcher.dispatch(outgoing);
+        } catch (RuntimeException e) {
+            log.error("Could not dispatch {} held notifications; they are lost", outgoing.size(), e);
+        }
+    }
+
+    /**
+     * @return the latest notification if the window only held one order,
+     * otherwise a digest of all of them
+     */
+    private Notification close(DigestWindow window) {
+        List<Notification> items = window.items();
+        coalesced.increment(window.received() - 1);
+        if (items.size() == 1) {
+            return items.get(0);
+        }
+        digests.increment();
+        return renderer.renderDigest(items);
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.jlr_notification_service.dispatch;
+
+import com.example.jlr_notification_service.config.DispatchProperties;
+import com.example.jlr_notification_service.delivery.DeliveryLog;
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.provider.ChannelProvider;
+import com.example.jlr_notification_service.retry.RetryScheduler;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.core.exception.AcquirePermissionCancelledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One channel's sending: a priority queue, the workers draining it, a token
+ * bucket holding them to the provider's rate and a bulkhead capping calls in
+ * flight. The bulkhead allows fewer calls than there are workers, so a spare
+ * worker waits on it holding the next notification. Lanes share nothing, so a slow or failing provider only backs up
+ * its own queue. Failed sends go to the {@link RetryScheduler}, unless the
+ * provider says they would only fail again.
+ *
+ * Stopping is in two steps: {@link #drain()} refuses new notifications and
+ * lets the workers finish the queue, {@link #awaitDrained} waits for them and
+ * interrupts any still sending when time runs out.
+ */
+@Slf4j
+final class DispatchLane {
+
+    /**
+     * How often an idle worker checks whether the lane is draining
+     */
+    private static final long IDLE_POLL_MS = 100;
+
+    private final ChannelProvider provider;
+    private final DeliveryLog deliveryLog;
+    private final RetryScheduler retryScheduler;
+    private final DispatchProperties.Lane settings;
+    private final TokenBucket bucket;
+    private final Bulkhead bulkhead;
+    private final PriorityBlockingQueue<Queued> queue = new PriorityBlockingQueue<>();
+    private final Semaphore capacity;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Timer queueWait;
+    private final Counter sent;
+    private final Counter failed;
+    private final Counter unsent;
+    // open from construction: the Kafka intake may deliver before the workers start
+    private volatile boolean accepting = true;
+    private volatile boolean running;
+    private ExecutorService workers;
+
+    DispatchLane(ChannelProvider provider, DispatchProperties.Lane settings, Bulkhead bulkhead,
+                 DeliveryLog deliveryLog, RetryScheduler retryScheduler, MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.deliveryLog = deliveryLog;
+        this.retryScheduler = retryScheduler;
+        this.settings = settings;
+        this.bucket = new TokenBucket(settings.getRatePerSecond(), settings.getBurst());
+        if (bulkhead.getBulkheadConfig().getMaxWaitDuration().isZero()) {
+            throw new IllegalStateException("Bulkhead " + bulkhead.getName() + " needs a max-wait-duration");
+        }
+        this.bulkhead = bulkhead;
+        this.capacity = new Semaphore(settings.getQueueCapacity());
+        String channel = provider.channel().name().toLowerCase();
+        this.queueWait = Timer.builder("notification.dispatch.queue.wait").tag("channel", channel)
+                .register(meterRegistry);
+        this.sent = Counter.builder("notification.dispatch.sent").tag("channel", channel).register(meterRegistry);
+        this.failed = Counter.builder("notification.dispatch.failed").tag("channel", channel).register(meterRegistry);
+        this.unsent = Counter.builder("notification.dispatch.unsent").tag("channel", channel)
+                .description("Notifications still queued when shutdown ran out of time").register(meterRegistry);
+        Gauge.builder("notification.dispatch.queue", queue, PriorityBlockingQueue::size).tag("channel", channel)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the notification, waiting up to {@code timeout} for room.
+     *
+     * @return false if the lane stayed full or is draining
+     */
+    boolean offer(Notification notification, Duration timeout) throws InterruptedException {
+        if (!accepting || !capacity.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        queue.add(new Queued(notification, sequence.getAndIncrement(), System.nanoTime()));
+        return true;
+    }
+
+    void start() {
+        running = true;
+        String name = provider.channel().name().toLowerCase();
+        workers = Executors.newFixedThreadPool(settings.getWorkers(),
+                new CustomizableThreadFactory("dispatch-" + name + "-"));
+        for (int i = 0; i < settings.getWorkers(); i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    /**
+     * Stops taking notifications; the workers exit once the queue is empty.
+     */
+    void drain() {
+        accepting = false;
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+
+    /**
+     * Waits up to {@code timeout} for the workers to empty the queue, then
+     * interrupts them. Whatever is still queued then is counted and logged
+     * as not sent.
+     */
+    void awaitDrained(Duration timeout) throws InterruptedException {
+        if (workers == null) {
+            return;
+        }
+        if (!workers.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            running = false;
+            workers.shutdownNow();
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        int left = queue.size();
+        if (left > 0) {
+            unsent.increment(left);
+            log.warn("{} lane stopped with {} notifications not sent", provider.channel(), left);
+        }
+    }
+
+    int queued() {
+        return queue.size();
+    }
+
+    private void work() {
+        while (running) {
+            Queued next;
+            try {
+                next = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (next == null) {
+                if (!accepting) {
+                    return;
+                }
+                continue;
+            }
+            if (!acquirePermit()) {
+                queue.add(next);
+                return;
+            }
+            try {
+                bucket.acquire();
+            } catch (InterruptedException e) {
+                bulkhead.releasePermission();
+                queue.add(next);
+                Thread.currentThread().interrupt();
+                return;
+            }
+            capacity.release();
+            queueWait.record(System.nanoTime() - next.enqueuedAt(), TimeUnit.NANOSECONDS);
+            long started = System.nanoTime();
+            Exception error = null;
+            try {
+                provider.send(next.notification());
+                sent.increment();
+            } catch (Exception e) {
+                error = e;
+                failed.increment();
+                log.warn("{} to {} for order {} failed: {}", provider.channel(), next.notification().address(),
+                        next.notification().orderNumber(), e.getMessage());
+            } finally {
+                bulkhead.onComplete();
+            }
+            long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            boolean retrying = error != null && !provider.isPermanent(error)
+                    && retryScheduler.retryLater(next.notification(), error);
+            if (!retrying) {
+                retryScheduler.settled(next.notification());
+            }
+            deliveryLog.attempted(next.notification(), error, latencyMs, retrying);
+        }
+    }
+
+    /**
+     * Waits for a bulkhead permit, {@code max-wait-duration} at a time, for
+     * as long as the lane runs. The notification stays with the worker
+     * meanwhile rather than going back on the queue to be taken again.
+     *
+     * @return false if the worker was interrupted or the lane stopped
+     */
+    private boolean acquirePermit() {
+        while (running) {
+            try {
+                bulkhead.acquirePermission();
+                return true;
+            } catch (BulkheadFullException e) {
+                // every call is still out after a whole max-wait-duration; wait again
+            } catch (AcquirePermissionCancelledException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Urgent first, then first come first served.
+     */
+    private record Queued(Notification notification, long sequence, long enqueuedAt) implements Comparable<Queued> {
+
+        @Override
+        public int compareTo(Queued other) {
+            if (notification.urgent() != other.notification.urgent()) {
+                return notification.urgent() ? -1 : 1;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.jlr_notification_service.dispatch;
+
+import com.example.jlr_notification_service.config.DispatchProperties;
+import com.example.jlr_notification_service.delivery.DeliveryLog;
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import com.example.jlr_notification_service.notification.NotificationDispatcher;
+import com.example.jlr_notification_service.provider.ChannelProvider;
+import com.example.jlr_notification_service.retry.RetryScheduler;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends notifications through one {@link DispatchLane} per channel. Each lane
+ * uses the resilience4j bulkhead named after its channel ({@code email},
+ * {@code sms}, {@code push}) and the rate and queue settings under
+ * {@code app.notifications.dispatch.lanes}. Retries come back in through
+ * the same lanes once they fall due.
+ */
+@Slf4j
+@Component
+public class DispatchScheduler implements NotificationDispatcher {
+
+    private final Map<NotificationChannel, DispatchLane> lanes = new EnumMap<>(NotificationChannel.class);
+    private final DispatchProperties properties;
+    private final DeliveryLog deliveryLog;
+    private final RetryScheduler retryScheduler;
+
+    public DispatchScheduler(List<ChannelProvider> providers,
+                             DispatchProperties properties,
+                             BulkheadRegistry bulkheadRegistry,
+                             DeliveryLog deliveryLog,
+                             RetryScheduler retryScheduler,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.deliveryLog = deliveryLog;
+        this.retryScheduler = retryScheduler;
+        for (ChannelProvider provider : providers) {
+            NotificationChannel channel = provider.channel();
+            if (lanes.containsKey(channel)) {
+                throw new IllegalStateException("More than one provider for " + channel);
+            }
+            lanes.put(channel, new DispatchLane(provider, properties.lane(channel),
+                    bulkheadRegistry.bulkhead(channel.name().toLowerCase()), deliveryLog, retryScheduler,
+                    meterRegistry));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        lanes.values().forEach(DispatchLane::start);
+        log.info("Started dispatch lanes for {}", lanes.keySet());
+        retryScheduler.start(this::requeue);
+    }
+
+    /**
+     * Stops every lane taking notifications, then gives them the drain
+     * timeout between them to send what is queued. Spring runs this after
+     * the beans that dispatch through it have shut down, so what the
+     * coalescer flushes on shutdown is already queued here.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        lanes.values().forEach(DispatchLane::drain);
+        long deadline = System.nanoTime() + properties.getDrainTimeout().toNanos();
+        for (DispatchLane lane : lanes.values()) {
+            lane.awaitDrained(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+        }
+    }
+
+    /**
+     * Queues each notification on its channel's lane, waiting while a lane is
+     * full.
+     *
+     * @throws IllegalStateException if a lane stayed full for the enqueue
+     *                               timeout, or a channel has no provider
+     */
+    @Override
+    public void dispatch(List<Notification> notifications) {
+        for (Notification notification : notifications) {
+            DispatchLane lane = lanes.get(notification.channel());
+            if (lane == null) {
+                throw new IllegalStateException("No provider for " + notification.channel());
+            }
+            // logged before it is queued, so the record exists before any attempt updates it
+            deliveryLog.queued(notification);
+            boolean queued = false;
+            try {
+                queued = lane.offer(notification, properties.getEnqueueTimeout());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!queued) {
+                deliveryLog.rejected(notification);
+                throw new IllegalStateException("Could not queue on the " + notification.channel() + " lane");
+            }
+        }
+    }
+
+    /**
+     * Queues a due retry without waiting: the retry scheduler's one thread
+     * must not stall behind a full lane, so it tries again shortly instead.
+     * The record already exists, so nothing new is logged.
+     */
+    private boolean requeue(Notification notification) {
+        DispatchLane lane = lanes.get(notification.channel());
+        if (lane == null) {
+            log.warn("Dropping retry of {}: no provider for {}", notification.id(), notification.channel());
+            return true;
+        }
+        try {
+            return lane.offer(notification, Duration.ZERO);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public int queued(NotificationChannel channel) {
+        DispatchLane lane = lanes.get(channel);
+        return lane == null ? 0 : lane.queued();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.jlr_notification_service.dto;
+
+import com.example.jlr_notification_service.delivery.DeliveryStatus;
+import com.example.jlr_notification_service.delivery.NotificationRecord;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+public class NotificationResponse {
+    private UUID id;
+    private String orderNumber;
+    private NotificationChannel channel;
+    private String address;
+    private String subject;
+    private boolean urgent;
+    private DeliveryStatus status;
+    private int attempts;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    public static NotificationResponse from(NotificationRecord record) {
+        return NotificationResponse.builder()
+                .id(record.getId())
+                .orderNumber(record.getOrderNumber())
+                .channel(record.getChannel())
+                .address(record.getAddress())
+                .subject(record.getSubject())
+                .urgent(record.isUrgent())
+                .status(record.getStatus())
+                .attempts(record.getAttempts())
+                .createdAt(record.getCreatedAt())
+                .updatedAt(record.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.jlr_notification_service.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Order-service's lifecycle event, as published to {@code orders.lifecycle}.
+ * Type, status and order type are kept as strings so a value added upstream
+ * does not make the event unreadable here.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OrderEvent {
+
+    public static final String ORDER_CREATED = "ORDER_CREATED";
+    public static final String ORDER_STATUS_CHANGED = "ORDER_STATUS_CHANGED";
+
+    private UUID eventId;
+    private String eventType;
+    private String orderNumber;
+    private String dealerId;
+    private Long userId;
+    private String orderType;
+    private String status;
+    private String previousStatus;
+    private BigDecimal totalAmount;
+    private String currency;
+    private int lineCount;
+    private long orderVersion;
+    private String reason;
+    private LocalDateTime orderCreatedAt;
+    private Instant occurredAt;
+
+    public boolean isEmergency() {
+        return "EMERGENCY".equals(orderType);
+    }
+
+    public boolean isStatusChange() {
+        return ORDER_STATUS_CHANGED.equals(eventType);
+    }
+}
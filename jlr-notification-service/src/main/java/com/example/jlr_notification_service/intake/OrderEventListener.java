@@ -0,0 +1,139 @@
+package com.example.jlr_notification_service.intake;
+
+import com.example.jlr_notification_service.digest.NotificationCoalescer;
+import com.example.jlr_notification_service.event.OrderEvent;
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.recipient.Recipient;
+import com.example.jlr_notification_service.recipient.RecipientDirectory;
+import com.example.jlr_notification_service.recipient.Recipients;
+import com.example.jlr_notification_service.template.NotificationRenderer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Turns batches of order lifecycle events into notifications.
+ *
+ * Per batch: parse, drop duplicates, look every recipient up in one call,
+ * render from cached templates, and hand the lot to the coalescer, which
+ * sends urgent ones at once and folds the rest into per-recipient digests.
+ * The order's owner hears about every event; the dealer's managers also
+ * hear about status changes.
+ */
+@Slf4j
+@Component
+public class OrderEventListener {
+
+    private final RecipientDirectory recipientDirectory;
+    private final NotificationRenderer renderer;
+    private final NotificationCoalescer coalescer;
+    private final ObjectMapper objectMapper;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSize;
+    private final Counter rendered;
+    private final Counter skipped;
+
+    public OrderEventListener(RecipientDirectory recipientDirectory,
+                              NotificationRenderer renderer,
+                              NotificationCoalescer coalescer,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.recipientDirectory = recipientDirectory;
+        this.renderer = renderer;
+        this.coalescer = coalescer;
+        this.objectMapper = objectMapper;
+        this.batchTimer = Timer.builder("notification.intake.batch").register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("notification.intake.batch.size").register(meterRegistry);
+        this.rendered = Counter.builder("notification.intake.rendered").register(meterRegistry);
+        this.skipped = Counter.builder("notification.intake.skipped")
+                .description("Events that could not be read").register(meterRegistry);
+    }
+
+    @KafkaListener(topics = "${app.notifications.intake.topic}",
+            containerFactory = "notificationBatchListenerContainerFactory")
+    public void onBatch(List<String> payloads) {
+        batchSize.record(payloads.size());
+        batchTimer.record(() -> handle(payloads));
+    }
+
+    void handle(List<String> payloads) {
+        Map<UUID, OrderEvent> events = new LinkedHashMap<>();
+        for (String payload : payloads) {
+            OrderEvent event = parse(payload);
+            if (event != null) {
+                // a relay may publish the same event twice; one notification is enough
+                events.putIfAbsent(event.getEventId(), event);
+            }
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        Set<String> dealerIds = new HashSet<>();
+        for (OrderEvent event : events.values()) {
+            if (event.getUserId() != null) {
+                userIds.add(event.getUserId());
+            }
+            if (event.isStatusChange() && event.getDealerId() != null) {
+                dealerIds.add(event.getDealerId());
+            }
+        }
+        Recipients recipients = recipientDirectory.lookup(userIds, dealerIds);
+
+        List<Notification> notifications = new ArrayList<>();
+        for (OrderEvent event : events.values()) {
+            for (Recipient recipient : recipientsOf(event, recipients)) {
+                notifications.addAll(renderer.render(event, recipient));
+            }
+        }
+        if (!notifications.isEmpty()) {
+            coalescer.submit(notifications);
+            rendered.increment(notifications.size());
+        }
+        log.debug("Batch of {} events for {} recipients gave {} notifications", events.size(), recipients.size(),
+                notifications.size());
+    }
+
+    private List<Recipient> recipientsOf(OrderEvent event, Recipients recipients) {
+        List<Recipient> result = new ArrayList<>();
+        recipients.user(event.getUserId()).ifPresent(result::add);
+        if (event.isStatusChange()) {
+            for (Recipient manager : recipients.managersOf(event.getDealerId())) {
+                if (!manager.getUserId().equals(event.getUserId())) {
+                    result.add(manager);
+                }
+            }
+        }
+        return result;
+    }
+
+    private OrderEvent parse(String payload) {
+        try {
+            OrderEvent event = objectMapper.readValue(payload, OrderEvent.class);
+            if (event.getEventId() == null || event.getOrderNumber() == null) {
+                throw new IllegalArgumentException("event without eventId or orderNumber");
+            }
+            return event;
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            // retrying will not make it readable; skip it rather than stall the partition
+            skipped.increment();
+            log.warn("Skipping unreadable order event: {}", e.getMessage());
+            return null;
+        }
+    }
+}
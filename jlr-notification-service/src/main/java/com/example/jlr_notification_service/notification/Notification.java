@@ -0,0 +1,36 @@
+package com.example.jlr_notification_service.notification;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * One rendered message for one recipient on one channel, ready to send.
+ *
+ * @param id      this message; the delivery log and retries refer to it
+ * @param eventId the order event it came from, shared by every recipient and channel
+ * @param address email address or E.164 phone number, depending on the channel
+ * @param subject email subject; null for SMS
+ * @param urgent  from an emergency order; sent ahead of everything else
+ * @param locale  language it was rendered in
+ * @param attempt 1 for the first send, counting up with each retry
+ */
+public record Notification(
+        UUID id,
+        UUID eventId,
+        String orderNumber,
+        Long userId,
+        NotificationChannel channel,
+        String address,
+        String subject,
+        String body,
+        boolean urgent,
+        Locale locale,
+        Instant createdAt,
+        int attempt) {
+
+    public Notification nextAttempt() {
+        return new Notification(id, eventId, orderNumber, userId, channel, address, subject, body, urgent, locale,
+                createdAt, attempt + 1);
+    }
+}
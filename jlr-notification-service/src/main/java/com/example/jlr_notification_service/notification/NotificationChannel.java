@@ -0,0 +1,13 @@
+package com.example.jlr_notification_service.notification;
+
+public enum NotificationChannel {
+
+    EMAIL,
+
+    SMS,
+
+    /**
+     * Firebase push to the user's topic in the mobile app
+     */
+    PUSH
+}
@@ -0,0 +1,12 @@
+package com.example.jlr_notification_service.notification;
+
+import java.util.List;
+
+/**
+ * Takes rendered notifications off the intake path. Returning means they
+ * have been accepted for delivery; throwing makes intake retry the batch.
+ */
+public interface NotificationDispatcher {
+
+    void dispatch(List<Notification> notifications);
+}
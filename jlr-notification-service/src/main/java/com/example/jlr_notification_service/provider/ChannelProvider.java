@@ -0,0 +1,26 @@
+package com.example.jlr_notification_service.provider;
+
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+
+/**
+ * Delivers notifications on one channel through an outside provider. One
+ * bean per channel; tests and local runs swap in {@link LoggingChannelProvider}.
+ */
+public interface ChannelProvider {
+
+    NotificationChannel channel();
+
+    /**
+     * Blocks until the provider has accepted the message.
+     */
+    void send(Notification notification) throws Exception;
+
+    /**
+     * Whether a failed send would fail the same way again, such as a
+     * malformed address, so it is not worth retrying.
+     */
+    default boolean isPermanent(Exception error) {
+        return false;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.jlr_notification_service.provider;
+
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+
+/**
+ * Sends to an FCM topic; the address of a push notification is the topic
+ * the recipient's app subscribes to.
+ */
+public class FirebasePushProvider implements ChannelProvider {
+
+    private final FirebaseMessaging messaging;
+
+    public FirebasePushProvider(FirebaseMessaging messaging) {
+        this.messaging = messaging;
+    }
+
+    @Override
+    public NotificationChannel channel() {
+        return NotificationChannel.PUSH;
+    }
+
+    @Override
+    public void send(Notification notification) throws Exception {
+        messaging.send(Message.builder()
+                .setTopic(notification.address())
+                .setNotification(com.google.firebase.messaging.Notification.builder()
+                        .setTitle(notification.subject())
+                        .setBody(notification.body())
+                        .build())
+                .putData("orderNumber", notification.orderNumber() == null ? "" : notification.orderNumber())
+                .build());
+    }
+
+    @Override
+    public boolean isPermanent(Exception error) {
+        return error instanceof FirebaseMessagingException e
+                && (e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT
+                || e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.jlr_notification_service.provider;
+
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Logs instead of sending; the provider for channels with no credentials
+ * configured, e.g. SMS and push on a developer machine.
+ */
+@Slf4j
+public class LoggingChannelProvider implements ChannelProvider {
+
+    private final NotificationChannel channel;
+
+    public LoggingChannelProvider(NotificationChannel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public NotificationChannel channel() {
+        return channel;
+    }
+
+    @Override
+    public void send(Notification notification) {
+        log.info("{} to {} for order {}: {}", channel, notification.address(), notification.orderNumber(),
+                notification.subject() != null ? notification.subject() : notification.body());
+    }
+}
@@ -0,0 +1,333 @@
+package com.example.jlr_notification_service.provider;
+
+import com.example.jlr_notification_service.config.ProviderProperties;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.MimeMessage;
+import org.eclipse.angus.mail.smtp.SMTPOutputStream;
+
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * One open SMTP session with a relay. When the relay advertises PIPELINING
+ * (RFC 2920) the envelope of a message, MAIL, RCPT and DATA, goes out in one
+ * write and costs one round trip, and the body another: two round trips a
+ * message instead of four. Without it the commands go one at a time.
+ *
+ * Jakarta Mail still builds and encodes the message; this class only speaks
+ * the protocol, one recipient a message, which is all a notification has.
+ * Not thread-safe: the pool lends it to one sender at a time.
+ */
+final class SmtpConnection implements Closeable {
+
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+    private final boolean pipelining;
+    private final StringBuilder line = new StringBuilder();
+    private boolean committed;
+
+    private SmtpConnection(Socket socket, InputStream in, OutputStream out, boolean pipelining) {
+        this.socket = socket;
+        this.in = in;
+        this.out = out;
+        this.pipelining = pipelining;
+    }
+
+    /**
+     * Connects, says EHLO, upgrades to TLS and authenticates as the relay is
+     * configured to.
+     */
+    static SmtpConnection open(ProviderProperties.Relay relay, ProviderProperties.Smtp smtp, String localHost)
+            throws IOException {
+        Socket socket = new Socket();
+        try {
+            // envelope and body are small writes; Nagle would hold each back for the relay's delayed ack
+            socket.setTcpNoDelay(true);
+            socket.connect(new InetSocketAddress(relay.getHost(), relay.getPort()),
+                    (int) smtp.getConnectTimeout().toMillis());
+            socket.setSoTimeout((int) smtp.getReadTimeout().toMillis());
+            Handshake handshake = new Handshake(socket);
+            handshake.expect(220);
+            Set<String> extensions = handshake.ehlo(localHost);
+            if (relay.isStartTls()) {
+                if (!extensions.contains("STARTTLS")) {
+                    throw new IOException(relay.getHost() + " does not offer STARTTLS");
+                }
+                handshake.command("STARTTLS");
+                handshake.expect(220);
+                socket = startTls(socket, relay.getHost());
+                handshake = new Handshake(socket);
+                extensions = handshake.ehlo(localHost);
+            }
+            if (relay.getUsername() != null && !relay.getUsername().isEmpty()) {
+                String credentials = "\0" + relay.getUsername() + "\0" + relay.getPassword();
+                handshake.command("AUTH PLAIN "
+                        + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+                handshake.expect(235);
+            }
+            return new SmtpConnection(socket, handshake.in, handshake.out, extensions.contains("PIPELINING"));
+        } catch (IOException | RuntimeException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Sends one message and waits for the relay to take it.
+     *
+     * @throws AddressException   if either address would break the command line
+     * @throws SmtpReplyException if the relay refused it
+     * @throws IOException        if the connection failed; see {@link #committed()}
+     */
+    void send(String from, String to, MimeMessage message) throws IOException, MessagingException {
+        committed = false;
+        checkEnvelope(from);
+        checkEnvelope(to);
+        write("MAIL FROM:<" + from + ">");
+        if (!pipelining) {
+            flushAndExpect(250);
+        }
+        write("RCPT TO:<" + to + ">");
+        if (!pipelining) {
+            flushAndExpect(250, 251);
+        }
+        write("DATA");
+        out.flush();
+        if (pipelining) {
+            // all three replies are read even after a refusal, or they would answer the next commands
+            int refused = 0;
+            String reason = null;
+            int mail = readReply();
+            if (mail != 250) {
+                refused = mail;
+                reason = line.toString();
+            }
+            int rcpt = readReply();
+            if (refused == 0 && rcpt != 250 && rcpt != 251) {
+                refused = rcpt;
+                reason = line.toString();
+            }
+            int data = readReply();
+            if (refused == 0 && data != 354) {
+                refused = data;
+                reason = line.toString();
+            }
+            if (refused != 0) {
+                if (data == 354) {
+                    // the relay is waiting for a body it will throw away: an empty one ends DATA
+                    write(".");
+                    out.flush();
+                    readReply();
+                }
+                reset();
+                throw new SmtpReplyException(refused, "Relay refused " + to + ": " + reason);
+            }
+        } else {
+            expectData(to);
+        }
+        committed = true;
+        SMTPOutputStream body = new SMTPOutputStream(out);
+        message.writeTo(body);
+        body.ensureAtBOL();
+        write(".");
+        out.flush();
+        int queued = readReply();
+        if (queued != 250) {
+            throw new SmtpReplyException(queued, "Relay refused message to " + to + ": " + line);
+        }
+    }
+
+    /**
+     * Whether the last send got as far as the body, so the relay may have
+     * taken the message even though the connection failed.
+     */
+    boolean committed() {
+        return committed;
+    }
+
+    /**
+     * A NOOP round trip, to check a connection that has been idle.
+     */
+    boolean isAlive() {
+        try {
+            write("NOOP");
+            out.flush();
+            return readReply() == 250;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Says QUIT without waiting for the answer, and closes the socket.
+     */
+    @Override
+    public void close() {
+        try {
+            write("QUIT");
+            out.flush();
+        } catch (IOException e) {
+            // closing anyway
+        }
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // nothing left to release
+        }
+    }
+
+    /**
+     * A CR or LF in an address would end MAIL or RCPT early and let the rest
+     * through as commands of its own.
+     */
+    private static void checkEnvelope(String address) throws AddressException {
+        if (address.indexOf('\r') >= 0 || address.indexOf('\n') >= 0) {
+            throw new AddressException("Line break in envelope address", address);
+        }
+    }
+
+    private void expectData(String to) throws IOException {
+        int data = readReply();
+        if (data != 354) {
+            String reason = line.toString();
+            reset();
+            throw new SmtpReplyException(data, "Relay refused " + to + ": " + reason);
+        }
+    }
+
+    private void flushAndExpect(int... codes) throws IOException {
+        out.flush();
+        int code = readReply();
+        for (int expected : codes) {
+            if (code == expected) {
+                return;
+            }
+        }
+        String reason = line.toString();
+        reset();
+        throw new SmtpReplyException(code, "Relay refused: " + reason);
+    }
+
+    /**
+     * Clears the refused transaction so the connection can be reused.
+     */
+    private void reset() throws IOException {
+        write("RSET");
+        out.flush();
+        readReply();
+    }
+
+    private void write(String command) throws IOException {
+        out.write(command.getBytes(StandardCharsets.US_ASCII));
+        out.write('\r');
+        out.write('\n');
+    }
+
+    /**
+     * @return the reply code, with the last line of the reply left in {@code line}
+     */
+    private int readReply() throws IOException {
+        return readReply(in, line, null);
+    }
+
+    /**
+     * Reads a reply of one or more lines, collecting the first word of each
+     * continuation line into {@code keywords} if given: EHLO lists the
+     * extensions that way.
+     */
+    private static int readReply(InputStream in, StringBuilder line, Set<String> keywords) throws IOException {
+        while (true) {
+            line.setLength(0);
+            int b;
+            while ((b = in.read()) != '\n') {
+                if (b == -1) {
+                    throw new EOFException("Relay closed the connection");
+                }
+                if (b != '\r') {
+                    line.append((char) b);
+                }
+            }
+            if (line.length() < 3) {
+                throw new IOException("Malformed reply: " + line);
+            }
+            int code;
+            try {
+                code = Integer.parseInt(line, 0, 3, 10);
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed reply: " + line);
+            }
+            if (keywords != null && line.length() > 4) {
+                String keyword = line.substring(4).trim();
+                int space = keyword.indexOf(' ');
+                keywords.add((space < 0 ? keyword : keyword.substring(0, space)).toUpperCase(Locale.ROOT));
+            }
+            if (line.length() == 3 || line.charAt(3) != '-') {
+                return code;
+            }
+        }
+    }
+
+    private static Socket startTls(Socket plain, String host) throws IOException {
+        SSLSocket tls = (SSLSocket) ((SSLSocketFactory) SSLSocketFactory.getDefault())
+                .createSocket(plain, host, plain.getPort(), true);
+        SSLParameters parameters = tls.getSSLParameters();
+        parameters.setEndpointIdentificationAlgorithm("HTTPS");
+        tls.setSSLParameters(parameters);
+        tls.startHandshake();
+        return tls;
+    }
+
+    /**
+     * The handshake, before there is a connection to hand out.
+     */
+    private static final class Handshake {
+
+        private final InputStream in;
+        private final OutputStream out;
+        private final StringBuilder line = new StringBuilder();
+
+        private Handshake(Socket socket) throws IOException {
+            this.in = new BufferedInputStream(socket.getInputStream());
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        private void command(String command) throws IOException {
+            out.write((command + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+
+        private void expect(int expected) throws IOException {
+            int code = readReply(in, line, null);
+            if (code != expected) {
+                throw new SmtpReplyException(code, "Relay refused the session: " + line);
+            }
+        }
+
+        private Set<String> ehlo(String localHost) throws IOException {
+            command("EHLO " + localHost);
+            Set<String> extensions = new HashSet<>();
+            int code = readReply(in, line, extensions);
+            if (code != 250) {
+                throw new SmtpReplyException(code, "Relay refused EHLO: " + line);
+            }
+            return extensions;
+        }
+    }
+}
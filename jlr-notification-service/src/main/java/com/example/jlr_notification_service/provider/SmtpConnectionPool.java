@@ -0,0 +1,189 @@
+package com.example.jlr_notification_service.provider;
+
+import com.example.jlr_notification_service.config.ProviderProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Properties;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Open SMTP connections to one relay, each reused for up to
+ * {@code maxMessagesPerConnection} messages, so a message costs its own
+ * round trips and not a new TCP and TLS handshake, EHLO and AUTH as well.
+ * At most {@code connections} messages are in flight to the relay at once;
+ * senders beyond that wait for a connection.
+ *
+ * The most recently used connection is handed out first, so in quiet periods
+ * the others stay idle long enough to be closed. A connection idle for a few
+ * seconds is checked with a NOOP before use; one the relay closed anyway
+ * fails before the body is sent, and the message goes once more over a new
+ * one.
+ */
+@Slf4j
+public class SmtpConnectionPool implements AutoCloseable {
+
+    /**
+     * Idle time after which a connection is checked before use; shorter
+     * idles skip the NOOP round trip
+     */
+    private static final long VALIDATE_AFTER_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final ProviderProperties.Relay relay;
+    private final ProviderProperties.Smtp smtp;
+    private final String name;
+    private final String localHost;
+    private final Session session = Session.getInstance(new Properties());
+    private final long maxIdleNanos;
+    private final long borrowTimeoutMillis;
+    private final Semaphore permits;
+    private final BlockingDeque<Pooled> idle = new LinkedBlockingDeque<>();
+    private final Counter opened;
+    private volatile boolean closed;
+
+    public SmtpConnectionPool(ProviderProperties.Relay relay, ProviderProperties.Smtp smtp,
+                              MeterRegistry meterRegistry) {
+        this.relay = relay;
+        this.smtp = smtp;
+        this.name = relay.getHost() + ":" + relay.getPort();
+        this.localHost = localHost();
+        this.maxIdleNanos = smtp.getMaxIdle().toNanos();
+        this.borrowTimeoutMillis = smtp.getBorrowTimeout().toMillis();
+        this.permits = new Semaphore(relay.getConnections());
+        this.opened = Counter.builder("notification.smtp.connections.opened").tag("relay", name)
+                .register(meterRegistry);
+        Gauge.builder("notification.smtp.connections.idle", idle, BlockingDeque::size).tag("relay", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * For building messages to send through this pool.
+     */
+    public Session session() {
+        return session;
+    }
+
+    /**
+     * Connections not in use at the moment, opened or not.
+     */
+    public int available() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Sends over a pooled connection, waiting for one if all are busy.
+     */
+    public void send(String from, String to, MimeMessage message)
+            throws IOException, MessagingException, InterruptedException {
+        if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            throw new IOException("No free connection to " + name + " within " + borrowTimeoutMillis + " ms");
+        }
+        try {
+            message.saveChanges();
+            Pooled pooled = borrow();
+            try {
+                pooled.connection.send(from, to, message);
+            } catch (SmtpReplyException e) {
+                // refused, but the session is still good
+                giveBack(pooled);
+                throw e;
+            } catch (IOException e) {
+                pooled.connection.close();
+                if (pooled.sent == 0 || pooled.connection.committed()) {
+                    throw e;
+                }
+                log.debug("Connection to {} closed while idle, sending again: {}", name, e.getMessage());
+                pooled = open();
+                try {
+                    pooled.connection.send(from, to, message);
+                } catch (SmtpReplyException retryError) {
+                    giveBack(pooled);
+                    throw retryError;
+                } catch (IOException | MessagingException | RuntimeException retryError) {
+                    pooled.connection.close();
+                    throw retryError;
+                }
+            } catch (MessagingException | RuntimeException e) {
+                // failed part way through writing the body: the session is in no state to reuse
+                pooled.connection.close();
+                throw e;
+            }
+            giveBack(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Pooled pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            pooled.connection.close();
+        }
+    }
+
+    private Pooled borrow() throws IOException {
+        Pooled pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            long idleFor = System.nanoTime() - pooled.lastUsed;
+            if (idleFor > maxIdleNanos || idleFor > VALIDATE_AFTER_NANOS && !pooled.connection.isAlive()) {
+                pooled.connection.close();
+                continue;
+            }
+            return pooled;
+        }
+        return open();
+    }
+
+    private Pooled open() throws IOException {
+        SmtpConnection connection = SmtpConnection.open(relay, smtp, localHost);
+        opened.increment();
+        return new Pooled(connection);
+    }
+
+    private void giveBack(Pooled pooled) {
+        pooled.sent++;
+        if (closed || pooled.sent >= smtp.getMaxMessagesPerConnection()) {
+            pooled.connection.close();
+            return;
+        }
+        pooled.lastUsed = System.nanoTime();
+        idle.offerFirst(pooled);
+        // the least recently used end is where connections go stale
+        Pooled oldest = idle.peekLast();
+        if (oldest != null && System.nanoTime() - oldest.lastUsed > maxIdleNanos
+                && idle.removeLastOccurrence(oldest)) {
+            oldest.connection.close();
+        }
+    }
+
+    private static String localHost() {
+        try {
+            return InetAddress.getLocalHost().getCanonicalHostName();
+        } catch (IOException e) {
+            return "localhost";
+        }
+    }
+
+    private static final class Pooled {
+
+        private final SmtpConnection connection;
+        private int sent;
+        private long lastUsed = System.nanoTime();
+
+        private Pooled(SmtpConnection connection) {
+            this.connection = connection;
+        }
+    }
+}
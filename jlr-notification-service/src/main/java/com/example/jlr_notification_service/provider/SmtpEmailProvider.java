@@ -0,0 +1,75 @@
+package com.example.jlr_notification_service.provider;
+
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends over pooled connections to one or more relays; see
+ * {@link SmtpConnectionPool}. Each message goes to the relay with the most
+ * free connections, ties taken in turn.
+ */
+public class SmtpEmailProvider implements ChannelProvider, AutoCloseable {
+
+    private final List<SmtpConnectionPool> relays;
+    private final String from;
+    private final AtomicInteger turn = new AtomicInteger();
+
+    public SmtpEmailProvider(List<SmtpConnectionPool> relays, String from) {
+        this.relays = List.copyOf(relays);
+        this.from = from;
+    }
+
+    @Override
+    public NotificationChannel channel() {
+        return NotificationChannel.EMAIL;
+    }
+
+    @Override
+    public void send(Notification notification) throws Exception {
+        SmtpConnectionPool relay = pickRelay();
+        MimeMessage message = new MimeMessage(relay.session());
+        InternetAddress sender = new InternetAddress(from, true);
+        InternetAddress recipient = new InternetAddress(notification.address(), true);
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setFrom(sender);
+        helper.setTo(recipient);
+        helper.setSubject(notification.subject());
+        helper.setText(notification.body(), true);
+        // the envelope takes the bare address, never a display name or whatever else came with it
+        relay.send(sender.getAddress(), recipient.getAddress(), message);
+    }
+
+    /**
+     * A malformed address, or a 5xx refusal; 4xx ones are worth retrying.
+     */
+    @Override
+    public boolean isPermanent(Exception error) {
+        return error instanceof AddressException
+                || error instanceof SmtpReplyException refused && refused.isPermanent();
+    }
+
+    @Override
+    public void close() {
+        relays.forEach(SmtpConnectionPool::close);
+    }
+
+    private SmtpConnectionPool pickRelay() {
+        int start = Math.floorMod(turn.getAndIncrement(), relays.size());
+        SmtpConnectionPool best = relays.get(start);
+        for (int i = 1; i < relays.size(); i++) {
+            SmtpConnectionPool relay = relays.get((start + i) % relays.size());
+            if (relay.available() > best.available()) {
+                best = relay;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.jlr_notification_service.provider;
+
+import java.io.IOException;
+
+/**
+ * The relay refused a command. 5xx replies are permanent; 4xx ones, such as
+ * a full mailbox or greylisting, may succeed later.
+ */
+public class SmtpReplyException extends IOException {
+
+    private final int code;
+
+    public SmtpReplyException(int code, String message) {
+        super(message);
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public boolean isPermanent() {
+        return code >= 500;
+    }
+}
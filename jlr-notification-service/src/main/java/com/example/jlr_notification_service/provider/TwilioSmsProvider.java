@@ -0,0 +1,38 @@
+package com.example.jlr_notification_service.provider;
+
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import com.twilio.exception.ApiException;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.type.PhoneNumber;
+
+public class TwilioSmsProvider implements ChannelProvider {
+
+    private final TwilioRestClient client;
+    private final PhoneNumber from;
+
+    public TwilioSmsProvider(TwilioRestClient client, String fromNumber) {
+        this.client = client;
+        this.from = new PhoneNumber(fromNumber);
+    }
+
+    @Override
+    public NotificationChannel channel() {
+        return NotificationChannel.SMS;
+    }
+
+    @Override
+    public void send(Notification notification) {
+        Message.creator(new PhoneNumber(notification.address()), from, notification.body()).create(client);
+    }
+
+    /**
+     * 400 is Twilio's answer to an invalid or unreachable number; 429 and 5xx
+     * are worth another try.
+     */
+    @Override
+    public boolean isPermanent(Exception error) {
+        return error instanceof ApiException api && api.getStatusCode() != null && api.getStatusCode() == 400;
+    }
+}
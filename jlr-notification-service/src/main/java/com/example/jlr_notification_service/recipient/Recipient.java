@@ -0,0 +1,23 @@
+package com.example.jlr_notification_service.recipient;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Locale;
+
+/**
+ * Who a notification goes to, and how to reach them. A getter-style value
+ * rather than a record so templates can say {@code ${recipient.firstName}}.
+ */
+@Value
+@Builder
+public class Recipient {
+    Long userId;
+    String email;
+    String phoneNumber;
+    String firstName;
+    String lastName;
+    String role;
+    String dealerId;
+    Locale locale;
+}
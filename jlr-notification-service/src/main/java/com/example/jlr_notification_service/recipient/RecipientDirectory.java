@@ -0,0 +1,13 @@
+package com.example.jlr_notification_service.recipient;
+
+import java.util.Set;
+
+public interface RecipientDirectory {
+
+    /**
+     * Looks up a whole batch's recipients at once: the given users, and the
+     * dealer managers of the given dealers. Unknown or inactive users are
+     * simply absent from the result.
+     */
+    Recipients lookup(Set<Long> userIds, Set<String> dealerManagersOf);
+}
@@ -0,0 +1,41 @@
+package com.example.jlr_notification_service.recipient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The recipients found for one batch, by user id and by dealer (managers).
+ */
+public final class Recipients {
+
+    private final Map<Long, Recipient> byUserId = new HashMap<>();
+    private final Map<String, List<Recipient>> managersByDealer = new HashMap<>();
+
+    public static Recipients of(Collection<Recipient> recipients) {
+        Recipients result = new Recipients();
+        for (Recipient recipient : recipients) {
+            result.byUserId.put(recipient.getUserId(), recipient);
+            if ("DEALER_MANAGER".equals(recipient.getRole()) && recipient.getDealerId() != null) {
+                result.managersByDealer.computeIfAbsent(recipient.getDealerId(), dealer -> new ArrayList<>())
+                        .add(recipient);
+            }
+        }
+        return result;
+    }
+
+    public Optional<Recipient> user(Long userId) {
+        return Optional.ofNullable(byUserId.get(userId));
+    }
+
+    public List<Recipient> managersOf(String dealerId) {
+        return managersByDealer.getOrDefault(dealerId, List.of());
+    }
+
+    public int size() {
+        return byUserId.size();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.jlr_notification_service.recipient;
+
+import java.util.Set;
+
+/**
+ * Body of user-service's {@code POST /api/users/lookup}.
+ */
+record UserLookupRequest(Set<Long> ids, Set<String> dealerManagersOf) {
+}
@@ -0,0 +1,19 @@
+package com.example.jlr_notification_service.recipient;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+/**
+ * The parts of user-service's user response a notification needs.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserRecord {
+    private Long id;
+    private String email;
+    private String firstName;
+    private String lastName;
+    private String role;
+    private String dealerId;
+    private String phoneNumber;
+}
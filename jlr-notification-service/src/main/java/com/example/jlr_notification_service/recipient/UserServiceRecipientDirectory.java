@@ -0,0 +1,98 @@
+package com.example.jlr_notification_service.recipient;
+
+import com.example.jlr_notification_service.config.RecipientProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Looks recipients up in user-service with one call per chunk of ids
+ * rather than one per user, signed in with this service's id and key. A
+ * failed call propagates, so the batch is retried rather than sent to
+ * nobody.
+ */
+@Slf4j
+@Component
+public class UserServiceRecipientDirectory implements RecipientDirectory {
+
+    static final String SERVICE_ID_HEADER = "X-Service-Id";
+    static final String SERVICE_KEY_HEADER = "X-Service-Key";
+
+    private static final ParameterizedTypeReference<List<UserRecord>> USERS = new ParameterizedTypeReference<>() {
+    };
+
+    private final RestClient restClient;
+    private final RecipientProperties properties;
+
+    public UserServiceRecipientDirectory(RestClient.Builder loadBalancedRestClientBuilder,
+                                         RecipientProperties properties) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.getConnectTimeout());
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+        if (properties.getServiceKey() == null || properties.getServiceKey().isBlank()) {
+            log.warn("No user-service key configured; recipient lookups will be refused");
+        }
+        this.restClient = loadBalancedRestClientBuilder.clone()
+                .baseUrl(properties.getUserServiceUrl())
+                .requestFactory(requestFactory)
+                .defaultHeader(SERVICE_ID_HEADER, properties.getServiceId())
+                .defaultHeader(SERVICE_KEY_HEADER, properties.getServiceKey() == null ? "" : properties.getServiceKey())
+                .build();
+        this.properties = properties;
+    }
+
+    @Override
+    public Recipients lookup(Set<Long> userIds, Set<String> dealerManagersOf) {
+        List<Recipient> recipients = new ArrayList<>();
+        List<List<Long>> idChunks = chunks(userIds);
+        List<List<String>> dealerChunks = chunks(dealerManagersOf);
+        for (int i = 0; i < Math.max(idChunks.size(), dealerChunks.size()); i++) {
+            List<UserRecord> users = restClient.post()
+                    .uri("/api/users/lookup")
+                    .body(new UserLookupRequest(
+                            i < idChunks.size() ? new LinkedHashSet<>(idChunks.get(i)) : Set.of(),
+                            i < dealerChunks.size() ? new LinkedHashSet<>(dealerChunks.get(i)) : Set.of()))
+                    .retrieve()
+                    .body(USERS);
+            if (users != null) {
+                users.forEach(user -> recipients.add(toRecipient(user)));
+            }
+        }
+        log.debug("Looked up {} users and managers of {} dealers: {} recipients", userIds.size(),
+                dealerManagersOf.size(), recipients.size());
+        return Recipients.of(recipients);
+    }
+
+    private Recipient toRecipient(UserRecord user) {
+        Locale locale = user.getDealerId() == null ? properties.getDefaultLocale()
+                : properties.getDealerLocales().getOrDefault(user.getDealerId(), properties.getDefaultLocale());
+        return Recipient.builder()
+                .userId(user.getId())
+                .email(user.getEmail())
+                .phoneNumber(user.getPhoneNumber())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .role(user.getRole())
+                .dealerId(user.getDealerId())
+                .locale(locale)
+                .build();
+    }
+
+    private <T> List<List<T>> chunks(Collection<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        List<T> all = List.copyOf(values);
+        for (int from = 0; from < all.size(); from += properties.getLookupChunkSize()) {
+            chunks.add(all.subList(from, Math.min(all.size(), from + properties.getLookupChunkSize())));
+        }
+        return chunks;
+    }
+}
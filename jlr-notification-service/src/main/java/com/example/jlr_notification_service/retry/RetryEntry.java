@@ -0,0 +1,78 @@
+package com.example.jlr_notification_service.retry;
+
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * A notification waiting to be sent again. Unlike the delivery log it keeps
+ * the rendered body, so the retry sends exactly what failed. Removed once the
+ * retry is delivered or has failed for good.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = RetryEntry.COLLECTION)
+public class RetryEntry {
+
+    public static final String COLLECTION = "notification_retries";
+
+    @Id
+    private UUID id;
+    private UUID eventId;
+    private String orderNumber;
+    private Long userId;
+    private NotificationChannel channel;
+    private String address;
+    private String subject;
+    private String body;
+    private boolean urgent;
+    private String locale;
+    private Instant createdAt;
+
+    /**
+     * The attempt this retry will make
+     */
+    private int attempt;
+    private Instant dueAt;
+
+    /**
+     * Stored but not in the timing wheel, which was full
+     */
+    private boolean parked;
+    private String lastError;
+
+    static RetryEntry of(Notification retry, Instant dueAt, String lastError) {
+        return RetryEntry.builder()
+                .id(retry.id())
+                .eventId(retry.eventId())
+                .orderNumber(retry.orderNumber())
+                .userId(retry.userId())
+                .channel(retry.channel())
+                .address(retry.address())
+                .subject(retry.subject())
+                .body(retry.body())
+                .urgent(retry.urgent())
+                .locale(retry.locale().toLanguageTag())
+                .createdAt(retry.createdAt())
+                .attempt(retry.attempt())
+                .dueAt(dueAt)
+                .lastError(lastError)
+                .build();
+    }
+
+    Notification toNotification() {
+        return new Notification(id, eventId, orderNumber, userId, channel, address, subject, body, urgent,
+                Locale.forLanguageTag(locale), createdAt, attempt);
+    }
+}
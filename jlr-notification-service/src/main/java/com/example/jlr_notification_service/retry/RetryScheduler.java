@@ -0,0 +1,388 @@
+package com.example.jlr_notification_service.retry;
+
+import com.example.jlr_notification_service.config.RetryProperties;
+import com.example.jlr_notification_service.notification.Notification;
+import com.mongodb.MongoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Sends failed notifications again after an exponential backoff with jitter.
+ *
+ * Pending retries live in two places: a {@link TimingWheel} in memory holding
+ * only ids and due times, which decides when each one fires at O(1) cost
+ * however many are pending, and a {@link RetryStore} in MongoDB holding the
+ * whole notification, which the wheel is rebuilt from after a restart. One
+ * "retry-wheel" thread ticks the wheel, saves the retries scheduled since the
+ * last tick in one bulk call, and loads and re-sends those falling due.
+ * Retries that do not fit in the wheel are parked in the store and moved in
+ * as room frees up.
+ *
+ * Recovery loads every stored retry, so the service assumes one instance
+ * owns the retry collection. It runs on the "retry-wheel" thread before the
+ * first tick, so startup does not wait on MongoDB, and is retried there until
+ * it completes; retries scheduled meanwhile wait in memory.
+ */
+@Slf4j
+@Component
+public class RetryScheduler {
+
+    /**
+     * How long a due retry waits before trying again when its lane is full
+     */
+    private static final Duration LANE_FULL_DELAY = Duration.ofSeconds(1);
+
+    private final RetryStore store;
+    private final RetryProperties properties;
+    private final Clock clock;
+    private final TimingWheel wheel;
+    private final Object lock = new Object();
+    // latest change per notification since the last save: the entry to store, or null to delete it
+    private final Map<UUID, RetryEntry> pending = new LinkedHashMap<>();
+    private final Counter scheduled;
+    private final Counter exhausted;
+    private final Counter fired;
+    private final Counter parked;
+    private volatile Predicate<Notification> resend;
+    private volatile boolean running;
+    private volatile boolean recovered;
+    private Thread ticker;
+    // retry-wheel thread only: the last stored entry recovery has dealt with
+    private RetryEntry recoveredThrough;
+
+    public RetryScheduler(RetryStore store, RetryProperties properties, Clock clock, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.properties = properties;
+        this.clock = clock;
+        this.wheel = new TimingWheel(properties.getTick().toMillis(), properties.getCapacity(), clock.millis());
+        this.scheduled = Counter.builder("notification.retry.scheduled").register(meterRegistry);
+        this.exhausted = Counter.builder("notification.retry.exhausted")
+                .description("Notifications failed for good after their last attempt").register(meterRegistry);
+        this.fired = Counter.builder("notification.retry.fired").register(meterRegistry);
+        this.parked = Counter.builder("notification.retry.parked")
+                .description("Retries stored without a place in the full timing wheel").register(meterRegistry);
+        Gauge.builder("notification.retry.pending", this, RetryScheduler::pending).register(meterRegistry);
+    }
+
+    /**
+     * Starts the thread that rebuilds the wheel from the store and then ticks
+     * it; due retries are handed to {@code resend}, which returns false if it
+     * has no room for them yet.
+     */
+    public void start(Predicate<Notification> resend) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        this.resend = resend;
+        running = true;
+        ticker = new Thread(this::run, "retry-wheel");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (ticker != null) {
+            ticker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * Schedules another attempt at a notification that just failed.
+     *
+     * @return false if retries are off or this was its last attempt
+     */
+    public boolean retryLater(Notification notification, Exception error) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        if (notification.attempt() >= properties.getMaxAttempts()) {
+            exhausted.increment();
+            return false;
+        }
+        Instant dueAt = clock.instant().plus(backoff(notification.attempt()));
+        RetryEntry entry = RetryEntry.of(notification.nextAttempt(), dueAt, String.valueOf(error.getMessage()));
+        synchronized (lock) {
+            if (!wheel.schedule(notification.id(), dueAt.toEpochMilli())) {
+                entry.setParked(true);
+                parked.increment();
+            }
+            pending.put(notification.id(), entry);
+        }
+        scheduled.increment();
+        return true;
+    }
+
+    /**
+     * Forgets the stored retry of a notification that has been delivered or
+     * has failed for good. Nothing to do after a first attempt.
+     */
+    public void settled(Notification notification) {
+        if (notification.attempt() > 1 && properties.isEnabled()) {
+            synchronized (lock) {
+                pending.put(notification.id(), null);
+            }
+        }
+    }
+
+    public int pending() {
+        synchronized (lock) {
+            return wheel.size();
+        }
+    }
+
+    /**
+     * Moves parked retries into the wheel, soonest first, as far as it has room.
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.retry.unpark-interval-ms:60000}")
+    public void unpark() {
+        if (!running || !recovered) {
+            return;
+        }
+        int room;
+        synchronized (lock) {
+            room = wheel.capacity() - wheel.size();
+        }
+        if (room <= 0) {
+            return;
+        }
+        try {
+            List<RetryEntry> entries = store.findParked(Math.min(room, properties.getLoadBatchSize()));
+            List<UUID> moved = new ArrayList<>(entries.size());
+            synchronized (lock) {
+                for (RetryEntry entry : entries) {
+                    // a retry still waiting to be saved is not in the query result, so it cannot be lost here
+                    if (wheel.schedule(entry.getId(), entry.getDueAt().toEpochMilli())) {
+                        moved.add(entry.getId());
+                    }
+                }
+            }
+            if (!moved.isEmpty()) {
+                store.setParked(moved, false);
+                log.info("Moved {} parked retries into the timing wheel", moved.size());
+            }
+        } catch (DataAccessException | MongoException e) {
+            log.warn("Could not unpark retries: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recovers until it works or the scheduler is stopped, waiting longer
+     * after each failure.
+     */
+    private void recoverWithRetry() {
+        Duration wait = properties.getRecoveryRetryInterval();
+        while (running) {
+            try {
+                store.ensureIndexes();
+                recover();
+                recovered = true;
+                return;
+            } catch (DataAccessException | MongoException e) {
+                log.warn("Could not recover pending retries, trying again in {}: {}", wait, e.getMessage());
+            }
+            try {
+                Thread.sleep(wait.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                return;
+            }
+            Duration doubled = wait.multipliedBy(2);
+            wait = doubled.compareTo(properties.getRecoveryRetryMaxInterval()) > 0
+                    ? properties.getRecoveryRetryMaxInterval() : doubled;
+        }
+    }
+
+    /**
+     * Streams every scheduled retry not yet recovered into the wheel. Once one
+     * does not fit, it and all after it are parked, so that a pass resumed
+     * after a failure never puts an entry in the wheel twice. Retries already
+     * past due fire on the first tick.
+     */
+    private void recover() {
+        List<RetryEntry> overflow = new ArrayList<>();
+        int[] count = {0};
+        store.forEachScheduled(recoveredThrough, entry -> {
+            boolean inWheel = false;
+            if (overflow.isEmpty()) {
+                synchronized (lock) {
+                    inWheel = wheel.schedule(entry.getId(), entry.getDueAt().toEpochMilli());
+                }
+            }
+            if (inWheel) {
+                count[0]++;
+                recoveredThrough = entry;
+            } else {
+                overflow.add(entry);
+            }
+            if (overflow.size() >= properties.getLoadBatchSize()) {
+                park(overflow);
+            }
+        });
+        if (!overflow.isEmpty()) {
+            park(overflow);
+        }
+        log.info("Recovered {} pending retries", count[0]);
+    }
+
+    private void park(List<RetryEntry> overflow) {
+        store.setParked(overflow.stream().map(RetryEntry::getId).toList(), true);
+        recoveredThrough = overflow.get(overflow.size() - 1);
+        overflow.clear();
+    }
+
+    private void run() {
+        recoverWithRetry();
+        long tickMillis = properties.getTick().toMillis();
+        while (running) {
+            try {
+                tick();
+            } catch (RuntimeException e) {
+                log.error("Retry tick failed", e);
+            }
+            try {
+                Thread.sleep(tickMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+        }
+        save();
+    }
+
+    void tick() {
+        save();
+        List<UUID> due = new ArrayList<>();
+        synchronized (lock) {
+            wheel.advance(clock.millis(), due::add);
+        }
+        for (int from = 0; from < due.size(); from += properties.getLoadBatchSize()) {
+            fire(due.subList(from, Math.min(due.size(), from + properties.getLoadBatchSize())));
+        }
+    }
+
+    /**
+     * Writes the changes since the last save; on failure they are kept for
+     * the next tick.
+     */
+    private void save() {
+        List<RetryEntry> upserts = new ArrayList<>();
+        List<UUID> deletes = new ArrayList<>();
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            pending.forEach((id, entry) -> {
+                if (entry == null) {
+                    deletes.add(id);
+                } else {
+                    upserts.add(entry);
+                }
+            });
+            pending.clear();
+        }
+        try {
+            // one change per id, so the two calls cannot overtake each other
+            if (!upserts.isEmpty()) {
+                store.save(upserts);
+            }
+            if (!deletes.isEmpty()) {
+                store.delete(deletes);
+            }
+        } catch (DataAccessException | MongoException e) {
+            log.warn("Could not save {} retries, trying again next tick: {}", upserts.size() + deletes.size(),
+                    e.getMessage());
+            synchronized (lock) {
+                // anything changed meanwhile is newer than what failed
+                upserts.forEach(entry -> pending.putIfAbsent(entry.getId(), entry));
+                deletes.forEach(id -> pending.putIfAbsent(id, null));
+            }
+        }
+    }
+
+    private void fire(List<UUID> ids) {
+        Map<UUID, RetryEntry> entries = new HashMap<>();
+        List<UUID> stored = new ArrayList<>(ids.size());
+        synchronized (lock) {
+            // normally saved long ago, but a failed save leaves the latest version here
+            for (UUID id : ids) {
+                if (!pending.containsKey(id)) {
+                    stored.add(id);
+                } else if (pending.get(id) != null) {
+                    entries.put(id, pending.get(id));
+                }
+            }
+        }
+        try {
+            if (!stored.isEmpty()) {
+                store.find(stored).forEach(entry -> entries.put(entry.getId(), entry));
+            }
+        } catch (DataAccessException | MongoException e) {
+            log.warn("Could not load {} due retries, trying again shortly: {}", ids.size(), e.getMessage());
+            reschedule(ids);
+            return;
+        }
+        List<UUID> laneFull = new ArrayList<>();
+        for (UUID id : ids) {
+            RetryEntry entry = entries.get(id);
+            if (entry == null) {
+                // settled meanwhile, e.g. by a duplicate of the same notification
+                continue;
+            }
+            if (resend.test(entry.toNotification())) {
+                fired.increment();
+            } else {
+                laneFull.add(id);
+            }
+        }
+        reschedule(laneFull);
+    }
+
+    private void reschedule(List<UUID> ids) {
+        long dueAt = clock.millis() + LANE_FULL_DELAY.toMillis();
+        List<UUID> full = new ArrayList<>();
+        synchronized (lock) {
+            for (UUID id : ids) {
+                if (!wheel.schedule(id, dueAt)) {
+                    full.add(id);
+                }
+            }
+        }
+        if (!full.isEmpty()) {
+            parked.increment(full.size());
+            try {
+                store.setParked(full, true);
+            } catch (DataAccessException | MongoException e) {
+                log.warn("Could not park {} retries; they resume after a restart: {}", full.size(), e.getMessage());
+            }
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        double base = Math.min(properties.getInitialBackoff().toMillis() * Math.pow(2, attempt - 1),
+                properties.getMaxBackoff().toMillis());
+        double jitter = 1 + properties.getJitter() * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return Duration.ofMillis((long) (base * jitter));
+    }
+}
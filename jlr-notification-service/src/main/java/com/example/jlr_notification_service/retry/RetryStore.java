@@ -0,0 +1,96 @@
+package com.example.jlr_notification_service.retry;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * The durable side of the retry scheduler: every pending retry, so the
+ * timing wheel can be rebuilt after a restart. All writes are bulk.
+ */
+@Component
+public class RetryStore {
+
+    private final MongoTemplate mongoTemplate;
+
+    public RetryStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Recovery reads the scheduled entries and the unpark sweep the parked
+     * ones, both by due time.
+     */
+    void ensureIndexes() {
+        mongoTemplate.indexOps(RetryEntry.class).ensureIndex(new Index().on("parked", Sort.Direction.ASC)
+                .on("dueAt", Sort.Direction.ASC).named("parked_due"));
+    }
+
+    /**
+     * Inserts or replaces each entry, one unordered bulk call.
+     */
+    void save(Collection<RetryEntry> entries) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RetryEntry.class);
+        for (RetryEntry entry : entries) {
+            operations.replaceOne(byId(entry.getId()), entry, FindAndReplaceOptions.options().upsert());
+        }
+        operations.execute();
+    }
+
+    void delete(Collection<UUID> ids) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), RetryEntry.class);
+    }
+
+    List<RetryEntry> find(Collection<UUID> ids) {
+        return mongoTemplate.find(Query.query(Criteria.where("_id").in(ids)), RetryEntry.class);
+    }
+
+    /**
+     * Streams the id and due time of every entry that belongs in the wheel,
+     * soonest first, without loading the bodies. Entries up to and including
+     * {@code after}, if given, are skipped, so an interrupted pass can carry
+     * on where it stopped.
+     */
+    void forEachScheduled(RetryEntry after, Consumer<RetryEntry> action) {
+        Criteria criteria = Criteria.where("parked").is(false);
+        if (after != null) {
+            criteria = criteria.orOperator(Criteria.where("dueAt").gt(after.getDueAt()),
+                    Criteria.where("dueAt").is(after.getDueAt()).and("_id").gt(after.getId()));
+        }
+        Query query = Query.query(criteria).with(Sort.by("dueAt", "_id"));
+        query.fields().include("dueAt");
+        try (Stream<RetryEntry> entries = mongoTemplate.stream(query, RetryEntry.class)) {
+            entries.forEach(action);
+        }
+    }
+
+    /**
+     * @return the id and due time of up to {@code limit} parked entries, soonest first
+     */
+    List<RetryEntry> findParked(int limit) {
+        Query query = Query.query(Criteria.where("parked").is(true)).with(Sort.by("dueAt")).limit(limit);
+        query.fields().include("dueAt");
+        return mongoTemplate.find(query, RetryEntry.class);
+    }
+
+    void setParked(Collection<UUID> ids, boolean parked) {
+        mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(ids)), Update.update("parked", parked),
+                RetryEntry.class);
+    }
+
+    private static Query byId(UUID id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+}
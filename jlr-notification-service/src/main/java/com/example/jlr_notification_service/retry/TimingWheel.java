@@ -0,0 +1,181 @@
+package com.example.jlr_notification_service.retry;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Pending retry deadlines in a hierarchical timing wheel: three levels of
+ * 512 slots, so with 100 ms ticks level 0 spans 51 seconds, level 1 about
+ * 7 hours and level 2 about 155 days; anything further out waits in an
+ * overflow list. Scheduling links an entry into one slot and each tick empties
+ * one slot, both O(1); an entry is moved down a level when the slot holding
+ * it comes round, at most twice before it fires.
+ *
+ * Entries are notification ids in parallel primitive arrays, chained into
+ * slots through {@code next}, so a million pending retries cost about 28 MB
+ * and no objects. The arrays grow by doubling up to {@code capacity} and no
+ * further: a full wheel refuses new entries rather than growing. Not
+ * thread-safe.
+ */
+final class TimingWheel {
+
+    private static final int BITS = 9;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+    private static final int NONE = -1;
+
+    private final long tickMillis;
+    private final int capacity;
+    private final int[][] heads = new int[LEVELS][SLOTS];
+    private long[] idHigh;
+    private long[] idLow;
+    private long[] deadlines;
+    private int[] next;
+    private int overflow = NONE;
+    private int free = NONE;
+    private int allocated;
+    private int size;
+    private long currentTick;
+
+    TimingWheel(long tickMillis, int capacity, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.capacity = capacity;
+        int initial = Math.min(capacity, 1024);
+        idHigh = new long[initial];
+        idLow = new long[initial];
+        deadlines = new long[initial];
+        next = new int[initial];
+        for (int[] level : heads) {
+            Arrays.fill(level, NONE);
+        }
+        currentTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * Adds an entry firing on the first tick at or after the deadline; one
+     * already past fires on the next tick.
+     *
+     * @return false if the wheel is full
+     */
+    boolean schedule(UUID id, long deadlineMillis) {
+        int entry = allocate();
+        if (entry == NONE) {
+            return false;
+        }
+        idHigh[entry] = id.getMostSignificantBits();
+        idLow[entry] = id.getLeastSignificantBits();
+        deadlines[entry] = Math.max(-Math.floorDiv(-deadlineMillis, tickMillis), currentTick + 1);
+        place(entry);
+        size++;
+        return true;
+    }
+
+    /**
+     * Runs every tick up to {@code nowMillis}, handing each entry that falls
+     * due to {@code expired} and forgetting it.
+     *
+     * @return how many entries fired
+     */
+    int advance(long nowMillis, Consumer<UUID> expired) {
+        long target = nowMillis / tickMillis;
+        int fired = 0;
+        while (currentTick < target) {
+            currentTick++;
+            if ((currentTick & lowBits(LEVELS)) == 0) {
+                int pending = overflow;
+                overflow = NONE;
+                replace(pending);
+            }
+            // top down, so entries cascading from level 2 land in the level 1 slot emptied next
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & lowBits(level)) == 0) {
+                    int slot = (int) (currentTick >>> BITS * level) & MASK;
+                    int pending = heads[level][slot];
+                    heads[level][slot] = NONE;
+                    replace(pending);
+                }
+            }
+            int slot = (int) currentTick & MASK;
+            int entry = heads[0][slot];
+            heads[0][slot] = NONE;
+            while (entry != NONE) {
+                int following = next[entry];
+                expired.accept(new UUID(idHigh[entry], idLow[entry]));
+                release(entry);
+                fired++;
+                entry = following;
+            }
+        }
+        return fired;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Links the entry into the lowest level whose current rotation contains
+     * its deadline, at the slot for the deadline's digit on that level.
+     */
+    private void place(int entry) {
+        long deadline = deadlines[entry];
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = BITS * (level + 1);
+            if (deadline >>> shift == currentTick >>> shift) {
+                int slot = (int) (deadline >>> BITS * level) & MASK;
+                next[entry] = heads[level][slot];
+                heads[level][slot] = entry;
+                return;
+            }
+        }
+        next[entry] = overflow;
+        overflow = entry;
+    }
+
+    private void replace(int entry) {
+        while (entry != NONE) {
+            int following = next[entry];
+            place(entry);
+            entry = following;
+        }
+    }
+
+    private int allocate() {
+        if (free != NONE) {
+            int entry = free;
+            free = next[entry];
+            return entry;
+        }
+        if (allocated == next.length) {
+            if (allocated == capacity) {
+                return NONE;
+            }
+            grow();
+        }
+        return allocated++;
+    }
+
+    private void release(int entry) {
+        next[entry] = free;
+        free = entry;
+        size--;
+    }
+
+    private void grow() {
+        int length = (int) Math.min(capacity, next.length * 2L);
+        idHigh = Arrays.copyOf(idHigh, length);
+        idLow = Arrays.copyOf(idLow, length);
+        deadlines = Arrays.copyOf(deadlines, length);
+        next = Arrays.copyOf(next, length);
+    }
+
+    private static long lowBits(int levels) {
+        return (1L << BITS * levels) - 1;
+    }
+}
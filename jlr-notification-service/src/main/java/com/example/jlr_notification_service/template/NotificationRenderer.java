@@ -0,0 +1,133 @@
+package com.example.jlr_notification_service.template;
+
+import com.example.jlr_notification_service.event.OrderEvent;
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import com.example.jlr_notification_service.recipient.Recipient;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Turns an order event into the messages one recipient should get: an email
+ * when they have an address, and for emergency orders an SMS and a push to
+ * the recipient's app as well. A push goes to the FCM topic
+ * {@code user-<id>}, titled with the email subject and worded like the SMS.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationRenderer {
+
+    static final String ORDER_CREATED = "order-created";
+    static final String ORDER_STATUS = "order-status";
+    static final String DIGEST = "digest";
+    static final String PUSH_TOPIC_PREFIX = "user-";
+
+    private final NotificationTemplates templates;
+
+    @PostConstruct
+    void precompile() {
+        OrderEvent sample = OrderEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(OrderEvent.ORDER_STATUS_CHANGED)
+                .orderNumber("ORD-SAMPLE")
+                .dealerId("DLR-SAMPLE")
+                .orderType("STANDARD")
+                .status("CONFIRMED")
+                .previousStatus("PENDING")
+                .totalAmount(BigDecimal.TEN)
+                .currency("GBP")
+                .lineCount(1)
+                .orderCreatedAt(LocalDateTime.now())
+                .occurredAt(Instant.now())
+                .build();
+        Recipient recipient = Recipient.builder().userId(0L).firstName("Sample").lastName("Recipient")
+                .email("sample@example.com").phoneNumber("+447700900000").locale(Locale.UK).build();
+        Map<String, Object> variables = new HashMap<>(variables(sample, recipient));
+        // one sample serves every template, the digest included
+        List<Notification> items = render(sample, recipient);
+        variables.put("items", items);
+        variables.put("count", items.size());
+        templates.precompile(variables);
+    }
+
+    public List<Notification> render(OrderEvent event, Recipient recipient) {
+        String name = OrderEvent.ORDER_CREATED.equals(event.getEventType()) ? ORDER_CREATED : ORDER_STATUS;
+        int version = templates.liveVersion(name);
+        Map<String, Object> variables = variables(event, recipient);
+        Instant now = Instant.now();
+
+        List<Notification> notifications = new ArrayList<>(3);
+        if (hasText(recipient.getEmail())) {
+            String subject = templates.render(key(name, version, TemplatePart.EMAIL_SUBJECT, recipient), variables);
+            String body = templates.render(key(name, version, TemplatePart.EMAIL_BODY, recipient), variables);
+            notifications.add(notification(event, recipient, NotificationChannel.EMAIL, recipient.getEmail(),
+                    subject.strip(), body, now));
+        }
+        if (event.isEmergency()) {
+            String text = templates.render(key(name, version, TemplatePart.SMS_BODY, recipient), variables).strip();
+            if (hasText(recipient.getPhoneNumber())) {
+                notifications.add(notification(event, recipient, NotificationChannel.SMS,
+                        recipient.getPhoneNumber(), null, text, now));
+            }
+            String title = templates.render(key(name, version, TemplatePart.EMAIL_SUBJECT, recipient), variables);
+            notifications.add(notification(event, recipient, NotificationChannel.PUSH,
+                    PUSH_TOPIC_PREFIX + recipient.getUserId(), title.strip(), text, now));
+        }
+        return notifications;
+    }
+
+    /**
+     * Merges one recipient's notifications on one channel into a single
+     * message listing each order's latest news.
+     */
+    public Notification renderDigest(List<Notification> items) {
+        Notification first = items.get(0);
+        int version = templates.liveVersion(DIGEST);
+        Map<String, Object> variables = Map.of("items", items, "count", items.size());
+        String subject = null;
+        if (first.channel() != NotificationChannel.SMS) {
+            subject = templates.render(new TemplateKey(DIGEST, version, TemplatePart.EMAIL_SUBJECT, first.locale()),
+                    variables).strip();
+        }
+        String body = first.channel() == NotificationChannel.EMAIL
+                ? templates.render(new TemplateKey(DIGEST, version, TemplatePart.EMAIL_BODY, first.locale()), variables)
+                : templates.render(new TemplateKey(DIGEST, version, TemplatePart.SMS_BODY, first.locale()), variables)
+                        .strip();
+        boolean urgent = items.stream().anyMatch(Notification::urgent);
+        return new Notification(UUID.randomUUID(), null, null, first.userId(), first.channel(), first.address(),
+                subject, body, urgent, first.locale(), Instant.now(), 1);
+    }
+
+    private static Notification notification(OrderEvent event, Recipient recipient, NotificationChannel channel,
+                                             String address, String subject, String body, Instant now) {
+        return new Notification(UUID.randomUUID(), event.getEventId(), event.getOrderNumber(), recipient.getUserId(),
+                channel, address, subject, body, event.isEmergency(), recipient.getLocale(), now, 1);
+    }
+
+    private static TemplateKey key(String name, int version, TemplatePart part, Recipient recipient) {
+        return new TemplateKey(name, version, part, recipient.getLocale());
+    }
+
+    private static Map<String, Object> variables(OrderEvent event, Recipient recipient) {
+        return Map.of(
+                "order", event,
+                "recipient", recipient,
+                "statusLabel", event.getStatus() == null ? ""
+                        : event.getStatus().replace('_', ' ').toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
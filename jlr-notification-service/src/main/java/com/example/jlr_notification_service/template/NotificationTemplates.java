@@ -0,0 +1,129 @@
+package com.example.jlr_notification_service.template;
+
+import com.example.jlr_notification_service.config.TemplateProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.StandardCacheManager;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Notification templates, parsed once and kept.
+ *
+ * Files live at {@code templates/notifications/<name>/v<version>/<locale>.<part>},
+ * e.g. {@code order-status/v2/de.email.html}. A template is looked for in the
+ * recipient's locale, then its language, then the fallback locale; the file
+ * that was found is remembered per key, so the probing happens once. The
+ * engine is separate from the MVC one and caches parsed templates without
+ * expiry: they only change with a deployment.
+ */
+@Slf4j
+@Component
+public class NotificationTemplates {
+
+    static final String ROOT = "templates/notifications/";
+
+    private final TemplateEngine engine;
+    private final ResourceLoader resourceLoader;
+    private final TemplateProperties properties;
+    private final Map<TemplateKey, String> resolved = new ConcurrentHashMap<>();
+
+    public NotificationTemplates(ResourceLoader resourceLoader, TemplateProperties properties) {
+        this.resourceLoader = resourceLoader;
+        this.properties = properties;
+
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix(ROOT);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setHtmlTemplateModePatterns(Set.of("*" + TemplatePart.EMAIL_BODY.suffix()));
+        resolver.setTextTemplateModePatterns(Set.of("*.txt"));
+        resolver.setCacheable(true);
+        resolver.setCacheTTLMs(null);
+
+        StandardCacheManager cacheManager = new StandardCacheManager();
+        cacheManager.setTemplateCacheMaxSize(properties.getCacheSize());
+
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        templateEngine.setCacheManager(cacheManager);
+        this.engine = templateEngine;
+    }
+
+    /**
+     * @return the live version of the template, per configuration
+     * @throws IllegalArgumentException if the template is not configured
+     */
+    public int liveVersion(String name) {
+        Integer version = properties.getVersions().get(name);
+        if (version == null) {
+            throw new IllegalArgumentException("No live version configured for template " + name);
+        }
+        return version;
+    }
+
+    public String render(TemplateKey key, Map<String, Object> variables) {
+        return engine.process(resolve(key), new Context(key.locale(), variables));
+    }
+
+    /**
+     * Renders every live template in every configured locale once, with the
+     * given sample variables, so each is parsed and cached before the first
+     * event arrives and a template that does not render fails startup.
+     */
+    public void precompile(Map<String, Object> sampleVariables) {
+        long started = System.nanoTime();
+        int count = 0;
+        for (Map.Entry<String, Integer> template : properties.getVersions().entrySet()) {
+            for (Locale locale : properties.getPrecompileLocales()) {
+                for (TemplatePart part : TemplatePart.values()) {
+                    render(new TemplateKey(template.getKey(), template.getValue(), part, locale), sampleVariables);
+                    count++;
+                }
+            }
+        }
+        log.info("Precompiled {} notification templates in {} ms", count, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * @return the template file for the key, after locale fallback
+     * @throws IllegalArgumentException if there is none
+     */
+    String resolve(TemplateKey key) {
+        return resolved.computeIfAbsent(key, this::find);
+    }
+
+    private String find(TemplateKey key) {
+        String directory = key.name() + "/v" + key.version() + "/";
+        for (String candidate : candidates(key.locale())) {
+            String file = directory + candidate + "." + key.part().suffix();
+            if (resourceLoader.getResource("classpath:" + ROOT + file).exists()) {
+                return file;
+            }
+        }
+        throw new IllegalArgumentException("No template " + directory + "*." + key.part().suffix()
+                + " for locale " + key.locale());
+    }
+
+    private List<String> candidates(Locale locale) {
+        List<String> candidates = new ArrayList<>(3);
+        if (!locale.getCountry().isEmpty()) {
+            candidates.add(locale.getLanguage() + "_" + locale.getCountry());
+        }
+        candidates.add(locale.getLanguage());
+        Locale fallback = properties.getFallbackLocale();
+        if (!candidates.contains(fallback.toString())) {
+            candidates.add(fallback.toString());
+        }
+        return candidates;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.jlr_notification_service.template;
+
+import java.util.Locale;
+
+/**
+ * A template file as asked for, before locale fallback.
+ */
+public record TemplateKey(String name, int version, TemplatePart part, Locale locale) {
+}
@@ -0,0 +1,31 @@
+package com.example.jlr_notification_service.template;
+
+import org.thymeleaf.templatemode.TemplateMode;
+
+/**
+ * The pieces a notification template is made of, one file each.
+ */
+public enum TemplatePart {
+
+    EMAIL_SUBJECT("subject.txt", TemplateMode.TEXT),
+
+    EMAIL_BODY("email.html", TemplateMode.HTML),
+
+    SMS_BODY("sms.txt", TemplateMode.TEXT);
+
+    private final String suffix;
+    private final TemplateMode mode;
+
+    TemplatePart(String suffix, TemplateMode mode) {
+        this.suffix = suffix;
+        this.mode = mode;
+    }
+
+    public String suffix() {
+        return suffix;
+    }
+
+    public TemplateMode mode() {
+        return mode;
+    }
+}
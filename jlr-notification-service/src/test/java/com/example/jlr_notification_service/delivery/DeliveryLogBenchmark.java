@@ -0,0 +1,119 @@
+package com.example.jlr_notification_service.delivery;
+
+import com.example.jlr_notification_service.config.DeliveryLogProperties;
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.UuidRepresentation;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.testcontainers.containers.MongoDBContainer;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Writes the delivery log for 100,000 sends (record, attempt, status update)
+ * from eight sender threads, first one write per round trip as a naive log
+ * would, then through {@link DeliveryLog}'s unordered micro-batches, and
+ * prints documents written per second for each.
+ *
+ * Not a unit test; run by hand against a local mongod with
+ * {@code -Dmongo.uri=mongodb://localhost:27017}, or without it to start a
+ * throwaway MongoDB in Docker through Testcontainers:
+ * {@code java [-Dmongo.uri=...] -cp target/test-classes:target/classes:<test classpath>
+ * com.example.jlr_notification_service.delivery.DeliveryLogBenchmark}
+ */
+public final class DeliveryLogBenchmark {
+
+    private static final int SENDS = Integer.getInteger("sends", 100_000);
+    private static final int THREADS = 8;
+
+    private DeliveryLogBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String uri = System.getProperty("mongo.uri");
+        MongoDBContainer container = null;
+        if (uri == null) {
+            container = new MongoDBContainer("mongo:7.0");
+            container.start();
+            uri = container.getConnectionString();
+        }
+        try (MongoClient client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(uri))
+                .uuidRepresentation(UuidRepresentation.STANDARD)
+                .build())) {
+            MongoTemplate mongoTemplate = new MongoTemplate(client, "jlr_notifications_benchmark");
+            mongoTemplate.getDb().drop();
+
+            double single = run(THREADS, notification -> {
+                mongoTemplate.insert(NotificationRecord.builder().id(notification.id())
+                        .userId(notification.userId()).channel(notification.channel())
+                        .status(DeliveryStatus.QUEUED).createdAt(notification.createdAt()).build());
+                mongoTemplate.insert(DeliveryAttempt.builder().notificationId(notification.id())
+                        .userId(notification.userId()).channel(notification.channel()).success(true)
+                        .attemptedAt(Instant.now()).build());
+                mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(notification.id())),
+                        new Update().set("status", DeliveryStatus.SENT).inc("attempts", 1), NotificationRecord.class);
+            }, () -> true);
+            System.out.printf("one write per round trip: %,.0f docs/s%n", single);
+            mongoTemplate.getDb().drop();
+
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            DeliveryLog deliveryLog = new DeliveryLog(mongoTemplate, new DeliveryLogProperties(), registry);
+            deliveryLog.start();
+            try {
+                double batched = run(THREADS, notification -> {
+                    deliveryLog.queued(notification);
+                    deliveryLog.attempted(notification, null, 5, false);
+                }, () -> registry.counter("notification.log.written").count() >= 3.0 * SENDS);
+                System.out.printf("unordered micro-batches:  %,.0f docs/s (%.1fx), dropped %.0f%n", batched,
+                        batched / single, registry.counter("notification.log.dropped").count());
+            } finally {
+                deliveryLog.stop();
+            }
+        } finally {
+            if (container != null) {
+                container.stop();
+            }
+        }
+    }
+
+    /**
+     * @return documents per second, counted from the first send until {@code done}
+     */
+    private static double run(int threads, Consumer<Notification> send,
+                              BooleanSupplier done) throws InterruptedException {
+        ExecutorService senders = Executors.newFixedThreadPool(threads);
+        long started = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            senders.execute(() -> {
+                for (int i = thread; i < SENDS; i += threads) {
+                    send.accept(new Notification(UUID.randomUUID(), UUID.randomUUID(), "ORD-" + i, (long) i % 5000,
+                            NotificationChannel.EMAIL, "user" + i + "@example.com", "Order ORD-" + i, "body", false,
+                            Locale.UK, Instant.now(), 1));
+                }
+            });
+        }
+        senders.shutdown();
+        senders.awaitTermination(1, TimeUnit.HOURS);
+        while (!done.getAsBoolean()) {
+            Thread.sleep(10);
+        }
+        return 3.0 * SENDS / ((System.nanoTime() - started) / 1e9);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.jlr_notification_service.delivery;
+
+import com.example.jlr_notification_service.config.DeliveryLogProperties;
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.data.util.Pair;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DeliveryLogTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations recordInserts = mock(BulkOperations.class, RETURNS_SELF);
+    private final BulkOperations attemptInserts = mock(BulkOperations.class, RETURNS_SELF);
+    private final BulkOperations statusUpdates = mock(BulkOperations.class, RETURNS_SELF);
+    private DeliveryLog deliveryLog;
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        deliveryLog.stop();
+    }
+
+    @Test
+    void writesAMicroBatchAsUnorderedBulksWithInsertsBeforeUpdates() {
+        when(mongoTemplate.indexOps(any(Class.class))).thenReturn(mock(IndexOperations.class));
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, NotificationRecord.class))
+                .thenReturn(recordInserts, statusUpdates);
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, DeliveryAttempt.class)).thenReturn(attemptInserts);
+        DeliveryLogProperties properties = new DeliveryLogProperties();
+        properties.setFlushInterval(Duration.ofMillis(500));
+        deliveryLog = new DeliveryLog(mongoTemplate, properties, new SimpleMeterRegistry());
+        deliveryLog.start();
+
+        Notification sent = notification();
+        Notification failed = notification();
+        deliveryLog.queued(sent);
+        deliveryLog.queued(failed);
+        deliveryLog.attempted(sent, null, 12, false);
+        deliveryLog.attempted(failed, new IOException("relay refused"), 30, false);
+
+        verify(statusUpdates, timeout(5000)).execute();
+        InOrder inOrder = inOrder(recordInserts, attemptInserts, statusUpdates);
+        inOrder.verify(recordInserts).insert(argThat((List<NotificationRecord> records) -> records.size() == 2
+                && records.stream().allMatch(record -> record.getStatus() == DeliveryStatus.QUEUED)));
+        inOrder.verify(recordInserts).execute();
+        inOrder.verify(attemptInserts).insert(argThat((List<DeliveryAttempt> attempts) -> attempts.size() == 2
+                && !attempts.get(1).isSuccess() && attempts.get(1).getError().equals("relay refused")));
+        inOrder.verify(attemptInserts).execute();
+        inOrder.verify(statusUpdates).updateOne(
+                argThat((List<Pair<Query, UpdateDefinition>> updates) -> updates.size() == 2));
+        inOrder.verify(statusUpdates).execute();
+        // one micro-batch, so one bulk call per kind of write
+        verify(mongoTemplate, times(2)).bulkOps(BulkMode.UNORDERED, NotificationRecord.class);
+    }
+
+    @Test
+    void indexesAreCreatedOffTheStartupPathAndRetriedUntilMongoAcceptsThem() {
+        IndexOperations indexes = mock(IndexOperations.class);
+        when(mongoTemplate.indexOps(NotificationRecord.class))
+                .thenThrow(new DataAccessResourceFailureException("Timed out waiting for a server"))
+                .thenReturn(indexes);
+        when(mongoTemplate.indexOps(DeliveryAttempt.class)).thenReturn(indexes);
+        DeliveryLogProperties properties = new DeliveryLogProperties();
+        properties.setIndexRetryInterval(Duration.ofMillis(20));
+        deliveryLog = new DeliveryLog(mongoTemplate, properties, new SimpleMeterRegistry());
+
+        deliveryLog.start();
+
+        verify(indexes, timeout(5000).times(5)).ensureIndex(any());
+        verify(mongoTemplate, times(2)).indexOps(NotificationRecord.class);
+    }
+
+    private static Notification notification() {
+        return new Notification(UUID.randomUUID(), UUID.randomUUID(), "ORD-1", 1L, NotificationChannel.EMAIL,
+                "user1@example.com", "Order ORD-1 is now confirmed", "<p>confirmed</p>", false, Locale.UK,
+                Instant.now(), 1);
+    }
+}
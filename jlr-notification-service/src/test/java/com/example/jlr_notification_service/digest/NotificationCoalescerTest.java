@@ -0,0 +1,108 @@
+package com.example.jlr_notification_service.digest;
+
+import com.example.jlr_notification_service.config.DigestProperties;
+import com.example.jlr_notification_service.config.TemplateProperties;
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import com.example.jlr_notification_service.notification.NotificationDispatcher;
+import com.example.jlr_notification_service.template.NotificationRenderer;
+import com.example.jlr_notification_service.template.NotificationTemplates;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class NotificationCoalescerTest {
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-01-01T09:00:00Z"));
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    };
+
+    private final NotificationDispatcher dispatcher = mock(NotificationDispatcher.class);
+    private final DigestProperties properties = new DigestProperties();
+    private final NotificationCoalescer coalescer = new NotificationCoalescer(dispatcher, renderer(), properties,
+            clock, new SimpleMeterRegistry());
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void foldsABulkRunIntoOneDigestButSendsUrgentAtOnce() {
+        properties.setMaxItems(500);
+        for (int i = 0; i < 300; i++) {
+            coalescer.submit(List.of(email(2L, "ORD-" + i, "confirmed", false)));
+            now.set(now.get().plusMillis(100));
+        }
+        coalescer.submit(List.of(email(2L, "ORD-0", "shipped", false), email(2L, "ORD-EM", "confirmed", true),
+                email(3L, "ORD-9", "confirmed", false)));
+        verify(dispatcher).dispatch(List.of(email(2L, "ORD-EM", "confirmed", true)));
+
+        coalescer.flushDue();
+        now.set(now.get().plus(Duration.ofMinutes(2)));
+        coalescer.flushDue();
+
+        ArgumentCaptor<List<Notification>> sent = ArgumentCaptor.forClass(List.class);
+        verify(dispatcher, times(2)).dispatch(sent.capture());
+        List<Notification> flushed = sent.getAllValues().get(1);
+        assertThat(flushed).hasSize(2);
+        Notification digest = flushed.stream().filter(n -> n.userId() == 2L).findFirst().orElseThrow();
+        assertThat(digest.subject()).isEqualTo("Updates on 300 of your orders");
+        assertThat(digest.body()).contains("<li>Order ORD-0 is now shipped</li>",
+                "<li>Order ORD-299 is now confirmed</li>");
+        // a window that only ever held one order sends it as it was
+        assertThat(flushed).contains(email(3L, "ORD-9", "confirmed", false));
+    }
+
+    @Test
+    void sendsASteadyTrickleOnceTheMaxWindowIsReached() {
+        List<Instant> sentAt = new ArrayList<>();
+        doAnswer(invocation -> sentAt.add(now.get())).when(dispatcher).dispatch(anyList());
+        Instant start = now.get();
+        for (int i = 0; i < 10; i++) {
+            coalescer.submit(List.of(email(2L, "ORD-" + i, "confirmed", false)));
+            now.set(now.get().plus(Duration.ofSeconds(90)));
+            coalescer.flushDue();
+        }
+
+        assertThat(sentAt).containsExactly(start.plus(Duration.ofSeconds(90 * 7)));
+    }
+
+    private static Notification email(long userId, String orderNumber, String status, boolean urgent) {
+        UUID id = UUID.nameUUIDFromBytes((userId + orderNumber + status).getBytes());
+        return new Notification(id, id, orderNumber, userId, NotificationChannel.EMAIL,
+                "user" + userId + "@example.com", "Order " + orderNumber + " is now " + status,
+                "<p>" + status + "</p>", urgent, Locale.UK, Instant.EPOCH, 1);
+    }
+
+    private static NotificationRenderer renderer() {
+        TemplateProperties properties = new TemplateProperties();
+        properties.setVersions(Map.of("order-created", 1, "order-status", 1, "digest", 1));
+        return new NotificationRenderer(new NotificationTemplates(new DefaultResourceLoader(), properties));
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.jlr_notification_service.dispatch;
+
+import com.example.jlr_notification_service.config.DispatchProperties;
+import com.example.jlr_notification_service.delivery.DeliveryLog;
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import com.example.jlr_notification_service.provider.ChannelProvider;
+import com.example.jlr_notification_service.retry.RetryScheduler;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class DispatchSchedulerTest {
+
+    private DispatchScheduler scheduler;
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+    }
+
+    @Test
+    void stuckSmsProviderDoesNotHoldUpEmail() throws Exception {
+        CountDownLatch smsReleased = new CountDownLatch(1);
+        StubProvider sms = new StubProvider(NotificationChannel.SMS, smsReleased);
+        StubProvider email = new StubProvider(NotificationChannel.EMAIL, null);
+        scheduler = scheduler(Map.of(
+                NotificationChannel.SMS, new DispatchProperties.Lane(1000, 1000, 2, 100),
+                NotificationChannel.EMAIL, new DispatchProperties.Lane(1000, 1000, 2, 100)), sms, email);
+        scheduler.start();
+
+        scheduler.dispatch(IntStream.range(0, 10).mapToObj(i -> notification(NotificationChannel.SMS, "S" + i, true))
+                .toList());
+        scheduler.dispatch(IntStream.range(0, 50).mapToObj(i -> notification(NotificationChannel.EMAIL, "E" + i, false))
+                .toList());
+
+        assertThat(email.awaitSent(50)).isTrue();
+        assertThat(sms.sent).hasSize(0);
+        assertThat(scheduler.queued(NotificationChannel.SMS)).isEqualTo(8);
+        smsReleased.countDown();
+        assertThat(sms.awaitSent(10)).isTrue();
+    }
+
+    @Test
+    void sendsUrgentFirst() throws Exception {
+        StubProvider email = new StubProvider(NotificationChannel.EMAIL, null);
+        scheduler = scheduler(Map.of(NotificationChannel.EMAIL, new DispatchProperties.Lane(1000, 1000, 1, 100)),
+                email);
+        // queued before the workers start, so the whole backlog is there to be ordered
+        scheduler.dispatch(List.of(notification(NotificationChannel.EMAIL, "ORD-1", false),
+                notification(NotificationChannel.EMAIL, "ORD-2", false),
+                notification(NotificationChannel.EMAIL, "ORD-EM1", true),
+                notification(NotificationChannel.EMAIL, "ORD-3", false),
+                notification(NotificationChannel.EMAIL, "ORD-EM2", true)));
+        scheduler.start();
+
+        assertThat(email.awaitSent(5)).isTrue();
+        assertThat(email.sent).containsExactly("ORD-EM1", "ORD-EM2", "ORD-1", "ORD-2", "ORD-3");
+    }
+
+    @Test
+    void stopSendsWhatIsQueuedAndRefusesMore() throws Exception {
+        StubProvider email = new StubProvider(NotificationChannel.EMAIL, null);
+        scheduler = scheduler(Map.of(NotificationChannel.EMAIL, new DispatchProperties.Lane(20, 1, 1, 100)), email);
+        scheduler.start();
+        scheduler.dispatch(IntStream.range(0, 10).mapToObj(i -> notification(NotificationChannel.EMAIL, "E" + i, false))
+                .toList());
+
+        scheduler.stop();
+
+        assertThat(email.sent).hasSize(10);
+        assertThatThrownBy(() -> scheduler.dispatch(List.of(notification(NotificationChannel.EMAIL, "LATE", false))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void bulkheadBelowTheWorkerCountCapsCallsAndSpareWorkersWaitOnIt() throws Exception {
+        CountDownLatch released = new CountDownLatch(1);
+        StubProvider email = new StubProvider(NotificationChannel.EMAIL, released);
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ofMillis(100))
+                .build());
+        AtomicInteger rejected = new AtomicInteger();
+        bulkheads.bulkhead("email").getEventPublisher().onCallRejected(event -> rejected.incrementAndGet());
+        scheduler = scheduler(Map.of(NotificationChannel.EMAIL, new DispatchProperties.Lane(1000, 1000, 3, 100)),
+                bulkheads, email);
+        scheduler.start();
+        scheduler.dispatch(IntStream.range(0, 5).mapToObj(i -> notification(NotificationChannel.EMAIL, "E" + i, false))
+                .toList());
+
+        Thread.sleep(500);
+        // one worker in the provider, two holding a notification each until a permit frees up
+        assertThat(scheduler.queued(NotificationChannel.EMAIL)).isEqualTo(2);
+        assertThat(rejected.get()).isLessThanOrEqualTo(12);
+        released.countDown();
+        assertThat(email.awaitSent(5)).isTrue();
+        assertThat(email.maxInFlight.get()).isEqualTo(1);
+    }
+
+    @Test
+    void refusesABulkheadWorkersCouldNotWaitOn() {
+        // with no max-wait-duration a full bulkhead would send each spare worker straight round again
+        assertThatThrownBy(() -> scheduler(Map.of(NotificationChannel.EMAIL, new DispatchProperties.Lane(1, 1, 1, 1)),
+                BulkheadRegistry.ofDefaults(), new StubProvider(NotificationChannel.EMAIL, null)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void tokenBucketAllowsBurstThenHoldsToRate() {
+        AtomicLong nanos = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 3, nanos::get);
+
+        assertThat(IntStream.range(0, 3).mapToLong(i -> bucket.reserve())).containsOnly(0L);
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+        nanos.set(TimeUnit.SECONDS.toNanos(10));
+        assertThat(bucket.reserve()).isZero();
+    }
+
+    private static DispatchScheduler scheduler(Map<NotificationChannel, DispatchProperties.Lane> lanes,
+                                               ChannelProvider... providers) {
+        return scheduler(lanes, BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ofMillis(100))
+                .build()), providers);
+    }
+
+    private static DispatchScheduler scheduler(Map<NotificationChannel, DispatchProperties.Lane> lanes,
+                                               BulkheadRegistry bulkheads, ChannelProvider... providers) {
+        DispatchProperties properties = new DispatchProperties();
+        properties.setLanes(lanes);
+        return new DispatchScheduler(List.of(providers), properties, bulkheads,
+                mock(DeliveryLog.class), mock(RetryScheduler.class), new SimpleMeterRegistry());
+    }
+
+    private static Notification notification(NotificationChannel channel, String orderNumber, boolean urgent) {
+        return new Notification(UUID.randomUUID(), UUID.randomUUID(), orderNumber, 1L, channel, "user1@example.com",
+                "Order " + orderNumber, "body", urgent, Locale.UK, Instant.now(), 1);
+    }
+
+    private static final class StubProvider implements ChannelProvider {
+
+        private final NotificationChannel channel;
+        private final CountDownLatch release;
+        private final Queue<String> sent = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        StubProvider(NotificationChannel channel, CountDownLatch release) {
+            this.channel = channel;
+            this.release = release;
+        }
+
+        @Override
+        public NotificationChannel channel() {
+            return channel;
+        }
+
+        @Override
+        public void send(Notification notification) throws InterruptedException {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                if (release != null) {
+                    release.await();
+                }
+                sent.add(notification.orderNumber());
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        boolean awaitSent(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sent.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            return sent.size() == count;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.jlr_notification_service.intake;
+
+import com.example.jlr_notification_service.config.TemplateProperties;
+import com.example.jlr_notification_service.digest.NotificationCoalescer;
+import com.example.jlr_notification_service.event.OrderEvent;
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import com.example.jlr_notification_service.recipient.Recipient;
+import com.example.jlr_notification_service.recipient.RecipientDirectory;
+import com.example.jlr_notification_service.recipient.Recipients;
+import com.example.jlr_notification_service.template.NotificationRenderer;
+import com.example.jlr_notification_service.template.NotificationTemplates;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+class OrderEventListenerTest {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    private final RecipientDirectory directory = mock(RecipientDirectory.class);
+    private final NotificationCoalescer coalescer = mock(NotificationCoalescer.class);
+    private final OrderEventListener listener = new OrderEventListener(directory,
+            new NotificationRenderer(new NotificationTemplates(new DefaultResourceLoader(), templateProperties())),
+            coalescer, MAPPER, new SimpleMeterRegistry());
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void looksRecipientsUpOncePerBatchAndRendersInTheirLocale() throws Exception {
+        OrderEvent created = event(OrderEvent.ORDER_CREATED, "STANDARD", null);
+        OrderEvent confirmed = event(OrderEvent.ORDER_STATUS_CHANGED, "EMERGENCY", "CONFIRMED");
+        when(directory.lookup(Set.of(1L), Set.of("DLR-1"))).thenReturn(Recipients.of(List.of(
+                recipient(1L, "CUSTOMER", "+447700900001", Locale.UK),
+                recipient(2L, "DEALER_MANAGER", null, Locale.GERMANY))));
+
+        listener.onBatch(List.of(MAPPER.writeValueAsString(created), "not json",
+                MAPPER.writeValueAsString(confirmed), MAPPER.writeValueAsString(confirmed)));
+
+        verify(directory, times(1)).lookup(any(), any());
+        ArgumentCaptor<List<Notification>> sent = ArgumentCaptor.forClass(List.class);
+        verify(coalescer).submit(sent.capture());
+        assertThat(sent.getValue()).extracting(Notification::userId, Notification::channel, Notification::subject)
+                .containsExactly(
+                        tuple(1L, NotificationChannel.EMAIL, "We have received order ORD-1"),
+                        tuple(1L, NotificationChannel.EMAIL, "Order ORD-1 is now confirmed"),
+                        tuple(1L, NotificationChannel.SMS, null),
+                        tuple(1L, NotificationChannel.PUSH, "Order ORD-1 is now confirmed"),
+                        tuple(2L, NotificationChannel.EMAIL, "Bestellung ORD-1: neuer Status CONFIRMED"),
+                        tuple(2L, NotificationChannel.PUSH, "Bestellung ORD-1: neuer Status CONFIRMED"));
+        assertThat(sent.getValue().get(1).body()).contains("Dear User1,", "Order total: 1,250.00 GBP");
+        assertThat(sent.getValue().get(2).body()).isEqualTo("JLR Parts: emergency order ORD-1 is now confirmed.");
+        assertThat(sent.getValue().get(2).urgent()).isTrue();
+    }
+
+    private static OrderEvent event(String type, String orderType, String status) {
+        return OrderEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(type)
+                .orderNumber("ORD-1")
+                .dealerId("DLR-1")
+                .userId(1L)
+                .orderType(orderType)
+                .status(status)
+                .previousStatus("PENDING")
+                .totalAmount(new BigDecimal("1250.00"))
+                .currency("GBP")
+                .lineCount(3)
+                .build();
+    }
+
+    private static Recipient recipient(long id, String role, String phone, Locale locale) {
+        return Recipient.builder()
+                .userId(id)
+                .email("user" + id + "@example.com")
+                .phoneNumber(phone)
+                .firstName("User" + id)
+                .lastName("Test")
+                .role(role)
+                .dealerId("DLR-1")
+                .locale(locale)
+                .build();
+    }
+
+    private static TemplateProperties templateProperties() {
+        TemplateProperties properties = new TemplateProperties();
+        properties.setVersions(Map.of("order-created", 1, "order-status", 1));
+        return properties;
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.jlr_notification_service.provider;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Just enough of an SMTP server to take mail in-process, counting
+ * connections and messages, keeping the RCPT commands, refusing recipients at
+ * unknown.example.com, and offering PIPELINING if asked to. To stand in for a
+ * relay across a network it holds each batch of replies for {@code roundTripMillis}, once the
+ * client has nothing more in flight, and a new connection for
+ * {@code handshakeMillis} before the greeting, the cost of the TCP and TLS
+ * handshakes.
+ */
+final class LocalSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessions = Executors.newCachedThreadPool();
+    private final Set<Socket> open = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger messages = new AtomicInteger();
+    private final Queue<String> recipients = new ConcurrentLinkedQueue<>();
+    private final long roundTripNanos;
+    private final long handshakeNanos;
+    private final boolean pipelining;
+
+    LocalSmtpServer(long roundTripMillis, long handshakeMillis, boolean pipelining) throws IOException {
+        this.serverSocket = new ServerSocket(0, 200, InetAddress.getLoopbackAddress());
+        this.roundTripNanos = TimeUnit.MILLISECONDS.toNanos(roundTripMillis);
+        this.handshakeNanos = TimeUnit.MILLISECONDS.toNanos(handshakeMillis);
+        this.pipelining = pipelining;
+        sessions.execute(this::accept);
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    int connections() {
+        return connections.get();
+    }
+
+    int messages() {
+        return messages.get();
+    }
+
+    /**
+     * Every RCPT command taken, as sent.
+     */
+    List<String> recipients() {
+        return List.copyOf(recipients);
+    }
+
+    /**
+     * Drops every open connection without a word, as a relay does to idle ones.
+     */
+    void dropConnections() throws IOException {
+        for (Socket socket : open) {
+            socket.close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        dropConnections();
+        sessions.shutdownNow();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                open.add(socket);
+                sessions.execute(() -> serve(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.US_ASCII));
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            LockSupport.parkNanos(handshakeNanos);
+            reply(in, out, "220 localhost ESMTP");
+            String line;
+            boolean refused = false;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() < 4 ? line.toUpperCase() : line.substring(0, 4).toUpperCase();
+                switch (command) {
+                    case "EHLO" -> reply(in, out, pipelining
+                            ? "250-localhost\r\n250-PIPELINING\r\n250 AUTH PLAIN" : "250-localhost\r\n250 AUTH PLAIN");
+                    case "RCPT" -> {
+                        recipients.add(line);
+                        refused = line.toLowerCase().contains("@unknown.example.com");
+                        reply(in, out, refused ? "550 No such user" : "250 OK");
+                    }
+                    case "DATA" -> {
+                        if (refused) {
+                            reply(in, out, "554 No valid recipients");
+                            continue;
+                        }
+                        reply(in, out, "354 End data with <CR><LF>.<CR><LF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // the message itself is not kept
+                        }
+                        messages.incrementAndGet();
+                        reply(in, out, "250 Queued");
+                    }
+                    case "HELO", "MAIL", "RSET", "NOOP" -> reply(in, out, "250 OK");
+                    case "AUTH" -> {
+                        if (line.trim().split(" ").length < 3) {
+                            reply(in, out, "334 ");
+                            in.readLine();
+                        }
+                        reply(in, out, "235 Authenticated");
+                    }
+                    case "QUIT" -> {
+                        reply(in, out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(in, out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            // the client hung up, or the connection was dropped on purpose
+        } finally {
+            open.remove(socket);
+        }
+    }
+
+    /**
+     * Queues the reply, and sends everything queued one round trip later
+     * unless more pipelined commands are already waiting.
+     */
+    private void reply(BufferedReader in, OutputStream out, String reply) throws IOException {
+        out.write((reply + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        if (!in.ready()) {
+            LockSupport.parkNanos(roundTripNanos);
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.jlr_notification_service.provider;
+
+import com.example.jlr_notification_service.config.ProviderProperties;
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.AddressException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SmtpConnectionPoolTest {
+
+    private LocalSmtpServer server;
+    private SmtpEmailProvider provider;
+
+    @AfterEach
+    void stop() throws Exception {
+        if (provider != null) {
+            provider.close();
+        }
+        server.close();
+    }
+
+    @Test
+    void reusesEachConnectionUpToTheMessageLimit() throws Exception {
+        // a relay without PIPELINING, so commands go one at a time
+        server = new LocalSmtpServer(0, 0, false);
+        provider = provider(1, 3);
+
+        for (int i = 0; i < 7; i++) {
+            provider.send(notification(i));
+        }
+
+        assertThat(server.messages()).isEqualTo(7);
+        assertThat(server.connections()).isEqualTo(3);
+    }
+
+    @Test
+    void sendsAgainOverANewConnectionWhenTheRelayDroppedAnIdleOne() throws Exception {
+        server = new LocalSmtpServer(0, 0, true);
+        provider = provider(1, 100);
+        provider.send(notification(1));
+
+        server.dropConnections();
+        provider.send(notification(2));
+
+        assertThat(server.messages()).isEqualTo(2);
+        assertThat(server.connections()).isEqualTo(2);
+    }
+
+    @Test
+    void refusedRecipientFailsForGoodAndLeavesThePipelinedSessionUsable() throws Exception {
+        server = new LocalSmtpServer(0, 0, true);
+        provider = provider(1, 100);
+        Notification unknown = new Notification(UUID.randomUUID(), UUID.randomUUID(), "ORD-9", 9L,
+                NotificationChannel.EMAIL, "nobody@unknown.example.com", "Order ORD-9", "<p>ready</p>", false,
+                Locale.UK, Instant.now(), 1);
+
+        assertThatThrownBy(() -> provider.send(unknown))
+                .isInstanceOfSatisfying(SmtpReplyException.class, e -> assertThat(e.getCode()).isEqualTo(550))
+                .satisfies(e -> assertThat(provider.isPermanent((Exception) e)).isTrue());
+        provider.send(notification(1));
+
+        assertThat(server.messages()).isEqualTo(1);
+        assertThat(server.connections()).isEqualTo(1);
+    }
+
+    @Test
+    void envelopeCarriesTheBareAddressAndRefusesOneThatWouldSmuggleInACommand() throws Exception {
+        server = new LocalSmtpServer(0, 0, true);
+        provider = provider(1, 100);
+
+        provider.send(notification("Dealer One <dealer1@example.com>"));
+        assertThatThrownBy(() -> provider.send(notification("dealer2@example.com>\r\nRCPT TO:<other@example.com")))
+                .isInstanceOf(AddressException.class)
+                .satisfies(e -> assertThat(provider.isPermanent((Exception) e)).isTrue());
+
+        assertThat(server.recipients()).containsExactly("RCPT TO:<dealer1@example.com>");
+        assertThat(server.messages()).isEqualTo(1);
+    }
+
+    @Test
+    void holdsNoMoreConnectionsThanTheRelayAllowsHoweverManySenders() throws Exception {
+        server = new LocalSmtpServer(0, 0, true);
+        provider = provider(2, 100);
+        ExecutorService senders = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<Object>> sent = senders.invokeAll(IntStream.range(0, 60)
+                    .mapToObj(i -> (Callable<Object>) () -> {
+                        provider.send(notification(i));
+                        return null;
+                    })
+                    .toList());
+            for (Future<Object> future : sent) {
+                future.get();
+            }
+        } finally {
+            senders.shutdown();
+        }
+
+        assertThat(server.messages()).isEqualTo(60);
+        assertThat(server.connections()).isLessThanOrEqualTo(2);
+    }
+
+    private SmtpEmailProvider provider(int connections, int maxMessagesPerConnection) {
+        ProviderProperties.Relay relay = new ProviderProperties.Relay();
+        relay.setHost("localhost");
+        relay.setPort(server.port());
+        relay.setConnections(connections);
+        ProviderProperties.Smtp smtp = new ProviderProperties.Smtp();
+        smtp.setMaxMessagesPerConnection(maxMessagesPerConnection);
+        return new SmtpEmailProvider(List.of(new SmtpConnectionPool(relay, smtp, new SimpleMeterRegistry())),
+                "no-reply@jlr-parts.example.com");
+    }
+
+    private static Notification notification(int i) {
+        return new Notification(UUID.randomUUID(), UUID.randomUUID(), "ORD-" + i, (long) i, NotificationChannel.EMAIL,
+                "dealer" + i + "@example.com", "Order ORD-" + i, "<p>Order ORD-" + i + " is ready</p>", false,
+                Locale.UK, Instant.now(), 1);
+    }
+
+    private static Notification notification(String address) {
+        return new Notification(UUID.randomUUID(), UUID.randomUUID(), "ORD-1", 1L, NotificationChannel.EMAIL,
+                address, "Order ORD-1", "<p>Order ORD-1 is ready</p>", false, Locale.UK, Instant.now(), 1);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.jlr_notification_service.provider;
+
+import com.example.jlr_notification_service.config.ProviderProperties;
+import com.example.jlr_notification_service.notification.Notification;
+import com.example.jlr_notification_service.notification.NotificationChannel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Email throughput against a {@link LocalSmtpServer} standing in for an
+ * authenticated relay across a network: every round trip costs
+ * {@code -Drtt} ms (default 10) and every new connection three more
+ * ({@code -Dhandshake}), the TCP and TLS handshakes. Compares, at 1 and 8
+ * senders (the email lane's workers):
+ * <ul>
+ * <li>a new connection per message, as {@code JavaMailSenderImpl} does;</li>
+ * <li>{@link SmtpEmailProvider} over pooled connections to a relay without
+ * PIPELINING;</li>
+ * <li>the same, with PIPELINING.</li>
+ * </ul>
+ *
+ * Not a unit test; run by hand:
+ * {@code java -cp target/test-classes:target/classes:<test classpath>
+ * com.example.jlr_notification_service.provider.SmtpThroughputBenchmark}
+ */
+public final class SmtpThroughputBenchmark {
+
+    private static final long RTT_MILLIS = Long.getLong("rtt", 10);
+    private static final long HANDSHAKE_MILLIS = Long.getLong("handshake", 3 * RTT_MILLIS);
+    private static final int MESSAGES_PER_SENDER = Integer.getInteger("messages", 100);
+    private static final String FROM = "no-reply@jlr-parts.example.com";
+
+    private SmtpThroughputBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("relay: %d ms round trip, %d ms handshake%n", RTT_MILLIS, HANDSHAKE_MILLIS);
+        for (int senders : new int[]{1, 8}) {
+            double perMessage;
+            try (LocalSmtpServer server = new LocalSmtpServer(RTT_MILLIS, HANDSHAKE_MILLIS, true)) {
+                JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+                mailSender.setHost("localhost");
+                mailSender.setPort(server.port());
+                mailSender.setUsername("notifications");
+                mailSender.setPassword("secret");
+                Properties properties = new Properties();
+                properties.put("mail.smtp.auth", "true");
+                mailSender.setJavaMailProperties(properties);
+                perMessage = run("new connection per message", server, senders, i -> {
+                    MimeMessage message = mailSender.createMimeMessage();
+                    Notification notification = notification(i);
+                    MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+                    helper.setFrom(FROM);
+                    helper.setTo(notification.address());
+                    helper.setSubject(notification.subject());
+                    helper.setText(notification.body(), true);
+                    mailSender.send(message);
+                });
+            }
+            for (boolean pipelining : new boolean[]{false, true}) {
+                try (LocalSmtpServer server = new LocalSmtpServer(RTT_MILLIS, HANDSHAKE_MILLIS, pipelining);
+                     SmtpEmailProvider provider = provider(server, senders)) {
+                    double pooled = run(pipelining ? "pooled, pipelined" : "pooled", server, senders,
+                            i -> provider.send(notification(i)));
+                    System.out.printf("    %.1fx a new connection per message%n", pooled / perMessage);
+                }
+            }
+        }
+    }
+
+    private static SmtpEmailProvider provider(LocalSmtpServer server, int connections) {
+        ProviderProperties.Relay relay = new ProviderProperties.Relay();
+        relay.setHost("localhost");
+        relay.setPort(server.port());
+        relay.setUsername("notifications");
+        relay.setPassword("secret");
+        relay.setConnections(connections);
+        return new SmtpEmailProvider(List.of(new SmtpConnectionPool(relay, new ProviderProperties.Smtp(),
+                new SimpleMeterRegistry())), FROM);
+    }
+
+    private static double run(String mode, LocalSmtpServer server, int senders, Send send) throws Exception {
+        int total = senders * MESSAGES_PER_SENDER;
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(senders);
+        try {
+            long started = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int s = 0; s < senders; s++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < total; i = next.getAndIncrement()) {
+                        send.send(i);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double seconds = (System.nanoTime() - started) / 1e9;
+            System.out.printf("senders=%d  %-27s %,6.0f msg/s  (%,d messages over %,d connections)%n", senders,
+                    mode, total / seconds, server.messages(), server.connections());
+            return total / seconds;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Notification notification(int i) {
+        return new Notification(UUID.randomUUID(), UUID.randomUUID(), "ORD-" + i, (long) i, NotificationChannel.EMAIL,
+                "dealer" + i % 500 + "@example.com", "Order ORD-" + i + " has shipped",
+                "<html><body><p>Your order ORD-" + i + " has shipped.</p></body></html>", false, Locale.UK,
+                Instant.now(), 1);
+    }
+
+    @FunctionalInterface
+    private interface Send {
+        void send(int i) throws Exception;
+    }
+}
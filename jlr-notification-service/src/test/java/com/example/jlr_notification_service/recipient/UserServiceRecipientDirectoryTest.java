@@ -0,0 +1,72 @@
+package com.example.jlr_notification_service.recipient;
+
+import com.example.jlr_notification_service.config.RecipientProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Against a stand-in for user-service that, like the real one, only answers
+ * callers presenting the service id and key it knows.
+ */
+class UserServiceRecipientDirectoryTest {
+
+    private static final String USER = "[{\"id\": 1, \"email\": \"owner@example.com\", \"role\": \"CUSTOMER\","
+            + " \"dealerId\": \"DLR-1\", \"active\": true}]";
+
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/api/users/lookup", exchange -> {
+            boolean known = "jlr-notification-service".equals(exchange.getRequestHeaders().getFirst("X-Service-Id"))
+                    && "test-key".equals(exchange.getRequestHeaders().getFirst("X-Service-Key"));
+            byte[] body = (known ? USER : "{\"error\": \"Unauthorized\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(known ? 200 : 401, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void signsInWithTheServiceIdAndKey() {
+        Recipients recipients = directory("test-key").lookup(Set.of(1L), Set.of());
+
+        assertThat(recipients.user(1L)).get().extracting(Recipient::getEmail).isEqualTo("owner@example.com");
+    }
+
+    @Test
+    void refusedLookupFailsTheBatch() {
+        assertThatThrownBy(() -> directory("wrong").lookup(Set.of(1L), Set.of()))
+                .isInstanceOf(HttpClientErrorException.Unauthorized.class);
+    }
+
+    private UserServiceRecipientDirectory directory(String key) {
+        RecipientProperties properties = new RecipientProperties();
+        properties.setUserServiceUrl("http://localhost:" + server.getAddress().getPort());
+        properties.setServiceKey(key);
+        return new UserServiceRecipientDirectory(RestClient.builder(), properties);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.jlr_notification_service.retry;
+
+import com.example.jlr_notification_service.config.RetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class RetrySchedulerTest {
+
+    private final RetryStore store = mock(RetryStore.class);
+    private RetryScheduler scheduler;
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        scheduler.stop();
+    }
+
+    @Test
+    void recoveryInterruptedByMongoCarriesOnWhereItStopped() {
+        Instant due = Instant.now().plus(Duration.ofHours(1));
+        RetryEntry first = RetryEntry.builder().id(new UUID(0, 1)).dueAt(due).build();
+        RetryEntry second = RetryEntry.builder().id(new UUID(0, 2)).dueAt(due).build();
+        doAnswer(call -> {
+            call.<Consumer<RetryEntry>>getArgument(1).accept(first);
+            throw new DataAccessResourceFailureException("Prematurely reached end of stream");
+        }).when(store).forEachScheduled(isNull(), any());
+        doAnswer(call -> {
+            call.<Consumer<RetryEntry>>getArgument(1).accept(second);
+            return null;
+        }).when(store).forEachScheduled(same(first), any());
+        RetryProperties properties = new RetryProperties();
+        properties.setRecoveryRetryInterval(Duration.ofMillis(20));
+        scheduler = new RetryScheduler(store, properties, Clock.systemUTC(), new SimpleMeterRegistry());
+
+        scheduler.start(notification -> true);
+
+        verify(store, timeout(5000)).forEachScheduled(same(first), any());
+        verify(store, timeout(5000).times(2)).ensureIndexes();
+        assertThat(scheduler.pending()).isEqualTo(2);
+    }
+}
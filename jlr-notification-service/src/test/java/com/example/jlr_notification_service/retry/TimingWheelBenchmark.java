@@ -0,0 +1,70 @@
+package com.example.jlr_notification_service.retry;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Schedules five million retries spread over the next hour into a
+ * {@link TimingWheel}, then runs the wheel tick by tick until all have fired,
+ * and prints the cost per retry of each and the heap the wheel holds. The
+ * cost per retry should stay flat as the count grows, and the heap about 28
+ * bytes per retry.
+ *
+ * Not a unit test; run by hand with a capped heap:
+ * {@code java -Xmx512m -cp target/test-classes:target/classes
+ * com.example.jlr_notification_service.retry.TimingWheelBenchmark}
+ */
+public final class TimingWheelBenchmark {
+
+    private static final int RETRIES = Integer.getInteger("retries", 5_000_000);
+    private static final long TICK_MILLIS = 100;
+    private static final long HOUR_MILLIS = 3_600_000;
+
+    private TimingWheelBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        for (int run = 1; run <= 3; run++) {
+            long start = System.currentTimeMillis();
+            long before = usedHeap();
+            TimingWheel wheel = new TimingWheel(TICK_MILLIS, RETRIES, start);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            long started = System.nanoTime();
+            for (int i = 0; i < RETRIES; i++) {
+                wheel.schedule(new UUID(random.nextLong(), i), start + random.nextLong(HOUR_MILLIS));
+            }
+            long scheduling = System.nanoTime() - started;
+            long held = usedHeap() - before;
+
+            long[] fired = {0};
+            started = System.nanoTime();
+            for (long now = start; now <= start + HOUR_MILLIS + TICK_MILLIS; now += TICK_MILLIS) {
+                wheel.advance(now, id -> fired[0]++);
+            }
+            long firing = System.nanoTime() - started;
+
+            System.out.printf("run %d: scheduled %,d in %d ms (%.0f ns each), fired %,d in %d ms (%.0f ns each),"
+                            + " wheel holds %d MB (%.1f bytes a retry)%n", run, RETRIES, scheduling / 1_000_000,
+                    (double) scheduling / RETRIES, fired[0], firing / 1_000_000, (double) firing / fired[0],
+                    held >> 20, (double) held / RETRIES);
+            if (fired[0] != RETRIES || wheel.size() != 0) {
+                throw new IllegalStateException(fired[0] + " of " + RETRIES + " retries fired");
+            }
+        }
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.jlr_notification_service.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private static final long TICK = 100;
+    private static final long START = 1_760_000_000_000L;
+
+    @Test
+    void firesEachEntryOnTheTickItFallsDueAcrossAllLevels() {
+        TimingWheel wheel = new TimingWheel(TICK, 100_000, START);
+        Random random = new Random(7);
+        Map<UUID, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            // up to 10 hours out, so entries start on every level and cascade down through the others
+            long deadline = START + (long) (random.nextDouble() * random.nextDouble() * 36_000_000L);
+            UUID id = new UUID(i, i);
+            deadlines.put(id, deadline);
+            assertThat(wheel.schedule(id, deadline)).isTrue();
+        }
+
+        Map<UUID, Long> firedAt = new HashMap<>();
+        for (long now = START; !deadlines.isEmpty() && now < START + 36_001_000L; now += 1 + random.nextInt(500)) {
+            long time = now;
+            wheel.advance(now, id -> firedAt.put(id, time));
+            firedAt.forEach((id, at) -> {
+                long deadline = deadlines.remove(id);
+                assertThat(at).as("fired at or after its deadline").isGreaterThanOrEqualTo(deadline);
+                assertThat(at).as("fired on the first advance past its tick").isLessThan(deadline + TICK + 500);
+            });
+            firedAt.clear();
+        }
+        assertThat(deadlines).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void entryAlreadyPastDueFiresOnTheNextTick() {
+        TimingWheel wheel = new TimingWheel(TICK, 10, START);
+        UUID id = UUID.randomUUID();
+        wheel.schedule(id, START - 60_000);
+
+        List<UUID> fired = new ArrayList<>();
+        wheel.advance(START, fired::add);
+        assertThat(fired).isEmpty();
+        wheel.advance(START + TICK, fired::add);
+        assertThat(fired).containsExactly(id);
+    }
+
+    @Test
+    void entryBeyondTheTopLevelWaitsInOverflowAndStillFiresOnTime() {
+        TimingWheel wheel = new TimingWheel(1, 10, 0);
+        long span = 1L << 27;
+        UUID id = UUID.randomUUID();
+        wheel.schedule(id, span + span / 2);
+
+        List<UUID> fired = new ArrayList<>();
+        wheel.advance(span + span / 2 - 1, fired::add);
+        assertThat(fired).isEmpty();
+        wheel.advance(span + span / 2, fired::add);
+        assertThat(fired).containsExactly(id);
+    }
+
+    @Test
+    void fullWheelRefusesEntriesUntilOneFires() {
+        TimingWheel wheel = new TimingWheel(TICK, 3, START);
+        assertThat(wheel.schedule(new UUID(0, 1), START + 1_000)).isTrue();
+        assertThat(wheel.schedule(new UUID(0, 2), START + 60_000)).isTrue();
+        assertThat(wheel.schedule(new UUID(0, 3), START + 60_000)).isTrue();
+        assertThat(wheel.schedule(new UUID(0, 4), START + 60_000)).isFalse();
+
+        List<UUID> fired = new ArrayList<>();
+        wheel.advance(START + 1_000, fired::add);
+
+        assertThat(fired).containsExactly(new UUID(0, 1));
+        assertThat(wheel.size()).isEqualTo(2);
+        assertThat(wheel.schedule(new UUID(0, 4), START + 2_000)).isTrue();
+        wheel.advance(START + 60_000, fired::add);
+        assertThat(fired).containsExactlyInAnyOrder(new UUID(0, 1), new UUID(0, 4), new UUID(0, 2), new UUID(0, 3));
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.jlr_order_service.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Inventory-service accepts at most 500 part numbers per call.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityBatchRequest {
+    private Set<String> partNumbers;
+}
@@ -0,0 +1,18 @@
+package com.example.jlr_order_service.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+@FeignClient(name = "inventory-service", path = "/api/inventory")
+public interface InventoryClient {
+
+    /**
+     * Availability of every listed part in one call; a part inventory-service
+     * has no answer for at all is missing from the list.
+     */
+    @PostMapping("/availability/batch")
+    List<PartAvailability> getAvailability(@RequestBody AvailabilityBatchRequest request);
+}
@@ -0,0 +1,19 @@
+package com.example.jlr_order_service.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PartAvailability {
+    private String partNumber;
+    private long totalAvailable;
+
+    /**
+     * Set by inventory-service when it answered from its last-known-good cache
+     */
+    private boolean stale;
+    private Instant asOf;
+}
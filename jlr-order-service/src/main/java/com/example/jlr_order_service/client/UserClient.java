@@ -0,0 +1,15 @@
+package com.example.jlr_order_service.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+@FeignClient(name = "jlr-user-service", path = "/api/users")
+public interface UserClient {
+
+    @GetMapping("/{id}")
+    UserSummary getUser(@PathVariable("id") Long id,
+                        @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization);
+}
@@ -0,0 +1,19 @@
+package com.example.jlr_order_service.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+/**
+ * The parts of user-service's user response an order view shows.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserSummary {
+    private Long id;
+    private String email;
+    private String firstName;
+    private String lastName;
+    private String role;
+    private String dealerId;
+    private String phoneNumber;
+}
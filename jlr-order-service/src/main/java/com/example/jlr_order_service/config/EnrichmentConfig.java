@@ -0,0 +1,37 @@
+package com.example.jlr_order_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableFeignClients(basePackages = "com.example.jlr_order_service.client")
+@Slf4j
+public class EnrichmentConfig {
+
+    /**
+     * Threads for the order-view fan-out. Each lookup is a blocking Feign call,
+     * which is what virtual threads are for; on a pre-21 JVM a fixed pool stands
+     * in, and lookups that cannot even be queued count as missing.
+     */
+    @Bean
+    public AsyncTaskExecutor enrichmentExecutor(EnrichmentProperties properties) {
+        if (properties.isVirtualThreads() && Runtime.version().feature() >= 21) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("enrich-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        log.info("Order enrichment running on a platform thread pool of {}", properties.getPlatformThreads());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPlatformThreads());
+        executor.setMaxPoolSize(properties.getPlatformThreads());
+        executor.setQueueCapacity(properties.getPlatformQueueCapacity());
+        executor.setThreadNamePrefix("enrich-");
+        executor.initialize();
+        return executor;
+    }
+}
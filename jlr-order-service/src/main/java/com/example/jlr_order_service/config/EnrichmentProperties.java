@@ -0,0 +1,43 @@
+package com.example.jlr_order_service.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.enrichment")
+@Validated
+public class EnrichmentProperties {
+
+    /**
+     * Budget for the whole order view, measured from the first fan-out call.
+     * Required sources that miss it fail the request.
+     */
+    @NotNull
+    private Duration deadline = Duration.ofMillis(800);
+
+    /**
+     * Optional sources still running after this are dropped and the view is
+     * returned as partial
+     */
+    @NotNull
+    private Duration optionalDeadline = Duration.ofMillis(250);
+
+    /**
+     * Run lookups on virtual threads when the JVM supports them (21+);
+     * otherwise the bounded pool below is used
+     */
+    private boolean virtualThreads = true;
+
+    @Min(value = 1)
+    private int platformThreads = 64;
+
+    @Min(value = 0)
+    private int platformQueueCapacity = 2000;
+}
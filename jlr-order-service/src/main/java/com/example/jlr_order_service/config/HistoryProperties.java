@@ -0,0 +1,26 @@
+package com.example.jlr_order_service.config;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.history")
+@Validated
+public class HistoryProperties {
+
+    /**
+     * First wait before a batch that failed on the database is redelivered;
+     * doubles up to {@code retryMaxInterval} and retries until it succeeds
+     */
+    @NotNull
+    private Duration retryInitialInterval = Duration.ofMillis(500);
+
+    @NotNull
+    private Duration retryMaxInterval = Duration.ofSeconds(30);
+}
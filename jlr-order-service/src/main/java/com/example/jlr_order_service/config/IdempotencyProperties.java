@@ -0,0 +1,35 @@
+package com.example.jlr_order_service.config;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.idempotency")
+@Validated
+public class IdempotencyProperties {
+
+    @NotEmpty
+    private String keyPrefix = "order:idem:";
+
+    /**
+     * Lease on the key while a submission runs, renewed every third of it until
+     * the submission finishes, however long it queues. Expiry frees the key if
+     * the node processing it dies.
+     */
+    @NotNull
+    private Duration inFlightTtl = Duration.ofSeconds(30);
+
+    /**
+     * How long the stored response is replayed to retries, after which Redis
+     * expires the key
+     */
+    @NotNull
+    private Duration responseTtl = Duration.ofHours(24);
+}
@@ -0,0 +1,83 @@
+package com.example.jlr_order_service.config;
+
+import com.example.jlr_order_service.intake.IntakeLane;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.intake")
+@Validated
+public class IntakeProperties {
+
+    /**
+     * Orders with more lines than this go to the bulk lane whatever their type
+     */
+    @Min(value = 1)
+    private int bulkLineThreshold = 500;
+
+    /**
+     * Lines written per chunk when a bulk order is loaded in parallel
+     */
+    @Min(value = 1)
+    private int chunkSize = 250;
+
+    /**
+     * Threads writing bulk-order chunks, shared by all bulk orders in flight
+     */
+    @Min(value = 1)
+    private int chunkThreads = 8;
+
+    /**
+     * How long a bulk order may take to load all its chunks
+     */
+    @NotNull
+    private Duration chunkTimeout = Duration.ofSeconds(60);
+
+    @Valid
+    private Map<IntakeLane, Lane> lanes = defaultLanes();
+
+    public Lane lane(IntakeLane lane) {
+        return lanes.get(lane);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Lane {
+
+        @Min(value = 1)
+        private int threads;
+
+        /**
+         * Orders waiting for a worker; beyond this the lane sheds load with a 503
+         */
+        @Min(value = 1)
+        private int queueCapacity;
+
+        /**
+         * Target accept latency, exported as an SLO bucket and breach counter
+         */
+        @NotNull
+        private Duration slo;
+    }
+
+    private static Map<IntakeLane, Lane> defaultLanes() {
+        Map<IntakeLane, Lane> lanes = new EnumMap<>(IntakeLane.class);
+        lanes.put(IntakeLane.EMERGENCY, new Lane(8, 100, Duration.ofMillis(500)));
+        lanes.put(IntakeLane.STANDARD, new Lane(16, 500, Duration.ofSeconds(2)));
+        lanes.put(IntakeLane.BULK, new Lane(4, 50, Duration.ofSeconds(30)));
+        return lanes;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.jlr_order_service.config;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    public static final String DEAD_LETTER_SUFFIX = ".DLT";
+
+    /**
+     * Publishes an event a listener cannot apply to {@code <topic>.DLT}, same
+     * partition, with the failure in the record headers.
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, String> kafkaTemplate) {
+        return new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, e) -> new TopicPartition(record.topic() + DEAD_LETTER_SUFFIX, record.partition()));
+    }
+
+    /**
+     * Same settings as the default listener factory, but hands listeners the
+     * whole poll at once so projections can write it in one batch. Events that
+     * can never be applied are dead-lettered one by one by the listener, so
+     * anything it throws is the database being unavailable: the batch is
+     * redelivered with backoff until it goes through rather than dropped.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            HistoryProperties properties) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+
+        ExponentialBackOff backOff = new ExponentialBackOff(properties.getRetryInitialInterval().toMillis(), 2.0);
+        backOff.setMaxInterval(properties.getRetryMaxInterval().toMillis());
+        factory.setCommonErrorHandler(new DefaultErrorHandler(backOff));
+        return factory;
+    }
+}
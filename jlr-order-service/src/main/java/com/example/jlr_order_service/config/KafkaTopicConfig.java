@@ -0,0 +1,64 @@
+package com.example.jlr_order_service.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    /**
+     * Order events are keyed by order number.
+     */
+    @Bean
+    public NewTopic orderLifecycleTopic(OutboxProperties outboxProperties) {
+        return TopicBuilder.name(outboxProperties.getTopic())
+                .partitions(12)
+                .replicas(1)
+                .build();
+    }
+
+    /**
+     * Lifecycle events the history projection could not apply
+     */
+    @Bean
+    public NewTopic orderLifecycleDeadLetterTopic(OutboxProperties outboxProperties) {
+        return TopicBuilder.name(outboxProperties.getTopic() + KafkaConsumerConfig.DEAD_LETTER_SUFFIX)
+                .partitions(12)
+                .replicas(1)
+                .build();
+    }
+
+    /**
+     * Inventory commands and saga replies are keyed by order number, so each
+     * order's commands and replies stay in sequence.
+     */
+    @Bean
+    public NewTopic inventoryCommandTopic(SagaProperties sagaProperties) {
+        return TopicBuilder.name(sagaProperties.getInventoryCommandTopic())
+                .partitions(12)
+                .replicas(1)
+                .build();
+    }
+
+    /**
+     * Payment commands are keyed by dealer ID, so payment-service applies each
+     * dealer's captures and voids in order.
+     */
+    @Bean
+    public NewTopic paymentCommandTopic(SagaProperties sagaProperties) {
+        return TopicBuilder.name(sagaProperties.getPaymentCommandTopic())
+                .partitions(12)
+                .replicas(1)
+                .build();
+    }
+
+    @Bean
+    public NewTopic sagaReplyTopic(SagaProperties sagaProperties) {
+        return TopicBuilder.name(sagaProperties.getReplyTopic())
+                .partitions(12)
+                .replicas(1)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.jlr_order_service.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.maintenance")
+@Validated
+public class MaintenanceProperties {
+
+    /**
+     * Each job is split into this many id-modulo partitions, each with its own
+     * Quartz trigger, so a cluster spreads one job over several nodes
+     */
+    @Min(value = 1)
+    private int partitions = 4;
+
+    /**
+     * Rows handled per chunk transaction
+     */
+    @Min(value = 1)
+    private int chunkSize = 500;
+
+    /**
+     * Pause after each chunk, to leave the database room for live traffic
+     */
+    @NotNull
+    private Duration pauseBetweenChunks = Duration.ofMillis(100);
+
+    /**
+     * Chunks per partition per run; the next run resumes from the checkpoint
+     */
+    @Min(value = 1)
+    private int maxChunksPerRun = 500;
+
+    /**
+     * Per-job schedule, keyed by job name
+     */
+    @Valid
+    private Map<String, Job> jobs = new HashMap<>();
+
+    public Job job(String name) {
+        return jobs.getOrDefault(name, new Job());
+    }
+
+    @Data
+    public static class Job {
+
+        private boolean enabled = true;
+
+        @NotEmpty
+        private String cron = "0 0 * * * ?";
+
+        /**
+         * How old a row must be before the job touches it
+         */
+        @NotNull
+        private Duration age = Duration.ofHours(1);
+    }
+}
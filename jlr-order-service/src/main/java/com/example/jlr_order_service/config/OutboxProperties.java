@@ -0,0 +1,41 @@
+package com.example.jlr_order_service.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+@Validated
+public class OutboxProperties {
+
+    @NotEmpty
+    private String topic = "orders.lifecycle";
+
+    /**
+     * Rows claimed with SKIP LOCKED and published per relay transaction
+     */
+    @Min(value = 1)
+    private int batchSize = 1000;
+
+    /**
+     * Delay between relay sweeps once the outbox has been drained
+     */
+    @Min(value = 10)
+    private long pollIntervalMs = 50;
+
+    /**
+     * How long to wait for Kafka to acknowledge a batch before rolling it back
+     */
+    @Min(value = 1000)
+    private long sendTimeoutMs = 15000;
+
+    /**
+     * Move published rows to order_outbox_archive instead of deleting them
+     */
+    private boolean archive = false;
+}
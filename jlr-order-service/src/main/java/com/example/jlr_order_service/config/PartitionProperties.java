@@ -0,0 +1,44 @@
+package com.example.jlr_order_service.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.partitions")
+@Validated
+public class PartitionProperties {
+
+    /**
+     * Monthly partitions kept ready beyond the current month
+     */
+    @Min(value = 1)
+    private int monthsAhead = 3;
+
+    /**
+     * Months kept attached before the current one; older months are detached
+     * into {@link #archiveSchema}
+     */
+    @Min(value = 1)
+    private int retentionMonths = 24;
+
+    @NotEmpty
+    private String archiveSchema = "order_archive";
+
+    @NotEmpty
+    private String cron = "0 30 1 * * *";
+
+    /**
+     * Creating or detaching a partition needs a brief exclusive lock on the
+     * parent table; give up rather than queue live traffic behind it
+     */
+    @NotNull
+    private Duration lockTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,47 @@
+package com.example.jlr_order_service.config;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.pipeline")
+@Validated
+public class PipelineProperties {
+
+    /**
+     * Accepted orders slower than this are logged with their stage breakdown
+     */
+    @NotNull
+    private Duration slowOrderThreshold = Duration.ofSeconds(1);
+
+    /**
+     * Sagas (reservation plus payment) slower than this are logged likewise
+     */
+    @NotNull
+    private Duration slowSagaThreshold = Duration.ofSeconds(10);
+
+    /**
+     * Tier tag for dealers not listed in {@link #dealerTiers}
+     */
+    @NotEmpty
+    private String defaultDealerTier = "STANDARD";
+
+    /**
+     * Dealer ID to tier. Metrics are tagged by tier rather than dealer ID to
+     * keep series counts bounded, and tier pricing rules are looked up by it.
+     */
+    private Map<String, String> dealerTiers = new HashMap<>();
+
+    public String dealerTier(String dealerId) {
+        return dealerId == null ? defaultDealerTier : dealerTiers.getOrDefault(dealerId, defaultDealerTier);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.jlr_order_service.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.pricing")
+@Validated
+public class PricingProperties {
+
+    /**
+     * How often pricing_rules is checked for changes
+     */
+    @Min(value = 1000)
+    private long refreshIntervalMs = 30000;
+
+    /**
+     * Compiled price lists kept per rule snapshot; dealers beyond this are
+     * compiled on every order instead of cached
+     */
+    @Min(value = 1)
+    private int maxCachedDealers = 10000;
+}
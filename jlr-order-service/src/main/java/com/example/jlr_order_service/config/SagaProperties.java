@@ -0,0 +1,60 @@
+package com.example.jlr_order_service.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.saga")
+@Validated
+public class SagaProperties {
+
+    @NotEmpty
+    private String inventoryCommandTopic = "inventory.commands";
+
+    /**
+     * Keyed by dealer ID, unlike the other saga topics
+     */
+    @NotEmpty
+    private String paymentCommandTopic = "payment.commands";
+
+    /**
+     * Topic both participants reply on, keyed by order number
+     */
+    @NotEmpty
+    private String replyTopic = "orders.saga-replies";
+
+    /**
+     * How long a forward step waits for its reply before the saga compensates
+     */
+    @NotNull
+    private Duration stepTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Wait for a compensation reply; grows linearly with each resend
+     */
+    @NotNull
+    private Duration compensationTimeout = Duration.ofSeconds(60);
+
+    /**
+     * Compensation sends before the saga is parked as COMPENSATION_FAILED
+     */
+    @Min(value = 1)
+    private int maxCompensationAttempts = 5;
+
+    @Min(value = 100)
+    private long sweepIntervalMs = 1000;
+
+    /**
+     * Expired sagas locked and handled per sweep transaction
+     */
+    @Min(value = 1)
+    private int sweepBatchSize = 200;
+}
@@ -0,0 +1,108 @@
+package com.example.jlr_order_service.controller;
+
+import com.example.jlr_order_service.dto.CreateOrderRequest;
+import com.example.jlr_order_service.dto.OrderResponse;
+import com.example.jlr_order_service.dto.OrderViewResponse;
+import com.example.jlr_order_service.dto.OrderStatusUpdateRequest;
+import com.example.jlr_order_service.enrichment.OrderEnrichmentService;
+import com.example.jlr_order_service.idempotency.IdempotencyService;
+import com.example.jlr_order_service.idempotency.IdempotentResponse;
+import com.example.jlr_order_service.intake.OrderIntakeService;
+import com.example.jlr_order_service.service.OrderService;
+import com.example.jlr_order_service.pipeline.OrderPipelineMetrics;
+import com.example.jlr_order_service.pipeline.OrderTrace;
+import com.example.jlr_order_service.pipeline.PipelineStage;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@Slf4j
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+public class OrderController {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final OrderService orderService;
+    private final OrderIntakeService orderIntakeService;
+    private final IdempotencyService idempotencyService;
+    private final OrderEnrichmentService orderEnrichmentService;
+    private final OrderPipelineMetrics pipelineMetrics;
+    private final Validator validator;
+
+    /**
+     * Orders are placed on the intake lane for their type, freeing the request
+     * thread meanwhile. Submissions carrying an Idempotency-Key header are
+     * executed at most once per dealer and key; retries get the original
+     * response back.
+     */
+    @PostMapping
+    public CompletableFuture<ResponseEntity<?>> createOrder(
+            @RequestBody CreateOrderRequest request,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        OrderTrace trace = pipelineMetrics.begin(request.getOrderType(), request.getDealerId());
+        trace.time(PipelineStage.VALIDATION, () -> validate(request));
+        log.info("Order request received from dealer {} with {} lines", request.getDealerId(),
+                request.getLines().size());
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return orderIntakeService.submit(request, trace)
+                    .thenApply(order -> ResponseEntity.status(HttpStatus.CREATED).body(OrderResponse.from(order)));
+        }
+
+        return idempotencyService.execute(request.getDealerId(), idempotencyKey, request,
+                        () -> orderIntakeService.submit(request, trace)
+                                .thenApply(order -> new IdempotentResponse(HttpStatus.CREATED.value(),
+                                        idempotencyService.toJson(OrderResponse.from(order)), false)))
+                .thenApply(response -> ResponseEntity.status(response.httpStatus())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(response.replayed()))
+                        .body(response.body()));
+    }
+
+    /**
+     * Validated here rather than with {@code @Valid} so that validation, which
+     * is not free on a 5,000-line order, is timed as a pipeline stage.
+     */
+    private void validate(CreateOrderRequest request) {
+        Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+
+    @GetMapping("/{orderNumber}")
+    public ResponseEntity<OrderResponse> getOrder(@PathVariable String orderNumber) {
+        return ResponseEntity.ok(OrderResponse.from(orderService.getOrder(orderNumber)));
+    }
+
+    /**
+     * Order with its user and live part availability. {@code partial} is set
+     * when availability did not arrive in time.
+     */
+    @GetMapping("/{orderNumber}/view")
+    public ResponseEntity<OrderViewResponse> getOrderView(
+            @PathVariable String orderNumber,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        return ResponseEntity.ok(orderEnrichmentService.getOrderView(orderNumber, authorization));
+    }
+
+    @PatchMapping("/{orderNumber}/status")
+    public ResponseEntity<OrderResponse> updateStatus(@PathVariable String orderNumber,
+                                                      @Valid @RequestBody OrderStatusUpdateRequest request) {
+        orderService.updateStatus(orderNumber, request.getStatus(), request.getReason());
+        return ResponseEntity.ok(OrderResponse.from(orderService.getOrder(orderNumber)));
+    }
+}
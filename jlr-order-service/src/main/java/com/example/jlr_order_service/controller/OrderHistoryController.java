@@ -0,0 +1,37 @@
+package com.example.jlr_order_service.controller;
+
+import com.example.jlr_order_service.dto.OrderHistoryPage;
+import com.example.jlr_order_service.entity.OrderStatus;
+import com.example.jlr_order_service.history.OrderHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/orders/history")
+@RequiredArgsConstructor
+public class OrderHistoryController {
+
+    private final OrderHistoryService orderHistoryService;
+
+    /**
+     * A dealer's orders, newest first. Follow {@code nextCursor} for older pages.
+     */
+    @GetMapping
+    public ResponseEntity<OrderHistoryPage> getHistory(
+            @RequestParam String dealerId,
+            @RequestParam(required = false) Set<OrderStatus> status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(orderHistoryService.getHistory(dealerId, status, from, to, cursor, limit));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.jlr_order_service.dto;
+
+import com.example.jlr_order_service.entity.OrderType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+public class CreateOrderRequest {
+
+    @NotBlank(message = "Dealer ID is required")
+    private String dealerId;
+
+    private Long userId;
+
+    @NotNull(message = "Order type is required")
+    private OrderType orderType = OrderType.STANDARD;
+
+    @NotEmpty(message = "At least one order line is required")
+    @Size(max = 5000, message = "An order cannot have more than 5000 lines")
+    @Valid
+    private List<Line> lines;
+
+    @Data
+    public static class Line {
+        @NotBlank(message = "Part number is required")
+        private String partNumber;
+
+        @Min(value = 1, message = "Quantity must be at least 1")
+        private int quantity;
+
+        @NotNull(message = "Unit price is required")
+        @DecimalMin(value = "0.00", message = "Unit price cannot be negative")
+        private BigDecimal unitPrice;
+    }
+}
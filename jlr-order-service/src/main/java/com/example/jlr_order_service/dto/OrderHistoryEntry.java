@@ -0,0 +1,24 @@
+package com.example.jlr_order_service.dto;
+
+import com.example.jlr_order_service.entity.OrderStatus;
+import com.example.jlr_order_service.entity.OrderType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class OrderHistoryEntry {
+    private String orderNumber;
+    private String dealerId;
+    private Long userId;
+    private OrderType orderType;
+    private OrderStatus status;
+    private BigDecimal totalAmount;
+    private String currency;
+    private int lineCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
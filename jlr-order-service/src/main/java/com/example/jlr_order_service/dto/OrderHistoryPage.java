@@ -0,0 +1,17 @@
+package com.example.jlr_order_service.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class OrderHistoryPage {
+    private List<OrderHistoryEntry> orders;
+
+    /**
+     * Pass back as {@code cursor} for the next page; null on the last page
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,59 @@
+package com.example.jlr_order_service.dto;
+
+import com.example.jlr_order_service.entity.Order;
+import com.example.jlr_order_service.entity.OrderStatus;
+import com.example.jlr_order_service.entity.OrderType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class OrderResponse {
+    private String orderNumber;
+    private String dealerId;
+    private Long userId;
+    private OrderType orderType;
+    private OrderStatus status;
+    private BigDecimal totalAmount;
+    private String currency;
+    private List<Line> lines;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Data
+    @Builder
+    public static class Line {
+        private int lineNumber;
+        private String partNumber;
+        private int quantity;
+        private BigDecimal unitPrice;
+        private BigDecimal lineTotal;
+    }
+
+    public static OrderResponse from(Order order) {
+        return OrderResponse.builder()
+                .orderNumber(order.getOrderNumber())
+                .dealerId(order.getDealerId())
+                .userId(order.getUserId())
+                .orderType(order.getOrderType())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .currency(order.getCurrency())
+                .lines(order.getLines().stream()
+                        .map(line -> Line.builder()
+                                .lineNumber(line.getLineNumber())
+                                .partNumber(line.getPartNumber())
+                                .quantity(line.getQuantity())
+                                .unitPrice(line.getUnitPrice())
+                                .lineTotal(line.getLineTotal())
+                                .build())
+                        .toList())
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .build();
+    }
+}
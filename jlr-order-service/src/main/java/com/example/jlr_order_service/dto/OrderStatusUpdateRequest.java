@@ -0,0 +1,14 @@
+package com.example.jlr_order_service.dto;
+
+import com.example.jlr_order_service.entity.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class OrderStatusUpdateRequest {
+
+    @NotNull(message = "Status is required")
+    private OrderStatus status;
+
+    private String reason;
+}
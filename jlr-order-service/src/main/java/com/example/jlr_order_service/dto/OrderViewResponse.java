@@ -0,0 +1,39 @@
+package com.example.jlr_order_service.dto;
+
+import com.example.jlr_order_service.client.PartAvailability;
+import com.example.jlr_order_service.client.UserSummary;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+public class OrderViewResponse {
+    private OrderResponse order;
+    private UserSummary user;
+
+    /**
+     * Current availability keyed by part number; parts whose lookup missed the
+     * deadline are absent
+     */
+    private Map<String, PartAvailability> availability;
+
+    /**
+     * True when an optional source did not answer in time
+     */
+    private boolean partial;
+    private List<String> missing;
+
+    public static OrderViewResponse of(OrderResponse order, UserSummary user,
+                                       Map<String, PartAvailability> availability, List<String> missing) {
+        return OrderViewResponse.builder()
+                .order(order)
+                .user(user)
+                .availability(availability)
+                .partial(!missing.isEmpty())
+                .missing(missing)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.jlr_order_service.enrichment;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fan-out scope for one request: subtasks forked here share one deadline and
+ * cannot outlive the scope, because {@link #close()} interrupts whatever is
+ * still running. Forks are memoised by key, so asking twice for the same
+ * lookup within a request costs one call.
+ *
+ * Not thread-safe; forks and awaits happen on the request thread.
+ */
+final class DeadlineScope implements AutoCloseable {
+
+    private final AsyncTaskExecutor executor;
+    private final long startedNanos;
+    private final long deadlineNanos;
+    private final Map<Object, Future<?>> forks = new HashMap<>();
+
+    DeadlineScope(AsyncTaskExecutor executor, Duration deadline) {
+        this.executor = executor;
+        this.startedNanos = System.nanoTime();
+        this.deadlineNanos = startedNanos + deadline.toNanos();
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Future<T> fork(Object key, Callable<T> task) {
+        return (Future<T>) forks.computeIfAbsent(key, k -> {
+            try {
+                return executor.submit(task);
+            } catch (TaskRejectedException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+
+    /**
+     * Waits for a subtask until the scope deadline and rethrows its failure.
+     */
+    <T> T join(Future<T> future) throws ExecutionException, TimeoutException, InterruptedException {
+        return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Waits until {@code within} after the scope started (capped by the scope
+     * deadline); a subtask that fails or is still running by then yields empty.
+     */
+    <T> Optional<T> joinOptional(Future<T> future, Duration within) throws InterruptedException {
+        long until = Math.min(deadlineNanos, startedNanos + within.toNanos());
+        try {
+            return Optional.ofNullable(future.get(Math.max(0, until - System.nanoTime()), TimeUnit.NANOSECONDS));
+        } catch (ExecutionException | TimeoutException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Future<?> future : forks.values()) {
+            future.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.jlr_order_service.enrichment;
+
+import com.example.jlr_order_service.client.AvailabilityBatchRequest;
+import com.example.jlr_order_service.client.InventoryClient;
+import com.example.jlr_order_service.client.PartAvailability;
+import com.example.jlr_order_service.client.UserClient;
+import com.example.jlr_order_service.client.UserSummary;
+import com.example.jlr_order_service.config.EnrichmentProperties;
+import com.example.jlr_order_service.dto.OrderResponse;
+import com.example.jlr_order_service.dto.OrderViewResponse;
+import com.example.jlr_order_service.entity.Order;
+import com.example.jlr_order_service.entity.OrderLine;
+import com.example.jlr_order_service.exception.EnrichmentUnavailableException;
+import com.example.jlr_order_service.service.OrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Builds the order view from the order plus its user (user-service) and current
+ * part availability (inventory-service).
+ *
+ * All lookups are started together, so the view costs the slowest call rather
+ * than the sum of them. Availability of every distinct part on the order is
+ * asked for in one batch call, however many lines there are. The user is
+ * required and has the full deadline;
+ * availability is optional and anything not back by the optional deadline is
+ * left out and reported in {@code missing}.
+ */
+@Service
+@Slf4j
+public class OrderEnrichmentService {
+
+    static final String SOURCE_AVAILABILITY = "availability";
+
+    /**
+     * Most part numbers inventory-service takes in one availability call
+     */
+    static final int AVAILABILITY_BATCH_SIZE = 500;
+
+    private final OrderService orderService;
+    private final UserClient userClient;
+    private final InventoryClient inventoryClient;
+    private final AsyncTaskExecutor executor;
+    private final EnrichmentProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public OrderEnrichmentService(OrderService orderService, UserClient userClient, InventoryClient inventoryClient,
+                                  @Qualifier("enrichmentExecutor") AsyncTaskExecutor executor,
+                                  EnrichmentProperties properties, MeterRegistry meterRegistry) {
+        this.orderService = orderService;
+        this.userClient = userClient;
+        this.inventoryClient = inventoryClient;
+        this.executor = executor;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public OrderViewResponse getOrderView(String orderNumber, String authorization) {
+        Order order = orderService.getOrder(orderNumber);
+
+        try (DeadlineScope scope = new DeadlineScope(executor, properties.getDeadline())) {
+            Future<UserSummary> user = order.getUserId() == null ? null
+                    : scope.fork("user:" + order.getUserId(), () -> userClient.getUser(order.getUserId(), authorization));
+            Set<String> parts = new LinkedHashSet<>();
+            order.getLines().forEach(line -> parts.add(line.getPartNumber()));
+            List<Future<List<PartAvailability>>> batches = new ArrayList<>();
+            List<String> all = List.copyOf(parts);
+            for (int from = 0; from < all.size(); from += AVAILABILITY_BATCH_SIZE) {
+                Set<String> batch = new LinkedHashSet<>(all.subList(from,
+                        Math.min(all.size(), from + AVAILABILITY_BATCH_SIZE)));
+                batches.add(scope.fork("availability:" + from,
+                        () -> inventoryClient.getAvailability(new AvailabilityBatchRequest(batch))));
+            }
+
+            UserSummary userSummary = user == null ? null : joinRequired(scope, user, orderNumber);
+
+            List<String> missing = new ArrayList<>();
+            Map<String, PartAvailability> available = new LinkedHashMap<>();
+            for (Future<List<PartAvailability>> batch : batches) {
+                Optional<List<PartAvailability>> result = scope.joinOptional(batch, properties.getOptionalDeadline());
+                result.ifPresent(values -> values.stream()
+                        .filter(value -> parts.contains(value.getPartNumber()))
+                        .forEach(value -> available.put(value.getPartNumber(), value)));
+            }
+            if (available.size() < parts.size()) {
+                missing.add(SOURCE_AVAILABILITY);
+                meterRegistry.counter("order.enrichment.partial", "source", SOURCE_AVAILABILITY).increment();
+                log.debug("Order {} view missing availability for {} of {} parts", orderNumber,
+                        parts.size() - available.size(), parts.size());
+            }
+
+            return OrderViewResponse.of(OrderResponse.from(order), userSummary, available, missing);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EnrichmentUnavailableException("Interrupted while building order view for " + orderNumber);
+        }
+    }
+
+    private UserSummary joinRequired(DeadlineScope scope, Future<UserSummary> user, String orderNumber)
+            throws InterruptedException {
+        try {
+            return scope.join(user);
+        } catch (TimeoutException e) {
+            meterRegistry.counter("order.enrichment.failed", "source", "user", "cause", "deadline").increment();
+            throw new EnrichmentUnavailableException("User details not available in time for order " + orderNumber);
+        } catch (ExecutionException e) {
+            meterRegistry.counter("order.enrichment.failed", "source", "user", "cause", "error").increment();
+            log.warn("User lookup for order {} failed: {}", orderNumber, e.getCause().getMessage());
+            throw new EnrichmentUnavailableException("User details not available for order " + orderNumber);
+        }
+    }
+}
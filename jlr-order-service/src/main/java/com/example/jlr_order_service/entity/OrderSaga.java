@@ -0,0 +1,82 @@
+package com.example.jlr_order_service.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "order_sagas")
+@Data
+@NoArgsConstructor
+public class OrderSaga {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    /**
+     * The order's created_at, so the saga reads and updates its order in the
+     * order's own partition.
+     */
+    @Column(name = "order_created_at", nullable = false, updatable = false)
+    private LocalDateTime orderCreatedAt;
+
+    @Column(name = "order_number", nullable = false, unique = true)
+    private String orderNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SagaStatus status;
+
+    @Column(name = "step_deadline", nullable = false)
+    private LocalDateTime stepDeadline;
+
+    @Column(name = "step_started_at", nullable = false)
+    private LocalDateTime stepStartedAt;
+
+    @Column(name = "step_attempts", nullable = false)
+    private int stepAttempts;
+
+    @Column(name = "payment_reference")
+    private String paymentReference;
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
+    @Column(name = "reservation_ms", nullable = false)
+    private long reservationMs;
+
+    @Column(name = "payment_ms", nullable = false)
+    private long paymentMs;
+
+    @Column(name = "inventory_released_at")
+    private LocalDateTime inventoryReleasedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    /**
+     * Moves to the next step and restarts its clock.
+     */
+    public void enter(SagaStatus next, LocalDateTime now, LocalDateTime deadline) {
+        status = next;
+        stepStartedAt = now;
+        stepDeadline = deadline;
+        stepAttempts = 1;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.jlr_order_service.entity;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Order lifecycle. Each status lists the statuses it may move to.
+ */
+public enum OrderStatus {
+
+    /** Bulk order whose lines are still being loaded; not yet visible to the saga */
+    RECEIVING,
+    PENDING,
+    INVENTORY_RESERVED,
+    PAYMENT_CAPTURED,
+    CONFIRMED,
+    SHIPPED,
+    DELIVERED,
+    CANCELLED,
+    FAILED;
+
+    public Set<OrderStatus> nextStatuses() {
+        return switch (this) {
+            case RECEIVING -> EnumSet.of(PENDING, FAILED);
+            case PENDING -> EnumSet.of(INVENTORY_RESERVED, CONFIRMED, CANCELLED, FAILED);
+            case INVENTORY_RESERVED -> EnumSet.of(PAYMENT_CAPTURED, CONFIRMED, CANCELLED, FAILED);
+            case PAYMENT_CAPTURED -> EnumSet.of(CONFIRMED, CANCELLED, FAILED);
+            case CONFIRMED -> EnumSet.of(SHIPPED, CANCELLED);
+            case SHIPPED -> EnumSet.of(DELIVERED);
+            case DELIVERED, CANCELLED, FAILED -> EnumSet.noneOf(OrderStatus.class);
+        };
+    }
+
+    public boolean canTransitionTo(OrderStatus next) {
+        return nextStatuses().contains(next);
+    }
+
+    public boolean isTerminal() {
+        return nextStatuses().isEmpty();
+    }
+}
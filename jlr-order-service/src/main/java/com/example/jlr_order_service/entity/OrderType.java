@@ -0,0 +1,24 @@
+package com.example.jlr_order_service.entity;
+
+/**
+ * Order types in JLR Parts Ordering System
+ */
+public enum OrderType {
+
+    /**
+     * Regular replenishment or customer order
+     */
+    STANDARD,
+
+    /**
+     * Vehicle-off-road order: a customer vehicle cannot be driven until the part arrives.
+     * Only DEALER_MANAGER may place these.
+     */
+    EMERGENCY,
+
+    /**
+     * Large restock order, typically hundreds to thousands of lines.
+     * Only DEALER_MANAGER may place these.
+     */
+    BULK
+}
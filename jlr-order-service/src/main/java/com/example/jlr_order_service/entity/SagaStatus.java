@@ -0,0 +1,30 @@
+package com.example.jlr_order_service.entity;
+
+/**
+ * Placement saga steps. The forward path is RESERVING_INVENTORY then
+ * CAPTURING_PAYMENT; VOIDING_PAYMENT and RELEASING_INVENTORY undo them in
+ * reverse order when a later step fails or times out.
+ */
+public enum SagaStatus {
+
+    RESERVING_INVENTORY,
+    CAPTURING_PAYMENT,
+    VOIDING_PAYMENT,
+    RELEASING_INVENTORY,
+    /** Inventory reserved and payment captured; order confirmed */
+    COMPLETED,
+    /** Inventory rejected the reservation; nothing to undo */
+    FAILED,
+    /** A step failed and everything done before it was undone */
+    COMPENSATED,
+    /** A compensation kept timing out; needs manual follow-up */
+    COMPENSATION_FAILED;
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED || this == COMPENSATED || this == COMPENSATION_FAILED;
+    }
+
+    public boolean isCompensating() {
+        return this == VOIDING_PAYMENT || this == RELEASING_INVENTORY;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.jlr_order_service.event;
+
+import com.example.jlr_order_service.entity.Order;
+import com.example.jlr_order_service.entity.OrderStatus;
+import com.example.jlr_order_service.entity.OrderType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Order lifecycle event. Delivery is at-least-once and relays may publish
+ * concurrently, so consumers should dedupe on {@code eventId} and ignore events
+ * whose {@code orderVersion} is older than the one they have applied.
+ */
+@Data
+@Builder
+public class OrderEvent {
+    private UUID eventId;
+    private OrderEventType eventType;
+    private String orderNumber;
+    private String dealerId;
+    private Long userId;
+    private OrderType orderType;
+    private OrderStatus status;
+    private OrderStatus previousStatus;
+    private BigDecimal totalAmount;
+    private String currency;
+    private int lineCount;
+    private long orderVersion;
+    private String reason;
+    private LocalDateTime orderCreatedAt;
+    private Instant occurredAt;
+
+    public static OrderEvent of(OrderEventType type, Order order, OrderStatus previousStatus, String reason) {
+        return OrderEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(type)
+                .orderNumber(order.getOrderNumber())
+                .dealerId(order.getDealerId())
+                .userId(order.getUserId())
+                .orderType(order.getOrderType())
+                .status(order.getStatus())
+                .previousStatus(previousStatus)
+                .totalAmount(order.getTotalAmount())
+                .currency(order.getCurrency())
+                .lineCount(order.getLines().size())
+                .orderVersion(order.getVersion() == null ? 0 : order.getVersion())
+                .reason(reason)
+                .orderCreatedAt(order.getCreatedAt())
+                .occurredAt(Instant.now())
+                .build();
+    }
+}
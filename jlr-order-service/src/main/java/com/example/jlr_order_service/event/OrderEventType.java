@@ -0,0 +1,11 @@
+package com.example.jlr_order_service.event;
+
+/**
+ * Order lifecycle events published on the orders topic
+ */
+public enum OrderEventType {
+
+    ORDER_CREATED,
+
+    ORDER_STATUS_CHANGED
+}
@@ -0,0 +1,8 @@
+package com.example.jlr_order_service.exception;
+
+public class EnrichmentUnavailableException extends RuntimeException{
+
+    public EnrichmentUnavailableException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.jlr_order_service.exception;
+
+public class IdempotencyConflictException extends RuntimeException{
+
+    public IdempotencyConflictException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.jlr_order_service.exception;
+
+public class IdempotencyKeyMismatchException extends RuntimeException{
+
+    public IdempotencyKeyMismatchException(String message){
+        super(message);
+    }
+}
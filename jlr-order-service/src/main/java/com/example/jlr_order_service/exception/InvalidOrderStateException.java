@@ -0,0 +1,8 @@
+package com.example.jlr_order_service.exception;
+
+public class InvalidOrderStateException extends RuntimeException{
+
+    public InvalidOrderStateException(String message){
+        super(message);
+    }
+}
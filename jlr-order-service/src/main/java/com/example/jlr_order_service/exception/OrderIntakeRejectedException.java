@@ -0,0 +1,8 @@
+package com.example.jlr_order_service.exception;
+
+public class OrderIntakeRejectedException extends RuntimeException{
+
+    public OrderIntakeRejectedException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.jlr_order_service.history;
+
+import com.example.jlr_order_service.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a history page: that row's created_at and
+ * order number, which together are unique and match the index order. Opaque to
+ * clients.
+ */
+public record OrderHistoryCursor(LocalDateTime createdAt, String orderNumber) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "|" + orderNumber).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderHistoryCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            if (separator < 0) {
+                throw new InvalidCursorException("Malformed page cursor");
+            }
+            return new OrderHistoryCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    value.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed page cursor");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.jlr_order_service.history;
+
+import com.example.jlr_order_service.event.OrderEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps order_history in step with the order lifecycle topic.
+ *
+ * Each poll is collapsed to the newest event per order and written as one
+ * batch of upserts. The upsert only applies when the event's order version is
+ * newer than the row's, so redelivered and out-of-order events (the outbox
+ * relay is at-least-once and runs on several nodes) leave the row unchanged.
+ * Events that can never be applied, unreadable or from before a field the
+ * row needs was added, are dead-lettered one at a time so the rest of the
+ * batch still goes through; a failed write is left to the container to retry.
+ */
+@Component
+@Slf4j
+public class OrderHistoryProjector {
+
+    private final OrderHistoryRepository historyRepository;
+    private final ConsumerRecordRecoverer deadLetters;
+    private final ObjectMapper objectMapper;
+    private final Counter applied;
+    private final Counter deadLettered;
+    private final Timer lag;
+
+    public OrderHistoryProjector(OrderHistoryRepository historyRepository, ConsumerRecordRecoverer deadLetters,
+                                 ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.historyRepository = historyRepository;
+        this.deadLetters = deadLetters;
+        this.objectMapper = objectMapper;
+        this.applied = Counter.builder("order.history.events")
+                .description("Order events applied to the history read model")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("order.history.dead-lettered")
+                .description("Order events the history read model could not apply")
+                .register(meterRegistry);
+        this.lag = Timer.builder("order.history.lag")
+                .description("Time from order change to history row update")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(topics = "${app.outbox.topic}", groupId = "${spring.application.name}-history",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void onEvents(List<ConsumerRecord<String, String>> records) {
+        Map<String, OrderEvent> latest = new LinkedHashMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            OrderEvent event = read(record);
+            if (event != null) {
+                latest.merge(event.getOrderNumber(), event,
+                        (current, candidate) -> candidate.getOrderVersion() > current.getOrderVersion() ? candidate : current);
+            }
+        }
+        if (latest.isEmpty()) {
+            return;
+        }
+
+        historyRepository.upsert(latest.values());
+
+        Instant now = Instant.now();
+        for (OrderEvent event : latest.values()) {
+            lag.record(Duration.between(event.getOccurredAt(), now));
+        }
+        applied.increment(latest.size());
+    }
+
+    private OrderEvent read(ConsumerRecord<String, String> record) {
+        try {
+            OrderEvent event = objectMapper.readValue(record.value(), OrderEvent.class);
+            required(event.getOrderNumber(), "orderNumber");
+            required(event.getDealerId(), "dealerId");
+            required(event.getOrderType(), "orderType");
+            required(event.getStatus(), "status");
+            required(event.getOrderCreatedAt(), "orderCreatedAt");
+            required(event.getOccurredAt(), "occurredAt");
+            return event;
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.error("Dead-lettering order event {}-{}@{} (key {}): {}", record.topic(), record.partition(),
+                    record.offset(), record.key(), e.getMessage());
+            deadLetters.accept(record, e);
+            deadLettered.increment();
+            return null;
+        }
+    }
+
+    private static void required(Object value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException("Order event has no " + field);
+        }
+    }
+}
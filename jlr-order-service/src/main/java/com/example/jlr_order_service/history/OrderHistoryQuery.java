@@ -0,0 +1,14 @@
+package com.example.jlr_order_service.history;
+
+import com.example.jlr_order_service.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * One page request against the history read model. {@code from} is inclusive,
+ * {@code to} exclusive; null filters are not applied.
+ */
+public record OrderHistoryQuery(String dealerId, Set<OrderStatus> statuses, LocalDateTime from, LocalDateTime to,
+                                OrderHistoryCursor after, int limit) {
+}
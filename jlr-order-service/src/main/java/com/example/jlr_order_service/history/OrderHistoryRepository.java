@@ -0,0 +1,98 @@
+package com.example.jlr_order_service.history;
+
+import com.example.jlr_order_service.dto.OrderHistoryEntry;
+import com.example.jlr_order_service.entity.OrderStatus;
+import com.example.jlr_order_service.entity.OrderType;
+import com.example.jlr_order_service.event.OrderEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC access to order_history. Pages are keyset queries on
+ * (created_at, order_number), so the cost of a page does not depend on how deep
+ * into a dealer's history it is.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderHistoryRepository {
+
+    private static final String UPSERT_SQL = "INSERT INTO order_history (order_number, dealer_id, user_id, "
+            + "order_type, status, total_amount, currency, line_count, created_at, updated_at, order_version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (order_number) DO UPDATE SET status = EXCLUDED.status, "
+            + "total_amount = EXCLUDED.total_amount, line_count = EXCLUDED.line_count, "
+            + "updated_at = EXCLUDED.updated_at, order_version = EXCLUDED.order_version "
+            + "WHERE order_history.order_version < EXCLUDED.order_version";
+
+    private static final String PAGE_COLUMNS = "SELECT order_number, dealer_id, user_id, order_type, status, "
+            + "total_amount, currency, line_count, created_at, updated_at FROM order_history WHERE dealer_id = ?";
+
+    private static final RowMapper<OrderHistoryEntry> ROW_MAPPER = (rs, rowNum) -> OrderHistoryEntry.builder()
+            .orderNumber(rs.getString(1))
+            .dealerId(rs.getString(2))
+            .userId(rs.getObject(3, Long.class))
+            .orderType(OrderType.valueOf(rs.getString(4)))
+            .status(OrderStatus.valueOf(rs.getString(5)))
+            .totalAmount(rs.getBigDecimal(6))
+            .currency(rs.getString(7))
+            .lineCount(rs.getInt(8))
+            .createdAt(rs.getTimestamp(9).toLocalDateTime())
+            .updatedAt(rs.getTimestamp(10).toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsert(Collection<OrderEvent> events) {
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (OrderEvent event : events) {
+            rows.add(new Object[]{
+                    event.getOrderNumber(), event.getDealerId(), event.getUserId(), event.getOrderType().name(),
+                    event.getStatus().name(), event.getTotalAmount(), event.getCurrency(), event.getLineCount(),
+                    Timestamp.valueOf(event.getOrderCreatedAt()), Timestamp.from(event.getOccurredAt()),
+                    event.getOrderVersion()});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+
+    /**
+     * Returns up to {@code limit + 1} rows; the extra row only tells the caller
+     * whether another page exists.
+     */
+    public List<OrderHistoryEntry> findPage(OrderHistoryQuery query) {
+        StringBuilder sql = new StringBuilder(PAGE_COLUMNS);
+        List<Object> args = new ArrayList<>();
+        args.add(query.dealerId());
+
+        if (query.statuses() != null && !query.statuses().isEmpty()) {
+            sql.append(" AND status IN (")
+                    .append(String.join(", ", Collections.nCopies(query.statuses().size(), "?")))
+                    .append(')');
+            query.statuses().forEach(status -> args.add(status.name()));
+        }
+        if (query.from() != null) {
+            sql.append(" AND created_at >= ?");
+            args.add(Timestamp.valueOf(query.from()));
+        }
+        if (query.to() != null) {
+            sql.append(" AND created_at < ?");
+            args.add(Timestamp.valueOf(query.to()));
+        }
+        if (query.after() != null) {
+            sql.append(" AND (created_at, order_number) < (?, ?)");
+            args.add(Timestamp.valueOf(query.after().createdAt()));
+            args.add(query.after().orderNumber());
+        }
+        sql.append(" ORDER BY created_at DESC, order_number DESC LIMIT ?");
+        args.add(query.limit() + 1);
+
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.jlr_order_service.history;
+
+import com.example.jlr_order_service.dto.OrderHistoryEntry;
+import com.example.jlr_order_service.dto.OrderHistoryPage;
+import com.example.jlr_order_service.entity.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Dealer order history, served from the order_history read model only. The
+ * read model trails the write side by the outbox relay and projector lag,
+ * typically well under a second.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderHistoryService {
+
+    static final int MAX_PAGE_SIZE = 200;
+
+    private final OrderHistoryRepository historyRepository;
+
+    public OrderHistoryPage getHistory(String dealerId, Set<OrderStatus> statuses, LocalDateTime from,
+                                       LocalDateTime to, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        OrderHistoryCursor after = cursor == null || cursor.isBlank() ? null : OrderHistoryCursor.decode(cursor);
+
+        List<OrderHistoryEntry> rows = historyRepository.findPage(
+                new OrderHistoryQuery(dealerId, statuses, from, to, after, pageSize));
+
+        if (rows.size() <= pageSize) {
+            return OrderHistoryPage.builder().orders(rows).build();
+        }
+        List<OrderHistoryEntry> page = rows.subList(0, pageSize);
+        OrderHistoryEntry last = page.get(pageSize - 1);
+        return OrderHistoryPage.builder()
+                .orders(page)
+                .nextCursor(new OrderHistoryCursor(last.getCreatedAt(), last.getOrderNumber()).encode())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.jlr_order_service.idempotency;
+
+/**
+ * Value stored under an idempotency key. While a submission runs the record is
+ * IN_PROGRESS and carries the owner's token; once it finishes the record is
+ * COMPLETED and carries the response exactly as first sent.
+ *
+ * Stored as a single delimited string so the replay path is one Redis GET and
+ * one split, with the response body written back out untouched.
+ */
+public record IdempotencyRecord(State state, String requestHash, String token, int httpStatus, String body) {
+
+    private static final char SEPARATOR = '|';
+
+    public enum State {
+        IN_PROGRESS,
+        COMPLETED
+    }
+
+    public static IdempotencyRecord inProgress(String requestHash, String token) {
+        return new IdempotencyRecord(State.IN_PROGRESS, requestHash, token, 0, "");
+    }
+
+    public static IdempotencyRecord completed(String requestHash, int httpStatus, String body) {
+        return new IdempotencyRecord(State.COMPLETED, requestHash, "", httpStatus, body);
+    }
+
+    public String encode() {
+        return state.name() + SEPARATOR + requestHash + SEPARATOR + token + SEPARATOR + httpStatus + SEPARATOR + body;
+    }
+
+    public static IdempotencyRecord decode(String value) {
+        int first = value.indexOf(SEPARATOR);
+        int second = value.indexOf(SEPARATOR, first + 1);
+        int third = value.indexOf(SEPARATOR, second + 1);
+        int fourth = value.indexOf(SEPARATOR, third + 1);
+        return new IdempotencyRecord(
+                State.valueOf(value.substring(0, first)),
+                value.substring(first + 1, second),
+                value.substring(second + 1, third),
+                Integer.parseInt(value.substring(third + 1, fourth)),
+                value.substring(fourth + 1));
+    }
+}
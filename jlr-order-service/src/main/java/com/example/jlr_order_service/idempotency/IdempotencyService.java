@@ -0,0 +1,191 @@
+package com.example.jlr_order_service.idempotency;
+
+import com.example.jlr_order_service.config.IdempotencyProperties;
+import com.example.jlr_order_service.exception.IdempotencyConflictException;
+import com.example.jlr_order_service.exception.IdempotencyKeyMismatchException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency keys for order submission, stored in Redis.
+ *
+ * The first request for a key claims it with SET NX and a short in-flight TTL,
+ * renewed while it runs, then replaces the claim with its serialized response
+ * under the longer response TTL. Renewal and completion only touch the key while
+ * it still holds this request's claim, so a claim that expired and was taken
+ * over is never overwritten. Retries with the same key and the same payload get
+ * that response back from a single GET without touching the order pipeline; a
+ * retry that arrives while the first is still running gets a 409. Redis expiry
+ * is the only cleanup needed.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    private static final String COMPLETE_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end return 0";
+    private static final String RENEW_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('pexpire', KEYS[1], ARGV[2]) end return 0";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final Counter replayed;
+    private final Counter executed;
+    private final Counter rejectedInFlight;
+    private final Counter claimLost;
+    private final ScheduledExecutorService renewer =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("idempotency-renew-"));
+
+    public IdempotencyService(RedissonClient redissonClient, ObjectMapper objectMapper,
+                              IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.replayed = meterRegistry.counter("order.idempotency.requests", "outcome", "replayed");
+        this.executed = meterRegistry.counter("order.idempotency.requests", "outcome", "executed");
+        this.rejectedInFlight = meterRegistry.counter("order.idempotency.requests", "outcome", "in_flight");
+        this.claimLost = meterRegistry.counter("order.idempotency.claim.lost");
+    }
+
+    /**
+     * @param scope  namespace for the key, e.g. the dealer ID, so keys from
+     *               different dealers can never collide
+     * @param request the request payload, hashed to detect a key reused for a
+     *               different submission
+     * @param action starts the first execution and completes with its HTTP
+     *               status and serialized body
+     */
+    public CompletableFuture<IdempotentResponse> execute(String scope, String idempotencyKey, Object request,
+                                                         Supplier<CompletableFuture<IdempotentResponse>> action) {
+        String requestHash = hash(request);
+        RBucket<String> bucket = redissonClient.getBucket(properties.getKeyPrefix() + scope + ":" + idempotencyKey,
+                StringCodec.INSTANCE);
+
+        String existing = bucket.get();
+        if (existing == null) {
+            String token = UUID.randomUUID().toString();
+            String claim = IdempotencyRecord.inProgress(requestHash, token).encode();
+            if (bucket.setIfAbsent(claim, properties.getInFlightTtl())) {
+                return executeClaimed(bucket, claim, requestHash, action);
+            }
+            existing = bucket.get();
+            if (existing == null) {
+                // claim expired between the two calls; treat like a concurrent duplicate
+                rejectedInFlight.increment();
+                throw new IdempotencyConflictException("Request with this idempotency key is already in progress");
+            }
+        }
+        return CompletableFuture.completedFuture(replay(IdempotencyRecord.decode(existing), requestHash));
+    }
+
+    private CompletableFuture<IdempotentResponse> executeClaimed(RBucket<String> bucket, String claim,
+                                                                 String requestHash,
+                                                                 Supplier<CompletableFuture<IdempotentResponse>> action) {
+        CompletableFuture<IdempotentResponse> pending;
+        try {
+            pending = action.get();
+        } catch (RuntimeException e) {
+            // free the key so the client's retry runs the pipeline again
+            bucket.compareAndSet(claim, null);
+            throw e;
+        }
+        long renewMillis = Math.max(1, properties.getInFlightTtl().toMillis() / 3);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(bucket, claim),
+                renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+        return pending.whenComplete((response, error) -> {
+            renewal.cancel(false);
+            if (error != null) {
+                bucket.compareAndSet(claim, null);
+                return;
+            }
+            String completed = IdempotencyRecord.completed(requestHash, response.httpStatus(), response.body())
+                    .encode();
+            if (runScript(COMPLETE_SCRIPT, bucket, claim, completed, properties.getResponseTtl().toMillis())) {
+                executed.increment();
+            } else {
+                claimLost.increment();
+                log.warn("Idempotency claim on {} was lost before the response could be stored", bucket.getName());
+            }
+        });
+    }
+
+    private void renew(RBucket<String> bucket, String claim) {
+        try {
+            if (!runScript(RENEW_SCRIPT, bucket, claim, properties.getInFlightTtl().toMillis())) {
+                log.warn("Idempotency claim on {} expired while its request was still running", bucket.getName());
+            }
+        } catch (RuntimeException e) {
+            // the next tick tries again; the claim only lapses if Redis stays away for the whole TTL
+            log.warn("Could not renew idempotency claim on {}", bucket.getName(), e);
+        }
+    }
+
+    private boolean runScript(String script, RBucket<String> bucket, Object... values) {
+        Boolean applied = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, script,
+                RScript.ReturnType.BOOLEAN, List.of(bucket.getName()),
+                Arrays.stream(values).map(String::valueOf).toArray());
+        return Boolean.TRUE.equals(applied);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    private IdempotentResponse replay(IdempotencyRecord record, String requestHash) {
+        if (!record.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException(
+                    "Idempotency key was already used for a different request payload");
+        }
+        if (record.state() == IdempotencyRecord.State.IN_PROGRESS) {
+            rejectedInFlight.increment();
+            throw new IdempotencyConflictException("Request with this idempotency key is already in progress");
+        }
+        replayed.increment();
+        log.debug("Replaying stored response for idempotent request");
+        return new IdempotentResponse(record.httpStatus(), record.body(), true);
+    }
+
+    public String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise response", e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not hash request", e);
+        }
+    }
+}
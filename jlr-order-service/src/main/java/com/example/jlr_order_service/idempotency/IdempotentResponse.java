@@ -0,0 +1,8 @@
+package com.example.jlr_order_service.idempotency;
+
+/**
+ * Serialized response for an idempotent submission, and whether it was replayed
+ * from the store rather than produced by this request.
+ */
+public record IdempotentResponse(int httpStatus, String body, boolean replayed) {
+}
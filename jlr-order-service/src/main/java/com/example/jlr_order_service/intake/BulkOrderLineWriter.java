@@ -0,0 +1,153 @@
+package com.example.jlr_order_service.intake;
+
+import com.example.jlr_order_service.config.IntakeProperties;
+import com.example.jlr_order_service.dto.CreateOrderRequest;
+import com.example.jlr_order_service.entity.OrderLine;
+import com.example.jlr_order_service.pricing.DealerPriceList;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes a bulk order's lines as parallel JDBC batches.
+ *
+ * Orders use IDENTITY keys, which rules out Hibernate insert batching, so a
+ * 2,000-line order through JPA is 2,000 round trips. Here the lines are split
+ * into chunks, each written as one batch on its own connection.
+ *
+ * The chunk queue is ordered by (order, chunk) rather than arrival, so the
+ * workers finish the earliest bulk order before starting the next one instead
+ * of interleaving them and making every order wait for all of them.
+ */
+@Component
+@Slf4j
+public class BulkOrderLineWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO order_lines "
+            + "(order_id, order_created_at, line_number, part_number, quantity, unit_price, line_total) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IntakeProperties properties;
+    private final ThreadPoolExecutor chunkExecutor;
+    private final AtomicLong orderSequence = new AtomicLong();
+
+    public BulkOrderLineWriter(JdbcTemplate jdbcTemplate, IntakeProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.chunkExecutor = new ThreadPoolExecutor(properties.getChunkThreads(), properties.getChunkThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), new CustomizableThreadFactory("bulk-chunk-"));
+        Gauge.builder("order.intake.chunk.queue.depth", chunkExecutor, executor -> executor.getQueue().size())
+                .description("Bulk-order chunks waiting for a writer")
+                .register(meterRegistry);
+    }
+
+    public void write(long orderId, LocalDateTime orderCreatedAt, List<CreateOrderRequest.Line> lines,
+                      DealerPriceList prices) {
+        long sequence = orderSequence.incrementAndGet();
+        int chunkSize = properties.getChunkSize();
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int from = 0; from < lines.size(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, lines.size());
+            ChunkTask task = new ChunkTask(sequence, start, () -> insert(orderId, orderCreatedAt, lines, prices, start, end));
+            chunkExecutor.execute(task);
+            chunks.add(task.completion);
+        }
+
+        try {
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                    .get(properties.getChunkTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading lines of order " + orderId, e);
+        } catch (ExecutionException | TimeoutException e) {
+            chunks.forEach(chunk -> chunk.cancel(false));
+            throw new IllegalStateException("Could not load lines of order " + orderId, e);
+        }
+        log.debug("Loaded {} lines of order {} in {} chunks", lines.size(), orderId, chunks.size());
+    }
+
+    private void insert(long orderId, LocalDateTime orderCreatedAt, List<CreateOrderRequest.Line> lines,
+                        DealerPriceList prices, int start, int end) {
+        Timestamp createdAt = Timestamp.valueOf(orderCreatedAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                CreateOrderRequest.Line line = lines.get(start + i);
+                OrderLine priced = new OrderLine(line.getPartNumber(), line.getQuantity(),
+                        prices.netUnitPrice(line.getPartNumber(), line.getQuantity(), line.getUnitPrice()));
+                ps.setLong(1, orderId);
+                ps.setTimestamp(2, createdAt);
+                ps.setInt(3, start + i + 1);
+                ps.setString(4, priced.getPartNumber());
+                ps.setInt(5, priced.getQuantity());
+                ps.setBigDecimal(6, priced.getUnitPrice());
+                ps.setBigDecimal(7, priced.getLineTotal());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return end - start;
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        chunkExecutor.shutdownNow();
+    }
+
+    private static final class ChunkTask implements Runnable, Comparable<ChunkTask> {
+
+        private final long orderSequence;
+        private final int firstLine;
+        private final Runnable work;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private ChunkTask(long orderSequence, int firstLine, Runnable work) {
+            this.orderSequence = orderSequence;
+            this.firstLine = firstLine;
+            this.work = work;
+        }
+
+        @Override
+        public void run() {
+            if (completion.isDone()) {
+                return;
+            }
+            try {
+                work.run();
+                completion.complete(null);
+            } catch (RuntimeException e) {
+                completion.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public int compareTo(ChunkTask other) {
+            int byOrder = Long.compare(orderSequence, other.orderSequence);
+            return byOrder != 0 ? byOrder : Integer.compare(firstLine, other.firstLine);
+        }
+    }
+}
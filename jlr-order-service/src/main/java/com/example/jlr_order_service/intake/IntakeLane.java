@@ -0,0 +1,27 @@
+package com.example.jlr_order_service.intake;
+
+import com.example.jlr_order_service.dto.CreateOrderRequest;
+import com.example.jlr_order_service.entity.OrderType;
+
+/**
+ * Intake lanes. Each has its own workers and queue, so a lane can only ever be
+ * slowed down by its own traffic.
+ */
+public enum IntakeLane {
+
+    /** VOR orders: a vehicle is off the road until the part ships */
+    EMERGENCY,
+    STANDARD,
+    /** Restocks, plus any order big enough to hold up the standard lane */
+    BULK;
+
+    public static IntakeLane of(CreateOrderRequest request, int bulkLineThreshold) {
+        if (request.getOrderType() == OrderType.EMERGENCY) {
+            return EMERGENCY;
+        }
+        if (request.getOrderType() == OrderType.BULK || request.getLines().size() > bulkLineThreshold) {
+            return BULK;
+        }
+        return STANDARD;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.jlr_order_service.intake;
+
+import com.example.jlr_order_service.config.IntakeProperties;
+import com.example.jlr_order_service.dto.CreateOrderRequest;
+import com.example.jlr_order_service.entity.Order;
+import com.example.jlr_order_service.exception.OrderIntakeRejectedException;
+import com.example.jlr_order_service.pipeline.OrderPipelineMetrics;
+import com.example.jlr_order_service.pipeline.OrderTrace;
+import com.example.jlr_order_service.service.OrderPlacementService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs order placement on per-lane worker pools.
+ *
+ * Emergency, standard and bulk orders each get their own workers and bounded
+ * queue, so a burst of 2,000-line restocks can fill the bulk lane without a
+ * VOR order ever waiting behind it. A full lane rejects new orders straight
+ * away rather than letting latency grow without bound. Bulk orders above one
+ * chunk are loaded in parallel by {@link BulkOrderLineWriter}.
+ *
+ * Metrics per lane: {@code order.intake.latency} (enqueue to placed, with the
+ * lane's SLO as a histogram bucket), {@code order.intake.queue.wait},
+ * {@code order.intake.slo.breached}, {@code order.intake.rejected} and
+ * {@code order.intake.queue.depth}.
+ */
+@Service
+@Slf4j
+public class OrderIntakeService {
+
+    private final OrderPlacementService placementService;
+    private final IntakeProperties properties;
+    private final OrderPipelineMetrics pipelineMetrics;
+    private final Map<IntakeLane, ThreadPoolExecutor> executors = new EnumMap<>(IntakeLane.class);
+    private final Map<IntakeLane, LaneMetrics> metrics = new EnumMap<>(IntakeLane.class);
+
+    public OrderIntakeService(OrderPlacementService placementService, IntakeProperties properties,
+                              OrderPipelineMetrics pipelineMetrics, MeterRegistry meterRegistry) {
+        this.placementService = placementService;
+        this.properties = properties;
+        this.pipelineMetrics = pipelineMetrics;
+        for (IntakeLane lane : IntakeLane.values()) {
+            IntakeProperties.Lane config = properties.lane(lane);
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(config.getThreads(), config.getThreads(),
+                    0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                    new CustomizableThreadFactory("intake-" + lane.name().toLowerCase() + "-"));
+            executors.put(lane, executor);
+            metrics.put(lane, new LaneMetrics(lane, config, executor, meterRegistry));
+        }
+    }
+
+    public CompletableFuture<Order> submit(CreateOrderRequest request, OrderTrace trace) {
+        IntakeLane lane = IntakeLane.of(request, properties.getBulkLineThreshold());
+        LaneMetrics laneMetrics = metrics.get(lane);
+        long enqueued = System.nanoTime();
+        CompletableFuture<Order> placed = new CompletableFuture<>();
+        try {
+            executors.get(lane).execute(() -> {
+                long waited = System.nanoTime() - enqueued;
+                laneMetrics.queueWait.record(waited, TimeUnit.NANOSECONDS);
+                trace.queued(waited);
+                try {
+                    Order order = place(lane, request, trace);
+                    pipelineMetrics.complete(trace, order.getOrderNumber());
+                    placed.complete(order);
+                } catch (RuntimeException e) {
+                    placed.completeExceptionally(e);
+                } finally {
+                    laneMetrics.recordLatency(System.nanoTime() - enqueued);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            laneMetrics.rejected.increment();
+            log.warn("{} intake lane is full, rejecting order from dealer {}", lane, request.getDealerId());
+            throw new OrderIntakeRejectedException("The " + lane.name().toLowerCase()
+                    + " order lane is at capacity, please retry shortly");
+        }
+        return placed;
+    }
+
+    private Order place(IntakeLane lane, CreateOrderRequest request, OrderTrace trace) {
+        if (lane == IntakeLane.BULK && request.getLines().size() > properties.getChunkSize()) {
+            return placementService.placeBulkOrder(request, trace);
+        }
+        return placementService.placeOrder(request, trace);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executors.values().forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor executor : executors.values()) {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static final class LaneMetrics {
+
+        private final long sloNanos;
+        private final Timer latency;
+        private final Timer queueWait;
+        private final Counter sloBreached;
+        private final Counter rejected;
+
+        private LaneMetrics(IntakeLane lane, IntakeProperties.Lane config, ThreadPoolExecutor executor,
+                            MeterRegistry meterRegistry) {
+            String tag = lane.name().toLowerCase();
+            this.sloNanos = config.getSlo().toNanos();
+            this.latency = Timer.builder("order.intake.latency")
+                    .description("Time from intake to order placed")
+                    .tag("lane", tag)
+                    .serviceLevelObjectives(config.getSlo())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.queueWait = Timer.builder("order.intake.queue.wait")
+                    .description("Time an order waited for a lane worker")
+                    .tag("lane", tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.sloBreached = Counter.builder("order.intake.slo.breached")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("order.intake.rejected")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            Gauge.builder("order.intake.queue.depth", executor, pool -> pool.getQueue().size())
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+        }
+
+        private void recordLatency(long nanos) {
+            latency.record(nanos, TimeUnit.NANOSECONDS);
+            if (nanos > sloNanos) {
+                sloBreached.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.jlr_order_service.maintenance;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Deletes bulk orders left in RECEIVING: their lines were still loading when
+ * the node died, so they never got a saga, a reservation or an event. The
+ * deletes are bounded by the chunk's created_at range so they only visit the
+ * partitions the chunk falls in.
+ */
+@Component
+@RequiredArgsConstructor
+public class AbandonedOrderTask implements MaintenanceTask {
+
+    public static final String NAME = "expire-abandoned-orders";
+
+    private static final String CLAIM_SQL = "SELECT id, created_at FROM orders "
+            + "WHERE status = 'RECEIVING' AND id > ? AND id % ? = ? AND created_at < ? "
+            + "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String DELETE_LINES_SQL = "DELETE FROM order_lines "
+            + "WHERE order_id = ANY(?) AND order_created_at BETWEEN ? AND ?";
+
+    private static final String DELETE_ORDERS_SQL = "DELETE FROM orders "
+            + "WHERE id = ANY(?) AND created_at BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Chunk processChunk(int partition, int partitions, long afterId, int limit, Duration age) {
+        List<Claimed> claimed = jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new Claimed(rs.getLong(1), rs.getTimestamp(2)),
+                afterId, partitions, partition, MaintenanceJdbc.cutoff(clock, age), limit);
+        List<Long> ids = claimed.stream().map(Claimed::id).toList();
+        if (!ids.isEmpty()) {
+            Timestamp from = claimed.stream().map(Claimed::createdAt).min(Comparator.naturalOrder()).orElseThrow();
+            Timestamp to = claimed.stream().map(Claimed::createdAt).max(Comparator.naturalOrder()).orElseThrow();
+            MaintenanceJdbc.updateByIdsCreatedBetween(jdbcTemplate, DELETE_LINES_SQL, ids, from, to);
+            MaintenanceJdbc.updateByIdsCreatedBetween(jdbcTemplate, DELETE_ORDERS_SQL, ids, from, to);
+        }
+        return MaintenanceJdbc.chunkOf(ids);
+    }
+
+    private record Claimed(long id, Timestamp createdAt) {
+    }
+}
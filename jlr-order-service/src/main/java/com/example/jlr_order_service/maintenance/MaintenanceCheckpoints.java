@@ -0,0 +1,47 @@
+package com.example.jlr_order_service.maintenance;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Where each job partition got to. Advanced in the same transaction as the
+ * chunk it describes, so a run killed mid-way resumes at the first unprocessed
+ * chunk and never repeats a committed one.
+ */
+@Component
+@RequiredArgsConstructor
+class MaintenanceCheckpoints {
+
+    private static final String ENSURE_SQL = "INSERT INTO maintenance_checkpoints (job_name, partition_no) "
+            + "VALUES (?, ?) ON CONFLICT DO NOTHING";
+
+    private static final String LOAD_SQL = "SELECT last_id FROM maintenance_checkpoints "
+            + "WHERE job_name = ? AND partition_no = ?";
+
+    private static final String ADVANCE_SQL = "UPDATE maintenance_checkpoints SET last_id = ?, "
+            + "rows_processed = rows_processed + ?, updated_at = now() WHERE job_name = ? AND partition_no = ?";
+
+    private static final String RESTART_SQL = "UPDATE maintenance_checkpoints SET last_id = 0, "
+            + "pass_started_at = now(), updated_at = now() WHERE job_name = ? AND partition_no = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    long load(String job, int partition) {
+        jdbcTemplate.update(ENSURE_SQL, job, partition);
+        Long lastId = jdbcTemplate.queryForObject(LOAD_SQL, Long.class, job, partition);
+        return lastId == null ? 0 : lastId;
+    }
+
+    void advance(String job, int partition, long lastId, int rows) {
+        jdbcTemplate.update(ADVANCE_SQL, lastId, rows, job, partition);
+    }
+
+    /**
+     * The pass reached the end; the next one starts from the lowest id again,
+     * since rows behind the checkpoint may have qualified meanwhile.
+     */
+    void restart(String job, int partition) {
+        jdbcTemplate.update(RESTART_SQL, job, partition);
+    }
+}
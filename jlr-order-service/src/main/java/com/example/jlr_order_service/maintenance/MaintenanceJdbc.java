@@ -0,0 +1,38 @@
+package com.example.jlr_order_service.maintenance;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+final class MaintenanceJdbc {
+
+    private MaintenanceJdbc() {
+    }
+
+    /**
+     * Runs a statement whose parameters are {@code ANY(?)} over the ids and
+     * then the ids' created_at range, so Postgres only visits the partitions
+     * that range spans.
+     */
+    static int updateByIdsCreatedBetween(JdbcTemplate jdbcTemplate, String sql, List<Long> ids,
+                                         Timestamp from, Timestamp to) {
+        Long[] array = ids.toArray(Long[]::new);
+        return jdbcTemplate.update(sql, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", array));
+            ps.setTimestamp(2, from);
+            ps.setTimestamp(3, to);
+        });
+    }
+
+    static Timestamp cutoff(Clock clock, Duration age) {
+        return Timestamp.valueOf(LocalDateTime.now(clock).minus(age));
+    }
+
+    static MaintenanceTask.Chunk chunkOf(List<Long> ids) {
+        return ids.isEmpty() ? MaintenanceTask.Chunk.EMPTY : new MaintenanceTask.Chunk(ids.get(ids.size() - 1), ids.size());
+    }
+}
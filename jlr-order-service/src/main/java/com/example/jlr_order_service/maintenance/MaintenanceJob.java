@@ -0,0 +1,41 @@
+package com.example.jlr_order_service.maintenance;
+
+import lombok.Setter;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.InterruptableJob;
+import org.quartz.JobExecutionContext;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+/**
+ * One partition of one maintenance task. Quartz's JDBC job store hands each
+ * firing to exactly one node in the cluster, and {@link DisallowConcurrentExecution}
+ * keeps a slow run from overlapping the next firing of the same partition.
+ * The job data ({@code taskName}, {@code partition}) is bound to the setters.
+ */
+@DisallowConcurrentExecution
+public class MaintenanceJob extends QuartzJobBean implements InterruptableJob {
+
+    private final MaintenanceRunner runner;
+
+    @Setter
+    private String taskName;
+
+    @Setter
+    private int partition;
+
+    private volatile boolean interrupted;
+
+    public MaintenanceJob(MaintenanceRunner runner) {
+        this.runner = runner;
+    }
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        runner.run(taskName, partition, () -> interrupted || Thread.currentThread().isInterrupted());
+    }
+
+    @Override
+    public void interrupt() {
+        interrupted = true;
+    }
+}
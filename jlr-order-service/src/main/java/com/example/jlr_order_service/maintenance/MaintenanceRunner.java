@@ -0,0 +1,135 @@
+package com.example.jlr_order_service.maintenance;
+
+import com.example.jlr_order_service.config.MaintenanceProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs one partition of a {@link MaintenanceTask}: chunk after chunk from the
+ * stored checkpoint, each chunk and its checkpoint in one short transaction,
+ * pausing between chunks and stopping at the per-run chunk cap, at the end of
+ * the pass, or when interrupted.
+ *
+ * Metrics: {@code order.maintenance.rows} (throughput), {@code order.maintenance.chunk}
+ * (chunk duration) and {@code order.maintenance.checkpoint} (progress through
+ * the id space), all tagged by job; the gauge also by partition.
+ */
+@Component
+@Slf4j
+public class MaintenanceRunner {
+
+    private final Map<String, MaintenanceTask> tasks;
+    private final MaintenanceCheckpoints checkpoints;
+    private final MaintenanceProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> progress = new ConcurrentHashMap<>();
+
+    public MaintenanceRunner(List<MaintenanceTask> tasks, MaintenanceCheckpoints checkpoints,
+                             MaintenanceProperties properties, PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.tasks = tasks.stream().collect(Collectors.toMap(MaintenanceTask::name, Function.identity()));
+        this.checkpoints = checkpoints;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public List<MaintenanceTask> tasks() {
+        return List.copyOf(tasks.values());
+    }
+
+    public void run(String taskName, int partition, BooleanSupplier stopRequested) {
+        MaintenanceTask task = tasks.get(taskName);
+        if (task == null) {
+            log.warn("No maintenance task named {}", taskName);
+            return;
+        }
+        MaintenanceProperties.Job job = properties.job(taskName);
+        int partitions = properties.getPartitions();
+        Timer chunkTimer = meterRegistry.timer("order.maintenance.chunk", "job", taskName);
+        AtomicLong checkpointGauge = progressGauge(taskName, partition);
+
+        long lastId = checkpoints.load(taskName, partition);
+        long started = System.nanoTime();
+        long rows = 0;
+        int chunks = 0;
+        boolean passComplete = false;
+        while (chunks < properties.getMaxChunksPerRun() && !stopRequested.getAsBoolean()) {
+            long afterId = lastId;
+            long chunkStarted = System.nanoTime();
+            MaintenanceTask.Chunk chunk = transactionTemplate.execute(status -> {
+                MaintenanceTask.Chunk result = task.processChunk(partition, partitions, afterId,
+                        properties.getChunkSize(), job.getAge());
+                if (result.rows() == 0) {
+                    checkpoints.restart(taskName, partition);
+                } else {
+                    checkpoints.advance(taskName, partition, result.lastId(), result.rows());
+                }
+                return result;
+            });
+            chunkTimer.record(System.nanoTime() - chunkStarted, TimeUnit.NANOSECONDS);
+
+            if (chunk == null || chunk.rows() == 0) {
+                passComplete = true;
+                checkpointGauge.set(0);
+                break;
+            }
+            lastId = chunk.lastId();
+            rows += chunk.rows();
+            chunks++;
+            checkpointGauge.set(lastId);
+            meterRegistry.counter("order.maintenance.rows", "job", taskName).increment(chunk.rows());
+            if (!pause()) {
+                break;
+            }
+        }
+
+        long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        if (rows > 0 || chunks > 0) {
+            log.info("Maintenance {} partition {}/{}: {} rows in {} chunks, {} ms ({} rows/s), {}",
+                    taskName, partition, partitions, rows, chunks, elapsedMs, rows * 1000 / elapsedMs,
+                    passComplete ? "pass complete" : "resuming from id " + lastId + " next run");
+        }
+    }
+
+    private boolean pause() {
+        long pauseMs = properties.getPauseBetweenChunks().toMillis();
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private AtomicLong progressGauge(String taskName, int partition) {
+        return progress.computeIfAbsent(taskName + "-" + partition, key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("order.maintenance.checkpoint", value, AtomicLong::get)
+                    .description("Last id processed in the current pass")
+                    .tags(Tags.of("job", taskName, "partition", String.valueOf(partition)))
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.jlr_order_service.maintenance;
+
+import com.example.jlr_order_service.config.MaintenanceProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.*;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Registers a job and cron trigger per task partition in the clustered job
+ * store. Every node does this on startup with replace, so the stored schedule
+ * always matches the configuration of the most recently started node; jobs
+ * for tasks or partitions no longer configured are removed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MaintenanceScheduler {
+
+    static final String GROUP = "order-maintenance";
+
+    private final Scheduler scheduler;
+    private final MaintenanceRunner runner;
+    private final MaintenanceProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void register() throws SchedulerException {
+        Set<JobKey> stale = new HashSet<>(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(GROUP)));
+        for (MaintenanceTask task : runner.tasks()) {
+            MaintenanceProperties.Job job = properties.job(task.name());
+            for (int partition = 0; partition < properties.getPartitions(); partition++) {
+                JobKey key = JobKey.jobKey(task.name() + "-" + partition, GROUP);
+                stale.remove(key);
+                if (!job.isEnabled()) {
+                    scheduler.deleteJob(key);
+                    continue;
+                }
+                JobDetail detail = JobBuilder.newJob(MaintenanceJob.class)
+                        .withIdentity(key)
+                        .usingJobData("taskName", task.name())
+                        .usingJobData("partition", partition)
+                        .storeDurably()
+                        .build();
+                Trigger trigger = TriggerBuilder.newTrigger()
+                        .withIdentity(key.getName(), GROUP)
+                        .forJob(key)
+                        .withSchedule(CronScheduleBuilder.cronSchedule(job.getCron())
+                                .withMisfireHandlingInstructionDoNothing())
+                        .build();
+                scheduler.scheduleJob(detail, Set.of(trigger), true);
+            }
+            log.info("Scheduled maintenance {} ({} partitions): {}", task.name(), properties.getPartitions(),
+                    job.isEnabled() ? job.getCron() : "disabled");
+        }
+        for (JobKey key : stale) {
+            scheduler.deleteJob(key);
+            log.info("Removed maintenance job {}, no longer configured", key.getName());
+        }
+    }
+}
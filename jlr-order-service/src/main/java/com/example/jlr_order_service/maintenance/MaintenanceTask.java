@@ -0,0 +1,31 @@
+package com.example.jlr_order_service.maintenance;
+
+import java.time.Duration;
+
+/**
+ * A housekeeping job that works through its rows in id order, one bounded
+ * chunk per transaction. {@link MaintenanceRunner} supplies the transaction,
+ * checkpointing, throttling and metrics.
+ */
+public interface MaintenanceTask {
+
+    /**
+     * Stable name, used for the Quartz job, the checkpoint row and metric tags.
+     */
+    String name();
+
+    /**
+     * Handles up to {@code limit} qualifying rows of one partition with ids
+     * above {@code afterId}, in the caller's transaction. Rows locked by
+     * someone else are skipped, not waited for.
+     *
+     * @param age only rows at least this old qualify
+     * @return the last id handled and how many rows; zero rows ends the pass
+     */
+    Chunk processChunk(int partition, int partitions, long afterId, int limit, Duration age);
+
+    record Chunk(long lastId, int rows) {
+
+        public static final Chunk EMPTY = new Chunk(0, 0);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.jlr_order_service.maintenance;
+
+import com.example.jlr_order_service.repository.OrderSagaRepository;
+import com.example.jlr_order_service.saga.OrderSagaOrchestrator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Releases inventory that finished sagas left reserved: orders cancelled after
+ * their saga completed, and sagas whose compensation gave up. Walks orders
+ * rather than sagas, since only a handful of orders are ever CANCELLED or
+ * FAILED.
+ */
+@Component
+@RequiredArgsConstructor
+public class StaleReservationTask implements MaintenanceTask {
+
+    public static final String NAME = "release-stale-reservations";
+
+    private static final String CLAIM_SQL = "SELECT o.id, s.id FROM orders o "
+            + "JOIN order_sagas s ON s.order_id = o.id AND s.order_created_at = o.created_at "
+            + "WHERE o.status IN ('CANCELLED', 'FAILED') AND o.id > ? AND o.id % ? = ? "
+            + "AND s.inventory_released_at IS NULL "
+            + "AND ((s.status = 'COMPLETED' AND o.status = 'CANCELLED') OR s.status = 'COMPENSATION_FAILED') "
+            + "AND o.updated_at < ? AND s.updated_at < ? "
+            + "ORDER BY o.id LIMIT ? FOR UPDATE OF s SKIP LOCKED";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderSagaRepository sagaRepository;
+    private final OrderSagaOrchestrator orchestrator;
+    private final Clock clock;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Chunk processChunk(int partition, int partitions, long afterId, int limit, Duration age) {
+        var cutoff = MaintenanceJdbc.cutoff(clock, age);
+        List<long[]> rows = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)},
+                afterId, partitions, partition, cutoff, cutoff, limit);
+        if (rows.isEmpty()) {
+            return Chunk.EMPTY;
+        }
+        for (long[] row : rows) {
+            sagaRepository.findById(row[1]).ifPresent(orchestrator::releaseInventory);
+        }
+        return new Chunk(rows.get(rows.size() - 1)[0], rows.size());
+    }
+}
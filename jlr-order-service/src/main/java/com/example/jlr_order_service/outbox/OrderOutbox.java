@@ -0,0 +1,50 @@
+package com.example.jlr_order_service.outbox;
+
+import com.example.jlr_order_service.event.OrderEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Appends order events to the outbox inside the caller's transaction, so an
+ * event exists if and only if the order change it describes committed. Saga
+ * commands use the same table with an explicit topic.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderOutbox {
+
+    private static final String INSERT_SQL = "INSERT INTO order_outbox (event_id, event_type, aggregate_key, payload) "
+            + "VALUES (?, ?, ?, ?::jsonb)";
+
+    private static final String INSERT_ROUTED_SQL = "INSERT INTO order_outbox "
+            + "(event_id, event_type, aggregate_key, payload, topic) VALUES (?, ?, ?, ?::jsonb, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OrderEvent event) {
+        jdbcTemplate.update(INSERT_SQL, event.getEventId(), event.getEventType().name(),
+                event.getOrderNumber(), toJson(event.getEventId(), event));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String topic, UUID eventId, String eventType, String key, Object payload) {
+        jdbcTemplate.update(INSERT_ROUTED_SQL, eventId, eventType, key, toJson(eventId, payload), topic);
+    }
+
+    private String toJson(UUID eventId, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise outbox payload " + eventId, e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.jlr_order_service.outbox;
+
+import com.example.jlr_order_service.config.OutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains order_outbox to Kafka without a two-phase commit.
+ *
+ * Each batch is one transaction: claim up to batchSize rows with
+ * {@code FOR UPDATE SKIP LOCKED} (so any number of relay instances split the
+ * backlog without blocking each other), hand them all to the producer so they
+ * ride Kafka's own batching and compression, wait for every ack, then delete or
+ * archive the claimed ids in one statement. If the process dies after the acks
+ * the rows are still there and are sent again: delivery is at-least-once.
+ *
+ * Metrics (Prometheus): {@code order.outbox.published} (throughput),
+ * {@code order.outbox.publish.lag} (insert to ack), {@code order.outbox.batch.size}
+ * and {@code order.outbox.batch} (batch duration).
+ */
+@Component
+@Slf4j
+public class OrderOutboxRelay {
+
+    private static final String CLAIM_SQL = "SELECT id, event_id, event_type, aggregate_key, payload::text, created_at, topic "
+            + "FROM order_outbox ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String DELETE_SQL = "DELETE FROM order_outbox WHERE id = ANY(?)";
+
+    private static final String ARCHIVE_SQL = "WITH published AS ("
+            + "DELETE FROM order_outbox WHERE id = ANY(?) "
+            + "RETURNING id, event_id, event_type, aggregate_key, payload, created_at, topic) "
+            + "INSERT INTO order_outbox_archive (id, event_id, event_type, aggregate_key, payload, created_at, topic) "
+            + "SELECT id, event_id, event_type, aggregate_key, payload, created_at, topic FROM published";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final OutboxProperties outboxProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter publishedCounter;
+    private final Timer publishLag;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSize;
+
+    public OrderOutboxRelay(JdbcTemplate jdbcTemplate,
+                            KafkaTemplate<String, String> kafkaTemplate,
+                            OutboxProperties outboxProperties,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.outboxProperties = outboxProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publishedCounter = Counter.builder("order.outbox.published")
+                .description("Outbox events acknowledged by Kafka")
+                .register(meterRegistry);
+        this.publishLag = Timer.builder("order.outbox.publish.lag")
+                .description("Time from outbox insert to Kafka acknowledgement")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("order.outbox.batch")
+                .description("Claim, publish and delete of one outbox batch")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("order.outbox.batch.size")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:50}")
+    public void sweep() {
+        try {
+            int published;
+            do {
+                published = relayBatch();
+            } while (published == outboxProperties.getBatchSize());
+        } catch (Exception e) {
+            log.warn("Order outbox relay failed, batch will be retried: {}", e.getMessage());
+        }
+    }
+
+    int relayBatch() {
+        Integer published = transactionTemplate.execute(status -> {
+            List<OutboxRow> rows = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new OutboxRow(
+                    rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+                    rs.getTimestamp(6), rs.getString(7)), outboxProperties.getBatchSize());
+            if (rows.isEmpty()) {
+                return 0;
+            }
+
+            long started = System.nanoTime();
+            publish(rows);
+            Long[] ids = rows.stream().map(OutboxRow::id).toArray(Long[]::new);
+            jdbcTemplate.update(outboxProperties.isArchive() ? ARCHIVE_SQL : DELETE_SQL,
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)));
+
+            batchTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            batchSize.record(rows.size());
+            return rows.size();
+        });
+        return published == null ? 0 : published;
+    }
+
+    private void publish(List<OutboxRow> rows) {
+        List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(rows.size());
+        for (OutboxRow row : rows) {
+            ProducerRecord<String, String> record = new ProducerRecord<>(
+                    row.topic() == null ? outboxProperties.getTopic() : row.topic(), row.key(), row.payload());
+            record.headers().add("eventId", row.eventId().getBytes(StandardCharsets.UTF_8));
+            record.headers().add("eventType", row.eventType().getBytes(StandardCharsets.UTF_8));
+            sends.add(kafkaTemplate.send(record));
+        }
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(outboxProperties.getSendTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing outbox batch", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Outbox batch was not acknowledged by Kafka", e);
+        }
+
+        Instant acknowledged = Instant.now();
+        for (OutboxRow row : rows) {
+            publishLag.record(Duration.between(row.createdAt().toInstant(), acknowledged));
+        }
+        publishedCounter.increment(rows.size());
+    }
+
+    private record OutboxRow(long id, String eventId, String eventType, String key, String payload,
+                             Timestamp createdAt, String topic) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.jlr_order_service.partition;
+
+import com.example.jlr_order_service.config.PartitionProperties;
+import com.example.jlr_order_service.entity.OrderStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the monthly partitions of orders and order_lines in step with the
+ * calendar: creates the coming months, and detaches months past retention
+ * into the archive schema, lines first since they reference the orders. The
+ * archived lines lose their foreign key; the archived orders are all there is
+ * for it to point at.
+ *
+ * Every partition change is its own short transaction under a transaction
+ * advisory lock, so nodes running this at the same time take turns, and with
+ * a lock timeout, so a long-running query on orders makes the change wait for
+ * the next run instead of blocking traffic queued behind it. A month still
+ * holding orders that are not finished is left attached and reported.
+ */
+@Component
+@Slf4j
+public class OrderPartitionManager {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+    private static final long LOCK_KEY = 0x4f52444552504152L;
+    private static final String FOREIGN_KEYS_SQL = "SELECT conname FROM pg_constraint "
+            + "WHERE conrelid = to_regclass(?) AND contype = 'f'";
+    private static final String ATTACHED_SQL = "SELECT c.relname FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = 'orders'::regclass";
+    private static final String OPEN_STATUSES = Arrays.stream(OrderStatus.values())
+            .filter(status -> !status.isTerminal())
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", "));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PartitionProperties properties;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    public OrderPartitionManager(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                 PartitionProperties properties, Clock clock, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.partitions.cron:0 30 1 * * *}")
+    public void maintain() {
+        YearMonth current = YearMonth.now(clock);
+        for (int ahead = 0; ahead <= properties.getMonthsAhead(); ahead++) {
+            YearMonth month = current.plusMonths(ahead);
+            locked("create " + month, () -> create(month));
+        }
+
+        YearMonth oldestKept = current.minusMonths(properties.getRetentionMonths());
+        for (YearMonth month : attachedMonths()) {
+            if (month.isBefore(oldestKept)) {
+                locked("detach " + month, () -> detach(month));
+            }
+        }
+    }
+
+    /**
+     * Partition name for a month, e.g. {@code orders_y2026m10}.
+     */
+    static String partitionName(String table, YearMonth month) {
+        return table + "_" + month.format(SUFFIX);
+    }
+
+    private void create(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        for (String table : List.of("orders", "order_lines")) {
+            String partition = partitionName(table, month);
+            if (exists(partition)) {
+                continue;
+            }
+            jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF " + table
+                    + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+            meterRegistry.counter("order.partitions.created", "table", table).increment();
+            log.info("Created partition {}", partition);
+        }
+    }
+
+    private void detach(YearMonth month) {
+        String orders = partitionName("orders", month);
+        String lines = partitionName("order_lines", month);
+        if (!exists(orders)) {
+            return;
+        }
+        Long open = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + orders + " WHERE status IN (" + OPEN_STATUSES + ")", Long.class);
+        if (open != null && open > 0) {
+            meterRegistry.counter("order.partitions.detach.blocked").increment();
+            log.warn("Not archiving {}: {} orders in it are not finished", orders, open);
+            return;
+        }
+
+        int sagas = jdbcTemplate.update("DELETE FROM order_sagas WHERE order_id IN (SELECT id FROM " + orders + ")");
+        String schema = properties.getArchiveSchema();
+        jdbcTemplate.execute("ALTER TABLE order_lines DETACH PARTITION " + lines);
+        // the detached lines keep their foreign key to orders, which would refuse to let the month's orders go
+        for (String constraint : jdbcTemplate.queryForList(FOREIGN_KEYS_SQL, String.class, lines)) {
+            jdbcTemplate.execute("ALTER TABLE " + lines + " DROP CONSTRAINT \"" + constraint + "\"");
+        }
+        jdbcTemplate.execute("ALTER TABLE " + lines + " SET SCHEMA " + schema);
+        jdbcTemplate.execute("ALTER TABLE orders DETACH PARTITION " + orders);
+        jdbcTemplate.execute("ALTER TABLE " + orders + " SET SCHEMA " + schema);
+        meterRegistry.counter("order.partitions.detached").increment();
+        log.info("Archived {} and {} into schema {} ({} sagas removed)", orders, lines, schema, sagas);
+    }
+
+    private List<YearMonth> attachedMonths() {
+        return jdbcTemplate.queryForList(ATTACHED_SQL, String.class).stream()
+                .map(name -> {
+                    try {
+                        return YearMonth.parse(name.substring("orders_".length()), SUFFIX);
+                    } catch (DateTimeParseException e) {
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    private boolean exists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL",
+                Boolean.class, table));
+    }
+
+    private void locked(String action, Runnable change) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("SET LOCAL lock_timeout = '" + properties.getLockTimeout().toMillis() + "ms'");
+                Boolean acquired = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)",
+                        Boolean.class, LOCK_KEY);
+                if (Boolean.TRUE.equals(acquired)) {
+                    change.run();
+                } else {
+                    log.debug("Partition maintenance busy on another node; skipping {}", action);
+                }
+            });
+        } catch (DataAccessException e) {
+            meterRegistry.counter("order.partitions.failures").increment();
+            log.warn("Partition maintenance could not {}: {}", action, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.jlr_order_service.pipeline;
+
+import com.example.jlr_order_service.config.PipelineProperties;
+import com.example.jlr_order_service.entity.OrderType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histograms for the order pipeline, all tagged the same way:
+ * {@code stage}, {@code dealer_tier} and {@code order_type}.
+ *
+ * <ul>
+ *   <li>{@code order.pipeline.stage} - one per {@link PipelineStage}</li>
+ *   <li>{@code order.pipeline.accept} - whole intake, request to order placed</li>
+ *   <li>{@code order.pipeline.saga} - reservation plus payment</li>
+ * </ul>
+ *
+ * Orders over the configured thresholds are logged as exemplars with their
+ * per-stage breakdown, which is usually enough to find the stage behind a tail
+ * without a profiler. Log lines are prefixed {@code slow-order} for grepping.
+ */
+@Component
+@Slf4j
+public class OrderPipelineMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final PipelineProperties properties;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public OrderPipelineMetrics(MeterRegistry meterRegistry, PipelineProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    public OrderTrace begin(OrderType orderType, String dealerId) {
+        return new OrderTrace(this, orderType == null ? OrderType.STANDARD : orderType, properties.dealerTier(dealerId));
+    }
+
+    /**
+     * Records the accepted order and logs it if it was slow.
+     */
+    public void complete(OrderTrace trace, String orderNumber) {
+        long total = trace.elapsedNanos();
+        timer("order.pipeline.accept", null, trace.orderType(), trace.dealerTier())
+                .record(total, TimeUnit.NANOSECONDS);
+        if (total > properties.getSlowOrderThreshold().toNanos()) {
+            log.warn("slow-order accept order={} type={} tier={} total={}ms queued={}ms validation={}ms "
+                            + "pricing={}ms persistence={}ms publish={}ms",
+                    orderNumber, trace.orderType(), trace.dealerTier(), millis(total), millis(trace.queuedNanos()),
+                    millis(trace.stageNanos(PipelineStage.VALIDATION)), millis(trace.stageNanos(PipelineStage.PRICING)),
+                    millis(trace.stageNanos(PipelineStage.PERSISTENCE)), millis(trace.stageNanos(PipelineStage.PUBLISH)));
+        }
+    }
+
+    /**
+     * Records a stage that ran outside intake, i.e. a saga step.
+     */
+    public void recordStage(PipelineStage stage, OrderType orderType, String dealerId, Duration duration) {
+        recordStage(stage, orderType, properties.dealerTier(dealerId), duration.toNanos());
+    }
+
+    public void completeSaga(String orderNumber, OrderType orderType, String dealerId, String outcome,
+                             Duration total, Duration reservation, Duration payment) {
+        String tier = properties.dealerTier(dealerId);
+        timer("order.pipeline.saga", null, orderType, tier).record(total);
+        if (total.compareTo(properties.getSlowSagaThreshold()) > 0) {
+            log.warn("slow-order saga order={} type={} tier={} outcome={} total={}ms reservation={}ms payment={}ms",
+                    orderNumber, orderType, tier, outcome, total.toMillis(), reservation.toMillis(), payment.toMillis());
+        }
+    }
+
+    void recordStage(PipelineStage stage, OrderType orderType, String dealerTier, long nanos) {
+        timer("order.pipeline.stage", stage, orderType, dealerTier).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String name, PipelineStage stage, OrderType orderType, String dealerTier) {
+        String key = name + '|' + (stage == null ? "" : stage.name()) + '|' + orderType + '|' + dealerTier;
+        return timers.computeIfAbsent(key, k -> {
+            Timer.Builder builder = Timer.builder(name)
+                    .tag("order_type", orderType.name().toLowerCase())
+                    .tag("dealer_tier", dealerTier.toLowerCase())
+                    .publishPercentileHistogram();
+            if (stage != null) {
+                builder.tag("stage", stage.tag());
+            }
+            return builder.register(meterRegistry);
+        });
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.jlr_order_service.pipeline;
+
+import com.example.jlr_order_service.entity.OrderType;
+
+import java.util.function.Supplier;
+
+/**
+ * Stage timings of one order on its way through intake. Each timed stage is
+ * recorded to its histogram as it finishes and kept here for the slow-order
+ * log line. Stages that run more than once (e.g. PUBLISH for the event and the
+ * first saga command) accumulate.
+ *
+ * Used by one thread at a time: created on the request thread, then handed to
+ * the intake worker.
+ */
+public final class OrderTrace {
+
+    private final OrderPipelineMetrics metrics;
+    private final OrderType orderType;
+    private final String dealerTier;
+    private final long startedNanos = System.nanoTime();
+    private final long[] stageNanos = new long[PipelineStage.values().length];
+    private long queuedNanos;
+
+    OrderTrace(OrderPipelineMetrics metrics, OrderType orderType, String dealerTier) {
+        this.metrics = metrics;
+        this.orderType = orderType;
+        this.dealerTier = dealerTier;
+    }
+
+    public <T> T time(PipelineStage stage, Supplier<T> work) {
+        long started = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            record(stage, System.nanoTime() - started);
+        }
+    }
+
+    public void time(PipelineStage stage, Runnable work) {
+        long started = System.nanoTime();
+        try {
+            work.run();
+        } finally {
+            record(stage, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Time spent waiting for an intake worker; part of the total, not a stage.
+     */
+    public void queued(long nanos) {
+        queuedNanos += nanos;
+    }
+
+    private void record(PipelineStage stage, long nanos) {
+        stageNanos[stage.ordinal()] += nanos;
+        metrics.recordStage(stage, orderType, dealerTier, nanos);
+    }
+
+    OrderType orderType() {
+        return orderType;
+    }
+
+    String dealerTier() {
+        return dealerTier;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startedNanos;
+    }
+
+    long queuedNanos() {
+        return queuedNanos;
+    }
+
+    long stageNanos(PipelineStage stage) {
+        return stageNanos[stage.ordinal()];
+    }
+}
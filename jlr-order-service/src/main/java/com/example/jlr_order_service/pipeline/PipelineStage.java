@@ -0,0 +1,19 @@
+package com.example.jlr_order_service.pipeline;
+
+/**
+ * Stages of the order pipeline, in the order an order passes through them.
+ * VALIDATION to PUBLISH happen while the order is accepted; RESERVATION and
+ * PAYMENT run afterwards in the placement saga.
+ */
+public enum PipelineStage {
+    VALIDATION,
+    PRICING,
+    PERSISTENCE,
+    PUBLISH,
+    RESERVATION,
+    PAYMENT;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.jlr_order_service.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * One dealer's rules, compiled by {@link PriceListCompiler}. Every discount
+ * that can apply to a part is already folded into one factor per quantity
+ * break, so pricing a line is a hash lookup, a search over a handful of break
+ * quantities and a single multiplication. Immutable, and shared by all
+ * threads until {@link #validUntil()} or the next rule change.
+ */
+public final class DealerPriceList {
+
+    private final String dealerId;
+    private final Map<String, PartPricing> parts;
+    private final PartPricing defaults;
+    private final LocalDateTime validUntil;
+
+    DealerPriceList(String dealerId, Map<String, PartPricing> parts, PartPricing defaults,
+                    LocalDateTime validUntil) {
+        this.dealerId = dealerId;
+        this.parts = Map.copyOf(parts);
+        this.defaults = defaults;
+        this.validUntil = validUntil;
+    }
+
+    /**
+     * Net unit price, rounded to cents, for {@code quantity} of a part listed
+     * at {@code listPrice}.
+     */
+    public BigDecimal netUnitPrice(String partNumber, int quantity, BigDecimal listPrice) {
+        return parts.getOrDefault(partNumber, defaults).apply(quantity, listPrice);
+    }
+
+    public String dealerId() {
+        return dealerId;
+    }
+
+    /**
+     * When the next rule starts or ends; the list must be recompiled then.
+     */
+    public LocalDateTime validUntil() {
+        return validUntil;
+    }
+
+    int partCount() {
+        return parts.size();
+    }
+
+    static final class PartPricing {
+
+        /** Ascending; the first entry is always 1. */
+        private final int[] minQuantities;
+        /** Price multiplier from the matching quantity up. */
+        private final BigDecimal[] factors;
+
+        PartPricing(int[] minQuantities, BigDecimal[] factors) {
+            this.minQuantities = minQuantities;
+            this.factors = factors;
+        }
+
+        BigDecimal apply(int quantity, BigDecimal listPrice) {
+            int index = Arrays.binarySearch(minQuantities, quantity);
+            BigDecimal factor = factors[index >= 0 ? index : -index - 2];
+            BigDecimal net = factor.compareTo(BigDecimal.ONE) == 0 ? listPrice : listPrice.multiply(factor);
+            return net.setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+}
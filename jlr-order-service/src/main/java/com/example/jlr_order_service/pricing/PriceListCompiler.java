@@ -0,0 +1,98 @@
+package com.example.jlr_order_service.pricing;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Turns the rules that apply to one dealer into a {@link DealerPriceList}.
+ *
+ * Per part, the base discount is the best contract discount, part-specific
+ * before catch-all, or failing that the best tier discount in the same order.
+ * The best promotion and the best quantity break reached are applied on top,
+ * multiplicatively. Factors are kept exact; only the final price is rounded.
+ */
+final class PriceListCompiler {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final LocalDateTime NO_CHANGE = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private PriceListCompiler() {
+    }
+
+    /**
+     * @param rules every rule matching the dealer or its tier, including ones
+     *              not active yet
+     */
+    static DealerPriceList compile(String dealerId, Collection<PricingRule> rules, LocalDateTime now) {
+        List<PricingRule> general = new ArrayList<>();
+        Map<String, List<PricingRule>> byPart = new HashMap<>();
+        LocalDateTime validUntil = NO_CHANGE;
+        for (PricingRule rule : rules) {
+            if (rule.validFrom().isAfter(now) && rule.validFrom().isBefore(validUntil)) {
+                validUntil = rule.validFrom();
+            }
+            if (rule.validTo() != null && rule.validTo().isAfter(now) && rule.validTo().isBefore(validUntil)) {
+                validUntil = rule.validTo();
+            }
+            if (!rule.activeAt(now)) {
+                continue;
+            }
+            if (rule.partNumber() == null) {
+                general.add(rule);
+            } else {
+                byPart.computeIfAbsent(rule.partNumber(), part -> new ArrayList<>()).add(rule);
+            }
+        }
+
+        Map<String, DealerPriceList.PartPricing> parts = new HashMap<>(byPart.size() * 2);
+        byPart.forEach((part, specific) -> parts.put(part, compilePart(specific, general)));
+        return new DealerPriceList(dealerId, parts, compilePart(List.of(), general), validUntil);
+    }
+
+    private static DealerPriceList.PartPricing compilePart(List<PricingRule> specific, List<PricingRule> general) {
+        BigDecimal base = best(specific, PricingRuleType.CONTRACT)
+                .or(() -> best(general, PricingRuleType.CONTRACT))
+                .or(() -> best(specific, PricingRuleType.TIER))
+                .or(() -> best(general, PricingRuleType.TIER))
+                .orElse(BigDecimal.ZERO);
+        BigDecimal promotion = best(specific, PricingRuleType.PROMOTION).orElse(BigDecimal.ZERO)
+                .max(best(general, PricingRuleType.PROMOTION).orElse(BigDecimal.ZERO));
+        BigDecimal fixed = multiplier(base).multiply(multiplier(promotion));
+
+        List<PricingRule> breaks = Stream.concat(specific.stream(), general.stream())
+                .filter(rule -> rule.type() == PricingRuleType.QUANTITY_BREAK)
+                .toList();
+        TreeSet<Integer> quantities = new TreeSet<>();
+        quantities.add(1);
+        breaks.forEach(rule -> quantities.add(rule.minQuantity()));
+
+        int[] minQuantities = new int[quantities.size()];
+        BigDecimal[] factors = new BigDecimal[quantities.size()];
+        int i = 0;
+        for (int quantity : quantities) {
+            BigDecimal breakDiscount = BigDecimal.ZERO;
+            for (PricingRule rule : breaks) {
+                if (rule.minQuantity() <= quantity) {
+                    breakDiscount = breakDiscount.max(rule.discountPercent());
+                }
+            }
+            minQuantities[i] = quantity;
+            factors[i] = fixed.multiply(multiplier(breakDiscount)).stripTrailingZeros();
+            i++;
+        }
+        return new DealerPriceList.PartPricing(minQuantities, factors);
+    }
+
+    private static Optional<BigDecimal> best(List<PricingRule> rules, PricingRuleType type) {
+        return rules.stream()
+                .filter(rule -> rule.type() == type)
+                .map(PricingRule::discountPercent)
+                .max(Comparator.naturalOrder());
+    }
+
+    private static BigDecimal multiplier(BigDecimal discountPercent) {
+        return HUNDRED.subtract(discountPercent).divide(HUNDRED);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.jlr_order_service.pricing;
+
+import com.example.jlr_order_service.config.PipelineProperties;
+import com.example.jlr_order_service.config.PricingProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands out compiled {@link DealerPriceList}s.
+ *
+ * The current rules live in one immutable snapshot behind an
+ * {@link AtomicReference}, together with the price lists compiled from it.
+ * A rule change builds a new snapshot and swaps it in, so every order is
+ * priced entirely against either the old rules or the new ones, and the old
+ * price lists are dropped with their snapshot. Price lists are compiled
+ * lazily, on a dealer's first order after a change or after one of its rules
+ * starts or ends.
+ */
+@Service
+@Slf4j
+public class PricingEngine {
+
+    private final PricingRuleRepository ruleRepository;
+    private final PricingProperties properties;
+    private final PipelineProperties pipelineProperties;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final Timer compileTimer;
+    private final AtomicReference<RuleSnapshot> snapshot = new AtomicReference<>();
+
+    public PricingEngine(PricingRuleRepository ruleRepository, PricingProperties properties,
+                         PipelineProperties pipelineProperties, Clock clock, MeterRegistry meterRegistry) {
+        this.ruleRepository = ruleRepository;
+        this.properties = properties;
+        this.pipelineProperties = pipelineProperties;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.compileTimer = meterRegistry.timer("order.pricing.compile");
+        Gauge.builder("order.pricing.cached.dealers", snapshot,
+                        ref -> ref.get() == null ? 0 : ref.get().priceLists.size())
+                .register(meterRegistry);
+    }
+
+    public DealerPriceList priceList(String dealerId) {
+        RuleSnapshot current = snapshot.get();
+        if (current == null) {
+            refresh();
+            current = snapshot.get();
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        DealerPriceList cached = current.priceLists.get(dealerId);
+        if (cached != null && now.isBefore(cached.validUntil())) {
+            return cached;
+        }
+
+        List<PricingRule> rules = current.rulesFor(dealerId, pipelineProperties.dealerTier(dealerId));
+        DealerPriceList compiled = compileTimer.record(() -> PriceListCompiler.compile(dealerId, rules, now));
+        if (cached != null || current.priceLists.size() < properties.getMaxCachedDealers()) {
+            current.priceLists.put(dealerId, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Reloads the rules if pricing_rules changed since the last load.
+     */
+    @Scheduled(fixedDelayString = "${app.pricing.refresh-interval-ms:30000}")
+    public synchronized void refresh() {
+        String version = ruleRepository.version();
+        RuleSnapshot current = snapshot.get();
+        if (current != null && current.version.equals(version)) {
+            return;
+        }
+        List<PricingRule> rules = ruleRepository.findCurrent(LocalDateTime.now(clock));
+        snapshot.set(new RuleSnapshot(version, rules));
+        meterRegistry.counter("order.pricing.reloads").increment();
+        log.info("Loaded {} pricing rules (version {})", rules.size(), version);
+    }
+
+    private static final class RuleSnapshot {
+
+        private final String version;
+        private final Map<String, List<PricingRule>> byDealer = new HashMap<>();
+        private final Map<String, List<PricingRule>> byTier = new HashMap<>();
+        private final List<PricingRule> everyone = new ArrayList<>();
+        private final Map<String, DealerPriceList> priceLists = new ConcurrentHashMap<>();
+
+        private RuleSnapshot(String version, List<PricingRule> rules) {
+            this.version = version;
+            for (PricingRule rule : rules) {
+                if (rule.dealerId() != null) {
+                    byDealer.computeIfAbsent(rule.dealerId(), dealer -> new ArrayList<>()).add(rule);
+                } else if (rule.dealerTier() != null) {
+                    byTier.computeIfAbsent(rule.dealerTier(), tier -> new ArrayList<>()).add(rule);
+                } else {
+                    everyone.add(rule);
+                }
+            }
+        }
+
+        private List<PricingRule> rulesFor(String dealerId, String tier) {
+            List<PricingRule> rules = new ArrayList<>(everyone);
+            byDealer.getOrDefault(dealerId, List.of()).stream()
+                    .filter(rule -> rule.dealerTier() == null || rule.dealerTier().equals(tier))
+                    .forEach(rules::add);
+            rules.addAll(byTier.getOrDefault(tier, List.of()));
+            return rules;
+        }
+    }
+}
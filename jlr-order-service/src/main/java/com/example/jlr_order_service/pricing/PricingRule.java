@@ -0,0 +1,16 @@
+package com.example.jlr_order_service.pricing;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One row of pricing_rules. Null dealer, tier or part means "any".
+ */
+public record PricingRule(long id, PricingRuleType type, String dealerId, String dealerTier, String partNumber,
+                          int minQuantity, BigDecimal discountPercent, LocalDateTime validFrom,
+                          LocalDateTime validTo) {
+
+    boolean activeAt(LocalDateTime now) {
+        return !validFrom.isAfter(now) && (validTo == null || validTo.isAfter(now));
+    }
+}
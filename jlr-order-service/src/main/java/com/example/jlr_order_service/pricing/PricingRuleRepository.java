@@ -0,0 +1,44 @@
+package com.example.jlr_order_service.pricing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class PricingRuleRepository {
+
+    private static final String VERSION_SQL = "SELECT count(*) || '@' || coalesce(max(updated_at)::text, '') "
+            + "FROM pricing_rules";
+
+    private static final String CURRENT_SQL = "SELECT id, rule_type, dealer_id, dealer_tier, part_number, "
+            + "min_quantity, discount_percent, valid_from, valid_to FROM pricing_rules "
+            + "WHERE valid_to IS NULL OR valid_to > ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Cheap change marker for the whole table.
+     */
+    public String version() {
+        return jdbcTemplate.queryForObject(VERSION_SQL, String.class);
+    }
+
+    /**
+     * Rules active now or starting later; expired ones are left out.
+     */
+    public List<PricingRule> findCurrent(LocalDateTime now) {
+        return jdbcTemplate.query(CURRENT_SQL, (rs, rowNum) -> {
+            Timestamp validTo = rs.getTimestamp("valid_to");
+            return new PricingRule(rs.getLong("id"), PricingRuleType.valueOf(rs.getString("rule_type")),
+                    rs.getString("dealer_id"), rs.getString("dealer_tier"), rs.getString("part_number"),
+                    rs.getInt("min_quantity"), rs.getBigDecimal("discount_percent"),
+                    rs.getTimestamp("valid_from").toLocalDateTime(),
+                    validTo == null ? null : validTo.toLocalDateTime());
+        }, Timestamp.valueOf(now));
+    }
+}
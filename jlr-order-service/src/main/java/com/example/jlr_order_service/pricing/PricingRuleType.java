@@ -0,0 +1,13 @@
+package com.example.jlr_order_service.pricing;
+
+/**
+ * How a rule's discount combines with the others on a line. TIER and CONTRACT
+ * set the dealer's base discount (a contract replaces the tier discount);
+ * the best PROMOTION and the best QUANTITY_BREAK reached then apply on top.
+ */
+public enum PricingRuleType {
+    TIER,
+    CONTRACT,
+    PROMOTION,
+    QUANTITY_BREAK
+}
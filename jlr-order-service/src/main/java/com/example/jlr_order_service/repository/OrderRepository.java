@@ -0,0 +1,39 @@
+package com.example.jlr_order_service.repository;
+
+import com.example.jlr_order_service.entity.Order;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * orders is range-partitioned by month on created_at. Lookups that know when
+ * the order was created pass a created_at window, so Postgres only searches
+ * the partitions that window covers; callers holding an order's id also hold
+ * its created_at and look it up by both.
+ */
+@Repository
+public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    @Query("select o from Order o where o.orderNumber = :orderNumber "
+            + "and o.createdAt >= :from and o.createdAt < :to")
+    Optional<Order> findByOrderNumberCreatedBetween(@Param("orderNumber") String orderNumber,
+                                                    @Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to);
+
+    @EntityGraph(attributePaths = "lines")
+    @Query("select o from Order o where o.orderNumber = :orderNumber "
+            + "and o.createdAt >= :from and o.createdAt < :to")
+    Optional<Order> findWithLinesByOrderNumberCreatedBetween(@Param("orderNumber") String orderNumber,
+                                                             @Param("from") LocalDateTime from,
+                                                             @Param("to") LocalDateTime to);
+
+    Optional<Order> findByIdAndCreatedAt(Long id, LocalDateTime createdAt);
+
+    @EntityGraph(attributePaths = "lines")
+    Optional<Order> findWithLinesByIdAndCreatedAt(Long id, LocalDateTime createdAt);
+}
@@ -0,0 +1,32 @@
+package com.example.jlr_order_service.repository;
+
+import com.example.jlr_order_service.entity.OrderSaga;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderSagaRepository extends JpaRepository<OrderSaga, Long> {
+
+    Optional<OrderSaga> findByOrderNumber(String orderNumber);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OrderSaga s WHERE s.id = :id")
+    Optional<OrderSaga> findForUpdate(@Param("id") Long id);
+
+    /**
+     * Open sagas past their step deadline, locked so that concurrent sweeps on
+     * other instances skip them instead of waiting.
+     */
+    @Query(value = "SELECT * FROM order_sagas WHERE step_deadline < :now "
+            + "AND status NOT IN ('COMPLETED', 'FAILED', 'COMPENSATED', 'COMPENSATION_FAILED') "
+            + "ORDER BY step_deadline LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OrderSaga> lockExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,306 @@
+package com.example.jlr_order_service.saga;
+
+import com.example.jlr_order_service.config.SagaProperties;
+import com.example.jlr_order_service.entity.Order;
+import com.example.jlr_order_service.entity.OrderSaga;
+import com.example.jlr_order_service.entity.OrderStatus;
+import com.example.jlr_order_service.entity.SagaStatus;
+import com.example.jlr_order_service.outbox.OrderOutbox;
+import com.example.jlr_order_service.pipeline.OrderPipelineMetrics;
+import com.example.jlr_order_service.pipeline.PipelineStage;
+import com.example.jlr_order_service.repository.OrderSagaRepository;
+import com.example.jlr_order_service.service.OrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Orchestrates order placement: reserve inventory, then capture payment.
+ *
+ * Nothing here calls a participant directly. Each step writes its saga state and
+ * its command to the outbox in one transaction and returns; the reply arrives
+ * later on Kafka and moves the saga on under a row lock. A reply for any
+ * command other than the one the saga is currently waiting on is stale (a late
+ * answer after a timeout, or a redelivery) and is dropped.
+ *
+ * Failures are undone in reverse order. A timed-out forward step is treated as
+ * "may have happened", so its compensation is always sent; participants must
+ * accept compensations for work they never did.
+ */
+@Service
+@Slf4j
+public class OrderSagaOrchestrator {
+
+    private final OrderSagaRepository sagaRepository;
+    private final OrderService orderService;
+    private final OrderOutbox orderOutbox;
+    private final SagaProperties properties;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final OrderPipelineMetrics pipelineMetrics;
+
+    public OrderSagaOrchestrator(OrderSagaRepository sagaRepository, OrderService orderService,
+                                 OrderOutbox orderOutbox, SagaProperties properties, Clock clock,
+                                 MeterRegistry meterRegistry, OrderPipelineMetrics pipelineMetrics) {
+        this.sagaRepository = sagaRepository;
+        this.orderService = orderService;
+        this.orderOutbox = orderOutbox;
+        this.properties = properties;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    /**
+     * Starts the saga for a freshly created order in the caller's transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OrderSaga start(Order order) {
+        OrderSaga saga = new OrderSaga();
+        saga.setOrderId(order.getId());
+        saga.setOrderCreatedAt(order.getCreatedAt());
+        saga.setOrderNumber(order.getOrderNumber());
+        saga.setPaymentReference("PAY-" + order.getOrderNumber());
+        saga.enter(SagaStatus.RESERVING_INVENTORY, LocalDateTime.now(clock), deadline(properties.getStepTimeout()));
+        OrderSaga saved = sagaRepository.save(saga);
+
+        send(saved, order, SagaCommandType.RESERVE_INVENTORY);
+        return saved;
+    }
+
+    @Transactional
+    public void onReply(SagaReply reply) {
+        OrderSaga saga = sagaRepository.findForUpdate(reply.getSagaId()).orElse(null);
+        if (saga == null || !saga.getOrderNumber().equals(reply.getOrderNumber())) {
+            log.warn("Dropping saga reply {} for unknown saga {} / order {}", reply.getCommandType(),
+                    reply.getSagaId(), reply.getOrderNumber());
+            return;
+        }
+        if (reply.getCommandType() != awaitedCommand(saga.getStatus())) {
+            log.debug("Dropping stale {} reply for order {} in step {}", reply.getCommandType(),
+                    saga.getOrderNumber(), saga.getStatus());
+            return;
+        }
+
+        closeStep(saga);
+        switch (saga.getStatus()) {
+            case RESERVING_INVENTORY -> {
+                if (reply.isSuccess()) {
+                    moveOrder(saga, OrderStatus.INVENTORY_RESERVED, null);
+                    advance(saga, SagaStatus.CAPTURING_PAYMENT, SagaCommandType.CAPTURE_PAYMENT);
+                } else {
+                    finish(saga, SagaStatus.FAILED, "Inventory reservation rejected: " + reply.getReason());
+                }
+            }
+            case CAPTURING_PAYMENT -> {
+                if (reply.isSuccess()) {
+                    moveOrder(saga, OrderStatus.PAYMENT_CAPTURED, null);
+                    finish(saga, SagaStatus.COMPLETED, null);
+                } else {
+                    saga.setFailureReason("Payment capture declined: " + reply.getReason());
+                    compensate(saga, SagaStatus.RELEASING_INVENTORY);
+                }
+            }
+            case VOIDING_PAYMENT -> {
+                if (reply.isSuccess()) {
+                    compensate(saga, SagaStatus.RELEASING_INVENTORY);
+                } else {
+                    deferCompensation(saga, reply.getReason());
+                }
+            }
+            case RELEASING_INVENTORY -> {
+                if (reply.isSuccess()) {
+                    finish(saga, SagaStatus.COMPENSATED, saga.getFailureReason());
+                } else {
+                    deferCompensation(saga, reply.getReason());
+                }
+            }
+            default -> throw new IllegalStateException("No reply expected in " + saga.getStatus());
+        }
+    }
+
+    /**
+     * Handles a saga whose step deadline has passed. Called by the timeout sweep
+     * with the saga row already locked.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTimeout(OrderSaga saga) {
+        meterRegistry.counter("order.saga.timeouts", "step", saga.getStatus().name()).increment();
+        log.warn("Order {} saga step {} timed out (attempt {})", saga.getOrderNumber(), saga.getStatus(),
+                saga.getStepAttempts());
+
+        closeStep(saga);
+        switch (saga.getStatus()) {
+            case RESERVING_INVENTORY -> {
+                saga.setFailureReason("Inventory reservation timed out");
+                compensate(saga, SagaStatus.RELEASING_INVENTORY);
+            }
+            case CAPTURING_PAYMENT -> {
+                saga.setFailureReason("Payment capture timed out");
+                compensate(saga, SagaStatus.VOIDING_PAYMENT);
+            }
+            case VOIDING_PAYMENT, RELEASING_INVENTORY -> retryCompensation(saga);
+            default -> log.debug("Saga for order {} already finished", saga.getOrderNumber());
+        }
+    }
+
+    /**
+     * Releases the stock of a finished saga that left it reserved: a completed
+     * saga whose order was cancelled afterwards, or one whose compensation gave
+     * up. Called by the maintenance sweep with the saga row already locked.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseInventory(OrderSaga saga) {
+        saga.setInventoryReleasedAt(LocalDateTime.now(clock));
+        sagaRepository.save(saga);
+        send(saga, orderOf(saga), SagaCommandType.RELEASE_INVENTORY);
+        meterRegistry.counter("order.saga.inventory.released", "status", saga.getStatus().name()).increment();
+        log.info("Order {} ({} saga) had inventory left reserved; release requested", saga.getOrderNumber(),
+                saga.getStatus());
+    }
+
+    /**
+     * A participant refused a compensation. It is sent again once the step
+     * deadline passes, through the timeout sweep, so a refusal counts against
+     * the same attempt limit as a timeout and ends in COMPENSATION_FAILED.
+     */
+    private void deferCompensation(OrderSaga saga, String reason) {
+        meterRegistry.counter("order.saga.compensation.refused", "step", saga.getStatus().name()).increment();
+        log.warn("Order {} saga step {} refused (attempt {}): {}", saga.getOrderNumber(), saga.getStatus(),
+                saga.getStepAttempts(), reason);
+        if (saga.getStepAttempts() >= properties.getMaxCompensationAttempts()) {
+            retryCompensation(saga);
+            return;
+        }
+        saga.setStepDeadline(deadline(properties.getCompensationTimeout().multipliedBy(saga.getStepAttempts())));
+        sagaRepository.save(saga);
+    }
+
+    private void retryCompensation(OrderSaga saga) {
+        if (saga.getStepAttempts() >= properties.getMaxCompensationAttempts()) {
+            log.error("Order {} saga could not complete {} after {} attempts; manual follow-up required",
+                    saga.getOrderNumber(), saga.getStatus(), saga.getStepAttempts());
+            finish(saga, SagaStatus.COMPENSATION_FAILED, saga.getFailureReason());
+            return;
+        }
+        int attempts = saga.getStepAttempts() + 1;
+        saga.setStepAttempts(attempts);
+        saga.setStepDeadline(deadline(properties.getCompensationTimeout().multipliedBy(attempts)));
+        sagaRepository.save(saga);
+        send(saga, orderOf(saga), awaitedCommand(saga.getStatus()));
+    }
+
+    private void compensate(OrderSaga saga, SagaStatus step) {
+        saga.enter(step, LocalDateTime.now(clock), deadline(properties.getCompensationTimeout()));
+        sagaRepository.save(saga);
+        send(saga, orderOf(saga), awaitedCommand(step));
+    }
+
+    private void advance(OrderSaga saga, SagaStatus step, SagaCommandType command) {
+        saga.enter(step, LocalDateTime.now(clock), deadline(properties.getStepTimeout()));
+        sagaRepository.save(saga);
+        send(saga, orderOf(saga), command);
+    }
+
+    private void finish(OrderSaga saga, SagaStatus outcome, String reason) {
+        saga.setStatus(outcome);
+        saga.setFailureReason(reason);
+        sagaRepository.save(saga);
+
+        moveOrder(saga, outcome == SagaStatus.COMPLETED ? OrderStatus.CONFIRMED : OrderStatus.FAILED, reason);
+        Duration total = Duration.between(saga.getCreatedAt(), LocalDateTime.now(clock));
+        meterRegistry.counter("order.saga.finished", "outcome", outcome.name()).increment();
+        meterRegistry.timer("order.saga.duration", "outcome", outcome.name()).record(total);
+
+        Order order = orderOf(saga);
+        pipelineMetrics.completeSaga(saga.getOrderNumber(), order.getOrderType(), order.getDealerId(), outcome.name(),
+                total, Duration.ofMillis(saga.getReservationMs()), Duration.ofMillis(saga.getPaymentMs()));
+        log.info("Order {} saga finished as {}", saga.getOrderNumber(), outcome);
+    }
+
+    /**
+     * Records how long the forward step that just ended (by reply or timeout)
+     * took, as a pipeline stage.
+     */
+    private void closeStep(OrderSaga saga) {
+        PipelineStage stage = switch (saga.getStatus()) {
+            case RESERVING_INVENTORY -> PipelineStage.RESERVATION;
+            case CAPTURING_PAYMENT -> PipelineStage.PAYMENT;
+            default -> null;
+        };
+        if (stage == null) {
+            return;
+        }
+        Duration took = Duration.between(saga.getStepStartedAt(), LocalDateTime.now(clock));
+        if (stage == PipelineStage.RESERVATION) {
+            saga.setReservationMs(saga.getReservationMs() + took.toMillis());
+        } else {
+            saga.setPaymentMs(saga.getPaymentMs() + took.toMillis());
+        }
+        Order order = orderOf(saga);
+        pipelineMetrics.recordStage(stage, order.getOrderType(), order.getDealerId(), took);
+    }
+
+    /**
+     * Moves the order along unless it has been moved elsewhere in the meantime,
+     * e.g. cancelled by the dealer while the saga was waiting.
+     */
+    private void moveOrder(OrderSaga saga, OrderStatus status, String reason) {
+        OrderStatus current = orderOf(saga).getStatus();
+        if (current.canTransitionTo(status)) {
+            orderService.updateStatus(saga.getOrderId(), saga.getOrderCreatedAt(), status, reason);
+        } else {
+            log.info("Order {} is {}, not moving it to {}", saga.getOrderNumber(), current, status);
+        }
+    }
+
+    private Order orderOf(OrderSaga saga) {
+        return orderService.getOrder(saga.getOrderId(), saga.getOrderCreatedAt());
+    }
+
+    private void send(OrderSaga saga, Order order, SagaCommandType type) {
+        boolean toInventory = type == SagaCommandType.RESERVE_INVENTORY || type == SagaCommandType.RELEASE_INVENTORY;
+        SagaCommand command = SagaCommand.builder()
+                .commandId(UUID.randomUUID())
+                .type(type)
+                .sagaId(saga.getId())
+                .orderNumber(order.getOrderNumber())
+                .dealerId(order.getDealerId())
+                .amount(order.getTotalAmount())
+                .currency(order.getCurrency())
+                .paymentReference(saga.getPaymentReference())
+                .lines(type == SagaCommandType.RESERVE_INVENTORY
+                        ? order.getLines().stream()
+                            .map(line -> new SagaCommand.Line(line.getPartNumber(), line.getQuantity()))
+                            .toList()
+                        : null)
+                .issuedAt(Instant.now(clock))
+                .build();
+        // payment keys by dealer so the ledger sees each dealer's captures and voids in order
+        orderOutbox.append(toInventory ? properties.getInventoryCommandTopic() : properties.getPaymentCommandTopic(),
+                command.getCommandId(), type.name(), toInventory ? order.getOrderNumber() : order.getDealerId(),
+                command);
+    }
+
+    private static SagaCommandType awaitedCommand(SagaStatus status) {
+        return switch (status) {
+            case RESERVING_INVENTORY -> SagaCommandType.RESERVE_INVENTORY;
+            case CAPTURING_PAYMENT -> SagaCommandType.CAPTURE_PAYMENT;
+            case VOIDING_PAYMENT -> SagaCommandType.VOID_PAYMENT;
+            case RELEASING_INVENTORY -> SagaCommandType.RELEASE_INVENTORY;
+            default -> null;
+        };
+    }
+
+    private LocalDateTime deadline(Duration timeout) {
+        return LocalDateTime.now(clock).plus(timeout);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.jlr_order_service.saga;
+
+import com.example.jlr_order_service.config.SagaProperties;
+import com.example.jlr_order_service.entity.OrderSaga;
+import com.example.jlr_order_service.repository.OrderSagaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Enforces saga step deadlines. Expired sagas are claimed with
+ * {@code FOR UPDATE SKIP LOCKED}, so every instance can run the sweep and none
+ * of them blocks a reply being applied to the same saga.
+ */
+@Component
+@Slf4j
+public class OrderSagaTimeoutScheduler {
+
+    private final OrderSagaRepository sagaRepository;
+    private final OrderSagaOrchestrator orchestrator;
+    private final SagaProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    public OrderSagaTimeoutScheduler(OrderSagaRepository sagaRepository, OrderSagaOrchestrator orchestrator,
+                                     SagaProperties properties, PlatformTransactionManager transactionManager,
+                                     Clock clock) {
+        this.sagaRepository = sagaRepository;
+        this.orchestrator = orchestrator;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${app.saga.sweep-interval-ms:1000}")
+    public void sweep() {
+        try {
+            int handled;
+            do {
+                handled = sweepBatch();
+            } while (handled == properties.getSweepBatchSize());
+        } catch (Exception e) {
+            log.warn("Saga timeout sweep failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    int sweepBatch() {
+        Integer handled = transactionTemplate.execute(status -> {
+            List<OrderSaga> expired = sagaRepository.lockExpired(LocalDateTime.now(clock),
+                    properties.getSweepBatchSize());
+            expired.forEach(orchestrator::onTimeout);
+            return expired.size();
+        });
+        return handled == null ? 0 : handled;
+    }
+}
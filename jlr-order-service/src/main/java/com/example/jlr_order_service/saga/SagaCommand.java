@@ -0,0 +1,32 @@
+package com.example.jlr_order_service.saga;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Command sent to a saga participant. Compensations may be sent more than once,
+ * so participants must treat them as idempotent on {@code orderNumber} (inventory)
+ * or {@code paymentReference} (payment), including for work they never did.
+ */
+@Data
+@Builder
+public class SagaCommand {
+    private UUID commandId;
+    private SagaCommandType type;
+    private Long sagaId;
+    private String orderNumber;
+    private String dealerId;
+    private BigDecimal amount;
+    private String currency;
+    private String paymentReference;
+    private List<Line> lines;
+    private Instant issuedAt;
+
+    public record Line(String partNumber, int quantity) {
+    }
+}
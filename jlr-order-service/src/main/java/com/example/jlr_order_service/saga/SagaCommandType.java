@@ -0,0 +1,8 @@
+package com.example.jlr_order_service.saga;
+
+public enum SagaCommandType {
+    RESERVE_INVENTORY,
+    RELEASE_INVENTORY,
+    CAPTURE_PAYMENT,
+    VOID_PAYMENT
+}
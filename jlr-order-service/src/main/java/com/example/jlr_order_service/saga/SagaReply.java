@@ -0,0 +1,17 @@
+package com.example.jlr_order_service.saga;
+
+import lombok.Data;
+
+/**
+ * Participant's answer to a {@link SagaCommand}. {@code commandType} names the
+ * command being answered, which is how late or duplicate replies are told apart
+ * from the one the saga is waiting for.
+ */
+@Data
+public class SagaReply {
+    private Long sagaId;
+    private String orderNumber;
+    private SagaCommandType commandType;
+    private boolean success;
+    private String reason;
+}
@@ -0,0 +1,33 @@
+package com.example.jlr_order_service.saga;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds participant replies into the orchestrator. Replies are keyed by order
+ * number, so replies for one order are handled in order by a single consumer.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SagaReplyListener {
+
+    private final OrderSagaOrchestrator orchestrator;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${app.saga.reply-topic}", groupId = "${spring.application.name}-saga")
+    public void onReply(String payload) {
+        SagaReply reply;
+        try {
+            reply = objectMapper.readValue(payload, SagaReply.class);
+        } catch (JsonProcessingException e) {
+            log.error("Skipping unreadable saga reply: {}", e.getOriginalMessage());
+            return;
+        }
+        orchestrator.onReply(reply);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.jlr_order_service.service;
+
+import com.example.jlr_order_service.dto.CreateOrderRequest;
+import com.example.jlr_order_service.entity.Order;
+import com.example.jlr_order_service.intake.BulkOrderLineWriter;
+import com.example.jlr_order_service.pipeline.OrderTrace;
+import com.example.jlr_order_service.pipeline.PipelineStage;
+import com.example.jlr_order_service.pricing.DealerPriceList;
+import com.example.jlr_order_service.pricing.PricingEngine;
+import com.example.jlr_order_service.saga.OrderSagaOrchestrator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Accepts an order: persists it as PENDING and starts its placement saga in the
+ * same transaction. Reservation and payment happen after the response is sent,
+ * so accept latency does not depend on either downstream service.
+ */
+@Service
+public class OrderPlacementService {
+
+    private final OrderService orderService;
+    private final OrderSagaOrchestrator sagaOrchestrator;
+    private final BulkOrderLineWriter bulkOrderLineWriter;
+    private final PricingEngine pricingEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderPlacementService(OrderService orderService, OrderSagaOrchestrator sagaOrchestrator,
+                                 BulkOrderLineWriter bulkOrderLineWriter, PricingEngine pricingEngine,
+                                 PlatformTransactionManager transactionManager) {
+        this.orderService = orderService;
+        this.sagaOrchestrator = sagaOrchestrator;
+        this.bulkOrderLineWriter = bulkOrderLineWriter;
+        this.pricingEngine = pricingEngine;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional
+    public Order placeOrder(CreateOrderRequest request, OrderTrace trace) {
+        Order order = orderService.createOrder(request, trace);
+        trace.time(PipelineStage.PUBLISH, () -> sagaOrchestrator.start(order));
+        return order;
+    }
+
+    /**
+     * Bulk variant: the header is saved as RECEIVING, the lines are written in
+     * parallel chunks, then the order is made PENDING and its saga started in
+     * one transaction. If any chunk fails the partial order is removed.
+     */
+    public Order placeBulkOrder(CreateOrderRequest request, OrderTrace trace) {
+        DealerPriceList prices = trace.time(PipelineStage.PRICING,
+                () -> pricingEngine.priceList(request.getDealerId()));
+        Order header = trace.time(PipelineStage.PERSISTENCE, () -> orderService.openReceivingOrder(request));
+        try {
+            trace.time(PipelineStage.PERSISTENCE,
+                    () -> bulkOrderLineWriter.write(header.getId(), header.getCreatedAt(), request.getLines(), prices));
+        } catch (RuntimeException e) {
+            orderService.discardReceivingOrder(header.getId(), header.getCreatedAt());
+            throw e;
+        }
+        return transactionTemplate.execute(status -> {
+            Order order = orderService.completeReceivedOrder(header.getId(), header.getCreatedAt(), trace);
+            trace.time(PipelineStage.PUBLISH, () -> sagaOrchestrator.start(order));
+            return order;
+        });
+    }
+}
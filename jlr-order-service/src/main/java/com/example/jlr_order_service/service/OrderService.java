@@ -0,0 +1,174 @@
+package com.example.jlr_order_service.service;
+
+import com.example.jlr_order_service.dto.CreateOrderRequest;
+import com.example.jlr_order_service.entity.Order;
+import com.example.jlr_order_service.entity.OrderLine;
+import com.example.jlr_order_service.entity.OrderStatus;
+import com.example.jlr_order_service.event.OrderEvent;
+import com.example.jlr_order_service.event.OrderEventType;
+import com.example.jlr_order_service.exception.InvalidOrderStateException;
+import com.example.jlr_order_service.exception.OrderNotFoundException;
+import com.example.jlr_order_service.outbox.OrderOutbox;
+import com.example.jlr_order_service.pipeline.OrderTrace;
+import com.example.jlr_order_service.pipeline.PipelineStage;
+import com.example.jlr_order_service.pricing.DealerPriceList;
+import com.example.jlr_order_service.pricing.PricingEngine;
+import com.example.jlr_order_service.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class OrderService {
+
+    private static final DateTimeFormatter ORDER_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int ORDER_DATE_START = "ORD-".length();
+
+    private final OrderRepository orderRepository;
+    private final OrderOutbox orderOutbox;
+    private final PricingEngine pricingEngine;
+
+    public Order createOrder(CreateOrderRequest request, OrderTrace trace) {
+        Order order = newOrder(request);
+        trace.time(PipelineStage.PRICING, () -> {
+            DealerPriceList prices = pricingEngine.priceList(request.getDealerId());
+            for (CreateOrderRequest.Line line : request.getLines()) {
+                order.addLine(new OrderLine(line.getPartNumber(), line.getQuantity(),
+                        prices.netUnitPrice(line.getPartNumber(), line.getQuantity(), line.getUnitPrice())));
+            }
+            order.recalculateTotal();
+        });
+
+        Order saved = trace.time(PipelineStage.PERSISTENCE, () -> orderRepository.saveAndFlush(order));
+        trace.time(PipelineStage.PUBLISH,
+                () -> orderOutbox.append(OrderEvent.of(OrderEventType.ORDER_CREATED, saved, null, null)));
+
+        log.info("Order {} created for dealer {} with {} lines", saved.getOrderNumber(), saved.getDealerId(),
+                saved.getLines().size());
+        return saved;
+    }
+
+    /**
+     * Saves the header of a bulk order as RECEIVING, without lines or an event.
+     * The lines are loaded separately and {@link #completeReceivedOrder} then
+     * makes the order PENDING and announces it.
+     */
+    public Order openReceivingOrder(CreateOrderRequest request) {
+        Order order = newOrder(request);
+        order.setStatus(OrderStatus.RECEIVING);
+        return orderRepository.save(order);
+    }
+
+    public Order completeReceivedOrder(Long orderId, LocalDateTime createdAt, OrderTrace trace) {
+        Order order = orderRepository.findWithLinesByIdAndCreatedAt(orderId, createdAt)
+                .orElseThrow(() -> new OrderNotFoundException("Order not found: " + orderId));
+        if (order.getStatus() != OrderStatus.RECEIVING) {
+            throw new InvalidOrderStateException("Order " + order.getOrderNumber() + " is not receiving lines");
+        }
+        trace.time(PipelineStage.PRICING, order::recalculateTotal);
+        order.setStatus(OrderStatus.PENDING);
+        Order saved = trace.time(PipelineStage.PERSISTENCE, () -> orderRepository.saveAndFlush(order));
+        trace.time(PipelineStage.PUBLISH,
+                () -> orderOutbox.append(OrderEvent.of(OrderEventType.ORDER_CREATED, saved, null, null)));
+
+        log.info("Order {} received for dealer {} with {} lines", saved.getOrderNumber(), saved.getDealerId(),
+                saved.getLines().size());
+        return saved;
+    }
+
+    /**
+     * Removes a RECEIVING order whose line load failed, with whatever lines made it in.
+     */
+    public void discardReceivingOrder(Long orderId, LocalDateTime createdAt) {
+        orderRepository.findByIdAndCreatedAt(orderId, createdAt)
+                .filter(order -> order.getStatus() == OrderStatus.RECEIVING)
+                .ifPresent(orderRepository::delete);
+    }
+
+    public Order updateStatus(String orderNumber, OrderStatus newStatus, String reason) {
+        return transition(getByOrderNumber(orderNumber), newStatus, reason);
+    }
+
+    public Order updateStatus(Long orderId, LocalDateTime createdAt, OrderStatus newStatus, String reason) {
+        Order order = orderRepository.findByIdAndCreatedAt(orderId, createdAt)
+                .orElseThrow(() -> new OrderNotFoundException("Order not found: " + orderId));
+        return transition(order, newStatus, reason);
+    }
+
+    /**
+     * An order by its id and created_at, as held by its saga; both are needed
+     * to find it in a single partition.
+     */
+    @Transactional(readOnly = true)
+    public Order getOrder(Long orderId, LocalDateTime createdAt) {
+        return orderRepository.findWithLinesByIdAndCreatedAt(orderId, createdAt)
+                .orElseThrow(() -> new OrderNotFoundException("Order not found: " + orderId));
+    }
+
+    @Transactional(readOnly = true)
+    public Order getOrder(String orderNumber) {
+        LocalDate day = orderDate(orderNumber);
+        return orderRepository.findWithLinesByOrderNumberCreatedBetween(orderNumber,
+                        day.minusDays(1).atStartOfDay(), day.plusDays(2).atStartOfDay())
+                .orElseThrow(() -> new OrderNotFoundException("Order not found: " + orderNumber));
+    }
+
+    private Order transition(Order order, OrderStatus newStatus, String reason) {
+        OrderStatus previous = order.getStatus();
+        if (!previous.canTransitionTo(newStatus)) {
+            throw new InvalidOrderStateException("Order " + order.getOrderNumber() + " cannot move from " + previous
+                    + " to " + newStatus);
+        }
+
+        order.setStatus(newStatus);
+        Order saved = orderRepository.saveAndFlush(order);
+        orderOutbox.append(OrderEvent.of(OrderEventType.ORDER_STATUS_CHANGED, saved, previous, reason));
+
+        log.info("Order {} moved from {} to {}", order.getOrderNumber(), previous, newStatus);
+        return saved;
+    }
+
+    private Order getByOrderNumber(String orderNumber) {
+        LocalDate day = orderDate(orderNumber);
+        return orderRepository.findByOrderNumberCreatedBetween(orderNumber,
+                        day.minusDays(1).atStartOfDay(), day.plusDays(2).atStartOfDay())
+                .orElseThrow(() -> new OrderNotFoundException("Order not found: " + orderNumber));
+    }
+
+    /**
+     * The creation date embedded in an order number. Lookups search a day
+     * either side of it, which covers clock and time zone skew between the
+     * node that numbered the order and the one that stamped created_at.
+     */
+    private static LocalDate orderDate(String orderNumber) {
+        try {
+            return LocalDate.parse(orderNumber.substring(ORDER_DATE_START, ORDER_DATE_START + 8), ORDER_DATE);
+        } catch (IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new OrderNotFoundException("Order not found: " + orderNumber);
+        }
+    }
+
+    private Order newOrder(CreateOrderRequest request) {
+        Order order = new Order();
+        order.setOrderNumber(nextOrderNumber());
+        order.setDealerId(request.getDealerId());
+        order.setUserId(request.getUserId());
+        order.setOrderType(request.getOrderType());
+        return order;
+    }
+
+    private String nextOrderNumber() {
+        String suffix = UUID.randomUUID().toString().replace("-", "").substring(0, 10).toUpperCase();
+        return "ORD-" + LocalDate.now().format(ORDER_DATE) + "-" + suffix;
+    }
+}
@@ -0,0 +1,14 @@
+-- Sagas carry their order's created_at, the partition key of orders, so the
+-- saga and the maintenance sweeps read and update the order in its own month.
+-- A saga whose order is already gone falls back to its own creation time,
+-- which is within moments of the order's.
+
+ALTER TABLE order_sagas ADD COLUMN order_created_at TIMESTAMP;
+
+UPDATE order_sagas s SET order_created_at = o.created_at
+FROM orders o
+WHERE o.id = s.order_id;
+
+UPDATE order_sagas SET order_created_at = created_at WHERE order_created_at IS NULL;
+
+ALTER TABLE order_sagas ALTER COLUMN order_created_at SET NOT NULL;
@@ -0,0 +1,28 @@
+CREATE TABLE orders (
+    id            BIGSERIAL PRIMARY KEY,
+    order_number  VARCHAR(32)    NOT NULL UNIQUE,
+    dealer_id     VARCHAR(64)    NOT NULL,
+    user_id       BIGINT,
+    order_type    VARCHAR(16)    NOT NULL,
+    status        VARCHAR(32)    NOT NULL,
+    total_amount  NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    currency      VARCHAR(3)     NOT NULL DEFAULT 'GBP',
+    created_at    TIMESTAMP      NOT NULL DEFAULT now(),
+    updated_at    TIMESTAMP      NOT NULL DEFAULT now(),
+    version       BIGINT         NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_orders_dealer_created ON orders (dealer_id, created_at DESC);
+CREATE INDEX idx_orders_status ON orders (status);
+
+CREATE TABLE order_lines (
+    id           BIGSERIAL PRIMARY KEY,
+    order_id     BIGINT         NOT NULL REFERENCES orders (id),
+    line_number  INTEGER        NOT NULL,
+    part_number  VARCHAR(64)    NOT NULL,
+    quantity     INTEGER        NOT NULL,
+    unit_price   NUMERIC(12, 2) NOT NULL,
+    line_total   NUMERIC(14, 2) NOT NULL
+);
+
+CREATE INDEX idx_order_lines_order ON order_lines (order_id);
@@ -0,0 +1,22 @@
+-- Transactional outbox for order lifecycle events. Written in the same
+-- transaction as the order change; drained to Kafka by OrderOutboxRelay.
+CREATE TABLE order_outbox (
+    id            BIGSERIAL PRIMARY KEY,
+    event_id      UUID        NOT NULL,
+    event_type    VARCHAR(32) NOT NULL,
+    aggregate_key VARCHAR(32) NOT NULL,
+    payload       JSONB       NOT NULL,
+    created_at    TIMESTAMP   NOT NULL DEFAULT now()
+);
+
+-- Published rows, when app.outbox.archive is enabled. Kept out of the hot table
+-- so relay scans never wade through history.
+CREATE TABLE order_outbox_archive (
+    id            BIGINT      PRIMARY KEY,
+    event_id      UUID        NOT NULL,
+    event_type    VARCHAR(32) NOT NULL,
+    aggregate_key VARCHAR(32) NOT NULL,
+    payload       JSONB       NOT NULL,
+    created_at    TIMESTAMP   NOT NULL,
+    published_at  TIMESTAMP   NOT NULL DEFAULT now()
+);
@@ -0,0 +1,24 @@
+-- Placement saga per order: inventory reservation then payment capture,
+-- advanced by replies from the participants and by OrderSagaTimeoutScheduler.
+CREATE TABLE order_sagas (
+    id              BIGSERIAL PRIMARY KEY,
+    order_id        BIGINT      NOT NULL REFERENCES orders (id),
+    order_number    VARCHAR(32) NOT NULL UNIQUE,
+    status          VARCHAR(32) NOT NULL,
+    step_deadline   TIMESTAMP   NOT NULL,
+    step_attempts   INT         NOT NULL DEFAULT 0,
+    payment_reference VARCHAR(64),
+    failure_reason  VARCHAR(255),
+    created_at      TIMESTAMP   NOT NULL DEFAULT now(),
+    updated_at      TIMESTAMP   NOT NULL DEFAULT now(),
+    version         BIGINT      NOT NULL DEFAULT 0
+);
+
+-- The timeout sweep only ever looks at sagas still waiting on a participant.
+CREATE INDEX idx_order_sagas_open_deadline ON order_sagas (step_deadline)
+    WHERE status NOT IN ('COMPLETED', 'FAILED', 'COMPENSATED', 'COMPENSATION_FAILED');
+
+-- Saga commands go through the same outbox as lifecycle events, each to its
+-- participant's topic. NULL keeps the relay's default topic.
+ALTER TABLE order_outbox ADD COLUMN topic VARCHAR(128);
+ALTER TABLE order_outbox_archive ADD COLUMN topic VARCHAR(128);
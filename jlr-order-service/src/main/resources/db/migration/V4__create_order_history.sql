@@ -0,0 +1,23 @@
+-- Read model for dealer order history. One row per order, maintained by
+-- OrderHistoryProjector from the order lifecycle topic; history queries read
+-- only this table.
+CREATE TABLE order_history (
+    order_number  VARCHAR(32)    PRIMARY KEY,
+    dealer_id     VARCHAR(64)    NOT NULL,
+    user_id       BIGINT,
+    order_type    VARCHAR(16)    NOT NULL,
+    status        VARCHAR(32)    NOT NULL,
+    total_amount  NUMERIC(14, 2) NOT NULL,
+    currency      VARCHAR(3)     NOT NULL,
+    line_count    INTEGER        NOT NULL,
+    created_at    TIMESTAMP      NOT NULL,
+    updated_at    TIMESTAMP      NOT NULL,
+    order_version BIGINT         NOT NULL
+);
+
+-- Keyset pages walk (created_at, order_number) newest first within a dealer.
+CREATE INDEX idx_order_history_dealer_page
+    ON order_history (dealer_id, created_at DESC, order_number DESC);
+
+CREATE INDEX idx_order_history_dealer_status_page
+    ON order_history (dealer_id, status, created_at DESC, order_number DESC);
@@ -0,0 +1,4 @@
+-- Step timings for saga latency metrics and slow-order logging.
+ALTER TABLE order_sagas ADD COLUMN step_started_at TIMESTAMP NOT NULL DEFAULT now();
+ALTER TABLE order_sagas ADD COLUMN reservation_ms BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE order_sagas ADD COLUMN payment_ms BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,27 @@
+-- Resume points for chunked maintenance jobs, one row per job and partition.
+CREATE TABLE maintenance_checkpoints (
+    job_name        VARCHAR(64) NOT NULL,
+    partition_no    INTEGER     NOT NULL,
+    last_id         BIGINT      NOT NULL DEFAULT 0,
+    rows_processed  BIGINT      NOT NULL DEFAULT 0,
+    pass_started_at TIMESTAMP   NOT NULL DEFAULT now(),
+    updated_at      TIMESTAMP   NOT NULL DEFAULT now(),
+    PRIMARY KEY (job_name, partition_no)
+);
+
+-- Finished orders moved out of the hot tables by OrderArchiveTask.
+CREATE TABLE orders_archive (LIKE orders INCLUDING DEFAULTS);
+ALTER TABLE orders_archive ADD PRIMARY KEY (id);
+ALTER TABLE orders_archive ADD COLUMN archived_at TIMESTAMP NOT NULL DEFAULT now();
+CREATE INDEX idx_orders_archive_dealer_created ON orders_archive (dealer_id, created_at DESC);
+
+CREATE TABLE order_lines_archive (LIKE order_lines INCLUDING DEFAULTS);
+ALTER TABLE order_lines_archive ADD PRIMARY KEY (id);
+CREATE INDEX idx_order_lines_archive_order ON order_lines_archive (order_id);
+
+-- Set once inventory has been asked to release a reservation the saga left
+-- behind (order cancelled after confirmation, or compensation that gave up).
+ALTER TABLE order_sagas ADD COLUMN inventory_released_at TIMESTAMP;
+
+-- Orders the archive and abandoned-order jobs look for.
+CREATE INDEX idx_orders_status_id ON orders (status, id);
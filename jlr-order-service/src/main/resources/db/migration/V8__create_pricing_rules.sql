@@ -0,0 +1,21 @@
+-- Dealer pricing rules, compiled per dealer into price lists by PricingEngine.
+-- A NULL dealer_id, dealer_tier or part_number matches any. Writers must set
+-- updated_at on every change: the engine reloads when count(*) or
+-- max(updated_at) moves.
+CREATE TABLE pricing_rules (
+    id               BIGSERIAL PRIMARY KEY,
+    rule_type        VARCHAR(32)   NOT NULL,
+    dealer_id        VARCHAR(64),
+    dealer_tier      VARCHAR(32),
+    part_number      VARCHAR(64),
+    min_quantity     INT           NOT NULL DEFAULT 1,
+    discount_percent NUMERIC(5, 2) NOT NULL,
+    valid_from       TIMESTAMP     NOT NULL DEFAULT now(),
+    valid_to         TIMESTAMP,
+    created_at       TIMESTAMP     NOT NULL DEFAULT now(),
+    updated_at       TIMESTAMP     NOT NULL DEFAULT now(),
+    CONSTRAINT chk_pricing_rules_discount CHECK (discount_percent >= 0 AND discount_percent < 100),
+    CONSTRAINT chk_pricing_rules_quantity CHECK (min_quantity >= 1)
+);
+
+CREATE INDEX idx_pricing_rules_valid_to ON pricing_rules (valid_to);
@@ -0,0 +1,102 @@
+-- Monthly range partitions for orders and order_lines. Lines are partitioned
+-- by their order's created_at (order_created_at), so an order and its lines
+-- always share a month. OrderPartitionManager creates months ahead and
+-- detaches old ones into the order_archive schema; this migration creates the
+-- months existing rows need, through three months ahead.
+--
+-- Keys on a partitioned table must include the partition key, hence the
+-- (id, created_at) primary keys and the per-created_at order_number key. Ids
+-- still come from the original sequences.
+--
+-- Rows archived by the old row-by-row archive job are folded back in; their
+-- months are detached wholesale like any other.
+
+CREATE SCHEMA IF NOT EXISTS order_archive;
+
+ALTER TABLE order_sagas DROP CONSTRAINT order_sagas_order_id_fkey;
+
+ALTER SEQUENCE orders_id_seq OWNED BY NONE;
+ALTER SEQUENCE order_lines_id_seq OWNED BY NONE;
+
+ALTER TABLE order_lines RENAME TO order_lines_unpartitioned;
+ALTER TABLE order_lines_unpartitioned RENAME CONSTRAINT order_lines_pkey TO order_lines_unpartitioned_pkey;
+ALTER TABLE orders RENAME TO orders_unpartitioned;
+ALTER TABLE orders_unpartitioned RENAME CONSTRAINT orders_pkey TO orders_unpartitioned_pkey;
+ALTER TABLE orders_unpartitioned RENAME CONSTRAINT orders_order_number_key TO orders_unpartitioned_order_number_key;
+
+CREATE TABLE orders (
+    id            BIGINT         NOT NULL DEFAULT nextval('orders_id_seq'),
+    order_number  VARCHAR(32)    NOT NULL,
+    dealer_id     VARCHAR(64)    NOT NULL,
+    user_id       BIGINT,
+    order_type    VARCHAR(16)    NOT NULL,
+    status        VARCHAR(32)    NOT NULL,
+    total_amount  NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    currency      VARCHAR(3)     NOT NULL DEFAULT 'GBP',
+    created_at    TIMESTAMP      NOT NULL DEFAULT now(),
+    updated_at    TIMESTAMP      NOT NULL DEFAULT now(),
+    version       BIGINT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (id, created_at),
+    UNIQUE (order_number, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE order_lines (
+    id               BIGINT         NOT NULL DEFAULT nextval('order_lines_id_seq'),
+    order_id         BIGINT         NOT NULL,
+    order_created_at TIMESTAMP      NOT NULL,
+    line_number      INTEGER        NOT NULL,
+    part_number      VARCHAR(64)    NOT NULL,
+    quantity         INTEGER        NOT NULL,
+    unit_price       NUMERIC(12, 2) NOT NULL,
+    line_total       NUMERIC(14, 2) NOT NULL,
+    PRIMARY KEY (id, order_created_at),
+    FOREIGN KEY (order_id, order_created_at) REFERENCES orders (id, created_at)
+) PARTITION BY RANGE (order_created_at);
+
+DO $$
+DECLARE
+    month      DATE := date_trunc('month', LEAST(
+                           (SELECT min(created_at) FROM orders_unpartitioned),
+                           (SELECT min(created_at) FROM orders_archive),
+                           now()))::date;
+    last_month DATE := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+    suffix     TEXT;
+BEGIN
+    WHILE month <= last_month LOOP
+        suffix := to_char(month, '"y"YYYY"m"MM');
+        EXECUTE format('CREATE TABLE orders_%s PARTITION OF orders FOR VALUES FROM (%L) TO (%L)',
+                       suffix, month, (month + INTERVAL '1 month')::date);
+        EXECUTE format('CREATE TABLE order_lines_%s PARTITION OF order_lines FOR VALUES FROM (%L) TO (%L)',
+                       suffix, month, (month + INTERVAL '1 month')::date);
+        month := (month + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO orders (id, order_number, dealer_id, user_id, order_type, status, total_amount, currency,
+                    created_at, updated_at, version)
+SELECT id, order_number, dealer_id, user_id, order_type, status, total_amount, currency,
+       created_at, updated_at, version
+FROM orders_unpartitioned
+UNION ALL
+SELECT id, order_number, dealer_id, user_id, order_type, status, total_amount, currency,
+       created_at, updated_at, version
+FROM orders_archive;
+
+INSERT INTO order_lines (id, order_id, order_created_at, line_number, part_number, quantity, unit_price, line_total)
+SELECT l.id, l.order_id, o.created_at, l.line_number, l.part_number, l.quantity, l.unit_price, l.line_total
+FROM order_lines_unpartitioned l JOIN orders_unpartitioned o ON o.id = l.order_id
+UNION ALL
+SELECT l.id, l.order_id, o.created_at, l.line_number, l.part_number, l.quantity, l.unit_price, l.line_total
+FROM order_lines_archive l JOIN orders_archive o ON o.id = l.order_id;
+
+DROP TABLE order_lines_unpartitioned, orders_unpartitioned, order_lines_archive, orders_archive;
+
+ALTER SEQUENCE orders_id_seq OWNED BY orders.id;
+ALTER SEQUENCE order_lines_id_seq OWNED BY order_lines.id;
+
+CREATE INDEX idx_orders_dealer_created ON orders (dealer_id, created_at DESC);
+CREATE INDEX idx_orders_status_id ON orders (status, id);
+CREATE INDEX idx_order_lines_order ON order_lines (order_id);
+
+-- Sagas of a month are deleted when its partition is detached.
+CREATE INDEX idx_order_sagas_order ON order_sagas (order_id);
@@ -0,0 +1,78 @@
+package com.example.jlr_order_service.enrichment;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineScopeTest {
+
+    private final ThreadPoolTaskExecutor executor = executor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void sameKeyIsFetchedOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        try (DeadlineScope scope = new DeadlineScope(executor, Duration.ofSeconds(1))) {
+            Future<Integer> first = scope.fork("part:LR1", calls::incrementAndGet);
+            Future<Integer> second = scope.fork("part:LR1", calls::incrementAndGet);
+
+            assertThat(second).isSameAs(first);
+            assertThat(scope.join(first)).isEqualTo(1);
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void slowOptionalSourceIsLeftOutAndInterruptedOnClose() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (DeadlineScope scope = new DeadlineScope(executor, Duration.ofSeconds(1))) {
+            Future<String> fast = scope.fork("fast", () -> "ok");
+            Future<String> slow = scope.fork("slow", () -> {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return "late";
+            });
+
+            assertThat(scope.joinOptional(fast, Duration.ofMillis(100))).contains("ok");
+            assertThat(scope.joinOptional(slow, Duration.ofMillis(50))).isEmpty();
+        }
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void requiredSourcePastDeadlineTimesOut() {
+        try (DeadlineScope scope = new DeadlineScope(executor, Duration.ofMillis(50))) {
+            Future<String> slow = scope.fork("slow", () -> {
+                Thread.sleep(5_000);
+                return "late";
+            });
+
+            assertThatThrownBy(() -> scope.join(slow)).isInstanceOf(TimeoutException.class);
+        }
+    }
+
+    private static ThreadPoolTaskExecutor executor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.jlr_order_service.history;
+
+import com.example.jlr_order_service.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderHistoryCursorTest {
+
+    @Test
+    void roundTripsPosition() {
+        OrderHistoryCursor cursor = new OrderHistoryCursor(LocalDateTime.of(2026, 3, 1, 9, 30, 15, 123456000),
+                "ORD-20260301-0A1B2C3D4E");
+
+        assertThat(OrderHistoryCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        assertThatThrownBy(() -> OrderHistoryCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.jlr_order_service.history;
+
+import com.example.jlr_order_service.event.OrderEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+class OrderHistoryProjectorTest {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    private final OrderHistoryRepository repository = mock(OrderHistoryRepository.class);
+    private final ConsumerRecordRecoverer deadLetters = mock(ConsumerRecordRecoverer.class);
+    private final OrderHistoryProjector projector = new OrderHistoryProjector(repository, deadLetters, MAPPER,
+            new SimpleMeterRegistry());
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void eventsItCannotApplyAreDeadLetteredAndTheRestWritten() {
+        ConsumerRecord<String, String> current = record(0, "ORD-1", ", \"orderCreatedAt\": \"2026-03-01T09:59:00\"");
+        ConsumerRecord<String, String> legacy = record(1, "ORD-2", "");
+        ConsumerRecord<String, String> unreadable = new ConsumerRecord<>("orders.lifecycle", 0, 2, "ORD-3", "{");
+
+        projector.onEvents(List.of(current, legacy, unreadable));
+
+        verify(deadLetters).accept(same(legacy), any(IllegalArgumentException.class));
+        verify(deadLetters).accept(same(unreadable), any());
+        ArgumentCaptor<Collection<OrderEvent>> written = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).upsert(written.capture());
+        assertThat(written.getValue()).extracting(OrderEvent::getOrderNumber).containsExactly("ORD-1");
+    }
+
+    private static ConsumerRecord<String, String> record(long offset, String orderNumber, String extra) {
+        return new ConsumerRecord<>("orders.lifecycle", 0, offset, orderNumber, "{\"orderNumber\": \"" + orderNumber
+                + "\", \"dealerId\": \"DLR-1\", \"orderType\": \"STANDARD\", \"status\": \"PENDING\","
+                + " \"orderVersion\": 1, \"occurredAt\": \"2026-03-01T10:00:00Z\"" + extra + "}");
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.jlr_order_service.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyRecordTest {
+
+    @Test
+    void completedRecordRoundTripsBodyContainingSeparators() {
+        String body = "{\"orderNumber\":\"ORD-1\",\"note\":\"a|b|c\"}";
+        IdempotencyRecord record = IdempotencyRecord.completed("abc123", 201, body);
+
+        IdempotencyRecord decoded = IdempotencyRecord.decode(record.encode());
+
+        assertThat(decoded).isEqualTo(record);
+        assertThat(decoded.body()).isEqualTo(body);
+    }
+
+    @Test
+    void inProgressRecordKeepsOwnerToken() {
+        IdempotencyRecord record = IdempotencyRecord.inProgress("abc123", "token-1");
+
+        IdempotencyRecord decoded = IdempotencyRecord.decode(record.encode());
+
+        assertThat(decoded.state()).isEqualTo(IdempotencyRecord.State.IN_PROGRESS);
+        assertThat(decoded.token()).isEqualTo("token-1");
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.jlr_order_service.idempotency;
+
+import com.example.jlr_order_service.config.IdempotencyProperties;
+import com.example.jlr_order_service.dto.CreateOrderRequest;
+import com.example.jlr_order_service.entity.OrderType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a duplicate submission: the key already holds a completed
+ * response, so the request is hashed, looked up and replayed without reaching
+ * the order pipeline.
+ *
+ * Needs a local Redis (override with {@code -Dredis.address=redis://host:port}).
+ * Run with {@code main} from the IDE after {@code mvn test-compile}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdempotencyReplayBenchmark {
+
+    @Param({"5", "100"})
+    public int lines;
+
+    private RedissonClient redisson;
+    private IdempotencyService service;
+    private CreateOrderRequest request;
+    private String key;
+
+    @Setup
+    public void setUp() {
+        Config config = new Config();
+        config.useSingleServer().setAddress(System.getProperty("redis.address", "redis://localhost:6379"));
+        redisson = Redisson.create(config);
+        service = new IdempotencyService(redisson, new ObjectMapper(), new IdempotencyProperties(),
+                new SimpleMeterRegistry());
+
+        request = new CreateOrderRequest();
+        request.setDealerId("DLR-BENCH");
+        request.setOrderType(OrderType.STANDARD);
+        List<CreateOrderRequest.Line> orderLines = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            CreateOrderRequest.Line line = new CreateOrderRequest.Line();
+            line.setPartNumber("LR" + (100000 + i));
+            line.setQuantity(1 + i % 7);
+            line.setUnitPrice(new BigDecimal("42.50"));
+            orderLines.add(line);
+        }
+        request.setLines(orderLines);
+
+        key = UUID.randomUUID().toString();
+        String body = "{\"orderNumber\":\"ORD-20260101-0000000000\",\"lines\":" + lines + "}";
+        service.execute(request.getDealerId(), key, request,
+                () -> CompletableFuture.completedFuture(new IdempotentResponse(201, body, false))).join();
+    }
+
+    @TearDown
+    public void tearDown() {
+        redisson.getKeys().deleteByPattern("order:idem:DLR-BENCH:*");
+        redisson.shutdown();
+    }
+
+    @Benchmark
+    public IdempotentResponse duplicateSubmission() {
+        return service.execute(request.getDealerId(), key, request, () -> {
+            throw new IllegalStateException("duplicate reached the order pipeline");
+        }).join();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(IdempotencyReplayBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.jlr_order_service.idempotency;
+
+import com.example.jlr_order_service.config.IdempotencyProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class IdempotencyServiceTest {
+
+    private final RedissonClient redissonClient = mock(RedissonClient.class);
+    @SuppressWarnings("unchecked")
+    private final RBucket<String> bucket = mock(RBucket.class);
+    private final RScript script = mock(RScript.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        when(redissonClient.<String>getBucket(anyString(), any())).thenReturn(bucket);
+        when(redissonClient.getScript(any())).thenReturn(script);
+        when(bucket.getName()).thenReturn("order:idem:DLR-1:key-1");
+        when(bucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(true);
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setInFlightTtl(Duration.ofMillis(60));
+        service = new IdempotencyService(redissonClient, new ObjectMapper(), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void claimIsRenewedWhileRunningAndReplacedOnlyIfStillHeld() {
+        when(script.eval(any(RScript.Mode.class), anyString(), any(RScript.ReturnType.class), anyList(),
+                any(Object[].class)))
+                .thenReturn(true);
+        CompletableFuture<IdempotentResponse> pending = new CompletableFuture<>();
+
+        CompletableFuture<IdempotentResponse> result = service.execute("DLR-1", "key-1", "request", () -> pending);
+
+        verify(script, timeout(2000).atLeast(2)).eval(eq(RScript.Mode.READ_WRITE), contains("pexpire"),
+                eq(RScript.ReturnType.BOOLEAN), eq(List.of("order:idem:DLR-1:key-1")), any(Object[].class));
+        pending.complete(new IdempotentResponse(201, "{}", false));
+
+        assertThat(result.join().httpStatus()).isEqualTo(201);
+        verify(script).eval(eq(RScript.Mode.READ_WRITE), contains("'set'"), eq(RScript.ReturnType.BOOLEAN),
+                eq(List.of("order:idem:DLR-1:key-1")), any(Object[].class));
+        verify(bucket, never()).set(anyString(), any(Duration.class));
+    }
+
+    @Test
+    void responseIsNotStoredOverAClaimThatWasLost() {
+        when(script.eval(any(RScript.Mode.class), anyString(), any(RScript.ReturnType.class), anyList(),
+                any(Object[].class)))
+                .thenReturn(false);
+
+        service.execute("DLR-1", "key-1", "request",
+                () -> CompletableFuture.completedFuture(new IdempotentResponse(201, "{}", false))).join();
+
+        assertThat(meterRegistry.counter("order.idempotency.claim.lost").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("order.idempotency.requests", "outcome", "executed").count()).isZero();
+        verify(bucket, never()).set(anyString(), any(Duration.class));
+    }
+}
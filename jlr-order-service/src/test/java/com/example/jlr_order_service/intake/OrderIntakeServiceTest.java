@@ -0,0 +1,96 @@
+package com.example.jlr_order_service.intake;
+
+import com.example.jlr_order_service.config.IntakeProperties;
+import com.example.jlr_order_service.config.PipelineProperties;
+import com.example.jlr_order_service.dto.CreateOrderRequest;
+import com.example.jlr_order_service.entity.Order;
+import com.example.jlr_order_service.entity.OrderType;
+import com.example.jlr_order_service.exception.OrderIntakeRejectedException;
+import com.example.jlr_order_service.pipeline.OrderPipelineMetrics;
+import com.example.jlr_order_service.pipeline.OrderTrace;
+import com.example.jlr_order_service.service.OrderPlacementService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderIntakeServiceTest {
+
+    private final OrderPlacementService placementService = mock(OrderPlacementService.class);
+    private final CountDownLatch releaseBulk = new CountDownLatch(1);
+    private OrderPipelineMetrics pipelineMetrics;
+    private OrderIntakeService intakeService;
+
+    @BeforeEach
+    void setUp() {
+        IntakeProperties properties = new IntakeProperties();
+        properties.lane(IntakeLane.BULK).setThreads(1);
+        properties.lane(IntakeLane.BULK).setQueueCapacity(1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        pipelineMetrics = new OrderPipelineMetrics(meterRegistry, new PipelineProperties());
+        intakeService = new OrderIntakeService(placementService, properties, pipelineMetrics, meterRegistry);
+
+        when(placementService.placeOrder(any(), any())).thenAnswer(invocation -> {
+            CreateOrderRequest request = invocation.getArgument(0);
+            if (request.getOrderType() == OrderType.BULK) {
+                releaseBulk.await(5, TimeUnit.SECONDS);
+            }
+            return new Order();
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        releaseBulk.countDown();
+        intakeService.shutdown();
+    }
+
+    @Test
+    void emergencyOrderIsPlacedWhileBulkLaneIsSaturated() throws Exception {
+        intakeService.submit(request(OrderType.BULK, 10), trace());
+        intakeService.submit(request(OrderType.BULK, 10), trace());
+
+        assertThatThrownBy(() -> intakeService.submit(request(OrderType.BULK, 10), trace()))
+                .isInstanceOf(OrderIntakeRejectedException.class);
+        assertThat(intakeService.submit(request(OrderType.EMERGENCY, 1), trace()).get(1, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void largeStandardOrderIsRoutedToBulkLane() {
+        assertThat(IntakeLane.of(request(OrderType.STANDARD, 501), 500)).isEqualTo(IntakeLane.BULK);
+        assertThat(IntakeLane.of(request(OrderType.STANDARD, 500), 500)).isEqualTo(IntakeLane.STANDARD);
+        assertThat(IntakeLane.of(request(OrderType.EMERGENCY, 900), 500)).isEqualTo(IntakeLane.EMERGENCY);
+    }
+
+    private OrderTrace trace() {
+        return pipelineMetrics.begin(OrderType.STANDARD, "DLR-1");
+    }
+
+    private static CreateOrderRequest request(OrderType type, int lines) {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setDealerId("DLR-1");
+        request.setOrderType(type);
+        List<CreateOrderRequest.Line> orderLines = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            CreateOrderRequest.Line line = new CreateOrderRequest.Line();
+            line.setPartNumber("LR" + i);
+            line.setQuantity(1);
+            line.setUnitPrice(BigDecimal.TEN);
+            orderLines.add(line);
+        }
+        request.setLines(orderLines);
+        return request;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.jlr_order_service.maintenance;
+
+import com.example.jlr_order_service.config.MaintenanceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MaintenanceRunnerTest {
+
+    private final MaintenanceTask task = mock(MaintenanceTask.class);
+    private final MaintenanceCheckpoints checkpoints = mock(MaintenanceCheckpoints.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MaintenanceProperties properties = new MaintenanceProperties();
+    private MaintenanceRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        when(task.name()).thenReturn("expire-abandoned-orders");
+        properties.setPauseBetweenChunks(Duration.ZERO);
+        properties.setChunkSize(2);
+        runner = new MaintenanceRunner(List.of(task), checkpoints, properties,
+                mock(PlatformTransactionManager.class), meterRegistry);
+    }
+
+    @Test
+    void resumesFromCheckpointAndRestartsPassAtTheEnd() {
+        when(checkpoints.load("expire-abandoned-orders", 1)).thenReturn(40L);
+        when(task.processChunk(eq(1), eq(4), eq(40L), eq(2), any())).thenReturn(new MaintenanceTask.Chunk(48, 2));
+        when(task.processChunk(eq(1), eq(4), eq(48L), eq(2), any())).thenReturn(MaintenanceTask.Chunk.EMPTY);
+
+        runner.run("expire-abandoned-orders", 1, () -> false);
+
+        verify(checkpoints).advance("expire-abandoned-orders", 1, 48, 2);
+        verify(checkpoints).restart("expire-abandoned-orders", 1);
+        assertThat(meterRegistry.counter("order.maintenance.rows", "job", "expire-abandoned-orders").count()).isEqualTo(2);
+    }
+
+    @Test
+    void stopsAtChunkCapAndKeepsCheckpoint() {
+        properties.setMaxChunksPerRun(3);
+        when(task.processChunk(anyInt(), anyInt(), anyLong(), anyInt(), any()))
+                .thenAnswer(invocation -> new MaintenanceTask.Chunk((long) invocation.getArgument(2) + 2, 2));
+
+        runner.run("expire-abandoned-orders", 0, () -> false);
+
+        verify(task, times(3)).processChunk(anyInt(), anyInt(), anyLong(), anyInt(), any());
+        verify(checkpoints).advance("expire-abandoned-orders", 0, 6, 2);
+        verify(checkpoints, never()).restart(anyString(), anyInt());
+    }
+
+    @Test
+    void stopsWhenInterrupted() {
+        runner.run("expire-abandoned-orders", 0, () -> true);
+
+        verify(task, never()).processChunk(anyInt(), anyInt(), anyLong(), anyInt(), any());
+    }
+}
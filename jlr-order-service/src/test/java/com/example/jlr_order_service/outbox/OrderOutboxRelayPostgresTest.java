@@ -0,0 +1,150 @@
+package com.example.jlr_order_service.outbox;
+
+import com.example.jlr_order_service.config.OutboxProperties;
+import com.example.jlr_order_service.event.OrderEvent;
+import com.example.jlr_order_service.event.OrderEventType;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * The relay against a real Postgres, with the producer's acks under the
+ * test's control: claim with SKIP LOCKED, send, wait for acks, archive.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class OrderOutboxRelayPostgresTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+    private final OutboxProperties properties = new OutboxProperties();
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private OrderOutbox outbox;
+    private OrderOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(),
+                POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM order_outbox");
+        jdbcTemplate.update("DELETE FROM order_outbox_archive");
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        properties.setArchive(true);
+        outbox = new OrderOutbox(jdbcTemplate, JsonMapper.builder().findAndAddModules().build());
+        relay = new OrderOutboxRelay(jdbcTemplate, kafkaTemplate, properties, transactionManager,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void rowsAreArchivedOnlyOnceTheBrokerAcksAndAreNotClaimedTwiceMeanwhile() throws Exception {
+        appendOrderEvent("ORD-1");
+        appendOrderEvent("ORD-2");
+        List<CompletableFuture<SendResult<String, String>>> acks = new CopyOnWriteArrayList<>();
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(call -> {
+            CompletableFuture<SendResult<String, String>> ack = new CompletableFuture<>();
+            acks.add(ack);
+            return ack;
+        });
+
+        CompletableFuture<Integer> batch = CompletableFuture.supplyAsync(relay::relayBatch);
+        verify(kafkaTemplate, timeout(5000).times(2)).send(any(ProducerRecord.class));
+
+        assertThat(count("order_outbox")).isEqualTo(2);
+        assertThat(count("order_outbox_archive")).isZero();
+        // a second relay skips the locked rows instead of waiting for them
+        assertThat(relay.relayBatch()).isZero();
+
+        acks.forEach(ack -> ack.complete(null));
+
+        assertThat(batch.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(count("order_outbox")).isZero();
+        assertThat(count("order_outbox_archive")).isEqualTo(2);
+    }
+
+    @Test
+    void failedSendLeavesTheRowsToBeClaimedAgain() {
+        appendOrderEvent("ORD-1");
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("Broker not available")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThatThrownBy(relay::relayBatch).isInstanceOf(IllegalStateException.class);
+        assertThat(count("order_outbox")).isEqualTo(1);
+        assertThat(count("order_outbox_archive")).isZero();
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(count("order_outbox")).isZero();
+        assertThat(count("order_outbox_archive")).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sagaCommandsGoToTheirTopicAndOrderEventsToTheEventTopic() {
+        appendOrderEvent("ORD-1");
+        transactionTemplate.executeWithoutResult(status -> outbox.append("inventory.commands", UUID.randomUUID(),
+                "RESERVE_INVENTORY", "ORD-1", Map.of("orderNumber", "ORD-1")));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        ArgumentCaptor<ProducerRecord<String, String>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(records.capture());
+        assertThat(records.getAllValues())
+                .extracting(ProducerRecord::topic, OrderOutboxRelayPostgresTest::eventType)
+                .containsExactly(
+                        tuple(properties.getTopic(), "ORDER_CREATED"),
+                        tuple("inventory.commands", "RESERVE_INVENTORY"));
+    }
+
+    private void appendOrderEvent(String orderNumber) {
+        transactionTemplate.executeWithoutResult(status -> outbox.append(OrderEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(OrderEventType.ORDER_CREATED)
+                .orderNumber(orderNumber)
+                .build()));
+    }
+
+    private static String eventType(ProducerRecord<String, String> record) {
+        return new String(record.headers().lastHeader("eventType").value(), StandardCharsets.UTF_8);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+    }
+}
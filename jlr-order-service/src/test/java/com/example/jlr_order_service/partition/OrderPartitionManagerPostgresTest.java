@@ -0,0 +1,84 @@
+package com.example.jlr_order_service.partition;
+
+import com.example.jlr_order_service.config.PartitionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The archive sequence against a real Postgres, on the schema the migrations
+ * build: an expired month with an order, its lines and its saga is detached
+ * into the archive schema, and the archived lines no longer point at orders.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class OrderPartitionManagerPostgresTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+    private OrderPartitionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(),
+                POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        PartitionProperties properties = new PartitionProperties();
+        properties.setRetentionMonths(24);
+        Clock clock = Clock.fixed(Instant.parse("2026-10-19T08:00:00Z"), ZoneOffset.UTC);
+        manager = new OrderPartitionManager(jdbcTemplate, new DataSourceTransactionManager(dataSource), properties,
+                clock, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void archivesAnExpiredMonthWithItsLines() {
+        jdbcTemplate.execute("CREATE TABLE orders_y2024m01 PARTITION OF orders "
+                + "FOR VALUES FROM ('2024-01-01') TO ('2024-02-01')");
+        jdbcTemplate.execute("CREATE TABLE order_lines_y2024m01 PARTITION OF order_lines "
+                + "FOR VALUES FROM ('2024-01-01') TO ('2024-02-01')");
+        Long orderId = jdbcTemplate.queryForObject("INSERT INTO orders (order_number, dealer_id, order_type, status, "
+                + "created_at) VALUES ('ORD-20240115-1', 'DLR-1', 'STANDARD', 'DELIVERED', '2024-01-15 10:00') "
+                + "RETURNING id", Long.class);
+        jdbcTemplate.update("INSERT INTO order_lines (order_id, order_created_at, line_number, part_number, quantity, "
+                + "unit_price, line_total) VALUES (?, '2024-01-15 10:00', 1, 'LR-1', 2, 10.00, 20.00)", orderId);
+        jdbcTemplate.update("INSERT INTO order_sagas (order_id, order_created_at, order_number, status, "
+                + "step_deadline) VALUES (?, '2024-01-15 10:00', 'ORD-20240115-1', 'COMPLETED', now())", orderId);
+
+        manager.maintain();
+
+        assertThat(exists("order_archive.orders_y2024m01")).isTrue();
+        assertThat(exists("order_archive.order_lines_y2024m01")).isTrue();
+        assertThat(exists("public.orders_y2024m01")).isFalse();
+        assertThat(count("SELECT count(*) FROM order_archive.order_lines_y2024m01")).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM pg_constraint "
+                + "WHERE conrelid = 'order_archive.order_lines_y2024m01'::regclass AND contype = 'f'")).isZero();
+        assertThat(count("SELECT count(*) FROM orders")).isZero();
+        assertThat(count("SELECT count(*) FROM order_sagas")).isZero();
+        assertThat(exists("public.orders_y2026m10")).isTrue();
+    }
+
+    private boolean exists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL",
+                Boolean.class, table));
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.jlr_order_service.partition;
+
+import com.example.jlr_order_service.config.PartitionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderPartitionManagerTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PartitionProperties properties = new PartitionProperties();
+    private OrderPartitionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMonthsAhead(1);
+        properties.setRetentionMonths(12);
+        Clock clock = Clock.fixed(Instant.parse("2026-10-19T08:00:00Z"), ZoneOffset.UTC);
+        manager = new OrderPartitionManager(jdbcTemplate, mock(PlatformTransactionManager.class), properties,
+                clock, new SimpleMeterRegistry());
+
+        when(jdbcTemplate.queryForObject(eq("SELECT pg_try_advisory_xact_lock(?)"), eq(Boolean.class), anyLong()))
+                .thenReturn(true);
+        when(jdbcTemplate.queryForObject(eq("SELECT to_regclass(?) IS NOT NULL"), eq(Boolean.class), anyString()))
+                .thenAnswer(invocation -> !invocation.<String>getArgument(2).contains("y2026m11"));
+        when(jdbcTemplate.queryForList(startsWith("SELECT c.relname"), eq(String.class)))
+                .thenReturn(List.of("orders_y2025m09", "orders_y2025m10", "orders_y2026m10"));
+    }
+
+    @Test
+    void createsMissingMonthsAndArchivesExpiredOnes() {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT count(*) FROM orders_y2025m09"), eq(Long.class)))
+                .thenReturn(0L);
+        when(jdbcTemplate.queryForList(startsWith("SELECT conname"), eq(String.class), eq("order_lines_y2025m09")))
+                .thenReturn(List.of("order_lines_order_id_order_created_at_fkey"));
+
+        manager.maintain();
+
+        verify(jdbcTemplate).execute("CREATE TABLE orders_y2026m11 PARTITION OF orders "
+                + "FOR VALUES FROM ('2026-11-01') TO ('2026-12-01')");
+        verify(jdbcTemplate).execute("CREATE TABLE order_lines_y2026m11 PARTITION OF order_lines "
+                + "FOR VALUES FROM ('2026-11-01') TO ('2026-12-01')");
+        InOrder archive = inOrder(jdbcTemplate);
+        archive.verify(jdbcTemplate).execute("ALTER TABLE order_lines DETACH PARTITION order_lines_y2025m09");
+        archive.verify(jdbcTemplate).execute("ALTER TABLE order_lines_y2025m09 "
+                + "DROP CONSTRAINT \"order_lines_order_id_order_created_at_fkey\"");
+        archive.verify(jdbcTemplate).execute("ALTER TABLE orders DETACH PARTITION orders_y2025m09");
+        verify(jdbcTemplate).execute("ALTER TABLE orders_y2025m09 SET SCHEMA order_archive");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE orders DETACH PARTITION orders_y2025m10");
+    }
+
+    @Test
+    void keepsMonthWithUnfinishedOrdersAttached() {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT count(*) FROM orders_y2025m09"), eq(Long.class)))
+                .thenReturn(3L);
+
+        manager.maintain();
+
+        verify(jdbcTemplate, never()).execute(contains("DETACH PARTITION"));
+        verify(jdbcTemplate, never()).update(startsWith("DELETE FROM order_sagas"));
+    }
+
+    @Test
+    void namesPartitionsByMonth() {
+        assertThat(OrderPartitionManager.partitionName("order_lines", YearMonth.of(2027, 1)))
+                .isEqualTo("order_lines_y2027m01");
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.jlr_order_service.pipeline;
+
+import com.example.jlr_order_service.config.PipelineProperties;
+import com.example.jlr_order_service.entity.OrderType;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderPipelineMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void stagesAreTaggedWithDealerTierAndOrderType() {
+        PipelineProperties properties = new PipelineProperties();
+        properties.setDealerTiers(Map.of("DLR-9", "PLATINUM"));
+        OrderPipelineMetrics metrics = new OrderPipelineMetrics(meterRegistry, properties);
+
+        OrderTrace trace = metrics.begin(OrderType.EMERGENCY, "DLR-9");
+        trace.time(PipelineStage.VALIDATION, () -> { });
+        trace.time(PipelineStage.PERSISTENCE, () -> { });
+        trace.time(PipelineStage.PERSISTENCE, () -> { });
+        metrics.complete(trace, "ORD-1");
+
+        Timer persistence = meterRegistry.find("order.pipeline.stage")
+                .tags("stage", "persistence", "order_type", "emergency", "dealer_tier", "platinum")
+                .timer();
+        assertThat(persistence).isNotNull();
+        assertThat(persistence.count()).isEqualTo(2);
+        assertThat(meterRegistry.find("order.pipeline.accept").tags("dealer_tier", "platinum").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void unknownDealerGetsDefaultTier() {
+        OrderPipelineMetrics metrics = new OrderPipelineMetrics(meterRegistry, new PipelineProperties());
+
+        metrics.begin(OrderType.BULK, "DLR-unknown").time(PipelineStage.PRICING, () -> { });
+
+        assertThat(meterRegistry.find("order.pipeline.stage").tags("dealer_tier", "standard", "order_type", "bulk")
+                .timer()).isNotNull();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.jlr_order_service.pricing;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pricing a whole order against a compiled price list, and compiling a
+ * dealer's price list from its rules (the cost paid once per dealer per rule
+ * change). The rule set mimics a large dealer: tier and contract discounts,
+ * per-part contracts and promotions over a few thousand parts, and quantity
+ * breaks.
+ *
+ * Run with {@code main} from the IDE after {@code mvn test-compile}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DealerPricingBenchmark {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0);
+
+    @Param({"50", "500"})
+    public int lines;
+
+    @Param({"5000"})
+    public int partRules;
+
+    private List<PricingRule> rules;
+    private DealerPriceList priceList;
+    private String[] partNumbers;
+    private int[] quantities;
+    private BigDecimal[] listPrices;
+
+    @Setup
+    public void setUp() {
+        rules = new ArrayList<>();
+        rules.add(rule(PricingRuleType.TIER, null, 1, "12.5"));
+        rules.add(rule(PricingRuleType.CONTRACT, null, 1, "15"));
+        rules.add(rule(PricingRuleType.PROMOTION, null, 1, "3"));
+        rules.add(rule(PricingRuleType.QUANTITY_BREAK, null, 10, "2"));
+        rules.add(rule(PricingRuleType.QUANTITY_BREAK, null, 100, "5"));
+        for (int i = 0; i < partRules; i++) {
+            String part = "LR" + (100000 + i);
+            PricingRuleType type = switch (i % 3) {
+                case 0 -> PricingRuleType.CONTRACT;
+                case 1 -> PricingRuleType.PROMOTION;
+                default -> PricingRuleType.QUANTITY_BREAK;
+            };
+            rules.add(rule(type, part, type == PricingRuleType.QUANTITY_BREAK ? 25 : 1, String.valueOf(5 + i % 20)));
+        }
+        priceList = PriceListCompiler.compile("DLR-BENCH", rules, NOW);
+
+        partNumbers = new String[lines];
+        quantities = new int[lines];
+        listPrices = new BigDecimal[lines];
+        for (int i = 0; i < lines; i++) {
+            // half the lines hit part-specific rules, half fall back to the dealer defaults
+            partNumbers[i] = "LR" + (100000 + (i % 2 == 0 ? i * 7 % partRules : partRules + i));
+            quantities[i] = 1 + i % 150;
+            listPrices[i] = BigDecimal.valueOf(1999 + i * 37L, 2);
+        }
+    }
+
+    @Benchmark
+    public void priceOrder(Blackhole blackhole) {
+        for (int i = 0; i < lines; i++) {
+            blackhole.consume(priceList.netUnitPrice(partNumbers[i], quantities[i], listPrices[i]));
+        }
+    }
+
+    @Benchmark
+    public DealerPriceList compilePriceList() {
+        return PriceListCompiler.compile("DLR-BENCH", rules, NOW);
+    }
+
+    private static PricingRule rule(PricingRuleType type, String part, int minQuantity, String percent) {
+        return new PricingRule(0, type, "DLR-BENCH", null, part, minQuantity, new BigDecimal(percent),
+                NOW.minusDays(1), null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DealerPricingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.jlr_order_service.pricing;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceListCompilerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0);
+    private static final BigDecimal LIST = new BigDecimal("200.00");
+
+    @Test
+    void contractReplacesTierAndPromotionAndBreaksStack() {
+        DealerPriceList prices = PriceListCompiler.compile("DLR-1", List.of(
+                rule(PricingRuleType.TIER, null, 1, "10"),
+                rule(PricingRuleType.CONTRACT, "LR001", 1, "20"),
+                rule(PricingRuleType.PROMOTION, null, 1, "5"),
+                rule(PricingRuleType.QUANTITY_BREAK, null, 10, "2"),
+                rule(PricingRuleType.QUANTITY_BREAK, "LR001", 50, "4")), NOW);
+
+        // tier only
+        assertThat(prices.netUnitPrice("LR999", 1, LIST)).isEqualByComparingTo("171.00");
+        // contract 20%, promotion 5%
+        assertThat(prices.netUnitPrice("LR001", 9, LIST)).isEqualByComparingTo("152.00");
+        // plus the 2% break from 10
+        assertThat(prices.netUnitPrice("LR001", 10, LIST)).isEqualByComparingTo("148.96");
+        // the part's own 4% break from 50
+        assertThat(prices.netUnitPrice("LR001", 75, LIST)).isEqualByComparingTo("145.92");
+    }
+
+    @Test
+    void recompilesWhenNextRuleStartsOrEnds() {
+        PricingRule promotion = new PricingRule(1, PricingRuleType.PROMOTION, null, null, null, 1,
+                new BigDecimal("15"), NOW.plusDays(2), NOW.plusDays(9));
+        PricingRule expiring = new PricingRule(2, PricingRuleType.TIER, null, null, null, 1,
+                new BigDecimal("10"), NOW.minusDays(30), NOW.plusDays(5));
+
+        DealerPriceList prices = PriceListCompiler.compile("DLR-1", List.of(promotion, expiring), NOW);
+
+        assertThat(prices.validUntil()).isEqualTo(NOW.plusDays(2));
+        assertThat(prices.netUnitPrice("LR001", 1, LIST)).isEqualByComparingTo("180.00");
+    }
+
+    private static PricingRule rule(PricingRuleType type, String part, int minQuantity, String percent) {
+        return new PricingRule(0, type, null, null, part, minQuantity, new BigDecimal(percent),
+                NOW.minusDays(1), null);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.jlr_order_service.saga;
+
+import com.example.jlr_order_service.config.PipelineProperties;
+import com.example.jlr_order_service.config.SagaProperties;
+import com.example.jlr_order_service.entity.Order;
+import com.example.jlr_order_service.entity.OrderSaga;
+import com.example.jlr_order_service.entity.OrderStatus;
+import com.example.jlr_order_service.entity.SagaStatus;
+import com.example.jlr_order_service.outbox.OrderOutbox;
+import com.example.jlr_order_service.pipeline.OrderPipelineMetrics;
+import com.example.jlr_order_service.repository.OrderSagaRepository;
+import com.example.jlr_order_service.service.OrderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OrderSagaOrchestratorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 1, 9, 59);
+
+    private final OrderSagaRepository sagaRepository = mock(OrderSagaRepository.class);
+    private final OrderService orderService = mock(OrderService.class);
+    private final OrderOutbox orderOutbox = mock(OrderOutbox.class);
+    private final SagaProperties properties = new SagaProperties();
+    private final Clock clock = Clock.fixed(Instant.parse("2026-03-01T10:00:00Z"), ZoneOffset.UTC);
+
+    private OrderSagaOrchestrator orchestrator;
+    private OrderSaga saga;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        orchestrator = new OrderSagaOrchestrator(sagaRepository, orderService, orderOutbox, properties, clock,
+                meterRegistry, new OrderPipelineMetrics(meterRegistry, new PipelineProperties()));
+
+        order = new Order();
+        order.setId(11L);
+        order.setOrderNumber("ORD-1");
+        order.setDealerId("DLR-1");
+        order.setCreatedAt(CREATED_AT);
+        when(orderService.getOrder(11L, CREATED_AT)).thenReturn(order);
+
+        saga = new OrderSaga();
+        saga.setId(7L);
+        saga.setOrderId(11L);
+        saga.setOrderCreatedAt(CREATED_AT);
+        saga.setOrderNumber("ORD-1");
+        saga.setPaymentReference("PAY-ORD-1");
+        saga.setCreatedAt(LocalDateTime.now(clock));
+        saga.enter(SagaStatus.RESERVING_INVENTORY, LocalDateTime.now(clock), LocalDateTime.now(clock).plusSeconds(30));
+        when(sagaRepository.findForUpdate(7L)).thenReturn(Optional.of(saga));
+    }
+
+    @Test
+    void reservedInventoryMovesOnToPaymentCapture() {
+        orchestrator.onReply(reply(SagaCommandType.RESERVE_INVENTORY, true));
+
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.CAPTURING_PAYMENT);
+        verify(orderService).updateStatus(11L, CREATED_AT, OrderStatus.INVENTORY_RESERVED, null);
+        verify(orderOutbox).append(eq(properties.getPaymentCommandTopic()), any(), eq("CAPTURE_PAYMENT"),
+                eq("DLR-1"), any());
+    }
+
+    @Test
+    void staleReplyIsDropped() {
+        orchestrator.onReply(reply(SagaCommandType.CAPTURE_PAYMENT, true));
+
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.RESERVING_INVENTORY);
+        verifyNoInteractions(orderOutbox);
+        verify(orderService, never()).updateStatus(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void declinedPaymentReleasesInventory() {
+        order.setStatus(OrderStatus.INVENTORY_RESERVED);
+        saga.enter(SagaStatus.CAPTURING_PAYMENT, LocalDateTime.now(clock), LocalDateTime.now(clock).plusSeconds(30));
+
+        orchestrator.onReply(reply(SagaCommandType.CAPTURE_PAYMENT, false));
+
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.RELEASING_INVENTORY);
+        verify(orderOutbox).append(eq(properties.getInventoryCommandTopic()), any(), eq("RELEASE_INVENTORY"),
+                eq("ORD-1"), any());
+
+        orchestrator.onReply(reply(SagaCommandType.RELEASE_INVENTORY, true));
+
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATED);
+        verify(orderService).updateStatus(eq(11L), eq(CREATED_AT), eq(OrderStatus.FAILED), anyString());
+    }
+
+    @Test
+    void paymentTimeoutVoidsPaymentAndCompensationGivesUpAfterMaxAttempts() {
+        properties.setMaxCompensationAttempts(2);
+        saga.enter(SagaStatus.CAPTURING_PAYMENT, LocalDateTime.now(clock), LocalDateTime.now(clock).minusSeconds(1));
+
+        orchestrator.onTimeout(saga);
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.VOIDING_PAYMENT);
+
+        orchestrator.onTimeout(saga);
+        assertThat(saga.getStepAttempts()).isEqualTo(2);
+        verify(orderOutbox, times(2)).append(eq(properties.getPaymentCommandTopic()), any(), eq("VOID_PAYMENT"),
+                eq("DLR-1"), any());
+
+        orchestrator.onTimeout(saga);
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATION_FAILED);
+    }
+
+    @Test
+    void refusedReleaseIsRetriedNotTakenAsCompensated() {
+        properties.setMaxCompensationAttempts(2);
+        saga.setFailureReason("Payment capture declined: declined");
+        saga.enter(SagaStatus.RELEASING_INVENTORY, LocalDateTime.now(clock), LocalDateTime.now(clock).plusSeconds(60));
+
+        orchestrator.onReply(reply(SagaCommandType.RELEASE_INVENTORY, false));
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.RELEASING_INVENTORY);
+        verifyNoInteractions(orderOutbox);
+
+        orchestrator.onTimeout(saga);
+        assertThat(saga.getStepAttempts()).isEqualTo(2);
+        verify(orderOutbox).append(eq(properties.getInventoryCommandTopic()), any(), eq("RELEASE_INVENTORY"),
+                eq("ORD-1"), any());
+
+        orchestrator.onReply(reply(SagaCommandType.RELEASE_INVENTORY, false));
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATION_FAILED);
+    }
+
+    private SagaReply reply(SagaCommandType type, boolean success) {
+        SagaReply reply = new SagaReply();
+        reply.setSagaId(7L);
+        reply.setOrderNumber("ORD-1");
+        reply.setCommandType(type);
+        reply.setSuccess(success);
+        reply.setReason(success ? null : "declined");
+        return reply;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.jlr_payment_service.config;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    public static final String DEAD_LETTER_SUFFIX = ".DLT";
+
+    /**
+     * Publishes a poison record to {@code <topic>.DLT}, same partition, with
+     * the failure in the record headers.
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, String> kafkaTemplate) {
+        return new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, e) -> new TopicPartition(record.topic() + DEAD_LETTER_SUFFIX, record.partition()));
+    }
+
+    /**
+     * Batch listeners, one consumer thread per partition up to the configured
+     * concurrency. Offsets are only committed when the listener acknowledges,
+     * after the batch is written. Anything the listener throws means the whole
+     * batch could not be written (poison records are dead-lettered by the
+     * listener itself), so the batch is redelivered with backoff until it goes
+     * through; skipping it would lose payments.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> paymentBatchListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            PaymentConsumerProperties properties) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(properties.getConcurrency());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        ExponentialBackOff backOff = new ExponentialBackOff(properties.getRetryInitialInterval().toMillis(), 2.0);
+        backOff.setMaxInterval(properties.getRetryMaxInterval().toMillis());
+        factory.setCommonErrorHandler(new DefaultErrorHandler(backOff));
+        return factory;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.jlr_payment_service.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * The command topic belongs to order-service. Dead-letter topics keep the
+ * partition of the record they hold, so they match their source's partition
+ * count.
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    private static final int PARTITIONS = 12;
+
+    @Bean
+    public NewTopic refundTopic(PaymentConsumerProperties properties) {
+        return TopicBuilder.name(properties.getRefundTopic())
+                .partitions(PARTITIONS)
+                .replicas(1)
+                .build();
+    }
+
+    @Bean
+    public NewTopic commandDeadLetterTopic(PaymentConsumerProperties properties) {
+        return TopicBuilder.name(properties.getCommandTopic() + KafkaConsumerConfig.DEAD_LETTER_SUFFIX)
+                .partitions(PARTITIONS)
+                .replicas(1)
+                .build();
+    }
+
+    @Bean
+    public NewTopic refundDeadLetterTopic(PaymentConsumerProperties properties) {
+        return TopicBuilder.name(properties.getRefundTopic() + KafkaConsumerConfig.DEAD_LETTER_SUFFIX)
+                .partitions(PARTITIONS)
+                .replicas(1)
+                .build();
+    }
+}
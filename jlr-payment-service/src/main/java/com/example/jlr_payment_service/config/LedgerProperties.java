@@ -0,0 +1,31 @@
+package com.example.jlr_payment_service.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.ledger")
+@Validated
+public class LedgerProperties {
+
+    /**
+     * Delay between balance snapshot runs; bounds how many postings a balance
+     * read has to sum
+     */
+    @Min(value = 1000)
+    private long snapshotIntervalMs = 30000;
+
+    /**
+     * How long a snapshot run may wait for in-flight postings before giving up
+     * until the next run
+     */
+    @NotNull
+    private Duration snapshotLockTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,61 @@
+package com.example.jlr_payment_service.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.payments.consumer")
+@Validated
+public class PaymentConsumerProperties {
+
+    /**
+     * Saga capture and void commands from order-service, keyed by dealer ID
+     */
+    @NotEmpty
+    private String commandTopic = "payment.commands";
+
+    /**
+     * Refund requests, keyed by dealer ID like the commands so one dealer's
+     * captures and refunds share a partition
+     */
+    @NotEmpty
+    private String refundTopic = "payment.refunds";
+
+    /**
+     * Where command outcomes go back to the order saga, keyed by order number
+     */
+    @NotEmpty
+    private String replyTopic = "orders.saga-replies";
+
+    /**
+     * Consumer threads per instance. Each owns whole partitions, so this
+     * should not exceed the partition count of the topics
+     */
+    @Min(value = 1)
+    private int concurrency = 12;
+
+    /**
+     * First wait before a batch that failed on the database is redelivered;
+     * doubles up to {@code retryMaxInterval} and retries until it succeeds
+     */
+    @NotNull
+    private Duration retryInitialInterval = Duration.ofMillis(500);
+
+    @NotNull
+    private Duration retryMaxInterval = Duration.ofSeconds(30);
+
+    /**
+     * How long a batch waits for its saga replies to be acknowledged before
+     * it is redelivered instead of committed
+     */
+    @NotNull
+    private Duration replyTimeout = Duration.ofSeconds(10);
+}
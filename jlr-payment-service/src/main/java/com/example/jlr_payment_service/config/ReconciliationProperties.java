@@ -0,0 +1,43 @@
+package com.example.jlr_payment_service.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.reconciliation")
+@Validated
+public class ReconciliationProperties {
+
+    /**
+     * Directory acquirer settlement files are dropped into; only files in it
+     * can be reconciled
+     */
+    @NotEmpty
+    private String inbox = "/var/jlr/settlements/inbox";
+
+    /**
+     * Where mismatch reports are written
+     */
+    @NotEmpty
+    private String reportDirectory = "/var/jlr/settlements/reports";
+
+    /**
+     * Slice of the file mapped at a time. Mapped pages are off-heap and
+     * reclaimable, so this bounds address space, not heap
+     */
+    @NotNull
+    private DataSize mappingWindow = DataSize.ofMegabytes(256);
+
+    /**
+     * Ledger rows fetched per round trip while building the day's index
+     */
+    @Min(value = 100)
+    private int fetchSize = 10000;
+}
@@ -0,0 +1,49 @@
+package com.example.jlr_payment_service.config;
+
+import com.example.jlr_payment_service.security.ServiceAuthenticationFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+
+@Configuration
+@EnableWebSecurity
+@RequiredArgsConstructor
+public class SecurityConfig {
+
+    private final ServiceAuthenticationFilter serviceAuthenticationFilter;
+
+    /**
+     * End-user JWTs are validated at the API gateway; this service only sees
+     * gateway and service-to-service traffic, so it runs stateless without CSRF.
+     * Ledger writes move dealer money and need service credentials; webhooks
+     * are authenticated by the provider's signature instead.
+     * @param http The HttpSecurity object to configure.
+     * @return The configured SecurityFilterChain.
+     * @throws Exception if an error occurs during configuration.
+     */
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        http
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/actuator/**", "/v3/api-docs/**", "/swagger-ui/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/webhooks/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/ledger/captures", "/api/ledger/refunds")
+                                .hasRole(ServiceAuthenticationFilter.ROLE)
+                        .requestMatchers("/api/**").permitAll()
+                        .anyRequest().denyAll()
+                )
+                .addFilterBefore(serviceAuthenticationFilter, AnonymousAuthenticationFilter.class);
+
+        return http.build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.jlr_payment_service.config;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Credentials other services present to write to the ledger over HTTP. Rotate
+ * a key by listing the new one beside it, redeploying the caller, then
+ * removing the old.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.service-auth")
+@Validated
+public class ServiceAuthProperties {
+
+    @NotEmpty
+    private String idHeader = "X-Service-Id";
+
+    @NotEmpty
+    private String keyHeader = "X-Service-Key";
+
+    /**
+     * Keys by calling service name, any of which it may present; blank keys
+     * are ignored, so a service without one cannot sign in
+     */
+    private Map<String, List<String>> clients = new HashMap<>();
+}
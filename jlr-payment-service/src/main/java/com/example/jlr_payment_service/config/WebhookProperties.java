@@ -0,0 +1,71 @@
+package com.example.jlr_payment_service.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.webhooks")
+@Validated
+public class WebhookProperties {
+
+    /**
+     * Stripe endpoint signing secret ({@code whsec_...})
+     */
+    @NotEmpty
+    private String signingSecret;
+
+    /**
+     * Oldest signature timestamp accepted, against replayed captures of a
+     * genuine delivery
+     */
+    @NotNull
+    private Duration signatureTolerance = Duration.ofMinutes(5);
+
+    /**
+     * Threads processing stored events
+     */
+    @Min(value = 1)
+    private int workers = 4;
+
+    /**
+     * Events a worker claims at a time
+     */
+    @Min(value = 1)
+    private int claimBatchSize = 20;
+
+    /**
+     * How often idle workers look for due events when nothing wakes them:
+     * retries coming due, and events stored by other instances
+     */
+    @NotNull
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long a claimed batch stays with its worker; after that another
+     * worker may take its events. Each event's claim is re-checked before it
+     * is applied, so an event that waited out the lease is skipped, not applied
+     * by both workers
+     */
+    @NotNull
+    private Duration lease = Duration.ofMinutes(2);
+
+    /**
+     * Attempts before an event is parked as FAILED
+     */
+    @Min(value = 1)
+    private int maxAttempts = 8;
+
+    /**
+     * Wait before the first retry; doubles with each further attempt
+     */
+    @NotNull
+    private Duration retryBackoff = Duration.ofSeconds(10);
+}
@@ -0,0 +1,26 @@
+package com.example.jlr_payment_service.consumer;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Saga command from order-service. Commands may be sent more than once, so
+ * they are applied idempotently on {@code paymentReference}.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PaymentCommand {
+    private UUID commandId;
+    private PaymentCommandType type;
+    private Long sagaId;
+    private String orderNumber;
+    private String dealerId;
+    private BigDecimal amount;
+    private String currency;
+    private String paymentReference;
+    private Instant issuedAt;
+}
@@ -0,0 +1,11 @@
+package com.example.jlr_payment_service.consumer;
+
+/**
+ * The saga commands payment-service answers. Named as in order-service, which
+ * matches replies by these names.
+ */
+public enum PaymentCommandType {
+    CAPTURE_PAYMENT,
+    /** Compensation: refund the capture, if there was one */
+    VOID_PAYMENT
+}
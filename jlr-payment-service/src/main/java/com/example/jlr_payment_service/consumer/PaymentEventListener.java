@@ -0,0 +1,251 @@
+package com.example.jlr_payment_service.consumer;
+
+import com.example.jlr_payment_service.config.PaymentConsumerProperties;
+import com.example.jlr_payment_service.exception.LedgerReferenceConflictException;
+import com.example.jlr_payment_service.ledger.LedgerEntryType;
+import com.example.jlr_payment_service.ledger.LedgerResult;
+import com.example.jlr_payment_service.ledger.LedgerService;
+import com.example.jlr_payment_service.ledger.NewLedgerEntry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Applies saga payment commands and refund requests to the ledger, a poll at a
+ * time.
+ *
+ * Both topics are keyed by dealer, and each partition is consumed by a single
+ * thread, so a dealer's captures, voids and refunds reach the ledger in the
+ * order they were sent. A batch is written in one transaction in record order,
+ * its saga replies are sent, and only then are its offsets committed; a crash
+ * in between redelivers the batch, which the ledger answers as replays.
+ *
+ * Records that can never succeed (unreadable, invalid, or reusing a reference
+ * for something else) go to the dead-letter topic and the batch carries on.
+ * If the bulk write fails for another reason the batch is retried record by
+ * record to find the culprit; a database outage instead fails the whole batch
+ * back to the container, which redelivers it with backoff.
+ */
+@Component
+@Slf4j
+public class PaymentEventListener {
+
+    private final LedgerService ledgerService;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ConsumerRecordRecoverer deadLetters;
+    private final ObjectMapper objectMapper;
+    private final PaymentConsumerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSize;
+
+    public PaymentEventListener(LedgerService ledgerService, KafkaTemplate<String, String> kafkaTemplate,
+                                ConsumerRecordRecoverer deadLetters, ObjectMapper objectMapper,
+                                PaymentConsumerProperties properties, MeterRegistry meterRegistry) {
+        this.ledgerService = ledgerService;
+        this.kafkaTemplate = kafkaTemplate;
+        this.deadLetters = deadLetters;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.batchTimer = Timer.builder("payment.consumer.batch")
+                .description("Ledger write, replies and commit of one polled batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("payment.consumer.batch.size")
+                .description("Records per polled batch")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(topics = {"${app.payments.consumer.command-topic}", "${app.payments.consumer.refund-topic}"},
+            groupId = "${spring.application.name}", containerFactory = "paymentBatchListenerContainerFactory")
+    public void onBatch(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+        long started = System.nanoTime();
+        List<Instruction> instructions = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                instructions.add(parse(record));
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                deadLetter(record, e);
+            }
+        }
+
+        List<LedgerResult> results = write(instructions);
+        List<CompletableFuture<?>> replies = new ArrayList<>();
+        for (int i = 0; i < instructions.size(); i++) {
+            Instruction instruction = instructions.get(i);
+            LedgerResult result = results.get(i);
+            if (instruction.command() != null) {
+                reply(instruction.command(), result).ifPresent(replies::add);
+            } else if (result != null && result.outcome() == LedgerResult.Outcome.CONFLICT) {
+                deadLetter(instruction.source(), conflict(result));
+            }
+        }
+        awaitReplies(replies);
+
+        acknowledgment.acknowledge();
+        batchTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        batchSize.record(records.size());
+    }
+
+    /**
+     * @return one result per instruction, null where the record was dead-lettered
+     */
+    private List<LedgerResult> write(List<Instruction> instructions) {
+        if (instructions.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return ledgerService.recordBatch(instructions.stream().map(Instruction::entry).toList());
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                throw e;
+            }
+            log.warn("Ledger batch of {} failed, retrying record by record: {}", instructions.size(), e.getMessage());
+        }
+
+        List<LedgerResult> results = new ArrayList<>(instructions.size());
+        for (Instruction instruction : instructions) {
+            try {
+                results.add(ledgerService.recordBatch(List.of(instruction.entry())).get(0));
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    throw e;
+                }
+                deadLetter(instruction.source(), e);
+                results.add(null);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Captures are always answered so the saga can move on; a failed void is
+     * left unanswered so the saga resends it.
+     */
+    private Optional<CompletableFuture<?>> reply(PaymentCommand command, LedgerResult result) {
+        boolean success = result != null && result.outcome() != LedgerResult.Outcome.CONFLICT;
+        if (!success && command.getType() == PaymentCommandType.VOID_PAYMENT) {
+            return Optional.empty();
+        }
+        SagaReply reply = SagaReply.builder()
+                .sagaId(command.getSagaId())
+                .orderNumber(command.getOrderNumber())
+                .commandType(command.getType())
+                .success(success)
+                .reason(success ? null : result == null ? "Payment could not be recorded"
+                        : conflict(result).getMessage())
+                .build();
+        try {
+            return Optional.of(kafkaTemplate.send(properties.getReplyTopic(), command.getOrderNumber(),
+                    objectMapper.writeValueAsString(reply)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise saga reply for " + command.getOrderNumber(), e);
+        }
+    }
+
+    private void awaitReplies(List<CompletableFuture<?>> replies) {
+        if (replies.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(replies.toArray(CompletableFuture[]::new))
+                    .get(properties.getReplyTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted sending saga replies", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Saga replies not acknowledged; batch will be redelivered", e);
+        }
+    }
+
+    private Instruction parse(ConsumerRecord<String, String> record) throws JsonProcessingException {
+        if (record.value() == null) {
+            throw new IllegalArgumentException("Empty payload");
+        }
+        if (record.topic().equals(properties.getRefundTopic())) {
+            RefundRequested refund = objectMapper.readValue(record.value(), RefundRequested.class);
+            return new Instruction(record, NewLedgerEntry.of(LedgerEntryType.REFUND,
+                    required(refund.getRefundReference(), "refundReference"),
+                    required(refund.getDealerId(), "dealerId"), positive(refund.getAmount()),
+                    required(refund.getCurrency(), "currency"), refund.getOrderNumber()), null);
+        }
+
+        PaymentCommand command = objectMapper.readValue(record.value(), PaymentCommand.class);
+        required(command.getType(), "type");
+        required(command.getOrderNumber(), "orderNumber");
+        String reference = required(command.getPaymentReference(), "paymentReference");
+        NewLedgerEntry capture = NewLedgerEntry.of(LedgerEntryType.CAPTURE, reference,
+                required(command.getDealerId(), "dealerId"), positive(command.getAmount()),
+                required(command.getCurrency(), "currency"), command.getOrderNumber());
+        NewLedgerEntry entry = switch (command.getType()) {
+            case CAPTURE_PAYMENT -> capture;
+            case VOID_PAYMENT -> new NewLedgerEntry(LedgerEntryType.REFUND, reference + ":void", capture.dealerId(),
+                    capture.amount(), capture.currency(), capture.orderNumber(), reference);
+        };
+        return new Instruction(record, entry, command);
+    }
+
+    private void deadLetter(ConsumerRecord<String, String> record, Exception cause) {
+        log.error("Dead-lettering {}-{}@{} (key {}): {}", record.topic(), record.partition(), record.offset(),
+                record.key(), cause.getMessage());
+        deadLetters.accept(record, cause);
+        meterRegistry.counter("payment.consumer.dead-lettered", "topic", record.topic()).increment();
+    }
+
+    private static LedgerReferenceConflictException conflict(LedgerResult result) {
+        return new LedgerReferenceConflictException("Reference " + result.request().externalReference()
+                + " was already used for a different " + result.entry().type().name().toLowerCase());
+    }
+
+    /**
+     * Failures that say nothing about the records: the database is unreachable,
+     * timed out or lost the transaction. Anything else is blamed on the data.
+     */
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private static <T> T required(T value, String field) {
+        if (value == null || value instanceof String s && s.isBlank()) {
+            throw new IllegalArgumentException("Missing " + field);
+        }
+        return value;
+    }
+
+    private static BigDecimal positive(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new IllegalArgumentException("Amount must be positive, was " + amount);
+        }
+        return amount;
+    }
+
+    /**
+     * A readable record and the ledger entry it asks for; {@code command} is
+     * null for refunds, which are not answered.
+     */
+    private record Instruction(ConsumerRecord<String, String> source, NewLedgerEntry entry, PaymentCommand command) {
+    }
+}
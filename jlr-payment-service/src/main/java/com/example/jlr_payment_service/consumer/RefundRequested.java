@@ -0,0 +1,19 @@
+package com.example.jlr_payment_service.consumer;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * A refund of (part of) a captured order, idempotent on {@code refundReference}.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RefundRequested {
+    private String refundReference;
+    private String dealerId;
+    private String orderNumber;
+    private BigDecimal amount;
+    private String currency;
+}
@@ -0,0 +1,17 @@
+package com.example.jlr_payment_service.consumer;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Answer to a {@link PaymentCommand}, in the shape order-service's saga reads.
+ */
+@Data
+@Builder
+public class SagaReply {
+    private Long sagaId;
+    private String orderNumber;
+    private PaymentCommandType commandType;
+    private boolean success;
+    private String reason;
+}
@@ -0,0 +1,52 @@
+package com.example.jlr_payment_service.controller;
+
+import com.example.jlr_payment_service.dto.BalanceResponse;
+import com.example.jlr_payment_service.dto.LedgerEntryRequest;
+import com.example.jlr_payment_service.dto.LedgerEntryResponse;
+import com.example.jlr_payment_service.ledger.AccountBalance;
+import com.example.jlr_payment_service.ledger.LedgerEntry;
+import com.example.jlr_payment_service.ledger.LedgerEntryType;
+import com.example.jlr_payment_service.ledger.LedgerService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/ledger")
+@RequiredArgsConstructor
+public class LedgerController {
+
+    private final LedgerService ledgerService;
+
+    @PostMapping("/captures")
+    public ResponseEntity<LedgerEntryResponse> capture(@Valid @RequestBody LedgerEntryRequest request) {
+        return record(LedgerEntryType.CAPTURE, request);
+    }
+
+    @PostMapping("/refunds")
+    public ResponseEntity<LedgerEntryResponse> refund(@Valid @RequestBody LedgerEntryRequest request) {
+        return record(LedgerEntryType.REFUND, request);
+    }
+
+    @GetMapping("/dealers/{dealerId}/balance")
+    public ResponseEntity<BalanceResponse> balance(@PathVariable String dealerId,
+                                                   @RequestParam(defaultValue = "GBP") String currency) {
+        AccountBalance balance = ledgerService.dealerBalance(dealerId, currency);
+        return ResponseEntity.ok(BalanceResponse.builder()
+                .dealerId(dealerId)
+                .currency(currency)
+                .balance(balance.balance())
+                .snapshotPostingId(balance.snapshotPostingId())
+                .tailPostings(balance.tailPostings())
+                .build());
+    }
+
+    private ResponseEntity<LedgerEntryResponse> record(LedgerEntryType type, LedgerEntryRequest request) {
+        LedgerEntry entry = ledgerService.record(type, request.getExternalReference(), request.getDealerId(),
+                request.getAmount(), request.getCurrency(), request.getOrderNumber());
+        return ResponseEntity.status(entry.replayed() ? HttpStatus.OK : HttpStatus.CREATED)
+                .body(LedgerEntryResponse.from(entry));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.jlr_payment_service.controller;
+
+import com.example.jlr_payment_service.dto.ReconciliationRequest;
+import com.example.jlr_payment_service.dto.ReconciliationResponse;
+import com.example.jlr_payment_service.reconciliation.ReconciliationService;
+import com.example.jlr_payment_service.reconciliation.ReconciliationSummary;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/reconciliations")
+@RequiredArgsConstructor
+public class ReconciliationController {
+
+    private final ReconciliationService reconciliationService;
+
+    @PostMapping
+    public ResponseEntity<ReconciliationResponse> reconcile(@Valid @RequestBody ReconciliationRequest request) {
+        ReconciliationSummary summary = reconciliationService.reconcile(request.getFileName(),
+                request.getBusinessDate());
+        return ResponseEntity.ok(ReconciliationResponse.from(request.getFileName(), request.getBusinessDate(),
+                summary));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.jlr_payment_service.controller;
+
+import com.example.jlr_payment_service.webhook.WebhookIngestService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/webhooks")
+@RequiredArgsConstructor
+public class WebhookController {
+
+    private final WebhookIngestService webhookIngestService;
+
+    /**
+     * Acknowledges once the event is stored; it is processed afterwards. The
+     * body is taken as the raw string because the signature covers it byte
+     * for byte.
+     */
+    @PostMapping("/stripe")
+    public ResponseEntity<Void> stripe(@RequestBody String payload,
+                                       @RequestHeader(value = "Stripe-Signature", required = false) String signature) {
+        webhookIngestService.receive(payload, signature);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.jlr_payment_service.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class BalanceResponse {
+
+    private String dealerId;
+    private String currency;
+    private BigDecimal balance;
+
+    /** Last posting folded into the snapshot the balance was read from */
+    private long snapshotPostingId;
+
+    /** Postings after the snapshot that were summed on read */
+    private long tailPostings;
+}
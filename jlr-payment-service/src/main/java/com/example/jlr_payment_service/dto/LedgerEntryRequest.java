@@ -0,0 +1,32 @@
+package com.example.jlr_payment_service.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class LedgerEntryRequest {
+
+    @NotBlank(message = "External reference is required")
+    @Size(max = 128, message = "External reference cannot be longer than 128 characters")
+    private String externalReference;
+
+    @NotBlank(message = "Dealer ID is required")
+    private String dealerId;
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be positive")
+    @Digits(integer = 12, fraction = 2, message = "Amount must have at most 2 decimal places")
+    private BigDecimal amount;
+
+    @Pattern(regexp = "[A-Z]{3}", message = "Currency must be an ISO 4217 code")
+    private String currency = "GBP";
+
+    private String orderNumber;
+}
@@ -0,0 +1,38 @@
+package com.example.jlr_payment_service.dto;
+
+import com.example.jlr_payment_service.ledger.LedgerEntry;
+import com.example.jlr_payment_service.ledger.LedgerEntryType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class LedgerEntryResponse {
+
+    private long transactionId;
+    private String externalReference;
+    private LedgerEntryType type;
+    private String dealerId;
+    private BigDecimal amount;
+    private String currency;
+    private String orderNumber;
+    private LocalDateTime createdAt;
+    private boolean replayed;
+
+    public static LedgerEntryResponse from(LedgerEntry entry) {
+        return LedgerEntryResponse.builder()
+                .transactionId(entry.transactionId())
+                .externalReference(entry.externalReference())
+                .type(entry.type())
+                .dealerId(entry.dealerId())
+                .amount(entry.amount())
+                .currency(entry.currency())
+                .orderNumber(entry.orderNumber())
+                .createdAt(entry.createdAt())
+                .replayed(entry.replayed())
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.jlr_payment_service.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class ReconciliationRequest {
+
+    /** Name of a file in the settlement inbox */
+    @NotBlank(message = "File name is required")
+    private String fileName;
+
+    @NotNull(message = "Business date is required")
+    private LocalDate businessDate;
+}
@@ -0,0 +1,38 @@
+package com.example.jlr_payment_service.dto;
+
+import com.example.jlr_payment_service.reconciliation.MismatchKind;
+import com.example.jlr_payment_service.reconciliation.ReconciliationSummary;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@Builder
+public class ReconciliationResponse {
+
+    private String fileName;
+    private LocalDate businessDate;
+    private long settlementLines;
+    private long ledgerTransactions;
+    private long matched;
+    private Map<MismatchKind, Long> mismatches;
+
+    /** Path of the CSV listing every mismatch */
+    private String report;
+    private long tookMillis;
+
+    public static ReconciliationResponse from(String fileName, LocalDate businessDate, ReconciliationSummary summary) {
+        return ReconciliationResponse.builder()
+                .fileName(fileName)
+                .businessDate(businessDate)
+                .settlementLines(summary.settlementLines())
+                .ledgerTransactions(summary.ledgerTransactions())
+                .matched(summary.matched())
+                .mismatches(summary.mismatches())
+                .report(summary.report().toString())
+                .tookMillis(summary.took().toMillis())
+                .build();
+    }
+}
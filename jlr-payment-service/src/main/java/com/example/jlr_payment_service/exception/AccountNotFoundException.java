@@ -0,0 +1,8 @@
+package com.example.jlr_payment_service.exception;
+
+public class AccountNotFoundException extends RuntimeException{
+
+    public AccountNotFoundException(String message){
+        super(message);
+    }
+}
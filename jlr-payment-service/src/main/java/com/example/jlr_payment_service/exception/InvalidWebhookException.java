@@ -0,0 +1,8 @@
+package com.example.jlr_payment_service.exception;
+
+public class InvalidWebhookException extends RuntimeException{
+
+    public InvalidWebhookException(String message){
+        super(message);
+    }
+}
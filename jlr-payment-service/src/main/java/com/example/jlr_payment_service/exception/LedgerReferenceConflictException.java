@@ -0,0 +1,12 @@
+package com.example.jlr_payment_service.exception;
+
+/**
+ * An external reference reused for a ledger entry that differs from the one
+ * already recorded under it.
+ */
+public class LedgerReferenceConflictException extends RuntimeException{
+
+    public LedgerReferenceConflictException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.jlr_payment_service.exception;
+
+public class SettlementFileNotFoundException extends RuntimeException{
+
+    public SettlementFileNotFoundException(String message){
+        super(message);
+    }
+}
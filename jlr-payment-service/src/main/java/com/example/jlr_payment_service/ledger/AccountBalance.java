@@ -0,0 +1,9 @@
+package com.example.jlr_payment_service.ledger;
+
+import java.math.BigDecimal;
+
+/**
+ * An account balance as read: the latest snapshot plus the postings after it.
+ */
+public record AccountBalance(long accountId, BigDecimal balance, long snapshotPostingId, long tailPostings) {
+}
@@ -0,0 +1,10 @@
+package com.example.jlr_payment_service.ledger;
+
+public enum AccountType {
+    DEALER_CREDIT,
+    SALES;
+
+    public String code(String dealerId, String currency) {
+        return this == DEALER_CREDIT ? "dealer:" + dealerId + ":" + currency : "sales:" + currency;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.jlr_payment_service.ledger;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A recorded ledger transaction. {@code replayed} is set when the external
+ * reference had already been recorded and nothing new was written.
+ */
+public record LedgerEntry(long transactionId, String externalReference, LedgerEntryType type, String dealerId,
+                          BigDecimal amount, String currency, String orderNumber, LocalDateTime createdAt,
+                          boolean replayed) {
+
+    LedgerEntry asReplay() {
+        return new LedgerEntry(transactionId, externalReference, type, dealerId, amount, currency, orderNumber,
+                createdAt, true);
+    }
+
+    boolean sameAs(LedgerEntryType otherType, String otherDealerId, BigDecimal otherAmount, String otherCurrency) {
+        return type == otherType && dealerId.equals(otherDealerId) && amount.compareTo(otherAmount) == 0
+                && currency.equals(otherCurrency);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.jlr_payment_service.ledger;
+
+/**
+ * Business events the ledger records. Each is posted as a pair: the dealer's
+ * credit account and the sales account move by the same amount in opposite
+ * directions.
+ */
+public enum LedgerEntryType {
+
+    /** Payment captured against the dealer's credit: the dealer owes more */
+    CAPTURE(1),
+    /** Captured amount given back: the dealer owes less */
+    REFUND(-1);
+
+    private final int dealerSign;
+
+    LedgerEntryType(int dealerSign) {
+        this.dealerSign = dealerSign;
+    }
+
+    /**
+     * Direction of the dealer posting: +1 debit, -1 credit.
+     */
+    public int dealerSign() {
+        return dealerSign;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.jlr_payment_service.ledger;
+
+import java.math.BigDecimal;
+
+/**
+ * One side of a ledger transaction; positive amounts are debits.
+ */
+public record LedgerPosting(long accountId, BigDecimal amount) {
+}
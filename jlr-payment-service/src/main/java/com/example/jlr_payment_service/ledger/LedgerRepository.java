@@ -0,0 +1,142 @@
+package com.example.jlr_payment_service.ledger;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class LedgerRepository {
+
+    private static final String ENSURE_ACCOUNT_SQL = "INSERT INTO ledger_accounts "
+            + "(account_code, account_type, dealer_id, currency) VALUES (?, ?, ?, ?) "
+            + "ON CONFLICT (account_code) DO NOTHING";
+
+    private static final String ACCOUNT_ID_SQL = "SELECT id FROM ledger_accounts WHERE account_code = ?";
+
+    private static final String INSERT_TRANSACTION_SQL = "INSERT INTO ledger_transactions "
+            + "(external_reference, entry_type, dealer_id, amount, currency, order_number) VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (external_reference) DO NOTHING RETURNING id";
+
+    private static final String FIND_TRANSACTION_SQL = "SELECT id, external_reference, entry_type, dealer_id, "
+            + "amount, currency, order_number, created_at FROM ledger_transactions WHERE external_reference = ?";
+
+    private static final String INSERT_TRANSACTIONS_SQL = "INSERT INTO ledger_transactions "
+            + "(external_reference, entry_type, dealer_id, amount, currency, order_number) "
+            + "SELECT * FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::numeric[], ?::varchar[], ?::varchar[]) "
+            + "ON CONFLICT (external_reference) DO NOTHING RETURNING id, external_reference";
+
+    private static final String FIND_TRANSACTIONS_SQL = "SELECT id, external_reference, entry_type, dealer_id, "
+            + "amount, currency, order_number, created_at FROM ledger_transactions WHERE external_reference = ANY(?)";
+
+    private static final String INSERT_POSTING_SQL = "INSERT INTO ledger_postings "
+            + "(transaction_id, account_id, amount) VALUES (?, ?, ?)";
+
+    private static final String BALANCE_SQL = "WITH snap AS ("
+            + "SELECT last_posting_id, balance FROM ledger_balance_snapshots WHERE account_id = ? "
+            + "ORDER BY last_posting_id DESC LIMIT 1) "
+            + "SELECT coalesce((SELECT last_posting_id FROM snap), 0), coalesce((SELECT balance FROM snap), 0), "
+            + "coalesce(sum(p.amount), 0), count(p.id) FROM ledger_postings p "
+            + "WHERE p.account_id = ? AND p.id > coalesce((SELECT last_posting_id FROM snap), 0)";
+
+    private static final RowMapper<LedgerEntry> ENTRY_MAPPER = (rs, rowNum) -> new LedgerEntry(
+            rs.getLong("id"), rs.getString("external_reference"), LedgerEntryType.valueOf(rs.getString("entry_type")),
+            rs.getString("dealer_id"), rs.getBigDecimal("amount"), rs.getString("currency"),
+            rs.getString("order_number"), rs.getTimestamp("created_at").toLocalDateTime(), false);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long ensureAccount(AccountType type, String dealerId, String currency) {
+        String code = type.code(dealerId, currency);
+        jdbcTemplate.update(ENSURE_ACCOUNT_SQL, code, type.name(), type == AccountType.DEALER_CREDIT ? dealerId : null,
+                currency);
+        return jdbcTemplate.queryForObject(ACCOUNT_ID_SQL, Long.class, code);
+    }
+
+    public Optional<Long> findAccountId(AccountType type, String dealerId, String currency) {
+        return jdbcTemplate.queryForList(ACCOUNT_ID_SQL, Long.class, type.code(dealerId, currency)).stream()
+                .findFirst();
+    }
+
+    /**
+     * Inserts the transaction header unless its reference is already taken.
+     *
+     * @return the new id, or empty for a duplicate reference
+     */
+    public Optional<Long> insertTransaction(String externalReference, LedgerEntryType type, String dealerId,
+                                            BigDecimal amount, String currency, String orderNumber) {
+        return jdbcTemplate.queryForList(INSERT_TRANSACTION_SQL, Long.class, externalReference, type.name(),
+                dealerId, amount, currency, orderNumber).stream().findFirst();
+    }
+
+    public Optional<LedgerEntry> findTransaction(String externalReference) {
+        return jdbcTemplate.query(FIND_TRANSACTION_SQL, ENTRY_MAPPER, externalReference).stream().findFirst();
+    }
+
+    /**
+     * Bulk {@link #insertTransaction}: one statement for all headers. References
+     * must be distinct within the call.
+     *
+     * @return new ids by reference; references already taken are absent
+     */
+    public Map<String, Long> insertTransactions(Collection<NewLedgerEntry> entries) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_TRANSACTIONS_SQL);
+            ps.setArray(1, con.createArrayOf("varchar", entries.stream().map(NewLedgerEntry::externalReference).toArray()));
+            ps.setArray(2, con.createArrayOf("varchar", entries.stream().map(e -> e.type().name()).toArray()));
+            ps.setArray(3, con.createArrayOf("varchar", entries.stream().map(NewLedgerEntry::dealerId).toArray()));
+            ps.setArray(4, con.createArrayOf("numeric", entries.stream().map(NewLedgerEntry::amount).toArray()));
+            ps.setArray(5, con.createArrayOf("varchar", entries.stream().map(NewLedgerEntry::currency).toArray()));
+            ps.setArray(6, con.createArrayOf("varchar", entries.stream().map(NewLedgerEntry::orderNumber).toArray()));
+            return ps;
+        }, (RowCallbackHandler) rs -> ids.put(rs.getString("external_reference"), rs.getLong("id")));
+        return ids;
+    }
+
+    public List<LedgerEntry> findTransactions(Collection<String> externalReferences) {
+        if (externalReferences.isEmpty()) {
+            return List.of();
+        }
+        String[] references = externalReferences.toArray(String[]::new);
+        return jdbcTemplate.query(FIND_TRANSACTIONS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", references)), ENTRY_MAPPER);
+    }
+
+    public void insertPostings(long transactionId, List<LedgerPosting> postings) {
+        jdbcTemplate.batchUpdate(INSERT_POSTING_SQL, postings, postings.size(), (ps, posting) -> {
+            ps.setLong(1, transactionId);
+            ps.setLong(2, posting.accountId());
+            ps.setBigDecimal(3, posting.amount());
+        });
+    }
+
+    /**
+     * Postings of several transactions in one JDBC batch.
+     */
+    public void insertPostings(Map<Long, List<LedgerPosting>> postingsByTransaction) {
+        List<Map.Entry<Long, LedgerPosting>> rows = postingsByTransaction.entrySet().stream()
+                .flatMap(e -> e.getValue().stream().map(posting -> Map.entry(e.getKey(), posting)))
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_POSTING_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getKey());
+            ps.setLong(2, row.getValue().accountId());
+            ps.setBigDecimal(3, row.getValue().amount());
+        });
+    }
+
+    public AccountBalance balance(long accountId) {
+        return jdbcTemplate.queryForObject(BALANCE_SQL, (rs, rowNum) -> new AccountBalance(accountId,
+                rs.getBigDecimal(2).add(rs.getBigDecimal(3)), rs.getLong(1), rs.getLong(4)), accountId, accountId);
+    }
+}
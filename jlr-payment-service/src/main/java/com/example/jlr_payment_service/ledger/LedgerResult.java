@@ -0,0 +1,18 @@
+package com.example.jlr_payment_service.ledger;
+
+/**
+ * What {@link LedgerService#recordBatch} did with one request. {@code entry} is
+ * the transaction now holding the reference; it is null only when skipped.
+ */
+public record LedgerResult(NewLedgerEntry request, Outcome outcome, LedgerEntry entry) {
+
+    public enum Outcome {
+        RECORDED,
+        /** Reference already recorded with the same details; nothing written */
+        REPLAYED,
+        /** Reference already recorded with different details; nothing written */
+        CONFLICT,
+        /** The reference it depends on was never recorded */
+        SKIPPED
+    }
+}
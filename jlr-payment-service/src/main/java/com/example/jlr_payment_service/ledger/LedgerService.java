@@ -0,0 +1,184 @@
+package com.example.jlr_payment_service.ledger;
+
+import com.example.jlr_payment_service.exception.AccountNotFoundException;
+import com.example.jlr_payment_service.exception.LedgerReferenceConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Records captures and refunds as balanced postings and reads balances.
+ *
+ * Nothing is ever updated: concurrent captures and refunds on one dealer only
+ * insert rows, so they never contend on a balance row and no update can be
+ * lost. The external reference is unique, so a retried request or redelivered
+ * event finds the original transaction and is answered from it.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerService {
+
+    private final LedgerRepository ledgerRepository;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Long> accountIds = new ConcurrentHashMap<>();
+
+    public LedgerEntry record(LedgerEntryType type, String externalReference, String dealerId, BigDecimal amount,
+                              String currency, String orderNumber) {
+        var inserted = ledgerRepository.insertTransaction(externalReference, type, dealerId, amount, currency,
+                orderNumber);
+        if (inserted.isEmpty()) {
+            LedgerEntry existing = ledgerRepository.findTransaction(externalReference)
+                    .orElseThrow(() -> new IllegalStateException("Ledger reference " + externalReference
+                            + " reported as taken but not found"));
+            if (!existing.sameAs(type, dealerId, amount, currency)) {
+                meterRegistry.counter("payment.ledger.entries", "type", type.name(), "outcome", "conflict")
+                        .increment();
+                throw new LedgerReferenceConflictException("Reference " + externalReference
+                        + " was already used for a different " + existing.type().name().toLowerCase());
+            }
+            meterRegistry.counter("payment.ledger.entries", "type", type.name(), "outcome", "replayed").increment();
+            return existing.asReplay();
+        }
+
+        long transactionId = inserted.get();
+        ledgerRepository.insertPostings(transactionId, postings(type, dealerId, amount, currency));
+
+        meterRegistry.counter("payment.ledger.entries", "type", type.name(), "outcome", "recorded").increment();
+        log.info("Ledger {} {} {} {} for dealer {} (order {})", type, externalReference, amount, currency, dealerId,
+                orderNumber);
+        return new LedgerEntry(transactionId, externalReference, type, dealerId, amount, currency, orderNumber,
+                LocalDateTime.now(), false);
+    }
+
+    /**
+     * Bulk form of {@link #record} for the Kafka consumers: one insert for all
+     * transaction headers, one read of the references that were already taken
+     * and one batch of postings. Results come back in request order. A reused
+     * reference is reported as a conflict rather than thrown, so the rest of
+     * the batch still commits. A repeated reference within the batch is a
+     * replay of its first occurrence.
+     */
+    public List<LedgerResult> recordBatch(List<NewLedgerEntry> requests) {
+        Set<String> required = requests.stream()
+                .map(NewLedgerEntry::requiresReference)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> available = ledgerRepository.findTransactions(required).stream()
+                .map(LedgerEntry::externalReference)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        Map<String, NewLedgerEntry> firstByReference = new LinkedHashMap<>();
+        Set<NewLedgerEntry> skipped = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (NewLedgerEntry request : requests) {
+            if (request.requiresReference() != null && !available.contains(request.requiresReference())) {
+                skipped.add(request);
+                continue;
+            }
+            available.add(request.externalReference());
+            firstByReference.putIfAbsent(request.externalReference(), request);
+        }
+
+        Map<String, Long> insertedIds = firstByReference.isEmpty() ? Map.of()
+                : ledgerRepository.insertTransactions(firstByReference.values());
+        Map<String, LedgerEntry> holders = new HashMap<>();
+        Map<Long, List<LedgerPosting>> postings = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        insertedIds.forEach((reference, id) -> {
+            NewLedgerEntry request = firstByReference.get(reference);
+            holders.put(reference, new LedgerEntry(id, reference, request.type(), request.dealerId(),
+                    request.amount(), request.currency(), request.orderNumber(), now, false));
+            postings.put(id, postings(request.type(), request.dealerId(), request.amount(), request.currency()));
+        });
+        List<String> taken = firstByReference.keySet().stream().filter(ref -> !insertedIds.containsKey(ref)).toList();
+        ledgerRepository.findTransactions(taken).forEach(entry -> holders.put(entry.externalReference(), entry));
+        if (!postings.isEmpty()) {
+            ledgerRepository.insertPostings(postings);
+        }
+
+        List<LedgerResult> results = new ArrayList<>(requests.size());
+        for (NewLedgerEntry request : requests) {
+            results.add(resultOf(request, skipped, firstByReference, insertedIds, holders));
+        }
+        log.debug("Ledger batch of {}: {} recorded", requests.size(), insertedIds.size());
+        return results;
+    }
+
+    /**
+     * What the dealer owes on its credit account: captures less refunds.
+     */
+    @Transactional(readOnly = true)
+    public AccountBalance dealerBalance(String dealerId, String currency) {
+        long accountId = ledgerRepository.findAccountId(AccountType.DEALER_CREDIT, dealerId, currency)
+                .orElseThrow(() -> new AccountNotFoundException("No " + currency + " credit account for dealer "
+                        + dealerId));
+        return ledgerRepository.balance(accountId);
+    }
+
+    private LedgerResult resultOf(NewLedgerEntry request, Set<NewLedgerEntry> skipped,
+                                  Map<String, NewLedgerEntry> firstByReference, Map<String, Long> insertedIds,
+                                  Map<String, LedgerEntry> holders) {
+        String reference = request.externalReference();
+        LedgerResult.Outcome outcome;
+        LedgerEntry holder = holders.get(reference);
+        if (skipped.contains(request)) {
+            outcome = LedgerResult.Outcome.SKIPPED;
+            holder = null;
+        } else if (holder == null) {
+            throw new IllegalStateException("Ledger reference " + reference + " reported as taken but not found");
+        } else if (insertedIds.containsKey(reference) && firstByReference.get(reference) == request) {
+            outcome = LedgerResult.Outcome.RECORDED;
+        } else if (holder.sameAs(request.type(), request.dealerId(), request.amount(), request.currency())) {
+            outcome = LedgerResult.Outcome.REPLAYED;
+            holder = holder.asReplay();
+        } else {
+            outcome = LedgerResult.Outcome.CONFLICT;
+        }
+        meterRegistry.counter("payment.ledger.entries", "type", request.type().name(), "outcome",
+                outcome.name().toLowerCase()).increment();
+        return new LedgerResult(request, outcome, holder);
+    }
+
+    private List<LedgerPosting> postings(LedgerEntryType type, String dealerId, BigDecimal amount, String currency) {
+        BigDecimal dealerAmount = amount.multiply(BigDecimal.valueOf(type.dealerSign()));
+        return List.of(
+                new LedgerPosting(accountId(AccountType.DEALER_CREDIT, dealerId, currency), dealerAmount),
+                new LedgerPosting(accountId(AccountType.SALES, dealerId, currency), dealerAmount.negate()));
+    }
+
+    /**
+     * Only ids of accounts that already existed are cached; one created in this
+     * transaction could still be rolled back.
+     */
+    private long accountId(AccountType type, String dealerId, String currency) {
+        String code = type.code(dealerId, currency);
+        Long cached = accountIds.get(code);
+        if (cached != null) {
+            return cached;
+        }
+        return ledgerRepository.findAccountId(type, dealerId, currency)
+                .map(id -> {
+                    accountIds.put(code, id);
+                    return id;
+                })
+                .orElseGet(() -> ledgerRepository.ensureAccount(type, dealerId, currency));
+    }
+}
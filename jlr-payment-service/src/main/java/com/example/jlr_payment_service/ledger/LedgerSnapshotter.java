@@ -0,0 +1,83 @@
+package com.example.jlr_payment_service.ledger;
+
+import com.example.jlr_payment_service.config.LedgerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Appends a balance snapshot for every account that has had postings since
+ * the last run, so balance reads only ever sum a short tail.
+ *
+ * A snapshot covers postings up to a horizon id, and must never be passed by
+ * a posting that commits later with a lower id. The horizon is therefore read
+ * under a SHARE lock on ledger_postings: taking it waits for in-flight posting
+ * transactions to finish and briefly holds back new ones, after which every
+ * id up to the current maximum is final. The lock is held only for that one
+ * read; the snapshots themselves are computed afterwards without it.
+ */
+@Component
+@Slf4j
+public class LedgerSnapshotter {
+
+    private static final String HORIZON_SQL = "SELECT coalesce(max(id), 0) FROM ledger_postings";
+
+    private static final String PREVIOUS_HORIZON_SQL = "SELECT coalesce(max(last_posting_id), 0) "
+            + "FROM ledger_balance_snapshots";
+
+    private static final String SNAPSHOT_SQL = "INSERT INTO ledger_balance_snapshots "
+            + "(account_id, last_posting_id, balance) "
+            + "SELECT p.account_id, ?, coalesce(s.balance, 0) + sum(p.amount) FROM ledger_postings p "
+            + "LEFT JOIN LATERAL (SELECT balance FROM ledger_balance_snapshots b WHERE b.account_id = p.account_id "
+            + "ORDER BY b.last_posting_id DESC LIMIT 1) s ON true "
+            + "WHERE p.id > ? AND p.id <= ? GROUP BY p.account_id, s.balance";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LedgerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer snapshotTimer;
+
+    public LedgerSnapshotter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             LedgerProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.snapshotTimer = meterRegistry.timer("payment.ledger.snapshot");
+    }
+
+    @Scheduled(fixedDelayString = "${app.ledger.snapshot-interval-ms:30000}")
+    public void snapshot() {
+        try {
+            Long horizon = transactionTemplate.execute(status -> {
+                jdbcTemplate.execute("SET LOCAL lock_timeout = '"
+                        + properties.getSnapshotLockTimeout().toMillis() + "ms'");
+                jdbcTemplate.execute("LOCK TABLE ledger_postings IN SHARE MODE");
+                return jdbcTemplate.queryForObject(HORIZON_SQL, Long.class);
+            });
+            if (horizon == null) {
+                return;
+            }
+            snapshotTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                Long previous = jdbcTemplate.queryForObject(PREVIOUS_HORIZON_SQL, Long.class);
+                if (previous == null || previous >= horizon) {
+                    return;
+                }
+                int accounts = jdbcTemplate.update(SNAPSHOT_SQL, horizon, previous, horizon);
+                meterRegistry.counter("payment.ledger.snapshots").increment(accounts);
+                log.debug("Snapshotted {} account balances at posting {} ({} postings folded in)", accounts,
+                        horizon, horizon - previous);
+            }));
+        } catch (DataAccessException e) {
+            meterRegistry.counter("payment.ledger.snapshot.failures").increment();
+            log.warn("Ledger snapshot skipped: {}", e.getMessage());
+        }
+    }
+}
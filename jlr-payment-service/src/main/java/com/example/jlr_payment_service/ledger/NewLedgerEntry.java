@@ -0,0 +1,21 @@
+package com.example.jlr_payment_service.ledger;
+
+import java.math.BigDecimal;
+
+/**
+ * A ledger transaction to record in bulk. With {@code requiresReference} set,
+ * the entry is only posted if that reference has been recorded, e.g. a void
+ * only refunds a capture that actually happened.
+ */
+public record NewLedgerEntry(LedgerEntryType type, String externalReference, String dealerId, BigDecimal amount,
+                             String currency, String orderNumber, String requiresReference) {
+
+    public static NewLedgerEntry of(LedgerEntryType type, String externalReference, String dealerId,
+                                    BigDecimal amount, String currency, String orderNumber) {
+        return new NewLedgerEntry(type, externalReference, dealerId, amount, currency, orderNumber, null);
+    }
+
+    public NewLedgerEntry ifRecorded(String reference) {
+        return new NewLedgerEntry(type, externalReference, dealerId, amount, currency, orderNumber, reference);
+    }
+}
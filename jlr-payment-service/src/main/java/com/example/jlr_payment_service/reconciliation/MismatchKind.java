@@ -0,0 +1,19 @@
+package com.example.jlr_payment_service.reconciliation;
+
+/**
+ * Why a settlement line or a ledger transaction did not reconcile.
+ */
+public enum MismatchKind {
+    /** Line could not be parsed */
+    MALFORMED_LINE,
+    /** Settled, but no ledger transaction of that day has the reference */
+    NOT_IN_LEDGER,
+    /** Reference settled more than once in the file */
+    DUPLICATE_IN_FILE,
+    /** Settled as a sale but recorded as a refund, or the other way round */
+    TYPE_MISMATCH,
+    AMOUNT_MISMATCH,
+    CURRENCY_MISMATCH,
+    /** Recorded in the ledger but missing from the file */
+    NOT_SETTLED
+}
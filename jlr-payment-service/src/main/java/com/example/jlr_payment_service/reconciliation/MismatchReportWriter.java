@@ -0,0 +1,106 @@
+package com.example.jlr_payment_service.reconciliation;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streams mismatches to a CSV report as they are found:
+ * {@code kind,line,reference,settled_amount,ledger_amount}. References are
+ * copied byte for byte from the settlement file or the index and amounts are
+ * printed from minor units, so writing a row creates no objects.
+ */
+final class MismatchReportWriter implements Closeable {
+
+    private static final byte[] HEADER =
+            "kind,line,reference,settled_amount,ledger_amount\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] KINDS = new byte[MismatchKind.values().length][];
+
+    static {
+        for (MismatchKind kind : MismatchKind.values()) {
+            KINDS[kind.ordinal()] = kind.name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private final OutputStream out;
+    private final byte[] digits = new byte[24];
+    private final long[] counts = new long[MismatchKind.values().length];
+
+    MismatchReportWriter(Path report) throws IOException {
+        this.out = new BufferedOutputStream(Files.newOutputStream(report), 1 << 16);
+        out.write(HEADER);
+    }
+
+    /**
+     * A settlement line that did not reconcile; {@code ledgerAmount} is -1
+     * when there is no ledger side.
+     */
+    void line(MismatchKind kind, SettlementLine line, long ledgerAmount) throws IOException {
+        kind(kind);
+        number(line.number);
+        out.write(',');
+        if (line.valid) {
+            for (int i = 0; i < line.referenceLength; i++) {
+                out.write(line.buffer.get(line.referenceStart + i));
+            }
+            out.write(',');
+            amount(line.amountMinor);
+        } else {
+            out.write(',');
+        }
+        out.write(',');
+        if (ledgerAmount >= 0) {
+            amount(ledgerAmount);
+        }
+        out.write('\n');
+    }
+
+    /**
+     * A ledger transaction that was never settled.
+     */
+    void unsettled(PaymentIndex index, int entry) throws IOException {
+        kind(MismatchKind.NOT_SETTLED);
+        out.write(',');
+        index.writeReference(entry, out);
+        out.write(',');
+        out.write(',');
+        amount(index.amount(entry));
+        out.write('\n');
+    }
+
+    long count(MismatchKind kind) {
+        return counts[kind.ordinal()];
+    }
+
+    private void kind(MismatchKind kind) throws IOException {
+        counts[kind.ordinal()]++;
+        out.write(KINDS[kind.ordinal()]);
+        out.write(',');
+    }
+
+    private void amount(long minor) throws IOException {
+        number(minor / 100);
+        out.write('.');
+        long pence = minor % 100;
+        out.write('0' + (int) (pence / 10));
+        out.write('0' + (int) (pence % 10));
+    }
+
+    private void number(long value) throws IOException {
+        int i = digits.length;
+        do {
+            digits[--i] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        out.write(digits, i, digits.length - i);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
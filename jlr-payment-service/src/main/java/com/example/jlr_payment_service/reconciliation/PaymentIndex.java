@@ -0,0 +1,195 @@
+package com.example.jlr_payment_service.reconciliation;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The day's ledger transactions, looked up by reference straight from the
+ * bytes of a settlement line.
+ *
+ * References are ASCII, stored back to back in one byte arena, and the other
+ * fields sit in parallel primitive arrays, so a few million payments cost a
+ * handful of arrays rather than millions of objects. The hash table is open
+ * addressing over entry numbers. Not thread-safe: one reconciliation owns it.
+ */
+public final class PaymentIndex {
+
+    static final byte CAPTURE = 'C';
+    static final byte REFUND = 'R';
+
+    private byte[] arena;
+    private int arenaUsed;
+    private int[] keyStart;
+    private int[] keyLength;
+    private long[] amounts;
+    private byte[] types;
+    private int[] currencies;
+    private boolean[] matched;
+    private int size;
+
+    private int[] slots;
+    private int mask;
+
+    public PaymentIndex(int expectedEntries) {
+        int capacity = Math.max(16, expectedEntries);
+        arena = new byte[capacity * 16];
+        keyStart = new int[capacity];
+        keyLength = new int[capacity];
+        amounts = new long[capacity];
+        types = new byte[capacity];
+        currencies = new int[capacity];
+        matched = new boolean[capacity];
+        slots = new int[tableSizeFor(capacity)];
+        mask = slots.length - 1;
+    }
+
+    /**
+     * @param capture     true for a capture, false for a refund
+     * @param amountMinor amount in minor units (pence)
+     */
+    public void add(String reference, boolean capture, long amountMinor, String currency) {
+        byte[] key = reference.getBytes(StandardCharsets.US_ASCII);
+        if (size == keyStart.length) {
+            grow();
+        }
+        if (arenaUsed + key.length > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaUsed + key.length));
+        }
+        System.arraycopy(key, 0, arena, arenaUsed, key.length);
+        keyStart[size] = arenaUsed;
+        keyLength[size] = key.length;
+        arenaUsed += key.length;
+        amounts[size] = amountMinor;
+        types[size] = capture ? CAPTURE : REFUND;
+        currencies[size] = currencyCode(currency);
+        insert(size, hash(arena, keyStart[size], key.length));
+        size++;
+    }
+
+    /**
+     * @return the entry whose reference equals {@code length} bytes of
+     * {@code buffer} at {@code offset}, or -1
+     */
+    int find(ByteBuffer buffer, int offset, int length) {
+        int hash = hash(buffer, offset, length);
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (entry < 0) {
+                return -1;
+            }
+            if (keyLength[entry] == length && sameKey(entry, buffer, offset, length)) {
+                return entry;
+            }
+        }
+    }
+
+    long amount(int entry) {
+        return amounts[entry];
+    }
+
+    byte type(int entry) {
+        return types[entry];
+    }
+
+    int currency(int entry) {
+        return currencies[entry];
+    }
+
+    /**
+     * @return false if the entry had already been matched
+     */
+    boolean markMatched(int entry) {
+        if (matched[entry]) {
+            return false;
+        }
+        matched[entry] = true;
+        return true;
+    }
+
+    boolean isMatched(int entry) {
+        return matched[entry];
+    }
+
+    /**
+     * Forgets all matches, so the same index can reconcile a corrected file.
+     */
+    void clearMatches() {
+        Arrays.fill(matched, 0, size, false);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void writeReference(int entry, OutputStream out) throws IOException {
+        out.write(arena, keyStart[entry], keyLength[entry]);
+    }
+
+    static int currencyCode(String currency) {
+        return currency.length() != 3 ? 0
+                : (currency.charAt(0) & 0xff) << 16 | (currency.charAt(1) & 0xff) << 8 | currency.charAt(2) & 0xff;
+    }
+
+    /**
+     * FNV-1a; must give the same value for a key whether it is read from the
+     * arena or from a mapped settlement file.
+     */
+    static int hash(ByteBuffer buffer, int offset, int length) {
+        int h = 0x811c9dc5;
+        for (int i = offset; i < offset + length; i++) {
+            h = (h ^ buffer.get(i)) * 0x01000193;
+        }
+        return h ^ h >>> 16;
+    }
+
+    private static int hash(byte[] bytes, int offset, int length) {
+        int h = 0x811c9dc5;
+        for (int i = offset; i < offset + length; i++) {
+            h = (h ^ bytes[i]) * 0x01000193;
+        }
+        return h ^ h >>> 16;
+    }
+
+    private boolean sameKey(int entry, ByteBuffer buffer, int offset, int length) {
+        int start = keyStart[entry];
+        for (int i = 0; i < length; i++) {
+            if (arena[start + i] != buffer.get(offset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void insert(int entry, int hash) {
+        int slot = hash & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = entry + 1;
+    }
+
+    private void grow() {
+        int capacity = keyStart.length * 2;
+        keyStart = Arrays.copyOf(keyStart, capacity);
+        keyLength = Arrays.copyOf(keyLength, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+        types = Arrays.copyOf(types, capacity);
+        currencies = Arrays.copyOf(currencies, capacity);
+        matched = Arrays.copyOf(matched, capacity);
+        slots = new int[tableSizeFor(capacity)];
+        mask = slots.length - 1;
+        for (int entry = 0; entry < size; entry++) {
+            insert(entry, hash(arena, keyStart[entry], keyLength[entry]));
+        }
+    }
+
+    /**
+     * Power of two at least twice the entry count, so probes stay short.
+     */
+    private static int tableSizeFor(int entries) {
+        return Integer.highestOneBit(Math.max(entries, 8) * 2 - 1) << 1;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.jlr_payment_service.reconciliation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+@Repository
+@RequiredArgsConstructor
+public class ReconciliationRepository {
+
+    private static final String COUNT_DAY_SQL = "SELECT count(*) FROM ledger_transactions "
+            + "WHERE created_at >= ? AND created_at < ?";
+
+    private static final String DAY_SQL = "SELECT external_reference, entry_type, (amount * 100)::bigint, currency "
+            + "FROM ledger_transactions WHERE created_at >= ? AND created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Indexes the ledger transactions recorded on {@code day}. Rows are
+     * streamed with a cursor ({@code fetchSize} at a time, which needs the
+     * read-only transaction) straight into the index.
+     */
+    @Transactional(readOnly = true)
+    public PaymentIndex loadDay(LocalDate day, int fetchSize) {
+        Timestamp from = Timestamp.valueOf(day.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+        Long expected = jdbcTemplate.queryForObject(COUNT_DAY_SQL, Long.class, from, to);
+        PaymentIndex index = new PaymentIndex(expected == null ? 0 : Math.toIntExact(expected));
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(DAY_SQL);
+            ps.setFetchSize(fetchSize);
+            ps.setTimestamp(1, from);
+            ps.setTimestamp(2, to);
+            return ps;
+        }, (RowCallbackHandler) rs -> index.add(rs.getString(1), "CAPTURE".equals(rs.getString(2)), rs.getLong(3),
+                rs.getString(4)));
+        return index;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.jlr_payment_service.reconciliation;
+
+import com.example.jlr_payment_service.config.ReconciliationProperties;
+import com.example.jlr_payment_service.exception.SettlementFileNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Reconciles an acquirer's daily settlement file against the ledger
+ * transactions recorded on its business date.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReconciliationService {
+
+    private final ReconciliationRepository reconciliationRepository;
+    private final ReconciliationProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ReconciliationSummary reconcile(String fileName, LocalDate businessDate) {
+        Path inbox = Path.of(properties.getInbox()).toAbsolutePath().normalize();
+        Path file = inbox.resolve(fileName).normalize();
+        if (!file.getParent().equals(inbox) || !Files.isRegularFile(file)) {
+            throw new SettlementFileNotFoundException("No settlement file " + fileName + " in the inbox");
+        }
+        Path report = Path.of(properties.getReportDirectory())
+                .resolve(file.getFileName() + "." + businessDate + ".mismatches.csv");
+
+        PaymentIndex index = reconciliationRepository.loadDay(businessDate, properties.getFetchSize());
+        ReconciliationSummary summary;
+        try {
+            Files.createDirectories(report.getParent());
+            summary = SettlementReconciler.reconcile(index, file, report, properties.getMappingWindow().toBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not reconcile " + file, e);
+        }
+
+        meterRegistry.timer("payment.reconciliation").record(summary.took());
+        summary.mismatches().forEach((kind, count) ->
+                meterRegistry.counter("payment.reconciliation.mismatches", "kind", kind.name()).increment(count));
+        log.info("Reconciled {} for {}: {} lines, {} ledger transactions, {} matched, mismatches {} in {} ms",
+                fileName, businessDate, summary.settlementLines(), summary.ledgerTransactions(), summary.matched(),
+                summary.mismatches(), summary.took().toMillis());
+        return summary;
+    }
+}
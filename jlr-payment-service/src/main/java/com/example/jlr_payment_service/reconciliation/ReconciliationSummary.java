@@ -0,0 +1,13 @@
+package com.example.jlr_payment_service.reconciliation;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Outcome of one settlement file. Every mismatch counted here has a line in
+ * {@code report}.
+ */
+public record ReconciliationSummary(long settlementLines, long ledgerTransactions, long matched,
+                                    Map<MismatchKind, Long> mismatches, Path report, Duration took) {
+}
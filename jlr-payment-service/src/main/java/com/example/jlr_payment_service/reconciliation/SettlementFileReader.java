@@ -0,0 +1,191 @@
+package com.example.jlr_payment_service.reconciliation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads an acquirer settlement file through memory-mapped windows.
+ *
+ * The file is CSV with a header line and the columns
+ * {@code reference,type,amount,currency}: type is {@code SALE} or
+ * {@code REFUND}, amount is positive with up to two decimals. Fields are parsed
+ * in place from the mapped bytes (the amount straight into minor units), so
+ * no String is created for any field and heap use does not depend on the file
+ * size. A window ends on the last complete line inside it and the next window
+ * starts right after, so lines are never split.
+ */
+final class SettlementFileReader implements Closeable {
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long windowBytes;
+
+    private MappedByteBuffer window;
+    private long windowPosition;
+    private int position;
+    private int limit;
+    private long lineNumber;
+
+    SettlementFileReader(Path file, long windowBytes) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.windowBytes = Math.min(windowBytes, Integer.MAX_VALUE);
+        map(0);
+        int headerEnd = nextLineEnd();
+        if (headerEnd >= 0) {
+            position = Math.min(headerEnd + 1, limit);
+            lineNumber = 1;
+        }
+    }
+
+    /**
+     * Fills {@code line} with the next non-empty line.
+     *
+     * @return false at the end of the file
+     */
+    boolean next(SettlementLine line) throws IOException {
+        while (true) {
+            int end = nextLineEnd();
+            if (end < 0) {
+                return false;
+            }
+            lineNumber++;
+            int contentEnd = end > position && window.get(end - 1) == '\r' ? end - 1 : end;
+            if (contentEnd > position) {
+                parse(line, position, contentEnd);
+                position = Math.min(end + 1, limit);
+                return true;
+            }
+            position = Math.min(end + 1, limit);
+        }
+    }
+
+    /**
+     * @return index of the newline ending the current line (or of the end of
+     * the file for an unterminated last line), mapping the next window when
+     * the current one is used up; -1 at the end of the file
+     */
+    private int nextLineEnd() throws IOException {
+        for (int i = position; i < limit; i++) {
+            if (window.get(i) == '\n') {
+                return i;
+            }
+        }
+        long consumed = windowPosition + position;
+        if (consumed >= fileSize) {
+            return -1;
+        }
+        if (windowPosition + limit >= fileSize) {
+            return limit; // last line has no newline
+        }
+        if (position == 0) {
+            throw new IOException("Settlement line " + (lineNumber + 1) + " is longer than the mapping window");
+        }
+        map(consumed);
+        return nextLineEnd();
+    }
+
+    private void map(long from) throws IOException {
+        windowPosition = from;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(windowBytes, fileSize - from));
+        position = 0;
+        limit = window.limit();
+    }
+
+    private void parse(SettlementLine line, int start, int end) {
+        line.buffer = window;
+        line.number = lineNumber;
+        line.start = start;
+        line.end = end;
+        line.valid = false;
+
+        int comma = indexOf(',', start, end);
+        if (comma <= start) {
+            return;
+        }
+        line.referenceStart = start;
+        line.referenceLength = comma - start;
+
+        int typeStart = comma + 1;
+        comma = indexOf(',', typeStart, end);
+        if (comma < 0) {
+            return;
+        }
+        if (matches("SALE", typeStart, comma)) {
+            line.type = PaymentIndex.CAPTURE;
+        } else if (matches("REFUND", typeStart, comma)) {
+            line.type = PaymentIndex.REFUND;
+        } else {
+            return;
+        }
+
+        int amountStart = comma + 1;
+        comma = indexOf(',', amountStart, end);
+        if (comma < 0 || !parseAmount(line, amountStart, comma)) {
+            return;
+        }
+
+        if (end - comma - 1 != 3) {
+            return;
+        }
+        line.currency = (window.get(comma + 1) & 0xff) << 16 | (window.get(comma + 2) & 0xff) << 8
+                | window.get(comma + 3) & 0xff;
+        line.valid = true;
+    }
+
+    private boolean parseAmount(SettlementLine line, int start, int end) {
+        long units = 0;
+        int decimals = -1;
+        for (int i = start; i < end; i++) {
+            byte b = window.get(i);
+            if (b == '.' && decimals < 0) {
+                decimals = 0;
+            } else if (b >= '0' && b <= '9' && decimals < 2 && units < Long.MAX_VALUE / 10 - 9) {
+                units = units * 10 + (b - '0');
+                if (decimals >= 0) {
+                    decimals++;
+                }
+            } else {
+                return false;
+            }
+        }
+        if (end == start || decimals == 0) {
+            return false;
+        }
+        for (int i = Math.max(decimals, 0); i < 2; i++) {
+            units *= 10;
+        }
+        line.amountMinor = units;
+        return true;
+    }
+
+    private int indexOf(char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (window.get(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matches(String expected, int from, int to) {
+        if (to - from != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (window.get(from + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
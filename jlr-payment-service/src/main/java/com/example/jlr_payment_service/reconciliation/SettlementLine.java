@@ -0,0 +1,27 @@
+package com.example.jlr_payment_service.reconciliation;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One line of a settlement file as positions in the mapped buffer. A single
+ * instance is refilled for every line, so reading a file allocates nothing per
+ * line; nothing here is valid after the next call to
+ * {@link SettlementFileReader#next}.
+ */
+final class SettlementLine {
+
+    ByteBuffer buffer;
+    /** Line number in the file, counting the header as line 1 */
+    long number;
+    int start;
+    int end;
+
+    /** False when the line could not be parsed; only {@link #number} and the bounds are then set */
+    boolean valid;
+    int referenceStart;
+    int referenceLength;
+    /** {@link PaymentIndex#CAPTURE} or {@link PaymentIndex#REFUND} */
+    byte type;
+    long amountMinor;
+    int currency;
+}
@@ -0,0 +1,64 @@
+package com.example.jlr_payment_service.reconciliation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Matches a settlement file against a {@link PaymentIndex} in one pass,
+ * writing each mismatch as it is found, then reports the ledger transactions
+ * the file never mentioned. Memory is the index plus one mapped window of the
+ * file, whatever the file's size.
+ */
+final class SettlementReconciler {
+
+    private SettlementReconciler() {
+    }
+
+    static ReconciliationSummary reconcile(PaymentIndex index, Path file, Path report, long windowBytes)
+            throws IOException {
+        long started = System.nanoTime();
+        long lines = 0;
+        long matched = 0;
+        SettlementLine line = new SettlementLine();
+        Map<MismatchKind, Long> mismatches = new EnumMap<>(MismatchKind.class);
+        try (SettlementFileReader reader = new SettlementFileReader(file, windowBytes);
+             MismatchReportWriter writer = new MismatchReportWriter(report)) {
+            while (reader.next(line)) {
+                lines++;
+                if (!line.valid) {
+                    writer.line(MismatchKind.MALFORMED_LINE, line, -1);
+                    continue;
+                }
+                int entry = index.find(line.buffer, line.referenceStart, line.referenceLength);
+                if (entry < 0) {
+                    writer.line(MismatchKind.NOT_IN_LEDGER, line, -1);
+                } else if (!index.markMatched(entry)) {
+                    writer.line(MismatchKind.DUPLICATE_IN_FILE, line, index.amount(entry));
+                } else if (index.type(entry) != line.type) {
+                    writer.line(MismatchKind.TYPE_MISMATCH, line, index.amount(entry));
+                } else if (index.currency(entry) != line.currency) {
+                    writer.line(MismatchKind.CURRENCY_MISMATCH, line, index.amount(entry));
+                } else if (index.amount(entry) != line.amountMinor) {
+                    writer.line(MismatchKind.AMOUNT_MISMATCH, line, index.amount(entry));
+                } else {
+                    matched++;
+                }
+            }
+            for (int entry = 0; entry < index.size(); entry++) {
+                if (!index.isMatched(entry)) {
+                    writer.unsettled(index, entry);
+                }
+            }
+            for (MismatchKind kind : MismatchKind.values()) {
+                if (writer.count(kind) > 0) {
+                    mismatches.put(kind, writer.count(kind));
+                }
+            }
+        }
+        return new ReconciliationSummary(lines, index.size(), matched, mismatches, report,
+                Duration.ofNanos(System.nanoTime() - started));
+    }
+}
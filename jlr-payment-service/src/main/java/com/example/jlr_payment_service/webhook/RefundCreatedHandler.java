@@ -0,0 +1,43 @@
+package com.example.jlr_payment_service.webhook;
+
+import com.example.jlr_payment_service.ledger.LedgerEntryType;
+import com.example.jlr_payment_service.ledger.LedgerService;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Records refunds made at the provider in the ledger, under the provider's
+ * refund ID. The refund carries the dealer and order in its metadata, set when
+ * it was requested; the amount is in minor units.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefundCreatedHandler implements WebhookEventHandler {
+
+    private final LedgerService ledgerService;
+
+    @Override
+    public String eventType() {
+        return "refund.created";
+    }
+
+    @Override
+    public void handle(JsonNode event) {
+        JsonNode refund = event.path("data").path("object");
+        String refundId = refund.path("id").asText(null);
+        String dealerId = refund.path("metadata").path("dealer_id").asText(null);
+        if (refundId == null || dealerId == null || !refund.path("amount").canConvertToLong()
+                || !refund.hasNonNull("currency")) {
+            throw new IllegalArgumentException("Refund event " + event.path("id").asText()
+                    + " lacks id, amount, currency or dealer_id metadata");
+        }
+        ledgerService.record(LedgerEntryType.REFUND, refundId, dealerId,
+                BigDecimal.valueOf(refund.path("amount").asLong(), 2),
+                refund.path("currency").asText().toUpperCase(Locale.ROOT),
+                refund.path("metadata").path("order_number").asText(null));
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.jlr_payment_service.webhook;
+
+import java.time.LocalDateTime;
+
+/**
+ * A stored provider callback, claimed for processing. {@code attempts}
+ * includes the current one.
+ */
+public record WebhookEvent(long id, String eventId, String eventType, String payload, int attempts,
+                           LocalDateTime receivedAt) {
+}
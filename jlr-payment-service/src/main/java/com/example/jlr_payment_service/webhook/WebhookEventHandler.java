@@ -0,0 +1,18 @@
+package com.example.jlr_payment_service.webhook;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Applies one provider event type. Runs in the transaction that marks the
+ * event processed, and may run again for the same event if a worker dies
+ * before that commits, so it must be idempotent.
+ *
+ * Throw {@link IllegalArgumentException} for an event that can never be
+ * applied; any other exception is retried.
+ */
+public interface WebhookEventHandler {
+
+    String eventType();
+
+    void handle(JsonNode event);
+}
@@ -0,0 +1,132 @@
+package com.example.jlr_payment_service.webhook;
+
+import com.example.jlr_payment_service.config.WebhookProperties;
+import com.example.jlr_payment_service.exception.LedgerReferenceConflictException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The asynchronous half: claims due events and applies them.
+ *
+ * Each event is applied and marked processed in one transaction, so an event
+ * is applied once however often it was delivered. A batch is claimed under one
+ * lease, so before applying each event the transaction re-checks and locks its
+ * claim; an event whose lease ran out and was taken by another worker is left
+ * to that worker. Failures are retried with
+ * doubling backoff until {@code maxAttempts}; an event that can never apply
+ * fails at once.
+ */
+@Service
+@Slf4j
+public class WebhookEventProcessor {
+
+    private final WebhookEventRepository eventRepository;
+    private final Map<String, WebhookEventHandler> handlers;
+    private final TransactionTemplate transactionTemplate;
+    private final WebhookProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final Timer lag;
+
+    public WebhookEventProcessor(WebhookEventRepository eventRepository, List<WebhookEventHandler> handlers,
+                                 TransactionTemplate transactionTemplate, WebhookProperties properties,
+                                 ObjectMapper objectMapper, Clock clock, MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.handlers = handlers.stream().collect(Collectors.toMap(WebhookEventHandler::eventType,
+                Function.identity()));
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.lag = Timer.builder("payment.webhook.lag")
+                .description("Time from a callback being stored to it being applied")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return how many events were claimed; 0 means nothing was due
+     */
+    public int processDue() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<WebhookEvent> claimed = eventRepository.claim(properties.getClaimBatchSize(), now,
+                now.plus(properties.getLease()));
+        claimed.forEach(this::process);
+        return claimed.size();
+    }
+
+    private void process(WebhookEvent event) {
+        WebhookEventHandler handler = handlers.get(event.eventType());
+        try {
+            Boolean held = transactionTemplate.execute(status -> {
+                if (!eventRepository.hold(event)) {
+                    return false;
+                }
+                if (handler != null) {
+                    handler.handle(read(event));
+                }
+                eventRepository.complete(event, handler == null ? WebhookEventStatus.IGNORED
+                        : WebhookEventStatus.PROCESSED, LocalDateTime.now(clock));
+                return true;
+            });
+            if (!Boolean.TRUE.equals(held)) {
+                leaseLost(event);
+                return;
+            }
+            lag.record(Duration.between(event.receivedAt(), LocalDateTime.now(clock)));
+            count(event, handler == null ? "ignored" : "processed");
+        } catch (RuntimeException e) {
+            boolean permanent = e instanceof IllegalArgumentException || e instanceof LedgerReferenceConflictException;
+            boolean giveUp = permanent || event.attempts() >= properties.getMaxAttempts();
+            Duration backoff = properties.getRetryBackoff().multipliedBy(1L << Math.min(event.attempts() - 1, 16));
+            if (!eventRepository.reschedule(event, giveUp ? WebhookEventStatus.FAILED : WebhookEventStatus.PENDING,
+                    LocalDateTime.now(clock).plus(backoff), e.getClass().getSimpleName() + ": " + e.getMessage())) {
+                leaseLost(event);
+                return;
+            }
+            count(event, giveUp ? "failed" : "retried");
+            if (giveUp) {
+                log.error("Webhook event {} ({}) failed after {} attempt(s): {}", event.eventId(), event.eventType(),
+                        event.attempts(), e.getMessage());
+            } else {
+                log.warn("Webhook event {} ({}) attempt {} failed, retrying in {}: {}", event.eventId(),
+                        event.eventType(), event.attempts(), backoff, e.getMessage());
+            }
+        }
+    }
+
+    private void leaseLost(WebhookEvent event) {
+        log.warn("Webhook event {} ({}) was re-claimed after its lease ran out; leaving it to the new claim",
+                event.eventId(), event.eventType());
+        count(event, "lease_lost");
+    }
+
+    private JsonNode read(WebhookEvent event) {
+        try {
+            return objectMapper.readTree(event.payload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Stored payload is not JSON", e);
+        }
+    }
+
+    private void count(WebhookEvent event, String outcome) {
+        meterRegistry.counter("payment.webhook.processed", "type", event.eventType(), "outcome", outcome)
+                .increment();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.jlr_payment_service.webhook;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class WebhookEventRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO webhook_events (event_id, event_type, payload) "
+            + "VALUES (?, ?, ?) ON CONFLICT (event_id) DO NOTHING";
+
+    /**
+     * PROCESSING rows are due again once their lease (next_attempt_at) runs
+     * out, which is how events held by a dead worker get picked up.
+     */
+    private static final String CLAIM_SQL = "UPDATE webhook_events SET status = 'PROCESSING', "
+            + "attempts = attempts + 1, next_attempt_at = ? WHERE id IN ("
+            + "SELECT id FROM webhook_events WHERE status IN ('PENDING', 'PROCESSING') AND next_attempt_at <= ? "
+            + "ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+            + "RETURNING id, event_id, event_type, payload, attempts, received_at";
+
+    /**
+     * Each claim bumps attempts, so (id, attempts) identifies one claim. Once
+     * another worker has re-claimed the event these match nothing.
+     */
+    private static final String HOLD_SQL = "SELECT id FROM webhook_events WHERE id = ? AND attempts = ? "
+            + "AND status = 'PROCESSING' FOR UPDATE";
+
+    private static final String COMPLETE_SQL = "UPDATE webhook_events SET status = ?, processed_at = ?, "
+            + "last_error = NULL WHERE id = ? AND attempts = ? AND status = 'PROCESSING'";
+
+    private static final String RESCHEDULE_SQL = "UPDATE webhook_events SET status = ?, next_attempt_at = ?, "
+            + "last_error = ? WHERE id = ? AND attempts = ? AND status = 'PROCESSING'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return false if an event with this ID was already stored
+     */
+    public boolean insert(String eventId, String eventType, String payload) {
+        return jdbcTemplate.update(INSERT_SQL, eventId, eventType, payload) == 1;
+    }
+
+    public List<WebhookEvent> claim(int limit, LocalDateTime now, LocalDateTime leaseUntil) {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new WebhookEvent(rs.getLong("id"),
+                        rs.getString("event_id"), rs.getString("event_type"), rs.getString("payload"),
+                        rs.getInt("attempts"), rs.getTimestamp("received_at").toLocalDateTime()),
+                Timestamp.valueOf(leaseUntil), Timestamp.valueOf(now), limit);
+    }
+
+    /**
+     * Locks the event for the rest of the transaction if this claim still holds
+     * it, so it cannot be re-claimed while it is being applied.
+     *
+     * @return false if the lease ran out and another worker has claimed it
+     */
+    public boolean hold(WebhookEvent event) {
+        return !jdbcTemplate.queryForList(HOLD_SQL, Long.class, event.id(), event.attempts()).isEmpty();
+    }
+
+    public void complete(WebhookEvent event, WebhookEventStatus status, LocalDateTime at) {
+        jdbcTemplate.update(COMPLETE_SQL, status.name(), Timestamp.valueOf(at), event.id(), event.attempts());
+    }
+
+    /**
+     * @return false if the event is no longer held by this claim
+     */
+    public boolean reschedule(WebhookEvent event, WebhookEventStatus status, LocalDateTime nextAttemptAt,
+                              String error) {
+        return jdbcTemplate.update(RESCHEDULE_SQL, status.name(), Timestamp.valueOf(nextAttemptAt), error,
+                event.id(), event.attempts()) == 1;
+    }
+}
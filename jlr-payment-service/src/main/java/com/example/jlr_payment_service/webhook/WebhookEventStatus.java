@@ -0,0 +1,13 @@
+package com.example.jlr_payment_service.webhook;
+
+public enum WebhookEventStatus {
+    /** Stored and waiting for a worker, or for its next retry */
+    PENDING,
+    /** Claimed by a worker until its lease runs out */
+    PROCESSING,
+    PROCESSED,
+    /** No handler for the event type; kept for audit */
+    IGNORED,
+    /** Gave up: the event can never be applied, or ran out of attempts */
+    FAILED
+}
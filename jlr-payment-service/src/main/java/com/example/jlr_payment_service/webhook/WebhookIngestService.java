@@ -0,0 +1,96 @@
+package com.example.jlr_payment_service.webhook;
+
+import com.example.jlr_payment_service.config.WebhookProperties;
+import com.example.jlr_payment_service.exception.InvalidWebhookException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stripe.exception.SignatureVerificationException;
+import com.stripe.net.Webhook;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The synchronous half of webhook handling: verify, store, acknowledge.
+ *
+ * Nothing is applied here. The raw body is stored under the provider's event
+ * ID in one single-row insert and the workers are nudged, so the provider gets
+ * its 2xx in milliseconds however slow processing is. A redelivery of a stored
+ * event is acknowledged without storing it again.
+ */
+@Service
+@Slf4j
+public class WebhookIngestService {
+
+    private final WebhookEventRepository eventRepository;
+    private final WebhookWorkerPool workerPool;
+    private final WebhookProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final Timer ackTimer;
+
+    public WebhookIngestService(WebhookEventRepository eventRepository, WebhookWorkerPool workerPool,
+                                WebhookProperties properties, ObjectMapper objectMapper, Clock clock,
+                                MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.workerPool = workerPool;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.ackTimer = Timer.builder("payment.webhook.ack")
+                .description("Verify and store of a provider callback, before it is acknowledged")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return false for a redelivery of an event already stored
+     */
+    public boolean receive(String payload, String signatureHeader) {
+        long started = System.nanoTime();
+        if (signatureHeader == null) {
+            throw invalid("missing-signature", "Missing Stripe-Signature header");
+        }
+        try {
+            Webhook.Signature.verifyHeader(payload, signatureHeader, properties.getSigningSecret(),
+                    properties.getSignatureTolerance().toSeconds(), clock);
+        } catch (SignatureVerificationException e) {
+            throw invalid("bad-signature", "Webhook signature rejected: " + e.getMessage());
+        }
+
+        String eventId;
+        String eventType;
+        try {
+            JsonNode event = objectMapper.readTree(payload);
+            eventId = event.path("id").asText(null);
+            eventType = event.path("type").asText(null);
+        } catch (JsonProcessingException e) {
+            throw invalid("malformed", "Webhook body is not JSON");
+        }
+        if (eventId == null || eventType == null) {
+            throw invalid("malformed", "Webhook event has no id or type");
+        }
+
+        boolean stored = eventRepository.insert(eventId, eventType, payload);
+        if (stored) {
+            workerPool.wake();
+        } else {
+            log.debug("Webhook event {} redelivered; already stored", eventId);
+        }
+        meterRegistry.counter("payment.webhook.received", "outcome", stored ? "stored" : "duplicate").increment();
+        ackTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return stored;
+    }
+
+    private InvalidWebhookException invalid(String outcome, String message) {
+        meterRegistry.counter("payment.webhook.received", "outcome", outcome).increment();
+        return new InvalidWebhookException(message);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.jlr_payment_service.webhook;
+
+import com.example.jlr_payment_service.config.WebhookProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Workers draining stored webhook events. A worker keeps claiming while
+ * there is work, then sleeps until {@link #wake()} is called for a newly
+ * stored event or the poll interval passes, so a burst is picked up at once
+ * without idle workers hammering the table.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WebhookWorkerPool {
+
+    private final WebhookEventProcessor processor;
+    private final WebhookProperties properties;
+    private final Semaphore wakeups = new Semaphore(0);
+    private volatile boolean running;
+    private ExecutorService workers;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        workers = Executors.newFixedThreadPool(properties.getWorkers(), new CustomizableThreadFactory("webhook-"));
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.execute(this::work);
+        }
+        log.info("Started {} webhook workers", properties.getWorkers());
+    }
+
+    /**
+     * Rouses an idle worker. Permits are capped at the worker count, so a
+     * burst of stored events does not pile up wake-ups.
+     */
+    public void wake() {
+        if (wakeups.availablePermits() < properties.getWorkers()) {
+            wakeups.release();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (workers != null) {
+            workers.shutdownNow();
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                if (processor.processDue() == 0) {
+                    wakeups.tryAcquire(properties.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Webhook worker could not claim events", e);
+                try {
+                    Thread.sleep(properties.getPollInterval().toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+-- Double-entry ledger. Postings are only ever inserted: every ledger
+-- transaction writes two or more postings that sum to zero (positive =
+-- debit), and an account's balance is the sum of its postings.
+CREATE TABLE ledger_accounts (
+    id           BIGSERIAL PRIMARY KEY,
+    account_code VARCHAR(128) NOT NULL UNIQUE,
+    account_type VARCHAR(32)  NOT NULL,
+    dealer_id    VARCHAR(64),
+    currency     VARCHAR(3)   NOT NULL,
+    created_at   TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+-- external_reference makes posting idempotent: a retried capture or refund
+-- finds its transaction instead of writing a second one.
+CREATE TABLE ledger_transactions (
+    id                 BIGSERIAL PRIMARY KEY,
+    external_reference VARCHAR(128)   NOT NULL UNIQUE,
+    entry_type         VARCHAR(32)    NOT NULL,
+    dealer_id          VARCHAR(64)    NOT NULL,
+    amount             NUMERIC(14, 2) NOT NULL,
+    currency           VARCHAR(3)     NOT NULL,
+    order_number       VARCHAR(32),
+    created_at         TIMESTAMP      NOT NULL DEFAULT now()
+);
+
+CREATE TABLE ledger_postings (
+    id             BIGSERIAL PRIMARY KEY,
+    transaction_id BIGINT         NOT NULL REFERENCES ledger_transactions (id),
+    account_id     BIGINT         NOT NULL REFERENCES ledger_accounts (id),
+    amount         NUMERIC(14, 2) NOT NULL,
+    created_at     TIMESTAMP      NOT NULL DEFAULT now()
+);
+
+-- Balance tails: an account's postings after its latest snapshot.
+CREATE INDEX idx_ledger_postings_account ON ledger_postings (account_id, id);
+
+-- Balance of an account including every posting with id <= last_posting_id.
+-- Appended by LedgerSnapshotter; a balance read is the latest snapshot plus
+-- the postings after it.
+CREATE TABLE ledger_balance_snapshots (
+    account_id      BIGINT         NOT NULL REFERENCES ledger_accounts (id),
+    last_posting_id BIGINT         NOT NULL,
+    balance         NUMERIC(16, 2) NOT NULL,
+    created_at      TIMESTAMP      NOT NULL DEFAULT now(),
+    PRIMARY KEY (account_id, last_posting_id)
+);
+
+CREATE INDEX idx_ledger_balance_snapshots_horizon ON ledger_balance_snapshots (last_posting_id);
@@ -0,0 +1,2 @@
+-- Settlement reconciliation indexes a business day's transactions.
+CREATE INDEX idx_ledger_transactions_created ON ledger_transactions (created_at);
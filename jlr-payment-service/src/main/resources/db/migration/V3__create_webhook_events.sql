@@ -0,0 +1,19 @@
+-- Payment provider callbacks, stored raw (exactly as signed) before they are
+-- acknowledged and processed later by workers. event_id dedupes the
+-- provider's retried deliveries.
+CREATE TABLE webhook_events (
+    id              BIGSERIAL PRIMARY KEY,
+    event_id        VARCHAR(255) NOT NULL UNIQUE,
+    event_type      VARCHAR(128) NOT NULL,
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(16)  NOT NULL DEFAULT 'PENDING',
+    attempts        INT          NOT NULL DEFAULT 0,
+    -- when a PENDING event may next be tried, or when a PROCESSING claim lapses
+    next_attempt_at TIMESTAMP    NOT NULL DEFAULT now(),
+    last_error      TEXT,
+    received_at     TIMESTAMP    NOT NULL DEFAULT now(),
+    processed_at    TIMESTAMP
+);
+
+CREATE INDEX idx_webhook_events_due ON webhook_events (next_attempt_at)
+    WHERE status IN ('PENDING', 'PROCESSING');
@@ -0,0 +1,197 @@
+package com.example.jlr_payment_service.consumer;
+
+import com.example.jlr_payment_service.config.PaymentConsumerProperties;
+import com.example.jlr_payment_service.ledger.LedgerEntry;
+import com.example.jlr_payment_service.ledger.LedgerResult;
+import com.example.jlr_payment_service.ledger.LedgerService;
+import com.example.jlr_payment_service.ledger.NewLedgerEntry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Throughput of {@link PaymentEventListener} against an embedded Kafka broker
+ * as the command topic goes from 1 to 8 partitions, with the container
+ * concurrency matching. The ledger is stubbed with a fixed cost per batch plus
+ * a cost per record, standing in for one database round trip of bulk inserts,
+ * so the result shows how well partition-parallel consumption scales rather
+ * than how fast Postgres is. Also checks that no dealer's commands were seen
+ * out of order.
+ *
+ * Not a unit test; run by hand:
+ * {@code java -cp target/test-classes:target/classes:<test classpath>
+ * com.example.jlr_payment_service.consumer.PaymentConsumerThroughputBenchmark}
+ */
+public final class PaymentConsumerThroughputBenchmark {
+
+    private static final int RECORDS = 20_000;
+    private static final int DEALERS = 400;
+    private static final long BATCH_COST_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong("batchMs", 20));
+    private static final long RECORD_COST_NANOS = TimeUnit.MICROSECONDS.toNanos(Long.getLong("recordUs", 200));
+    private static final String COMMANDS = "payment.commands";
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    private PaymentConsumerThroughputBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        run(1); // warm-up: JIT and Kafka client class loading would otherwise count against one partition
+        double baseline = 0;
+        for (int partitions : new int[]{1, 2, 4, 8}) {
+            double perSecond = run(partitions);
+            if (baseline == 0) {
+                baseline = perSecond;
+            }
+            System.out.printf("partitions=%d  %,.0f records/s  speedup %.2fx%n", partitions, perSecond,
+                    perSecond / baseline);
+        }
+    }
+
+    private static double run(int partitions) throws Exception {
+        EmbeddedKafkaKraftBroker broker = new EmbeddedKafkaKraftBroker(1, partitions, COMMANDS,
+                COMMANDS + ".DLT", "payment.refunds", "orders.saga-replies");
+        broker.afterPropertiesSet();
+        try {
+            Map<String, Integer> lastSequence = new ConcurrentHashMap<>();
+            AtomicInteger reordered = new AtomicInteger();
+            AtomicInteger processed = new AtomicInteger();
+            AtomicInteger batches = new AtomicInteger();
+            LedgerService ledger = mock(LedgerService.class);
+            when(ledger.recordBatch(anyList())).thenAnswer(invocation -> {
+                List<NewLedgerEntry> entries = invocation.getArgument(0);
+                LockSupport.parkNanos(BATCH_COST_NANOS + RECORD_COST_NANOS * entries.size());
+                List<LedgerResult> results = new ArrayList<>(entries.size());
+                for (NewLedgerEntry entry : entries) {
+                    int sequence = Integer.parseInt(entry.externalReference().substring(
+                            entry.externalReference().lastIndexOf('-') + 1));
+                    Integer previous = lastSequence.put(entry.dealerId(), sequence);
+                    if (previous != null && previous >= sequence) {
+                        reordered.incrementAndGet();
+                    }
+                    results.add(new LedgerResult(entry, LedgerResult.Outcome.RECORDED, new LedgerEntry(sequence,
+                            entry.externalReference(), entry.type(), entry.dealerId(), entry.amount(),
+                            entry.currency(), entry.orderNumber(), LocalDateTime.now(), false)));
+                }
+                processed.addAndGet(entries.size());
+                batches.incrementAndGet();
+                return results;
+            });
+
+            DefaultKafkaProducerFactory<String, String> producerFactory = new DefaultKafkaProducerFactory<>(
+                    producerConfig(broker.getBrokersAsString()));
+            KafkaTemplate<String, String> template = new KafkaTemplate<>(producerFactory);
+            PaymentConsumerProperties properties = new PaymentConsumerProperties();
+            properties.setConcurrency(partitions);
+            PaymentEventListener listener = new PaymentEventListener(ledger, template,
+                    new DeadLetterPublishingRecoverer(template,
+                            (record, e) -> new TopicPartition(record.topic() + ".DLT", record.partition())),
+                    MAPPER, properties, new SimpleMeterRegistry());
+
+            ContainerProperties containerProperties = new ContainerProperties(COMMANDS);
+            containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+            containerProperties.setMessageListener(
+                    (BatchAcknowledgingMessageListener<String, String>) listener::onBatch);
+            ConcurrentMessageListenerContainer<String, String> container = new ConcurrentMessageListenerContainer<>(
+                    new DefaultKafkaConsumerFactory<>(Map.of(
+                            ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                            ConsumerConfig.GROUP_ID_CONFIG, "payment-benchmark",
+                            ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+                            ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false,
+                            ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 500,
+                            ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                            ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class)),
+                    containerProperties);
+            container.setConcurrency(partitions);
+            container.start();
+            try {
+                // fill the topic only once every consumer owns its partition, so no batch is redelivered by
+                // a rebalance, and while they are paused, so batches are full as they would be under load
+                ContainerTestUtils.waitForAssignment(container, partitions);
+                container.pause();
+                while (!container.isContainerPaused()) {
+                    Thread.sleep(5);
+                }
+                produce(broker.getBrokersAsString());
+                long started = System.nanoTime();
+                container.resume();
+                while (processed.get() < RECORDS) {
+                    Thread.sleep(5);
+                }
+                long elapsed = System.nanoTime() - started;
+                if (reordered.get() > 0) {
+                    throw new IllegalStateException(reordered.get() + " commands seen out of dealer order");
+                }
+                System.out.printf("  %d batches, %.0f records per batch%n", batches.get(),
+                        (double) processed.get() / batches.get());
+                return RECORDS / (elapsed / 1e9);
+            } finally {
+                container.stop();
+                producerFactory.destroy();
+            }
+        } finally {
+            broker.destroy();
+        }
+    }
+
+    private static void produce(String brokers) throws Exception {
+        int[] sequence = new int[DEALERS];
+        try (KafkaProducer<String, String> producer = new KafkaProducer<>(producerConfig(brokers))) {
+            for (int i = 0; i < RECORDS; i++) {
+                int dealer = i % DEALERS;
+                String dealerId = "DLR-" + dealer;
+                PaymentCommand command = new PaymentCommand();
+                command.setCommandId(UUID.randomUUID());
+                command.setType(PaymentCommandType.CAPTURE_PAYMENT);
+                command.setSagaId((long) i);
+                command.setOrderNumber("ORD-" + i);
+                command.setDealerId(dealerId);
+                command.setAmount(new BigDecimal("125.00"));
+                command.setCurrency("GBP");
+                command.setPaymentReference("PAY-" + dealerId + "-" + sequence[dealer]++);
+                producer.send(new ProducerRecord<>(COMMANDS, dealerId, MAPPER.writeValueAsString(command)));
+            }
+            producer.flush();
+        }
+    }
+
+    private static Map<String, Object> producerConfig(String brokers) {
+        return Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, brokers,
+                ProducerConfig.LINGER_MS_CONFIG, 5,
+                ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, false,
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    }
+}
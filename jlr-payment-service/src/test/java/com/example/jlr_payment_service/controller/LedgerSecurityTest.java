@@ -0,0 +1,107 @@
+package com.example.jlr_payment_service.controller;
+
+import com.example.jlr_payment_service.config.SecurityConfig;
+import com.example.jlr_payment_service.config.ServiceAuthProperties;
+import com.example.jlr_payment_service.ledger.LedgerEntry;
+import com.example.jlr_payment_service.ledger.LedgerEntryType;
+import com.example.jlr_payment_service.ledger.LedgerService;
+import com.example.jlr_payment_service.webhook.WebhookIngestService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Ledger writes and webhooks through the real filter chain: captures and
+ * refunds need service credentials, webhooks only their signature.
+ */
+@WebMvcTest({LedgerController.class, WebhookController.class})
+@Import(SecurityConfig.class)
+@EnableConfigurationProperties(ServiceAuthProperties.class)
+@TestPropertySource(properties = {
+        "spring.cloud.consul.enabled=false",
+        "spring.config.import=",
+        "app.service-auth.clients.jlr-order-service=test-service-key,previous-service-key"
+})
+class LedgerSecurityTest {
+
+    private static final String BODY = "{\"externalReference\": \"PAY-ORD-1\", \"dealerId\": \"DLR-1\", "
+            + "\"amount\": 120.00, \"currency\": \"GBP\", \"orderNumber\": \"ORD-1\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LedgerService ledgerService;
+
+    @MockBean
+    private WebhookIngestService webhookIngestService;
+
+    @Test
+    void serviceWithItsKeyMayCapture() throws Exception {
+        when(ledgerService.record(any(), any(), any(), any(), any(), any())).thenReturn(new LedgerEntry(1L,
+                "PAY-ORD-1", LedgerEntryType.CAPTURE, "DLR-1", new BigDecimal("120.00"), "GBP", "ORD-1",
+                LocalDateTime.now(), false));
+
+        mockMvc.perform(write("/api/ledger/captures")
+                        .header("X-Service-Id", "jlr-order-service")
+                        .header("X-Service-Key", "test-service-key"))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void keyBeingRotatedOutStillWorks() throws Exception {
+        when(ledgerService.record(any(), any(), any(), any(), any(), any())).thenReturn(new LedgerEntry(2L,
+                "PAY-ORD-1", LedgerEntryType.REFUND, "DLR-1", new BigDecimal("120.00"), "GBP", "ORD-1",
+                LocalDateTime.now(), false));
+
+        mockMvc.perform(write("/api/ledger/refunds")
+                        .header("X-Service-Id", "jlr-order-service")
+                        .header("X-Service-Key", "previous-service-key"))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void wrongKeyIsUnauthorized() throws Exception {
+        mockMvc.perform(write("/api/ledger/refunds")
+                        .header("X-Service-Id", "jlr-order-service")
+                        .header("X-Service-Key", "guessed"))
+                .andExpect(status().isUnauthorized());
+
+        verify(ledgerService, never()).record(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void anonymousCallerCannotWriteTheLedger() throws Exception {
+        mockMvc.perform(write("/api/ledger/captures")).andExpect(status().isForbidden());
+        mockMvc.perform(write("/api/ledger/refunds")).andExpect(status().isForbidden());
+
+        verify(ledgerService, never()).record(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void webhooksStayOpen() throws Exception {
+        mockMvc.perform(post("/api/webhooks/stripe").header("Stripe-Signature", "t=1,v1=abc").content("{}"))
+                .andExpect(status().isOk());
+    }
+
+    private static MockHttpServletRequestBuilder write(String path) {
+        return post(path).contentType(MediaType.APPLICATION_JSON).content(BODY);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.jlr_payment_service.ledger;
+
+import com.example.jlr_payment_service.exception.LedgerReferenceConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LedgerServiceTest {
+
+    private final LedgerRepository repository = mock(LedgerRepository.class);
+    private final LedgerService service = new LedgerService(repository, new SimpleMeterRegistry());
+
+    @Test
+    void postsRefundAsBalancedPair() {
+        when(repository.insertTransaction(eq("RF-1"), eq(LedgerEntryType.REFUND), eq("DLR-1"), any(), eq("GBP"),
+                eq("ORD-1"))).thenReturn(Optional.of(7L));
+        when(repository.findAccountId(AccountType.DEALER_CREDIT, "DLR-1", "GBP")).thenReturn(Optional.of(1L));
+        when(repository.findAccountId(AccountType.SALES, "DLR-1", "GBP")).thenReturn(Optional.empty());
+        when(repository.ensureAccount(AccountType.SALES, "DLR-1", "GBP")).thenReturn(2L);
+
+        LedgerEntry entry = service.record(LedgerEntryType.REFUND, "RF-1", "DLR-1", new BigDecimal("40.00"), "GBP",
+                "ORD-1");
+
+        assertThat(entry.replayed()).isFalse();
+        verify(repository).insertPostings(7L, List.of(
+                new LedgerPosting(1L, new BigDecimal("-40.00")),
+                new LedgerPosting(2L, new BigDecimal("40.00"))));
+    }
+
+    @Test
+    void replaysDuplicateReferenceWithoutPosting() {
+        when(repository.insertTransaction(any(), any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(repository.findTransaction("CAP-1")).thenReturn(Optional.of(existing("100.0")));
+
+        LedgerEntry entry = service.record(LedgerEntryType.CAPTURE, "CAP-1", "DLR-1", new BigDecimal("100.00"),
+                "GBP", null);
+
+        assertThat(entry.replayed()).isTrue();
+        assertThat(entry.transactionId()).isEqualTo(3L);
+        verify(repository, never()).insertPostings(anyLong(), any());
+    }
+
+    @Test
+    void rejectsReferenceReusedForDifferentAmount() {
+        when(repository.insertTransaction(any(), any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(repository.findTransaction("CAP-1")).thenReturn(Optional.of(existing("100.00")));
+
+        assertThatThrownBy(() -> service.record(LedgerEntryType.CAPTURE, "CAP-1", "DLR-1", new BigDecimal("90.00"),
+                "GBP", null)).isInstanceOf(LedgerReferenceConflictException.class);
+    }
+
+    @Test
+    void recordsBatchInRequestOrder() {
+        NewLedgerEntry capture = NewLedgerEntry.of(LedgerEntryType.CAPTURE, "CAP-2", "DLR-1",
+                new BigDecimal("50.00"), "GBP", "ORD-2");
+        NewLedgerEntry voidOfCapture = NewLedgerEntry.of(LedgerEntryType.REFUND, "CAP-2:void", "DLR-1",
+                new BigDecimal("50.00"), "GBP", "ORD-2").ifRecorded("CAP-2");
+        NewLedgerEntry voidOfNothing = NewLedgerEntry.of(LedgerEntryType.REFUND, "CAP-9:void", "DLR-1",
+                new BigDecimal("10.00"), "GBP", "ORD-9").ifRecorded("CAP-9");
+        NewLedgerEntry reused = NewLedgerEntry.of(LedgerEntryType.CAPTURE, "CAP-1", "DLR-1",
+                new BigDecimal("90.00"), "GBP", null);
+        NewLedgerEntry redelivered = NewLedgerEntry.of(LedgerEntryType.CAPTURE, "CAP-2", "DLR-1",
+                new BigDecimal("50.00"), "GBP", "ORD-2");
+        when(repository.findTransactions(anySet())).thenReturn(List.of());
+        when(repository.insertTransactions(any())).thenReturn(Map.of("CAP-2", 10L, "CAP-2:void", 11L));
+        when(repository.findTransactions(List.of("CAP-1"))).thenReturn(List.of(existing("100.00")));
+        when(repository.findAccountId(any(), eq("DLR-1"), eq("GBP"))).thenReturn(Optional.of(1L));
+
+        List<LedgerResult> results = service.recordBatch(
+                List.of(capture, voidOfCapture, voidOfNothing, reused, redelivered));
+
+        assertThat(results).extracting(LedgerResult::outcome).containsExactly(
+                LedgerResult.Outcome.RECORDED, LedgerResult.Outcome.RECORDED, LedgerResult.Outcome.SKIPPED,
+                LedgerResult.Outcome.CONFLICT, LedgerResult.Outcome.REPLAYED);
+        assertThat(results.get(4).entry().transactionId()).isEqualTo(10L);
+        verify(repository).insertTransactions(argThat(entries ->
+                List.copyOf(entries).equals(List.of(capture, voidOfCapture, reused))));
+        verify(repository).insertPostings(argThat((Map<Long, List<LedgerPosting>> postings) ->
+                postings.keySet().equals(Set.of(10L, 11L))));
+    }
+
+    private static LedgerEntry existing(String amount) {
+        return new LedgerEntry(3L, "CAP-1", LedgerEntryType.CAPTURE, "DLR-1", new BigDecimal(amount), "GBP", null,
+                LocalDateTime.now(), false);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.jlr_payment_service.reconciliation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SettlementReconcilerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reportsEveryKindOfMismatchAcrossMappingWindows() throws Exception {
+        PaymentIndex index = new PaymentIndex(2);
+        index.add("PAY-1", true, 12500, "GBP");
+        index.add("PAY-2", true, 4000, "GBP");
+        index.add("PAY-3", false, 999, "GBP");
+        index.add("PAY-4", true, 100, "EUR");
+        index.add("PAY-5", true, 700, "GBP");
+        Path file = dir.resolve("settlement.csv");
+        Files.writeString(file, "reference,type,amount,currency\r\n"
+                + "PAY-1,SALE,125.00,GBP\r\n"
+                + "PAY-2,SALE,40.5,GBP\n"
+                + "\n"
+                + "PAY-3,SALE,9.99,GBP\n"
+                + "PAY-4,SALE,1,GBP\n"
+                + "PAY-9,REFUND,3.00,GBP\n"
+                + "PAY-1,SALE,125.00,GBP\n"
+                + "PAY-6,SALE,abc,GBP\n"
+                + "PAY-7,SALE,1.234,GBP");
+        Path report = dir.resolve("report.csv");
+
+        // a 40-byte window holds one or two lines, so most lines sit on a window boundary
+        ReconciliationSummary summary = SettlementReconciler.reconcile(index, file, report, 40);
+
+        assertThat(summary.settlementLines()).isEqualTo(8);
+        assertThat(summary.matched()).isEqualTo(1);
+        assertThat(summary.mismatches()).isEqualTo(Map.of(
+                MismatchKind.AMOUNT_MISMATCH, 1L,
+                MismatchKind.TYPE_MISMATCH, 1L,
+                MismatchKind.CURRENCY_MISMATCH, 1L,
+                MismatchKind.NOT_IN_LEDGER, 1L,
+                MismatchKind.DUPLICATE_IN_FILE, 1L,
+                MismatchKind.MALFORMED_LINE, 2L,
+                MismatchKind.NOT_SETTLED, 1L));
+        assertThat(Files.readAllLines(report)).containsExactly(
+                "kind,line,reference,settled_amount,ledger_amount",
+                "AMOUNT_MISMATCH,3,PAY-2,40.50,40.00",
+                "TYPE_MISMATCH,5,PAY-3,9.99,9.99",
+                "CURRENCY_MISMATCH,6,PAY-4,1.00,1.00",
+                "NOT_IN_LEDGER,7,PAY-9,3.00,",
+                "DUPLICATE_IN_FILE,8,PAY-1,125.00,125.00",
+                "MALFORMED_LINE,9,,,",
+                "MALFORMED_LINE,10,,,",
+                "NOT_SETTLED,,PAY-5,,7.00");
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.jlr_payment_service.reconciliation;
+
+import java.io.BufferedWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reconciles a generated five-million-line settlement file against an index
+ * of five million payments, about 1% of them mismatched, and prints the time
+ * taken and the peak heap. The file is read through mapped windows, so the
+ * peak heap should be the index and not grow with the file.
+ *
+ * Not a unit test; run by hand with a capped heap:
+ * {@code java -Xmx512m -cp target/test-classes:target/classes:<test classpath>
+ * com.example.jlr_payment_service.reconciliation.SettlementReconciliationBenchmark}
+ */
+public final class SettlementReconciliationBenchmark {
+
+    private static final int ROWS = 5_000_000;
+
+    private SettlementReconciliationBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Files.createTempDirectory("settlement-benchmark");
+        Path file = dir.resolve("settlement.csv");
+        Path report = dir.resolve("mismatches.csv");
+        try {
+            long started = System.nanoTime();
+            PaymentIndex index = new PaymentIndex(ROWS);
+            try (BufferedWriter out = Files.newBufferedWriter(file)) {
+                out.write("reference,type,amount,currency\n");
+                for (int i = 0; i < ROWS; i++) {
+                    long amount = 1000 + i % 50_000;
+                    boolean capture = i % 10 != 0;
+                    // every 100th payment is settled for a penny more, every 250th never settles
+                    index.add("PAY-" + i, capture, amount, "GBP");
+                    if (i % 250 != 7) {
+                        long settled = i % 100 == 3 ? amount + 1 : amount;
+                        out.write("PAY-" + i + (capture ? ",SALE," : ",REFUND,") + settled / 100 + "."
+                                + String.format("%02d", settled % 100) + ",GBP\n");
+                    }
+                }
+            }
+            System.out.printf("generated %,d rows (%,d MB) and the index in %d ms%n", ROWS,
+                    Files.size(file) >> 20, (System.nanoTime() - started) / 1_000_000);
+
+            for (int run = 1; run <= 3; run++) {
+                resetPeaks();
+                index.clearMatches();
+                ReconciliationSummary summary = SettlementReconciler.reconcile(index, file, report, 256L << 20);
+                System.out.printf("run %d: %,d lines, %,d matched, %s in %d ms, peak heap %d MB (max %d MB)%n",
+                        run, summary.settlementLines(), summary.matched(), summary.mismatches(),
+                        summary.took().toMillis(), peakHeap() >> 20, Runtime.getRuntime().maxMemory() >> 20);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(report);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static void resetPeaks() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            pool.resetPeakUsage();
+        }
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.jlr_payment_service.webhook;
+
+import com.stripe.net.Webhook;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Stands in for the payment provider: builds refund events, signs them the way
+ * Stripe does, and can replay a burst of deliveries at a running service,
+ * redelivering some as the provider does after a slow acknowledgement.
+ *
+ * Run by hand against a local payment-service started with the same secret:
+ * {@code java -cp target/test-classes:target/classes:<test classpath>
+ * com.example.jlr_payment_service.webhook.FakeWebhookProvider
+ * http://localhost:8084/api/webhooks/stripe whsec_local_development 2000}
+ */
+public final class FakeWebhookProvider {
+
+    private final String secret;
+
+    public FakeWebhookProvider(String secret) {
+        this.secret = secret;
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI endpoint = URI.create(args[0]);
+        FakeWebhookProvider provider = new FakeWebhookProvider(args[1]);
+        int events = Integer.parseInt(args[2]);
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+        List<String> deliveries = new ArrayList<>();
+        for (int i = 0; i < events; i++) {
+            String event = provider.refundCreated("evt_" + UUID.randomUUID(), "re_" + UUID.randomUUID(),
+                    "DLR-" + i % 50, "ORD-" + i, 1_000 + i);
+            deliveries.add(event);
+            if (i % 10 == 0) {
+                deliveries.add(event); // redelivered
+            }
+        }
+
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        long started = System.nanoTime();
+        CompletableFuture.allOf(deliveries.stream().map(payload -> {
+            long sent = System.nanoTime();
+            return client.sendAsync(HttpRequest.newBuilder(endpoint)
+                            .timeout(Duration.ofSeconds(10))
+                            .header("Content-Type", "application/json")
+                            .header("Stripe-Signature", provider.sign(payload))
+                            .POST(HttpRequest.BodyPublishers.ofString(payload))
+                            .build(), HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("Delivery answered " + response.statusCode());
+                        }
+                        latencies.add(System.nanoTime() - sent);
+                    });
+        }).toArray(CompletableFuture[]::new)).join();
+        long elapsed = System.nanoTime() - started;
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        System.out.printf("%d deliveries (%d events) in %d ms; ack p50 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                deliveries.size(), events, elapsed / 1_000_000, percentile(sorted, 0.50),
+                percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+    }
+
+    public String refundCreated(String eventId, String refundId, String dealerId, String orderNumber,
+                                long amountMinor) {
+        return """
+                {"id":"%s","object":"event","type":"refund.created","created":%d,"data":{"object":\
+                {"id":"%s","object":"refund","amount":%d,"currency":"gbp",\
+                "metadata":{"dealer_id":"%s","order_number":"%s"}}}}"""
+                .formatted(eventId, Webhook.Util.getTimeNow(), refundId, amountMinor, dealerId, orderNumber);
+    }
+
+    /**
+     * A {@code Stripe-Signature} header for {@code payload} signed now.
+     */
+    public String sign(String payload) {
+        return sign(payload, Webhook.Util.getTimeNow());
+    }
+
+    public String sign(String payload, long timestamp) {
+        try {
+            return "t=" + timestamp + ",v1=" + Webhook.Util.computeHmacSha256(secret, timestamp + "." + payload);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.jlr_payment_service.webhook;
+
+import com.example.jlr_payment_service.config.WebhookProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class WebhookEventProcessorTest {
+
+    private final WebhookEventRepository repository = mock(WebhookEventRepository.class);
+    private final WebhookEventHandler handler = mock(WebhookEventHandler.class);
+    private final WebhookEventProcessor processor;
+
+    WebhookEventProcessorTest() {
+        when(handler.eventType()).thenReturn("refund.created");
+        processor = new WebhookEventProcessor(repository, List.of(handler),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new WebhookProperties(),
+                new ObjectMapper(), Clock.systemUTC(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void eventReclaimedAfterTheLeaseIsLeftToTheNewClaim() {
+        WebhookEvent held = event(1L);
+        WebhookEvent reclaimed = event(2L);
+        when(repository.claim(anyInt(), any(), any())).thenReturn(List.of(held, reclaimed));
+        when(repository.hold(held)).thenReturn(true);
+        when(repository.hold(reclaimed)).thenReturn(false);
+
+        processor.processDue();
+
+        verify(handler, times(1)).handle(any());
+        verify(repository).complete(same(held), eq(WebhookEventStatus.PROCESSED), any());
+        verify(repository, never()).complete(same(reclaimed), any(), any());
+        verify(repository, never()).reschedule(any(), any(), any(), any());
+    }
+
+    private static WebhookEvent event(long id) {
+        return new WebhookEvent(id, "evt_" + id, "refund.created", "{}", 1, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.jlr_payment_service.webhook;
+
+import com.example.jlr_payment_service.config.WebhookProperties;
+import com.example.jlr_payment_service.exception.InvalidWebhookException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class WebhookIngestServiceTest {
+
+    private static final String SECRET = "whsec_test";
+
+    private final WebhookEventRepository repository = mock(WebhookEventRepository.class);
+    private final WebhookWorkerPool workerPool = mock(WebhookWorkerPool.class);
+    private final FakeWebhookProvider provider = new FakeWebhookProvider(SECRET);
+    private final WebhookIngestService service;
+
+    WebhookIngestServiceTest() {
+        WebhookProperties properties = new WebhookProperties();
+        properties.setSigningSecret(SECRET);
+        service = new WebhookIngestService(repository, workerPool, properties, new ObjectMapper(),
+                Clock.systemUTC(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void storesSignedEventOnceAndWakesWorkers() {
+        String payload = provider.refundCreated("evt_1", "re_1", "DLR-1", "ORD-1", 4000);
+        when(repository.insert("evt_1", "refund.created", payload)).thenReturn(true, false);
+
+        assertThat(service.receive(payload, provider.sign(payload))).isTrue();
+        assertThat(service.receive(payload, provider.sign(payload))).isFalse();
+
+        verify(workerPool, times(1)).wake();
+    }
+
+    @Test
+    void rejectsTamperedAndStaleDeliveriesWithoutStoring() {
+        String payload = provider.refundCreated("evt_2", "re_2", "DLR-1", "ORD-2", 4000);
+        String tampered = payload.replace("4000", "400000");
+        long anHourAgo = System.currentTimeMillis() / 1000 - 3600;
+
+        assertThatThrownBy(() -> service.receive(tampered, provider.sign(payload)))
+                .isInstanceOf(InvalidWebhookException.class);
+        assertThatThrownBy(() -> service.receive(payload, provider.sign(payload, anHourAgo)))
+                .isInstanceOf(InvalidWebhookException.class);
+        assertThatThrownBy(() -> service.receive(payload, null))
+                .isInstanceOf(InvalidWebhookException.class);
+        verify(repository, never()).insert(any(), any(), any());
+    }
+}
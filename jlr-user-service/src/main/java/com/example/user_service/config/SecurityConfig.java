@@ -2,9 +2,11 @@ package com.example.user_service.config;
 
 import com.example.user_service.security.CustomUserDetailsService;
 import com.example.user_service.security.JwtAuthenticationFilter;
+import com.example.user_service.security.ServiceAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -25,6 +27,7 @@ public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
     private final PasswordEncoder passwordEncoder; // Injected from ApplicationConfig
     private final JwtAuthenticationFilter jwtAuthenticationFilter; // Inject the filter
+    private final ServiceAuthenticationFilter serviceAuthenticationFilter;
 
     /**
      * Configures the authentication provider. It uses the CustomUserDetailsService
@@ -67,12 +70,17 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/users/register", "/api/users/login", "/api/users/logout").permitAll()
                         .requestMatchers("/actuator/**").permitAll()
+                        // other services only; a user's token must not list other users
+                        .requestMatchers(HttpMethod.POST, "/api/users/lookup")
+                                .hasAnyRole(ServiceAuthenticationFilter.ROLE, "ADMIN")
                         .anyRequest().authenticated()
                 )
                 // Set the custom authentication provider
                 .authenticationProvider(authenticationProvider())
                 // Add the JWT filter before the standard username/password filter
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Service credentials are checked first; a service request carries no JWT cookie
+                .addFilterBefore(serviceAuthenticationFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,33 @@
+package com.example.user_service.config;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Credentials other services present to call service-only endpoints such as
+ * {@code /api/users/lookup}. Unlike a user's JWT they do not expire; rotate
+ * them by listing the new key, redeploying the caller, then removing the old.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.service-auth")
+@Validated
+public class ServiceAuthProperties {
+
+    @NotEmpty
+    private String idHeader = "X-Service-Id";
+
+    @NotEmpty
+    private String keyHeader = "X-Service-Key";
+
+    /**
+     * Key by calling service name; a service with a blank key cannot sign in
+     */
+    private Map<String, String> clients = new HashMap<>();
+}
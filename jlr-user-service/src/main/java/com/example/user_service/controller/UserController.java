@@ -3,6 +3,7 @@ package com.example.user_service.controller;
 import com.example.user_service.config.JwtProperties;
 import com.example.user_service.dto.LoginRequest;
 import com.example.user_service.dto.LoginResponse;
+import com.example.user_service.dto.UserLookupRequest;
 import com.example.user_service.dto.UserRegistrationRequest;
 import com.example.user_service.dto.UserResponse;
 import com.example.user_service.entity.User;
@@ -118,6 +119,20 @@ public class UserController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * Bulk lookup for other services, so a batch of events costs one call
+     * rather than one per user.
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<List<UserResponse>> lookupUsers(@Valid @RequestBody UserLookupRequest request) {
+        List<UserResponse> responses = userService.lookup(request.getIds(), request.getDealerManagersOf())
+                .stream()
+                .map(this::convertToResponse)
+                .toList();
+
+        return ResponseEntity.ok(responses);
+    }
+
     @GetMapping("/me")
     public ResponseEntity<UserResponse> getCurrentUser() {
         String currentUserEmail = getCurrentUserEmail();
@@ -0,0 +1,29 @@
+package com.example.user_service.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Users wanted by another service in one call: by id, and the dealer managers
+ * of each listed dealer.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserLookupRequest {
+
+    @Size(max = 1000, message = "At most 1000 user ids per lookup")
+    @Builder.Default
+    private Set<Long> ids = new HashSet<>();
+
+    @Size(max = 1000, message = "At most 1000 dealer ids per lookup")
+    @Builder.Default
+    private Set<String> dealerManagersOf = new HashSet<>();
+}
@@ -9,6 +9,7 @@ import com.example.user_service.entity.User;
 import com.example.user_service.entity.UserRole;
 
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +31,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.dealerId = :dealerId AND u.role = 'DEALER_MANAGER'")
     List<User> findDealerManagersByDealerId(@Param("dealerId") String dealerId);
 
+    @Query("SELECT u FROM User u WHERE u.active = true AND (u.id IN :ids "
+            + "OR (u.dealerId IN :dealerIds AND u.role = 'DEALER_MANAGER'))")
+    List<User> findActiveByIdsOrDealerManagers(@Param("ids") Collection<Long> ids,
+                                               @Param("dealerIds") Collection<String> dealerIds);
+
 
 
 
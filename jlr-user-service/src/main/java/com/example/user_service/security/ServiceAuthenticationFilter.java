@@ -0,0 +1,78 @@
+package com.example.user_service.security;
+
+import com.example.user_service.config.ServiceAuthProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Authenticates another service by its configured id and key headers, as a
+ * principal named after the service with {@code ROLE_SERVICE}. Requests
+ * without the headers pass through to the JWT cookie filter.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ServiceAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String ROLE = "SERVICE";
+
+    private final ServiceAuthProperties properties;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        String serviceId = request.getHeader(properties.getIdHeader());
+        String key = request.getHeader(properties.getKeyHeader());
+
+        if (StringUtils.hasText(serviceId) || StringUtils.hasText(key)) {
+            if (!matches(serviceId, key)) {
+                log.warn("Service authentication failed for: {}", serviceId);
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getWriter().write(String.format(
+                        "{\"error\": \"Unauthorized\", \"message\": \"%s\", \"timestamp\": \"%s\"}",
+                        "Invalid service credentials", Instant.now()));
+                return;
+            }
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    serviceId, null, List.of(new SimpleGrantedAuthority("ROLE_" + ROLE)));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+            log.debug("Service authentication successful for: {}", serviceId);
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matches(String serviceId, String key) {
+        if (!StringUtils.hasText(serviceId) || !StringUtils.hasText(key)) {
+            return false;
+        }
+        String expected = properties.getClients().get(serviceId);
+        if (!StringUtils.hasText(expected)) {
+            return false;
+        }
+        // constant time, so the key cannot be guessed a byte at a time
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -69,6 +70,22 @@ public class UserService {
         return userRepository.findByRole(role);
     }
 
+    /**
+     * Active users with the given ids plus the managers of the given dealers,
+     * in one query. An empty set on either side matches nothing; the other
+     * side still applies.
+     */
+    @Transactional(readOnly = true)
+    public List<User> lookup(Collection<Long> ids, Collection<String> dealerManagersOf) {
+        if (ids.isEmpty() && dealerManagersOf.isEmpty()) {
+            return List.of();
+        }
+        // IN () is not valid SQL, so an empty side is given a value no row has
+        return userRepository.findActiveByIdsOrDealerManagers(
+                ids.isEmpty() ? List.of(-1L) : ids,
+                dealerManagersOf.isEmpty() ? List.of("") : dealerManagersOf);
+    }
+
     public User getById(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + id));
@@ -0,0 +1,138 @@
+package com.example.user_service.controller;
+
+import com.example.user_service.config.ApplicationConfig;
+import com.example.user_service.config.JwtProperties;
+import com.example.user_service.config.SecurityConfig;
+import com.example.user_service.config.ServiceAuthProperties;
+import com.example.user_service.entity.User;
+import com.example.user_service.entity.UserRole;
+import com.example.user_service.security.CustomUserDetails;
+import com.example.user_service.security.CustomUserDetailsService;
+import com.example.user_service.service.CookieService;
+import com.example.user_service.service.JwtService;
+import com.example.user_service.service.UserService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code /api/users/lookup} through the real filter chain: service
+ * credentials, the JWT cookie, and the role rule.
+ */
+@WebMvcTest(UserController.class)
+@Import({SecurityConfig.class, ApplicationConfig.class, JwtService.class})
+@EnableConfigurationProperties({JwtProperties.class, ServiceAuthProperties.class})
+@TestPropertySource(properties = {
+        "spring.cloud.consul.enabled=false",
+        "spring.config.import=",
+        "app.service-auth.clients.jlr-notification-service=test-service-key"
+})
+class UserLookupSecurityTest {
+
+    private static final String BODY = "{\"ids\": [12], \"dealerManagersOf\": [\"DLR-001\"]}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private CustomUserDetailsService userDetailsService;
+
+    @MockBean
+    private CookieService cookieService;
+
+    @Test
+    void serviceWithItsKeyGetsTheUsers() throws Exception {
+        User user = user("owner@dealer.example.com", UserRole.CUSTOMER);
+        when(userService.lookup(any(), any())).thenReturn(List.of(user));
+
+        mockMvc.perform(lookup()
+                        .header("X-Service-Id", "jlr-notification-service")
+                        .header("X-Service-Key", "test-service-key"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].email").value("owner@dealer.example.com"));
+    }
+
+    @Test
+    void wrongKeyIsUnauthorized() throws Exception {
+        mockMvc.perform(lookup()
+                        .header("X-Service-Id", "jlr-notification-service")
+                        .header("X-Service-Key", "guessed"))
+                .andExpect(status().isUnauthorized());
+
+        verify(userService, never()).lookup(any(), any());
+    }
+
+    @Test
+    void anonymousCallerIsRefused() throws Exception {
+        mockMvc.perform(lookup())
+                .andExpect(status().isForbidden());
+
+        verify(userService, never()).lookup(any(), any());
+    }
+
+    @Test
+    void userTokenIsNotEnough() throws Exception {
+        mockMvc.perform(lookup().cookie(tokenFor("customer@example.com", UserRole.CUSTOMER)))
+                .andExpect(status().isForbidden());
+
+        verify(userService, never()).lookup(any(), any());
+    }
+
+    @Test
+    void adminTokenMayLookUp() throws Exception {
+        when(userService.lookup(any(), any())).thenReturn(List.of());
+
+        mockMvc.perform(lookup().cookie(tokenFor("admin@example.com", UserRole.ADMIN)))
+                .andExpect(status().isOk());
+    }
+
+    private MockHttpServletRequestBuilder lookup() {
+        return post("/api/users/lookup").contentType(MediaType.APPLICATION_JSON).content(BODY);
+    }
+
+    private Cookie tokenFor(String email, UserRole role) {
+        CustomUserDetails details = CustomUserDetails.from(user(email, role));
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(details);
+        return new Cookie(jwtProperties.getCookie().getName(), jwtService.generateAccessToken(details));
+    }
+
+    private static User user(String email, UserRole role) {
+        User user = new User();
+        user.setId(12L);
+        user.setEmail(email);
+        user.setPasswordHash("hash");
+        user.setFirstName("Sam");
+        user.setLastName("Taylor");
+        user.setRole(role);
+        user.setActive(true);
+        return user;
+    }
+}